@@ -1,6 +1,7 @@
 package net.jmp.pinecone.quickstart;
 
 /*
+ * (#)Main.java 0.9.0   10/18/2026
  * (#)Main.java 0.8.0   06/24/2025
  * (#)Main.java 0.5.0   06/16/2025
  * (#)Main.java 0.4.0   06/04/2025
@@ -41,7 +42,7 @@ import org.slf4j.LoggerFactory;
 
 /// The main application class.
 ///
-/// @version    0.8.0
+/// @version    0.9.0
 /// @since      0.1.0
 public final class Main implements Runnable {
     /// The logger.
@@ -72,36 +73,72 @@ public final class Main implements Runnable {
 
         final String operation = System.getProperty("app.operation");
 
+        final String benchParameters = System.getProperty("app.benchParameters", "");
+        final String benchQueryFile = System.getProperty("app.benchQueryFile", "");
         final String chatModel = System.getProperty("app.chatModel");
+        final String chunkParameters = System.getProperty("app.chunkParameters", "");
+        final String corpusSource = System.getProperty("app.corpusSource", "code");
         final String denseEmbeddingModel = System.getProperty("app.denseEmbeddingModel");
         final String denseIndexName = System.getProperty("app.denseIndexName");
+        final String hnswParameters = System.getProperty("app.hnswParameters");
+        final String keywordParameters = System.getProperty("app.keywordParameters", "");
+        final String localIndexDir = System.getProperty("app.localIndexDir");
+        final String metricsPort = System.getProperty("app.metricsPort", "0");
         final String mongoDbCollection = System.getProperty("app.mongoDbCollection");
         final String mongoDbName = System.getProperty("app.mongoDbName");
         final String mongoDbUriFile = System.getProperty("app.mongoDbUri");
         final String namespace = System.getProperty("app.namespace");
+        final String partitionParameters = System.getProperty("app.partitionParameters", "");
+        final String pipeline = System.getProperty("app.pipeline", "");
         final String rerankingModel = System.getProperty("app.rerankingModel");
+        final String resilienceParameters = System.getProperty("app.resilienceParameters", "");
+        final String retrievalMode = System.getProperty("app.retrievalMode", "auto");
         final String queryText = System.getProperty("app.queryText");
         final String searchableEmbeddingModel = System.getProperty("app.searchableEmbeddingModel");
         final String searchableIndexName = System.getProperty("app.searchableIndexName");
+        final String snapshotDir = System.getProperty("app.snapshotDir", "build/snapshots");
         final String sparseEmbeddingModel = System.getProperty("app.sparseEmbeddingModel");
         final String sparseIndexName = System.getProperty("app.sparseIndexName");
+        final String storeFile = System.getProperty("app.storeFile", "");
+        final String storeParameters = System.getProperty("app.storeParameters", "");
         final String topK = System.getProperty("app.topK");
+        final String traceFile = System.getProperty("app.traceFile", "");
+        final String traceSlowest = System.getProperty("app.traceSlowest", "0");
+        final String updateParameters = System.getProperty("app.updateParameters", "");
 
         this.logger.info("Operation                 : {}", operation);
+        this.logger.info("Bench Parameters          : {}", benchParameters);
+        this.logger.info("Bench Query File          : {}", benchQueryFile);
         this.logger.info("Chat Model                : {}", chatModel);
+        this.logger.info("Chunk Parameters          : {}", chunkParameters);
+        this.logger.info("Corpus Source             : {}", corpusSource);
         this.logger.info("Dense Embedding Model     : {}", denseEmbeddingModel);
         this.logger.info("Dense Index Name          : {}", denseIndexName);
+        this.logger.info("HNSW Parameters           : {}", hnswParameters);
+        this.logger.info("Keyword Parameters        : {}", keywordParameters);
+        this.logger.info("Local Index Directory     : {}", localIndexDir);
+        this.logger.info("Metrics Port              : {}", metricsPort);
         this.logger.info("MongoDB Collection        : {}", mongoDbCollection);
         this.logger.info("MongoDB Name              : {}", mongoDbName);
         this.logger.info("MongoDB URI File          : {}", mongoDbUriFile);
         this.logger.info("Namespace                 : {}", namespace);
+        this.logger.info("Partition Parameters      : {}", partitionParameters);
+        this.logger.info("Pipeline                  : {}", pipeline);
         this.logger.info("Reranking Model           : {}", rerankingModel);
+        this.logger.info("Resilience Parameters     : {}", resilienceParameters);
+        this.logger.info("Retrieval Mode            : {}", retrievalMode);
         this.logger.info("Query Text                : {}", queryText);
         this.logger.info("Searchable Embedding Model: {}", searchableEmbeddingModel);
         this.logger.info("Searchable Index Name     : {}", searchableIndexName);
+        this.logger.info("Snapshot Directory        : {}", snapshotDir);
         this.logger.info("Sparse Embedding Model    : {}", sparseEmbeddingModel);
         this.logger.info("Sparse Index Name         : {}", sparseIndexName);
+        this.logger.info("Store File                : {}", storeFile);
+        this.logger.info("Store Parameters          : {}", storeParameters);
         this.logger.info("TopK                      : {}", topK);
+        this.logger.info("Trace File                : {}", traceFile);
+        this.logger.info("Trace Slowest             : {}", traceSlowest);
+        this.logger.info("Update Parameters         : {}", updateParameters);
 
         final Quickstart quickstart = Quickstart.builder()
             .chatModel(chatModel)
@@ -118,6 +155,24 @@ public final class Main implements Runnable {
             .rerankingModel(rerankingModel)
             .queryText(queryText)
             .topK(Integer.parseInt(topK))
+            .localIndexDir(localIndexDir)
+            .hnswParameters(hnswParameters)
+            .metricsPort(Integer.parseInt(metricsPort))
+            .traceFile(traceFile)
+            .traceSlowest(Integer.parseInt(traceSlowest))
+            .benchParameters(benchParameters)
+            .benchQueryFile(benchQueryFile)
+            .updateParameters(updateParameters)
+            .resilienceParameters(resilienceParameters)
+            .snapshotDir(snapshotDir)
+            .storeFile(storeFile)
+            .storeParameters(storeParameters)
+            .corpusSource(corpusSource)
+            .chunkParameters(chunkParameters)
+            .keywordParameters(keywordParameters)
+            .pipeline(pipeline)
+            .retrievalMode(retrievalMode)
+            .partitionParameters(partitionParameters)
             .build();
 
         quickstart.start(operation);
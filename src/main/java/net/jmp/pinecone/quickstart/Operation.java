@@ -1,6 +1,7 @@
 package net.jmp.pinecone.quickstart;
 
 /*
+ * (#)Operation.java    0.9.0   10/18/2026
  * (#)Operation.java    0.8.0   06/16/2025
  * (#)Operation.java    0.5.0   06/16/2025
  * (#)Operation.java    0.4.0   06/04/2025
@@ -36,12 +37,14 @@ import com.mongodb.client.MongoClient;
 import io.pinecone.clients.Index;
 import io.pinecone.clients.Pinecone;
 
-import io.pinecone.proto.ListResponse;
-
 import java.util.List;
-import java.util.Map;
 
-import net.jmp.pinecone.quickstart.text.UnstructuredText;
+import net.jmp.pinecone.quickstart.list.VectorIds;
+
+import net.jmp.pinecone.quickstart.partition.Partitions;
+
+import net.jmp.pinecone.quickstart.trace.Span;
+import net.jmp.pinecone.quickstart.trace.Tracer;
 
 import static net.jmp.util.logging.LoggerUtils.*;
 
@@ -54,7 +57,7 @@ import org.slf4j.LoggerFactory;
 ///
 /// The index operation class.
 ///
-/// @version    0.8.0
+/// @version    0.9.0
 /// @since      0.2.0
 public abstract class Operation {
     /// The logger.
@@ -108,8 +111,11 @@ public abstract class Operation {
     /// The number of top results to return when querying.
     protected final int topK;
 
-    /// The text map.
-    protected final Map<String, UnstructuredText.Text> textMap = new UnstructuredText().getTextMap();
+    /// The local index directory.
+    protected final String localIndexDir;
+
+    /// The HNSW parameters.
+    protected final String hnswParameters;
 
     /// The constructor.
     ///
@@ -133,6 +139,8 @@ public abstract class Operation {
         this.collectionName = operationBuilder.collectionName;
         this.dbName = operationBuilder.dbName;
         this.topK = operationBuilder.topK;
+        this.localIndexDir = operationBuilder.localIndexDir;
+        this.hnswParameters = operationBuilder.hnswParameters;
     }
 
     /// Return the operation builder.
@@ -235,7 +243,7 @@ public abstract class Operation {
             this.logger.trace(entry());
         }
 
-        final boolean result = this.isNamedIndexLoaded(this.denseIndexName, this.namespace);
+        final boolean result = this.isNamedIndexLoaded(this.denseIndexName, this.namespace, true);
 
         if (this.logger.isTraceEnabled()) {
             this.logger.trace(exitWith(result));
@@ -252,7 +260,7 @@ public abstract class Operation {
             this.logger.trace(entry());
         }
 
-        final boolean result = this.isNamedIndexLoaded(this.searchableIndexName, this.namespace);
+        final boolean result = this.isNamedIndexLoaded(this.searchableIndexName, this.namespace, false);
 
         if (this.logger.isTraceEnabled()) {
             this.logger.trace(exitWith(result));
@@ -269,7 +277,7 @@ public abstract class Operation {
             this.logger.trace(entry());
         }
 
-        final boolean result = this.isNamedIndexLoaded(this.sparseIndexName, this.namespace);
+        final boolean result = this.isNamedIndexLoaded(this.sparseIndexName, this.namespace, true);
 
         if (this.logger.isTraceEnabled()) {
             this.logger.trace(exitWith(result));
@@ -278,32 +286,33 @@ public abstract class Operation {
         return result;
     }
 
-    /// Check if the named index is loaded.
+    /// Check if the named index is loaded, which is when
+    /// its namespace, or any partition of it when the index
+    /// is partitioned, has at least one vector.
     ///
     /// @param  indexName   java.lang.String
     /// @param  namespace   java.lang.String
+    /// @param  partitioned boolean
     /// @return             boolean
-    private boolean isNamedIndexLoaded(final String indexName, final String namespace) {
+    private boolean isNamedIndexLoaded(final String indexName, final String namespace, final boolean partitioned) {
         if (this.logger.isTraceEnabled()) {
-            this.logger.trace(entryWith(indexName, namespace));
+            this.logger.trace(entryWith(indexName, namespace, partitioned));
         }
 
-        int vectorsCount = 0;
+        final boolean result;
 
         try (final Index index = this.pinecone.getIndexConnection(indexName)) {
-            final ListResponse response = index.list(namespace);
+            final List<String> namespaces = partitioned ? Partitions.get().partitions(index, namespace) : List.of(namespace);
 
-            vectorsCount = response.getVectorsCount();
+            result = namespaces.stream().anyMatch(partition -> !VectorIds.isEmpty(index, partition));
         }
 
         if (this.logger.isDebugEnabled()) {
             this.logger.debug("Index name   : {}", indexName);
             this.logger.debug("Namespace    : {}", namespace);
-            this.logger.debug("Vectors count: {}", vectorsCount);
+            this.logger.debug("Loaded       : {}", result);
         }
 
-        final boolean result = vectorsCount > 0;
-
         if (this.logger.isTraceEnabled()) {
             this.logger.trace(exitWith(result));
         }
@@ -311,6 +320,31 @@ public abstract class Operation {
         return result;
     }
 
+    /// Start the span of one traced request against an
+    /// index, with the attributes every request shares.
+    /// The span becomes the root of a new trace unless a
+    /// span is already current; the caller must close it.
+    ///
+    /// @param  name        java.lang.String
+    /// @param  indexName   java.lang.String
+    /// @return             net.jmp.pinecone.quickstart.trace.Span
+    protected Span startSpan(final String name, final String indexName) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entryWith(name, indexName));
+        }
+
+        final Span span = Tracer.startSpan(name)
+                .setAttribute("index.name", indexName)
+                .setAttribute("namespace", this.namespace)
+                .setAttribute("top_k", this.topK);
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exitWith(span));
+        }
+
+        return span;
+    }
+
     /// The operation builder class.
     protected static class OperationBuilder {
         /// The Pinecone client.
@@ -361,6 +395,12 @@ public abstract class Operation {
         /// The number of top results to return when querying.
         protected int topK;
 
+        /// The local index directory.
+        protected String localIndexDir;
+
+        /// The HNSW parameters.
+        protected String hnswParameters;
+
         /// The default constructor.
         protected OperationBuilder() {
             super();
@@ -525,5 +565,25 @@ public abstract class Operation {
 
             return this;
         }
+
+        /// Set the local index directory.
+        ///
+        /// @param  localIndexDir   java.lang.String
+        /// @return                 net.jmp.pinecone.quickstart.Operation.OperationBuilder
+        public OperationBuilder localIndexDir(final String localIndexDir) {
+            this.localIndexDir = localIndexDir;
+
+            return this;
+        }
+
+        /// Set the HNSW parameters.
+        ///
+        /// @param  hnswParameters  java.lang.String
+        /// @return                 net.jmp.pinecone.quickstart.Operation.OperationBuilder
+        public OperationBuilder hnswParameters(final String hnswParameters) {
+            this.hnswParameters = hnswParameters;
+
+            return this;
+        }
     }
 }
@@ -1,6 +1,7 @@
 package net.jmp.pinecone.quickstart;
 
 /*
+ * (#)Quickstart.java   0.9.0   10/18/2026
  * (#)Quickstart.java   0.8.0   06/24/2025
  * (#)Quickstart.java   0.7.0   06/23/2025
  * (#)Quickstart.java   0.6.0   06/19/2025
@@ -42,12 +43,22 @@ import io.pinecone.clients.Pinecone;
 
 import java.io.IOException;
 
+import java.lang.management.ManagementFactory;
+
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 
 import java.util.*;
 
+import java.util.function.Function;
+
+import net.jmp.pinecone.quickstart.bench.LoadGenerator;
+import net.jmp.pinecone.quickstart.bench.QuantizationBenchmark;
+import net.jmp.pinecone.quickstart.corenlp.CompareExtractors;
 import net.jmp.pinecone.quickstart.corenlp.CoreNLP;
+import net.jmp.pinecone.quickstart.corenlp.Extractors;
+import net.jmp.pinecone.quickstart.corenlp.KeywordParameters;
 import net.jmp.pinecone.quickstart.create.CreateIndex;
 import net.jmp.pinecone.quickstart.delete.DeleteIndex;
 import net.jmp.pinecone.quickstart.describe.DescribeIndex;
@@ -59,11 +70,29 @@ import net.jmp.pinecone.quickstart.list.ListIndexes;
 import net.jmp.pinecone.quickstart.list.ListModels;
 import net.jmp.pinecone.quickstart.list.ListNamespaces;
 import net.jmp.pinecone.quickstart.load.LoadIndex;
+import net.jmp.pinecone.quickstart.metrics.Metrics;
+import net.jmp.pinecone.quickstart.metrics.MetricsServer;
+import net.jmp.pinecone.quickstart.mongo.ProvisionMongoIndexes;
+import net.jmp.pinecone.quickstart.partition.PartitionParameters;
+import net.jmp.pinecone.quickstart.partition.Partitions;
+import net.jmp.pinecone.quickstart.pipeline.Pipeline;
+import net.jmp.pinecone.quickstart.pipeline.PipelineStep;
 import net.jmp.pinecone.quickstart.query.QueryDenseIndex;
 import net.jmp.pinecone.quickstart.query.QueryHybrid;
 import net.jmp.pinecone.quickstart.query.QuerySparseIndex;
+import net.jmp.pinecone.quickstart.query.RetrievalPaths;
+import net.jmp.pinecone.quickstart.resilience.Resilience;
+import net.jmp.pinecone.quickstart.resilience.ResilienceParameters;
 import net.jmp.pinecone.quickstart.search.SearchIndex;
+import net.jmp.pinecone.quickstart.snapshot.ExportIndex;
+import net.jmp.pinecone.quickstart.snapshot.ImportIndex;
 import net.jmp.pinecone.quickstart.store.StoreUnstructuredText;
+import net.jmp.pinecone.quickstart.text.Corpora;
+import net.jmp.pinecone.quickstart.text.CorpusSource;
+import net.jmp.pinecone.quickstart.text.FileCorpusSource;
+import net.jmp.pinecone.quickstart.text.InCodeCorpusSource;
+import net.jmp.pinecone.quickstart.text.MongoCorpusSource;
+import net.jmp.pinecone.quickstart.trace.Tracer;
 import net.jmp.pinecone.quickstart.update.UpdateIndex;
 
 import static net.jmp.util.logging.LoggerUtils.*;
@@ -73,9 +102,41 @@ import org.slf4j.LoggerFactory;
 
 /// The quickstart class.
 ///
-/// @version    0.8.0
+/// @version    0.9.0
 /// @since      0.1.0
 final class Quickstart {
+    /// The operations and the resources each needs.
+    private static final Map<String, Set<Resource>> OPERATIONS = Map.ofEntries(
+            Map.entry("bench", EnumSet.of(Resource.MONGODB, Resource.OPENAI, Resource.PINECONE)),
+            Map.entry("bench-quantization", EnumSet.noneOf(Resource.class)),
+            Map.entry("compareExtractors", EnumSet.noneOf(Resource.class)),
+            Map.entry("corenlp", EnumSet.noneOf(Resource.class)),
+            Map.entry("create", EnumSet.of(Resource.PINECONE)),
+            Map.entry("delete", EnumSet.of(Resource.PINECONE)),
+            Map.entry("describe", EnumSet.of(Resource.PINECONE)),
+            Map.entry("describeModels", EnumSet.of(Resource.PINECONE)),
+            Map.entry("describeNamespace", EnumSet.of(Resource.PINECONE)),
+            Map.entry("export", EnumSet.of(Resource.PINECONE)),
+            Map.entry("fetch", EnumSet.of(Resource.PINECONE)),
+            Map.entry("import", EnumSet.of(Resource.PINECONE)),
+            Map.entry("list", EnumSet.of(Resource.PINECONE)),
+            Map.entry("listIndexes", EnumSet.of(Resource.PINECONE)),
+            Map.entry("listModels", EnumSet.of(Resource.PINECONE)),
+            Map.entry("listNamespaces", EnumSet.of(Resource.PINECONE)),
+            Map.entry("load", EnumSet.of(Resource.MONGODB, Resource.PINECONE)),
+            Map.entry("mongoIndexes", EnumSet.of(Resource.MONGODB)),
+            Map.entry("query-dense", EnumSet.of(Resource.MONGODB, Resource.OPENAI, Resource.PINECONE)),
+            Map.entry("query-hybrid", EnumSet.of(Resource.MONGODB, Resource.OPENAI, Resource.PINECONE)),
+            Map.entry("query-sparse", EnumSet.of(Resource.MONGODB, Resource.OPENAI, Resource.PINECONE)),
+            Map.entry("search", EnumSet.of(Resource.MONGODB, Resource.OPENAI, Resource.PINECONE)),
+            Map.entry("store", EnumSet.of(Resource.MONGODB)),
+            Map.entry("update", EnumSet.of(Resource.MONGODB, Resource.PINECONE))
+    );
+
+    /// The operations that need a namespace that is not
+    /// partitioned, since a snapshot holds one namespace.
+    private static final Set<String> UNPARTITIONED_OPERATIONS = Set.of("export", "import");
+
     /// The logger.
     private final Logger logger = LoggerFactory.getLogger(this.getClass().getName());
 
@@ -118,12 +179,75 @@ final class Quickstart {
     /// The query text.
     private final String queryText;
 
-    /// The Open AI API key.
-    private String openAiApiKey;
+    /// The Open AI API key, or null until it is first used.
+    private volatile String openAiApiKey;
+
+    /// The Pinecone client, or null until it is first used.
+    private volatile Pinecone pinecone;
+
+    /// The MongoDB client, or null until it is first used.
+    private volatile MongoClient mongoClient;
+
+    /// The resources the operation declared.
+    private Set<Resource> resources = EnumSet.noneOf(Resource.class);
 
     /// The number of top results to return when querying.
     private final int topK;
 
+    /// The local index directory.
+    private final String localIndexDir;
+
+    /// The HNSW parameters.
+    private final String hnswParameters;
+
+    /// The metrics port, or zero to not serve metrics.
+    private final int metricsPort;
+
+    /// The trace file, or empty to not export traces.
+    private final String traceFile;
+
+    /// The number of slowest traces to report, or zero for none.
+    private final int traceSlowest;
+
+    /// The load generator parameters.
+    private final String benchParameters;
+
+    /// The load generator query file, or empty to derive the queries.
+    private final String benchQueryFile;
+
+    /// The update parameters.
+    private final String updateParameters;
+
+    /// The resilience parameters.
+    private final String resilienceParameters;
+
+    /// The snapshot directory.
+    private final String snapshotDir;
+
+    /// The store file, or empty to store the unstructured text.
+    private final String storeFile;
+
+    /// The store parameters.
+    private final String storeParameters;
+
+    /// The corpus source.
+    private final String corpusSource;
+
+    /// The chunking parameters.
+    private final String chunkParameters;
+
+    /// The keyword parameters.
+    private final String keywordParameters;
+
+    /// The operation pipeline.
+    private final String pipeline;
+
+    /// The retrieval mode.
+    private final String retrievalMode;
+
+    /// The partition parameters.
+    private final String partitionParameters;
+
     /// The constructor.
     ///
     /// @param  builder net.jmp.pinecone.quickstart.Quickstart.Builder
@@ -144,6 +268,24 @@ final class Quickstart {
         this.rerankingModel = builder.rerankingModel;
         this.queryText = builder.queryText;
         this.topK = builder.topK;
+        this.localIndexDir = builder.localIndexDir;
+        this.hnswParameters = builder.hnswParameters;
+        this.metricsPort = builder.metricsPort;
+        this.traceFile = builder.traceFile;
+        this.traceSlowest = builder.traceSlowest;
+        this.benchParameters = builder.benchParameters;
+        this.benchQueryFile = builder.benchQueryFile;
+        this.updateParameters = builder.updateParameters;
+        this.resilienceParameters = builder.resilienceParameters;
+        this.snapshotDir = builder.snapshotDir;
+        this.storeFile = builder.storeFile;
+        this.storeParameters = builder.storeParameters;
+        this.corpusSource = builder.corpusSource;
+        this.chunkParameters = builder.chunkParameters;
+        this.keywordParameters = builder.keywordParameters;
+        this.pipeline = builder.pipeline;
+        this.retrievalMode = builder.retrievalMode;
+        this.partitionParameters = builder.partitionParameters;
     }
 
     /// The builder method.
@@ -161,33 +303,373 @@ final class Quickstart {
             this.logger.trace(entryWith(operation));
         }
 
-        this.openAiApiKey = this.getOpenAIApiKey().orElseThrow(() -> new RuntimeException("OpenAI API key not found"));
-
-        final String mongoDbUri = this.getMongoDbUri().orElseThrow(() -> new RuntimeException("MongoDB URI not found"));
-        final String pineconeApiKey = this.getPineconeApiKey().orElseThrow(() -> new RuntimeException("Pinecone API key not found"));
-        final Pinecone pinecone = new Pinecone.Builder(pineconeApiKey).build();
-
-        try (final MongoClient mongoClient = MongoClients.create(mongoDbUri)) {
-            switch (operation) {
-                case "corenlp" -> this.coreNLP();
-                case "create" -> this.createIndex(pinecone);
-                case "delete" -> this.deleteIndex(pinecone);
-                case "describe" -> this.describeIndex(pinecone);
-                case "describeModels" -> this.describeModels(pinecone);
-                case "describeNamespace" -> this.describeNamespace(pinecone);
-                case "fetch" -> this.fetchIndex(pinecone);
-                case "list" -> this.listIndex(pinecone);
-                case "listIndexes" -> this.listIndexes(pinecone);
-                case "listModels" -> this.listModels(pinecone);
-                case "listNamespaces" -> this.listNamespaces(pinecone);
-                case "load" -> this.loadIndex(pinecone, mongoClient);
-                case "query-dense" -> this.queryDenseIndex(pinecone, mongoClient);
-                case "query-hybrid" -> this.queryHybrid(pinecone, mongoClient);
-                case "query-sparse" -> this.querySparseIndex(pinecone, mongoClient);
-                case "search" -> this.searchIndex(pinecone, mongoClient);
-                case "store" -> this.storeUnstructuredText(mongoClient);
-                case "update" -> this.updateIndex(pinecone, mongoClient);
-                default -> this.logger.error("Unknown operation: {}", operation);
+        this.resources = this.getResources(operation);
+
+        Resilience.configure(ResilienceParameters.parse(this.resilienceParameters));
+        Extractors.configure(KeywordParameters.parse(this.keywordParameters));
+        RetrievalPaths.configure(this.retrievalMode, this.getRetrievalLatencyFile());
+        Partitions.configure(PartitionParameters.parse(this.partitionParameters));
+
+        this.checkPartitions(operation);
+
+        final MetricsServer metricsServer = this.startMetricsServer();
+
+        this.startTracing();
+
+        this.logger.info("Ready to run {} {} ms after the JVM started", operation, ManagementFactory.getRuntimeMXBean().getUptime());
+
+        try {
+            Corpora.configure(this.getCorpusSource());
+
+            this.operate(operation);
+        } finally {
+            RetrievalPaths.save();
+
+            if (this.mongoClient != null) {
+                this.mongoClient.close();
+            }
+
+            if (!Metrics.isEmpty()) {
+                this.logger.info("Metrics:\n{}", Metrics.toPrometheus());
+            }
+
+            if (metricsServer != null) {
+                metricsServer.close();
+            }
+
+            if (Tracer.isEnabled()) {
+                final String waterfalls = Tracer.getSlowestWaterfalls();
+
+                if (!waterfalls.isEmpty()) {
+                    this.logger.info("Slowest traces:\n{}", waterfalls);
+                }
+
+                Tracer.disable();
+            }
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /// Run an operation.
+    ///
+    /// @param  operation   java.lang.String
+    private void operate(final String operation) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entryWith(operation));
+        }
+
+        switch (operation) {
+            case "bench" -> this.benchLoad(this.pinecone(), this.mongoClient());
+            case "bench-quantization" -> this.benchQuantization();
+            case "compareExtractors" -> this.compareExtractors();
+            case "corenlp" -> this.coreNLP();
+            case "create" -> this.createIndex(this.pinecone());
+            case "delete" -> this.deleteIndex(this.pinecone());
+            case "describe" -> this.describeIndex(this.pinecone());
+            case "describeModels" -> this.describeModels(this.pinecone());
+            case "describeNamespace" -> this.describeNamespace(this.pinecone());
+            case "export" -> this.exportIndex(this.pinecone());
+            case "fetch" -> this.fetchIndex(this.pinecone());
+            case "import" -> this.importIndex(this.pinecone());
+            case "list" -> this.listIndex(this.pinecone());
+            case "listIndexes" -> this.listIndexes(this.pinecone());
+            case "listModels" -> this.listModels(this.pinecone());
+            case "listNamespaces" -> this.listNamespaces(this.pinecone());
+            case "load" -> this.loadIndex(this.pinecone(), this.mongoClient());
+            case "mongoIndexes" -> this.provisionMongoIndexes(this.mongoClient());
+            case "pipeline" -> this.runPipeline();
+            case "query-dense" -> this.queryDenseIndex(this.pinecone(), this.mongoClient());
+            case "query-hybrid" -> this.queryHybrid(this.pinecone(), this.mongoClient());
+            case "query-sparse" -> this.querySparseIndex(this.pinecone(), this.mongoClient());
+            case "search" -> this.searchIndex(this.pinecone(), this.mongoClient());
+            case "store" -> this.storeUnstructuredText(this.mongoClient());
+            case "update" -> this.updateIndex(this.pinecone(), this.mongoClient());
+            default -> this.logger.error("Unknown operation: {}", operation);
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /// Run the operation pipeline, sharing the Pinecone and
+    /// MongoDB clients across its steps. Steps that do not
+    /// depend on each other run in parallel.
+    private void runPipeline() {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        final Pipeline operations = Pipeline.parse(this.pipeline);
+
+        this.logger.info("Running pipeline: {}", operations);
+
+        operations.run(this::operate);
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /// Return the resources an operation declares, or for the
+    /// pipeline the resources of all of its steps, after
+    /// checking that the files they are read from exist.
+    ///
+    /// @param  operation   java.lang.String
+    /// @return             java.util.Set<net.jmp.pinecone.quickstart.Resource>
+    private Set<Resource> getResources(final String operation) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entryWith(operation));
+        }
+
+        final Set<Resource> result = EnumSet.noneOf(Resource.class);
+
+        if (operation.equals("pipeline")) {
+            for (final PipelineStep step : Pipeline.parse(this.pipeline).getSteps()) {
+                if (!OPERATIONS.containsKey(step.getOperation())) {
+                    throw new IllegalArgumentException("Unknown pipeline operation: " + step.getOperation());
+                }
+
+                result.addAll(OPERATIONS.get(step.getOperation()));
+            }
+        } else {
+            result.addAll(OPERATIONS.getOrDefault(operation, Set.of()));
+        }
+
+        if (result.contains(Resource.MONGODB) && !Files.isReadable(Paths.get(this.mongoDbUriFile))) {
+            throw new RuntimeException("MongoDB URI not found");
+        }
+
+        if (result.contains(Resource.OPENAI) && !this.isReadable("app.openaiApiKey")) {
+            throw new RuntimeException("OpenAI API key not found");
+        }
+
+        if (result.contains(Resource.PINECONE) && !this.isReadable("app.pineconeApiKey")) {
+            throw new RuntimeException("Pinecone API key not found");
+        }
+
+        this.logger.info("Resources for {}: {}", operation, result);
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exitWith(result));
+        }
+
+        return result;
+    }
+
+    /// Check that an operation, or for the pipeline each of
+    /// its steps, can run on the namespace as it is partitioned.
+    ///
+    /// @param  operation   java.lang.String
+    private void checkPartitions(final String operation) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entryWith(operation));
+        }
+
+        if (Partitions.get().isPartitioned()) {
+            final List<String> operations = operation.equals("pipeline")
+                    ? Pipeline.parse(this.pipeline).getSteps().stream().map(PipelineStep::getOperation).toList()
+                    : List.of(operation);
+
+            for (final String name : operations) {
+                if (UNPARTITIONED_OPERATIONS.contains(name)) {
+                    throw new IllegalArgumentException("Operation needs a namespace that is not partitioned: " + name + " (" + Partitions.get() + ")");
+                }
+            }
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /// Return true if the file named by a system property can be read.
+    ///
+    /// @param  propertyName    java.lang.String
+    /// @return                 boolean
+    private boolean isReadable(final String propertyName) {
+        final String fileName = System.getProperty(propertyName);
+
+        return fileName != null && Files.isReadable(Paths.get(fileName));
+    }
+
+    /// Return the Pinecone client, creating it on first use.
+    ///
+    /// @return io.pinecone.clients.Pinecone
+    private Pinecone pinecone() {
+        Pinecone result = this.pinecone;
+
+        if (result == null) {
+            synchronized (this) {
+                result = this.pinecone;
+
+                if (result == null) {
+                    this.require(Resource.PINECONE);
+
+                    final long start = System.nanoTime();
+                    final String pineconeApiKey = this.getPineconeApiKey().orElseThrow(() -> new RuntimeException("Pinecone API key not found"));
+
+                    result = new Pinecone.Builder(pineconeApiKey).build();
+                    this.pinecone = result;
+
+                    this.logger.info("Created the Pinecone client in {} ms", (System.nanoTime() - start) / 1_000_000);
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /// Return the MongoDB client, connecting on first use.
+    ///
+    /// @return com.mongodb.client.MongoClient
+    private MongoClient mongoClient() {
+        MongoClient result = this.mongoClient;
+
+        if (result == null) {
+            synchronized (this) {
+                result = this.mongoClient;
+
+                if (result == null) {
+                    this.require(Resource.MONGODB);
+
+                    final long start = System.nanoTime();
+                    final String mongoDbUri = this.getMongoDbUri().orElseThrow(() -> new RuntimeException("MongoDB URI not found"));
+
+                    result = MongoClients.create(mongoDbUri);
+                    this.mongoClient = result;
+
+                    this.logger.info("Created the MongoDB client in {} ms", (System.nanoTime() - start) / 1_000_000);
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /// Return the OpenAI API key, reading it on first use.
+    ///
+    /// @return java.lang.String
+    private String openAiApiKey() {
+        String result = this.openAiApiKey;
+
+        if (result == null) {
+            synchronized (this) {
+                result = this.openAiApiKey;
+
+                if (result == null) {
+                    this.require(Resource.OPENAI);
+
+                    result = this.getOpenAIApiKey().orElseThrow(() -> new RuntimeException("OpenAI API key not found"));
+                    this.openAiApiKey = result;
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /// Check that the operation declared a resource.
+    ///
+    /// @param  resource    net.jmp.pinecone.quickstart.Resource
+    private void require(final Resource resource) {
+        if (!this.resources.contains(resource)) {
+            throw new IllegalStateException("Resource not declared by the operation: " + resource);
+        }
+    }
+
+    /// Start serving the metrics if a metrics port is set.
+    ///
+    /// @return net.jmp.pinecone.quickstart.metrics.MetricsServer
+    private MetricsServer startMetricsServer() {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        MetricsServer metricsServer = null;
+
+        if (this.metricsPort > 0) {
+            try {
+                metricsServer = MetricsServer.start(this.metricsPort);
+
+                this.logger.info("Serving metrics at http://localhost:{}/metrics", this.metricsPort);
+            } catch (final IOException ioe) {
+                this.logger.error(catching(ioe));
+            }
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exitWith(metricsServer));
+        }
+
+        return metricsServer;
+    }
+
+    /// Return the corpus source: the unstructured text for
+    /// code, the MongoDB collection for mongo, or else the
+    /// text file with the given path.
+    ///
+    /// @return net.jmp.pinecone.quickstart.text.CorpusSource
+    private CorpusSource getCorpusSource() {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        final CorpusSource source = switch (this.corpusSource) {
+            case "", "code" -> new InCodeCorpusSource();
+            case "mongo" -> new MongoCorpusSource(this::mongoClient, this.mongoDbName, this.mongoDbCollection);
+            default -> new FileCorpusSource(Paths.get(this.corpusSource));
+        };
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exitWith(source));
+        }
+
+        return source;
+    }
+
+    /// Return the file the retrieval path latencies are kept
+    /// in, in the local index directory, or null to keep them
+    /// in memory when there is no local index directory.
+    ///
+    /// @return java.nio.file.Path
+    private Path getRetrievalLatencyFile() {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        Path file = null;
+
+        if (this.localIndexDir != null && !this.localIndexDir.isBlank()) {
+            file = Paths.get(this.localIndexDir, "retrieval-latency.properties");
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exitWith(file));
+        }
+
+        return file;
+    }
+
+    /// Start tracing if a trace file or a
+    /// number of slowest traces is set.
+    private void startTracing() {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        final boolean exportTraces = this.traceFile != null && !this.traceFile.isBlank();
+
+        if (exportTraces || this.traceSlowest > 0) {
+            try {
+                Tracer.enable(exportTraces ? Paths.get(this.traceFile) : null, this.traceSlowest);
+
+                this.logger.info("Tracing queries (file: {}, slowest: {})", exportTraces ? this.traceFile : "none", this.traceSlowest);
+            } catch (final IOException ioe) {
+                this.logger.error(catching(ioe));
             }
         }
 
@@ -291,6 +773,55 @@ final class Quickstart {
         return Optional.ofNullable(mongoDbUri);
     }
 
+    /// Drive a query pipeline with the load generator.
+    ///
+    /// @param  pinecone    io.pinecone.clients.Pinecone
+    /// @param  mongoClient com.mongodb.client.MongoClient
+    private void benchLoad(final Pinecone pinecone, final MongoClient mongoClient) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entryWith(pinecone, mongoClient));
+        }
+
+        final Map<String, Function<String, Operation>> pipelines = Map.of(
+                "dense", queryText -> this.createQueryDenseIndex(pinecone, mongoClient, queryText),
+                "sparse", queryText -> this.createQuerySparseIndex(pinecone, mongoClient, queryText),
+                "hybrid", queryText -> this.createQueryHybrid(pinecone, mongoClient, queryText),
+                "search", queryText -> this.createSearchIndex(pinecone, mongoClient, queryText)
+        );
+
+        final LoadGenerator loadGenerator = LoadGenerator.builder()
+                .pipelines(pipelines)
+                .loadParameters(this.benchParameters)
+                .queryFile(this.benchQueryFile)
+                .build();
+
+        loadGenerator.operate();
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /// Benchmark quantization of the local dense index.
+    private void benchQuantization() {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        final QuantizationBenchmark quantizationBenchmark = QuantizationBenchmark.builder()
+                .denseIndexName(this.denseIndexName)
+                .namespace(this.namespace)
+                .topK(this.topK)
+                .localIndexDir(this.localIndexDir)
+                .build();
+
+        quantizationBenchmark.operate();
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
     ///  Perform core natural language processing.
     private void coreNLP() {
         if (this.logger.isTraceEnabled()) {
@@ -306,6 +837,44 @@ final class Quickstart {
         }
     }
 
+    /// Compare the keyword extractors.
+    private void compareExtractors() {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        final CompareExtractors compareExtractors = new CompareExtractors(this.queryText);
+
+        compareExtractors.operate();
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /// Export the indexes to snapshots.
+    ///
+    /// @param  pinecone    io.pinecone.clients.Pinecone
+    private void exportIndex(final Pinecone pinecone) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entryWith(pinecone));
+        }
+
+        final ExportIndex exportIndex = ExportIndex.builder()
+            .pinecone(pinecone)
+            .denseIndexName(this.denseIndexName)
+            .sparseIndexName(this.sparseIndexName)
+            .namespace(this.namespace)
+            .snapshotDir(this.snapshotDir)
+            .build();
+
+        exportIndex.operate();
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
     /// Fetch from the indexes.
     ///
     /// @param  pinecone    io.pinecone.clients.Pinecone
@@ -328,6 +897,30 @@ final class Quickstart {
         }
     }
 
+    /// Import the indexes from snapshots.
+    ///
+    /// @param  pinecone    io.pinecone.clients.Pinecone
+    private void importIndex(final Pinecone pinecone) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entryWith(pinecone));
+        }
+
+        final ImportIndex importIndex = ImportIndex.builder()
+            .pinecone(pinecone)
+            .denseIndexName(this.denseIndexName)
+            .sparseIndexName(this.sparseIndexName)
+            .namespace(this.namespace)
+            .localIndexDir(this.localIndexDir)
+            .snapshotDir(this.snapshotDir)
+            .build();
+
+        importIndex.operate();
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
     /// List the indexes.
     ///
     /// @param  pinecone    io.pinecone.clients.Pinecone
@@ -449,9 +1042,11 @@ final class Quickstart {
                 .searchableIndexName(this.searchableIndexName)
                 .sparseIndexName(this.sparseIndexName)
                 .namespace(this.namespace)
+                .localIndexDir(this.localIndexDir)
                 .mongoClient(mongoClient)
                 .collectionName(this.mongoDbCollection)
                 .dbName(this.mongoDbName)
+                .updateParameters(this.updateParameters)
                 .build();
 
         updateIndex.operate();
@@ -538,6 +1133,7 @@ final class Quickstart {
             .searchableIndexName(this.searchableIndexName)
             .sparseIndexName(this.sparseIndexName)
             .namespace(this.namespace)
+            .localIndexDir(this.localIndexDir)
             .build();
 
         deleteIndex.operate();
@@ -568,6 +1164,9 @@ final class Quickstart {
             .mongoClient(mongoClient)
             .collectionName(this.mongoDbCollection)
             .dbName(this.mongoDbName)
+            .localIndexDir(this.localIndexDir)
+            .hnswParameters(this.hnswParameters)
+            .chunkParameters(this.chunkParameters)
             .build();
 
         loadIndex.operate();
@@ -586,6 +1185,26 @@ final class Quickstart {
             this.logger.trace(entryWith(pinecone, mongoClient));
         }
 
+        final QuerySparseIndex querySparseIndex = this.createQuerySparseIndex(pinecone, mongoClient, this.queryText);
+
+        querySparseIndex.operate();
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /// Create the query sparse index operation for a query text.
+    ///
+    /// @param  pinecone    io.pinecone.clients.Pinecone
+    /// @param  mongoClient com.mongodb.client.MongoClient
+    /// @param  queryText   java.lang.String
+    /// @return             net.jmp.pinecone.quickstart.query.QuerySparseIndex
+    private QuerySparseIndex createQuerySparseIndex(final Pinecone pinecone, final MongoClient mongoClient, final String queryText) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entryWith(pinecone, mongoClient, queryText));
+        }
+
         final QuerySparseIndex querySparseIndex = QuerySparseIndex.builder()
                 .pinecone(pinecone)
                 .chatModel(this.chatModel)
@@ -593,19 +1212,20 @@ final class Quickstart {
                 .sparseIndexName(this.sparseIndexName)
                 .namespace(this.namespace)
                 .rerankingModel(this.rerankingModel)
-                .queryText(this.queryText)
-                .openAiApiKey(this.openAiApiKey)
+                .queryText(queryText)
+                .openAiApiKey(this.openAiApiKey())
                 .mongoClient(mongoClient)
                 .collectionName(this.mongoDbCollection)
                 .dbName(this.mongoDbName)
                 .topK(this.topK)
+                .localIndexDir(this.localIndexDir)
                 .build();
 
-        querySparseIndex.operate();
-
         if (this.logger.isTraceEnabled()) {
-            this.logger.trace(exit());
+            this.logger.trace(exitWith(querySparseIndex));
         }
+
+        return querySparseIndex;
     }
 
     /// Query both the sparse and the dense index to make it hybrid
@@ -617,6 +1237,26 @@ final class Quickstart {
             this.logger.trace(entryWith(pinecone, mongoClient));
         }
 
+        final QueryHybrid queryHybrid = this.createQueryHybrid(pinecone, mongoClient, this.queryText);
+
+        queryHybrid.operate();
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /// Create the query hybrid operation for a query text.
+    ///
+    /// @param  pinecone    io.pinecone.clients.Pinecone
+    /// @param  mongoClient com.mongodb.client.MongoClient
+    /// @param  queryText   java.lang.String
+    /// @return             net.jmp.pinecone.quickstart.query.QueryHybrid
+    private QueryHybrid createQueryHybrid(final Pinecone pinecone, final MongoClient mongoClient, final String queryText) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entryWith(pinecone, mongoClient, queryText));
+        }
+
         final QueryHybrid queryHybrid = QueryHybrid.builder()
                 .pinecone(pinecone)
                 .chatModel(this.chatModel)
@@ -626,19 +1266,21 @@ final class Quickstart {
                 .sparseIndexName(this.sparseIndexName)
                 .namespace(this.namespace)
                 .rerankingModel(this.rerankingModel)
-                .queryText(this.queryText)
-                .openAiApiKey(this.openAiApiKey)
+                .queryText(queryText)
+                .openAiApiKey(this.openAiApiKey())
                 .mongoClient(mongoClient)
                 .collectionName(this.mongoDbCollection)
                 .dbName(this.mongoDbName)
                 .topK(this.topK)
+                .localIndexDir(this.localIndexDir)
+                .hnswParameters(this.hnswParameters)
                 .build();
 
-        queryHybrid.operate();
-
         if (this.logger.isTraceEnabled()) {
-            this.logger.trace(exit());
+            this.logger.trace(exitWith(queryHybrid));
         }
+
+        return queryHybrid;
     }
 
     /// Query the dense index.
@@ -650,26 +1292,49 @@ final class Quickstart {
             this.logger.trace(entryWith(pinecone, mongoClient));
         }
 
+        final QueryDenseIndex queryDenseIndex = this.createQueryDenseIndex(pinecone, mongoClient, this.queryText);
+
+        queryDenseIndex.operate();
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /// Create the query dense index operation for a query text.
+    ///
+    /// @param  pinecone    io.pinecone.clients.Pinecone
+    /// @param  mongoClient com.mongodb.client.MongoClient
+    /// @param  queryText   java.lang.String
+    /// @return             net.jmp.pinecone.quickstart.query.QueryDenseIndex
+    private QueryDenseIndex createQueryDenseIndex(final Pinecone pinecone, final MongoClient mongoClient, final String queryText) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entryWith(pinecone, mongoClient, queryText));
+        }
+
         final QueryDenseIndex queryDenseIndex = QueryDenseIndex.builder()
             .pinecone(pinecone)
             .chatModel(this.chatModel)
             .denseEmbeddingModel(this.denseEmbeddingModel)
             .denseIndexName(this.denseIndexName)
+            .searchableIndexName(this.searchableIndexName)
             .namespace(this.namespace)
             .rerankingModel(this.rerankingModel)
-            .queryText(this.queryText)
-            .openAiApiKey(this.openAiApiKey)
+            .queryText(queryText)
+            .openAiApiKey(this.openAiApiKey())
             .mongoClient(mongoClient)
             .collectionName(this.mongoDbCollection)
             .dbName(this.mongoDbName)
             .topK(this.topK)
+            .localIndexDir(this.localIndexDir)
+            .hnswParameters(this.hnswParameters)
             .build();
 
-        queryDenseIndex.operate();
-
         if (this.logger.isTraceEnabled()) {
-            this.logger.trace(exit());
+            this.logger.trace(exitWith(queryDenseIndex));
         }
+
+        return queryDenseIndex;
     }
 
     /// Search the index.
@@ -681,6 +1346,26 @@ final class Quickstart {
             this.logger.trace(entryWith(pinecone, mongoClient));
         }
 
+        final SearchIndex searchIndex = this.createSearchIndex(pinecone, mongoClient, this.queryText);
+
+        searchIndex.operate();
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /// Create the search index operation for a query text.
+    ///
+    /// @param  pinecone    io.pinecone.clients.Pinecone
+    /// @param  mongoClient com.mongodb.client.MongoClient
+    /// @param  queryText   java.lang.String
+    /// @return             net.jmp.pinecone.quickstart.search.SearchIndex
+    private SearchIndex createSearchIndex(final Pinecone pinecone, final MongoClient mongoClient, final String queryText) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entryWith(pinecone, mongoClient, queryText));
+        }
+
         final SearchIndex searchIndex = SearchIndex.builder()
                 .pinecone(pinecone)
                 .chatModel(this.chatModel)
@@ -688,19 +1373,19 @@ final class Quickstart {
                 .searchableIndexName(this.searchableIndexName)
                 .namespace(this.namespace)
                 .rerankingModel(this.rerankingModel)
-                .queryText(this.queryText)
-                .openAiApiKey(this.openAiApiKey)
+                .queryText(queryText)
+                .openAiApiKey(this.openAiApiKey())
                 .mongoClient(mongoClient)
                 .collectionName(this.mongoDbCollection)
                 .dbName(this.mongoDbName)
                 .topK(this.topK)
                 .build();
 
-        searchIndex.operate();
-
         if (this.logger.isTraceEnabled()) {
-            this.logger.trace(exit());
+            this.logger.trace(exitWith(searchIndex));
         }
+
+        return searchIndex;
     }
 
     /// Store the unstructured text.
@@ -715,6 +1400,9 @@ final class Quickstart {
             .mongoClient(mongoClient)
             .collectionName(this.mongoDbCollection)
             .dbName(this.mongoDbName)
+            .storeFile(this.storeFile)
+            .storeParameters(this.storeParameters)
+            .keywordParameters(this.keywordParameters)
             .build();
 
         storeUnstructuredText.operate();
@@ -724,6 +1412,27 @@ final class Quickstart {
         }
     }
 
+    /// Provision the MongoDB indexes.
+    ///
+    /// @param  mongoClient com.mongodb.client.MongoClient
+    private void provisionMongoIndexes(final MongoClient mongoClient) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entryWith(mongoClient));
+        }
+
+        final ProvisionMongoIndexes provisionMongoIndexes = ProvisionMongoIndexes.builder()
+            .mongoClient(mongoClient)
+            .collectionName(this.mongoDbCollection)
+            .dbName(this.mongoDbName)
+            .build();
+
+        provisionMongoIndexes.operate();
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
     /// The builder class.
     static class Builder {
         /// The chat model.
@@ -768,6 +1477,60 @@ final class Quickstart {
         /// The number of top results to return when querying.
         private int topK;
 
+        /// The local index directory.
+        private String localIndexDir;
+
+        /// The HNSW parameters.
+        private String hnswParameters;
+
+        /// The metrics port.
+        private int metricsPort;
+
+        /// The trace file.
+        private String traceFile;
+
+        /// The number of slowest traces to report.
+        private int traceSlowest;
+
+        /// The load generator parameters.
+        private String benchParameters;
+
+        /// The load generator query file.
+        private String benchQueryFile;
+
+        /// The update parameters.
+        private String updateParameters;
+
+        /// The resilience parameters.
+        private String resilienceParameters;
+
+        /// The snapshot directory.
+        private String snapshotDir;
+
+        /// The store file.
+        private String storeFile;
+
+        /// The store parameters.
+        private String storeParameters;
+
+        /// The corpus source.
+        private String corpusSource;
+
+        /// The chunking parameters.
+        private String chunkParameters;
+
+        /// The keyword parameters.
+        private String keywordParameters;
+
+        /// The operation pipeline.
+        private String pipeline;
+
+        /// The retrieval mode.
+        private String retrievalMode;
+
+        /// The partition parameters.
+        private String partitionParameters;
+
         /// The default constructor.
         Builder() {
             super();
@@ -913,6 +1676,186 @@ final class Quickstart {
             return this;
         }
 
+        /// Set the local index directory.
+        ///
+        /// @param  localIndexDir   java.lang.String
+        /// @return                 net.jmp.pinecone.quickstart.Quickstart.Builder
+        public Builder localIndexDir(final String localIndexDir) {
+            this.localIndexDir = localIndexDir;
+
+            return this;
+        }
+
+        /// Set the HNSW parameters.
+        ///
+        /// @param  hnswParameters  java.lang.String
+        /// @return                 net.jmp.pinecone.quickstart.Quickstart.Builder
+        public Builder hnswParameters(final String hnswParameters) {
+            this.hnswParameters = hnswParameters;
+
+            return this;
+        }
+
+        /// Set the metrics port.
+        ///
+        /// @param  metricsPort int
+        /// @return             net.jmp.pinecone.quickstart.Quickstart.Builder
+        public Builder metricsPort(final int metricsPort) {
+            this.metricsPort = metricsPort;
+
+            return this;
+        }
+
+        /// Set the trace file.
+        ///
+        /// @param  traceFile   java.lang.String
+        /// @return             net.jmp.pinecone.quickstart.Quickstart.Builder
+        public Builder traceFile(final String traceFile) {
+            this.traceFile = traceFile;
+
+            return this;
+        }
+
+        /// Set the number of slowest traces to report.
+        ///
+        /// @param  traceSlowest    int
+        /// @return                 net.jmp.pinecone.quickstart.Quickstart.Builder
+        public Builder traceSlowest(final int traceSlowest) {
+            this.traceSlowest = traceSlowest;
+
+            return this;
+        }
+
+        /// Set the load generator parameters.
+        ///
+        /// @param  benchParameters java.lang.String
+        /// @return                 net.jmp.pinecone.quickstart.Quickstart.Builder
+        public Builder benchParameters(final String benchParameters) {
+            this.benchParameters = benchParameters;
+
+            return this;
+        }
+
+        /// Set the load generator query file.
+        ///
+        /// @param  benchQueryFile  java.lang.String
+        /// @return                 net.jmp.pinecone.quickstart.Quickstart.Builder
+        public Builder benchQueryFile(final String benchQueryFile) {
+            this.benchQueryFile = benchQueryFile;
+
+            return this;
+        }
+
+        /// Set the update parameters.
+        ///
+        /// @param  updateParameters    java.lang.String
+        /// @return                     net.jmp.pinecone.quickstart.Quickstart.Builder
+        public Builder updateParameters(final String updateParameters) {
+            this.updateParameters = updateParameters;
+
+            return this;
+        }
+
+        /// Set the resilience parameters.
+        ///
+        /// @param  resilienceParameters    java.lang.String
+        /// @return                         net.jmp.pinecone.quickstart.Quickstart.Builder
+        public Builder resilienceParameters(final String resilienceParameters) {
+            this.resilienceParameters = resilienceParameters;
+
+            return this;
+        }
+
+        /// Set the snapshot directory.
+        ///
+        /// @param  snapshotDir java.lang.String
+        /// @return             net.jmp.pinecone.quickstart.Quickstart.Builder
+        public Builder snapshotDir(final String snapshotDir) {
+            this.snapshotDir = snapshotDir;
+
+            return this;
+        }
+
+        /// Set the store file.
+        ///
+        /// @param  storeFile   java.lang.String
+        /// @return             net.jmp.pinecone.quickstart.Quickstart.Builder
+        public Builder storeFile(final String storeFile) {
+            this.storeFile = storeFile;
+
+            return this;
+        }
+
+        /// Set the store parameters.
+        ///
+        /// @param  storeParameters java.lang.String
+        /// @return                 net.jmp.pinecone.quickstart.Quickstart.Builder
+        public Builder storeParameters(final String storeParameters) {
+            this.storeParameters = storeParameters;
+
+            return this;
+        }
+
+        /// Set the corpus source.
+        ///
+        /// @param  corpusSource    java.lang.String
+        /// @return                 net.jmp.pinecone.quickstart.Quickstart.Builder
+        public Builder corpusSource(final String corpusSource) {
+            this.corpusSource = corpusSource;
+
+            return this;
+        }
+
+        /// Set the chunking parameters.
+        ///
+        /// @param  chunkParameters java.lang.String
+        /// @return                 net.jmp.pinecone.quickstart.Quickstart.Builder
+        public Builder chunkParameters(final String chunkParameters) {
+            this.chunkParameters = chunkParameters;
+
+            return this;
+        }
+
+        /// Set the keyword parameters.
+        ///
+        /// @param  keywordParameters   java.lang.String
+        /// @return                     net.jmp.pinecone.quickstart.Quickstart.Builder
+        public Builder keywordParameters(final String keywordParameters) {
+            this.keywordParameters = keywordParameters;
+
+            return this;
+        }
+
+        /// Set the operation pipeline.
+        ///
+        /// @param  pipeline    java.lang.String
+        /// @return             net.jmp.pinecone.quickstart.Quickstart.Builder
+        public Builder pipeline(final String pipeline) {
+            this.pipeline = pipeline;
+
+            return this;
+        }
+
+        /// Set the retrieval mode.
+        ///
+        /// @param  retrievalMode   java.lang.String
+        /// @return                 net.jmp.pinecone.quickstart.Quickstart.Builder
+        public Builder retrievalMode(final String retrievalMode) {
+            this.retrievalMode = retrievalMode;
+
+            return this;
+        }
+
+        /// Set the partition parameters.
+        ///
+        /// @param  partitionParameters java.lang.String
+        /// @return                     net.jmp.pinecone.quickstart.Quickstart.Builder
+        public Builder partitionParameters(final String partitionParameters) {
+            this.partitionParameters = partitionParameters;
+
+            return this;
+        }
+
         /// Build the quickstart object.
         ///
         /// @return net.jmp.pinecone.quickstart.Quickstart
@@ -0,0 +1,491 @@
+package net.jmp.pinecone.quickstart.bench;
+
+/*
+ * (#)LoadGenerator.java    0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.io.IOException;
+
+import java.nio.file.Paths;
+
+import java.util.*;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import java.util.concurrent.locks.LockSupport;
+
+import java.util.function.Function;
+
+import net.jmp.pinecone.quickstart.Operation;
+
+import net.jmp.pinecone.quickstart.metrics.LatencyHistogram;
+import net.jmp.pinecone.quickstart.metrics.Metrics;
+import net.jmp.pinecone.quickstart.metrics.Stage;
+
+import net.jmp.pinecone.quickstart.text.Corpora;
+
+import static net.jmp.util.logging.LoggerUtils.*;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/// The load generator class. Drives one of the query
+/// pipelines with a mix of query texts through a warmup,
+/// a steady state and a cooldown, each query on its own
+/// virtual thread, and reports the throughput, the latency
+/// percentiles and the error rate of the steady state, in
+/// total and for each stage of the pipeline.
+///
+/// Open load measures each query from the time it was due
+/// to start, so a backlog shows up as latency rather than
+/// as a lower rate. Queries that would exceed the cap on
+/// queries in flight are dropped and counted.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+public final class LoadGenerator extends Operation {
+    /// The latency percentiles reported.
+    private static final double[] PERCENTILES = {50.0, 90.0, 99.0, 99.9};
+
+    /// The seed for the order of a derived query mix.
+    private static final long SEED = 42L;
+
+    /// The number of nanoseconds in a second.
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    /// The number of nanoseconds in a millisecond.
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    /// The logger.
+    private final Logger logger = LoggerFactory.getLogger(this.getClass().getName());
+
+    /// The pipelines by name, each creating the operation that answers a query text.
+    private final Map<String, Function<String, Operation>> pipelines;
+
+    /// The load parameters.
+    private final String loadParameters;
+
+    /// The query file, or empty to derive the queries from the unstructured text.
+    private final String queryFile;
+
+    /// The constructor.
+    ///
+    /// @param  builder net.jmp.pinecone.quickstart.bench.LoadGenerator.Builder
+    private LoadGenerator(final Builder builder) {
+        super(Operation.operationBuilder());
+
+        this.pipelines = builder.pipelines;
+        this.loadParameters = builder.loadParameters;
+        this.queryFile = builder.queryFile;
+    }
+
+    /// Return an instance of the builder class.
+    ///
+    /// @return net.jmp.pinecone.quickstart.bench.LoadGenerator.Builder
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /// The operate method.
+    @Override
+    public void operate() {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        final LoadParameters parameters = LoadParameters.parse(this.loadParameters);
+        final Function<String, Operation> pipeline = this.pipelines.get(parameters.getPipeline());
+
+        if (pipeline != null) {
+            this.getQueryMix().ifPresent(queryMix -> this.generate(parameters, pipeline, queryMix));
+        } else {
+            this.logger.error("Unknown pipeline: {}; expected one of {}", parameters.getPipeline(), this.pipelines.keySet());
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /// Return the query mix, read from the query file if
+    /// there is one or else derived from the unstructured text.
+    ///
+    /// @return java.util.Optional<net.jmp.pinecone.quickstart.bench.QueryMix>
+    private Optional<QueryMix> getQueryMix() {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        QueryMix queryMix = null;
+
+        if (this.queryFile != null && !this.queryFile.isBlank()) {
+            try {
+                queryMix = QueryMix.fromFile(Paths.get(this.queryFile));
+            } catch (final IOException | IllegalArgumentException e) {
+                this.logger.error("Unable to read the query file: {}", this.queryFile, e);
+            }
+        } else {
+            queryMix = QueryMix.fromCorpus(Corpora.get(), SEED);
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exitWith(queryMix));
+        }
+
+        return Optional.ofNullable(queryMix);
+    }
+
+    /// Run the phases and report the steady state.
+    ///
+    /// @param  parameters  net.jmp.pinecone.quickstart.bench.LoadParameters
+    /// @param  pipeline    java.util.function.Function<java.lang.String, net.jmp.pinecone.quickstart.Operation>
+    /// @param  queryMix    net.jmp.pinecone.quickstart.bench.QueryMix
+    private void generate(final LoadParameters parameters,
+                          final Function<String, Operation> pipeline,
+                          final QueryMix queryMix) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entryWith(parameters, pipeline, queryMix));
+        }
+
+        this.logger.info("Driving the {} pipeline with {}: {}", parameters.getPipeline(), queryMix, parameters);
+
+        this.runPhase("warmup", parameters.getWarmup(), parameters, pipeline, queryMix);
+
+        /* Stage metrics are cumulative, so the steady state is the difference */
+
+        final Map<Stage, LatencyHistogram> stageLatencies = new EnumMap<>(Stage.class);
+        final Map<Stage, Long> stageErrors = new EnumMap<>(Stage.class);
+
+        for (final Stage stage : Stage.values()) {
+            stageLatencies.put(stage, Metrics.getLatency(stage).copy());
+            stageErrors.put(stage, Metrics.getErrors(stage));
+        }
+
+        final PhaseResult steady = this.runPhase("steady", parameters.getSteady(), parameters, pipeline, queryMix);
+
+        this.report(steady, stageLatencies, stageErrors);
+
+        this.runPhase("cooldown", parameters.getCooldown(), parameters, pipeline, queryMix);
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /// Run one phase and return its result.
+    ///
+    /// @param  name        java.lang.String
+    /// @param  seconds     int
+    /// @param  parameters  net.jmp.pinecone.quickstart.bench.LoadParameters
+    /// @param  pipeline    java.util.function.Function<java.lang.String, net.jmp.pinecone.quickstart.Operation>
+    /// @param  queryMix    net.jmp.pinecone.quickstart.bench.QueryMix
+    /// @return             net.jmp.pinecone.quickstart.bench.LoadGenerator.PhaseResult
+    private PhaseResult runPhase(final String name,
+                                 final int seconds,
+                                 final LoadParameters parameters,
+                                 final Function<String, Operation> pipeline,
+                                 final QueryMix queryMix) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entryWith(name, seconds, parameters, pipeline, queryMix));
+        }
+
+        final PhaseResult result = new PhaseResult();
+
+        if (seconds > 0) {
+            this.logger.info("Starting the {} phase: {} s", name, seconds);
+
+            final long start = System.nanoTime();
+            final long deadline = start + seconds * NANOS_PER_SECOND;
+
+            try (final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                if (parameters.isOpen()) {
+                    this.openLoad(executor, start, deadline, parameters, pipeline, queryMix, result);
+                } else {
+                    this.closedLoad(executor, deadline, parameters, pipeline, queryMix, result);
+                }
+            }   // Waits for the queries in flight
+
+            result.elapsedNanos = System.nanoTime() - start;
+
+            this.logger.info("Finished the {} phase: {} queries, {} errors, {} dropped",
+                    name,
+                    result.latency.getCount(),
+                    result.errors.sum(),
+                    result.dropped.sum());
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exitWith(result));
+        }
+
+        return result;
+    }
+
+    /// Start queries at the target rate until the deadline,
+    /// dropping any that would exceed the cap on queries in flight.
+    ///
+    /// @param  executor    java.util.concurrent.ExecutorService
+    /// @param  start       long
+    /// @param  deadline    long
+    /// @param  parameters  net.jmp.pinecone.quickstart.bench.LoadParameters
+    /// @param  pipeline    java.util.function.Function<java.lang.String, net.jmp.pinecone.quickstart.Operation>
+    /// @param  queryMix    net.jmp.pinecone.quickstart.bench.QueryMix
+    /// @param  result      net.jmp.pinecone.quickstart.bench.LoadGenerator.PhaseResult
+    private void openLoad(final ExecutorService executor,
+                          final long start,
+                          final long deadline,
+                          final LoadParameters parameters,
+                          final Function<String, Operation> pipeline,
+                          final QueryMix queryMix,
+                          final PhaseResult result) {
+        final long interval = Math.max(1L, (long) (NANOS_PER_SECOND / parameters.getQps()));
+        final Semaphore inFlight = new Semaphore(parameters.getConcurrency());
+
+        for (long due = start; due < deadline; due += interval) {
+            long delay;
+
+            while ((delay = due - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(delay);
+            }
+
+            if (inFlight.tryAcquire()) {
+                final long scheduled = due;
+
+                executor.submit(() -> {
+                    try {
+                        this.runQuery(pipeline, queryMix, scheduled, result);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            } else {
+                result.dropped.increment();
+            }
+        }
+    }
+
+    /// Run the workers, each starting its next query as soon
+    /// as its last one finishes, until the deadline.
+    ///
+    /// @param  executor    java.util.concurrent.ExecutorService
+    /// @param  deadline    long
+    /// @param  parameters  net.jmp.pinecone.quickstart.bench.LoadParameters
+    /// @param  pipeline    java.util.function.Function<java.lang.String, net.jmp.pinecone.quickstart.Operation>
+    /// @param  queryMix    net.jmp.pinecone.quickstart.bench.QueryMix
+    /// @param  result      net.jmp.pinecone.quickstart.bench.LoadGenerator.PhaseResult
+    private void closedLoad(final ExecutorService executor,
+                            final long deadline,
+                            final LoadParameters parameters,
+                            final Function<String, Operation> pipeline,
+                            final QueryMix queryMix,
+                            final PhaseResult result) {
+        for (int i = 0; i < parameters.getConcurrency(); i++) {
+            executor.submit(() -> {
+                while (System.nanoTime() < deadline) {
+                    this.runQuery(pipeline, queryMix, System.nanoTime(), result);
+                }
+            });
+        }
+    }
+
+    /// Run one query and record its latency, or count
+    /// it as an error if the pipeline throws.
+    ///
+    /// @param  pipeline    java.util.function.Function<java.lang.String, net.jmp.pinecone.quickstart.Operation>
+    /// @param  queryMix    net.jmp.pinecone.quickstart.bench.QueryMix
+    /// @param  start       long
+    /// @param  result      net.jmp.pinecone.quickstart.bench.LoadGenerator.PhaseResult
+    private void runQuery(final Function<String, Operation> pipeline,
+                          final QueryMix queryMix,
+                          final long start,
+                          final PhaseResult result) {
+        try {
+            pipeline.apply(queryMix.next()).operate();
+
+            result.latency.record(System.nanoTime() - start);
+        } catch (final RuntimeException re) {
+            result.errors.increment();
+
+            this.logger.warn("Query failed: {}", re.getMessage());
+        }
+    }
+
+    /// Report the steady state.
+    ///
+    /// @param  steady          net.jmp.pinecone.quickstart.bench.LoadGenerator.PhaseResult
+    /// @param  stageLatencies  java.util.Map<net.jmp.pinecone.quickstart.metrics.Stage, net.jmp.pinecone.quickstart.metrics.LatencyHistogram>
+    /// @param  stageErrors     java.util.Map<net.jmp.pinecone.quickstart.metrics.Stage, java.lang.Long>
+    private void report(final PhaseResult steady,
+                        final Map<Stage, LatencyHistogram> stageLatencies,
+                        final Map<Stage, Long> stageErrors) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entryWith(steady, stageLatencies, stageErrors));
+        }
+
+        final long completed = steady.latency.getCount();
+        final long errors = steady.errors.sum();
+        final double seconds = steady.elapsedNanos / (double) NANOS_PER_SECOND;
+        final StringBuilder sb = new StringBuilder();
+
+        sb.append(String.format("Steady state: %d queries in %.1f s, %.2f qps; %d errors (%.2f%%); %d dropped%n",
+                completed,
+                seconds,
+                seconds > 0.0 ? completed / seconds : 0.0,
+                errors,
+                percent(errors, completed + errors),
+                steady.dropped.sum()));
+
+        sb.append("End to end ms:");
+
+        for (final double percentile : PERCENTILES) {
+            sb.append(String.format(" p%s %.2f", format(percentile), steady.latency.getValueAtPercentile(percentile) / NANOS_PER_MILLI));
+        }
+
+        sb.append(String.format(" max %.2f%n", steady.latency.getMax() / NANOS_PER_MILLI));
+        sb.append(String.format("%-16s %8s %10s %10s %10s %8s %8s%n", "Stage", "Count", "p50 ms", "p99 ms", "Max ms", "Errors", "Error %"));
+
+        for (final Stage stage : Stage.values()) {
+            final LatencyHistogram latency = Metrics.getLatency(stage).since(stageLatencies.get(stage));
+            final long stageErrorCount = Metrics.getErrors(stage) - stageErrors.get(stage);
+
+            if (latency.getCount() > 0 || stageErrorCount > 0) {
+                sb.append(String.format("%-16s %8d %10.2f %10.2f %10.2f %8d %8.2f%n",
+                        stage.getLabel(),
+                        latency.getCount(),
+                        latency.getValueAtPercentile(50.0) / NANOS_PER_MILLI,
+                        latency.getValueAtPercentile(99.0) / NANOS_PER_MILLI,
+                        latency.getMax() / NANOS_PER_MILLI,
+                        stageErrorCount,
+                        percent(stageErrorCount, Math.max(latency.getCount(), stageErrorCount))));
+            }
+        }
+
+        this.logger.info("Load report:\n{}", sb);
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /// Return a count as a percentage of a total.
+    ///
+    /// @param  count   long
+    /// @param  total   long
+    /// @return         double
+    private static double percent(final long count, final long total) {
+        return total > 0 ? 100.0 * count / total : 0.0;
+    }
+
+    /// Format a percentile without a trailing zero fraction.
+    ///
+    /// @param  percentile  double
+    /// @return             java.lang.String
+    private static String format(final double percentile) {
+        return percentile == Math.rint(percentile) ? Long.toString((long) percentile) : Double.toString(percentile);
+    }
+
+    /// The result of one phase.
+    private static final class PhaseResult {
+        /// The latencies of the queries that succeeded.
+        private final LatencyHistogram latency = new LatencyHistogram();
+
+        /// The number of queries that failed.
+        private final LongAdder errors = new LongAdder();
+
+        /// The number of queries dropped at the cap on queries in flight.
+        private final LongAdder dropped = new LongAdder();
+
+        /// The time from the start of the phase until its last query finished.
+        private long elapsedNanos;
+
+        /// Return the string representation.
+        ///
+        /// @return java.lang.String
+        @Override
+        public String toString() {
+            return this.latency.getCount() + " queries, " + this.errors.sum() + " errors, " + this.dropped.sum() + " dropped";
+        }
+    }
+
+    /// The builder class.
+    public static class Builder {
+        /// The pipelines by name.
+        private Map<String, Function<String, Operation>> pipelines = Map.of();
+
+        /// The load parameters.
+        private String loadParameters;
+
+        /// The query file.
+        private String queryFile;
+
+        /// The default constructor.
+        private Builder() {
+            super();
+        }
+
+        /// Set the pipelines by name.
+        ///
+        /// @param  pipelines   java.util.Map<java.lang.String, java.util.function.Function<java.lang.String, net.jmp.pinecone.quickstart.Operation>>
+        /// @return             net.jmp.pinecone.quickstart.bench.LoadGenerator.Builder
+        public Builder pipelines(final Map<String, Function<String, Operation>> pipelines) {
+            this.pipelines = pipelines;
+
+            return this;
+        }
+
+        /// Set the load parameters.
+        ///
+        /// @param  loadParameters  java.lang.String
+        /// @return                 net.jmp.pinecone.quickstart.bench.LoadGenerator.Builder
+        public Builder loadParameters(final String loadParameters) {
+            this.loadParameters = loadParameters;
+
+            return this;
+        }
+
+        /// Set the query file.
+        ///
+        /// @param  queryFile   java.lang.String
+        /// @return             net.jmp.pinecone.quickstart.bench.LoadGenerator.Builder
+        public Builder queryFile(final String queryFile) {
+            this.queryFile = queryFile;
+
+            return this;
+        }
+
+        /// Build the load generator object.
+        ///
+        /// @return net.jmp.pinecone.quickstart.bench.LoadGenerator
+        public LoadGenerator build() {
+            return new LoadGenerator(this);
+        }
+    }
+}
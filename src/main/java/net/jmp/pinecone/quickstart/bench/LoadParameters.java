@@ -0,0 +1,218 @@
+package net.jmp.pinecone.quickstart.bench;
+
+/*
+ * (#)LoadParameters.java   0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/// The load parameters class. Parsed from a string such as
+/// "pipeline=dense,qps=0,concurrency=8,warmup=10,steady=60,cooldown=5".
+/// Parameters that are not given keep their default values.
+///
+/// With a positive qps the load is open: queries start at
+/// that rate whether or not earlier ones have finished, and
+/// concurrency caps the number in flight. With qps zero the
+/// load is closed: concurrency workers each run one query
+/// after another. The phases are in seconds.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+public final class LoadParameters {
+    /// The default pipeline.
+    public static final String DEFAULT_PIPELINE = "dense";
+
+    /// The default target rate in queries per second.
+    public static final double DEFAULT_QPS = 0.0;
+
+    /// The default concurrency.
+    public static final int DEFAULT_CONCURRENCY = 8;
+
+    /// The default warmup in seconds.
+    public static final int DEFAULT_WARMUP = 10;
+
+    /// The default steady state in seconds.
+    public static final int DEFAULT_STEADY = 60;
+
+    /// The default cooldown in seconds.
+    public static final int DEFAULT_COOLDOWN = 5;
+
+    /// The pipeline.
+    private final String pipeline;
+
+    /// The target rate in queries per second, or zero for closed load.
+    private final double qps;
+
+    /// The number of workers, or the most queries in flight.
+    private final int concurrency;
+
+    /// The warmup in seconds.
+    private final int warmup;
+
+    /// The steady state in seconds.
+    private final int steady;
+
+    /// The cooldown in seconds.
+    private final int cooldown;
+
+    /// The constructor.
+    ///
+    /// @param  pipeline    java.lang.String
+    /// @param  qps         double
+    /// @param  concurrency int
+    /// @param  warmup      int
+    /// @param  steady      int
+    /// @param  cooldown    int
+    public LoadParameters(final String pipeline,
+                          final double qps,
+                          final int concurrency,
+                          final int warmup,
+                          final int steady,
+                          final int cooldown) {
+        super();
+
+        if (qps < 0.0) {
+            throw new IllegalArgumentException("qps must not be negative: " + qps);
+        }
+
+        if (concurrency <= 0) {
+            throw new IllegalArgumentException("concurrency must be positive: " + concurrency);
+        }
+
+        if (warmup < 0 || cooldown < 0) {
+            throw new IllegalArgumentException("warmup and cooldown must not be negative: " + warmup + ", " + cooldown);
+        }
+
+        if (steady <= 0) {
+            throw new IllegalArgumentException("steady must be positive: " + steady);
+        }
+
+        this.pipeline = pipeline;
+        this.qps = qps;
+        this.concurrency = concurrency;
+        this.warmup = warmup;
+        this.steady = steady;
+        this.cooldown = cooldown;
+    }
+
+    /// Parse the parameters from a string.
+    ///
+    /// @param  parameters  java.lang.String
+    /// @return             net.jmp.pinecone.quickstart.bench.LoadParameters
+    public static LoadParameters parse(final String parameters) {
+        String pipeline = DEFAULT_PIPELINE;
+        double qps = DEFAULT_QPS;
+        int concurrency = DEFAULT_CONCURRENCY;
+        int warmup = DEFAULT_WARMUP;
+        int steady = DEFAULT_STEADY;
+        int cooldown = DEFAULT_COOLDOWN;
+
+        if (parameters != null && !parameters.isBlank()) {
+            for (final String parameter : parameters.split(",")) {
+                final String[] pair = parameter.split("=", 2);
+
+                if (pair.length != 2) {
+                    throw new IllegalArgumentException("Expected name=value: " + parameter);
+                }
+
+                final String value = pair[1].trim();
+
+                switch (pair[0].trim()) {
+                    case "pipeline" -> pipeline = value;
+                    case "qps" -> qps = Double.parseDouble(value);
+                    case "concurrency" -> concurrency = Integer.parseInt(value);
+                    case "warmup" -> warmup = Integer.parseInt(value);
+                    case "steady" -> steady = Integer.parseInt(value);
+                    case "cooldown" -> cooldown = Integer.parseInt(value);
+                    default -> throw new IllegalArgumentException("Unknown load parameter: " + pair[0]);
+                }
+            }
+        }
+
+        return new LoadParameters(pipeline, qps, concurrency, warmup, steady, cooldown);
+    }
+
+    /// Return the pipeline.
+    ///
+    /// @return java.lang.String
+    public String getPipeline() {
+        return this.pipeline;
+    }
+
+    /// Return the target rate in queries per second.
+    ///
+    /// @return double
+    public double getQps() {
+        return this.qps;
+    }
+
+    /// Return true if queries start at a target rate.
+    ///
+    /// @return boolean
+    public boolean isOpen() {
+        return this.qps > 0.0;
+    }
+
+    /// Return the concurrency.
+    ///
+    /// @return int
+    public int getConcurrency() {
+        return this.concurrency;
+    }
+
+    /// Return the warmup in seconds.
+    ///
+    /// @return int
+    public int getWarmup() {
+        return this.warmup;
+    }
+
+    /// Return the steady state in seconds.
+    ///
+    /// @return int
+    public int getSteady() {
+        return this.steady;
+    }
+
+    /// Return the cooldown in seconds.
+    ///
+    /// @return int
+    public int getCooldown() {
+        return this.cooldown;
+    }
+
+    /// Return the string representation.
+    ///
+    /// @return java.lang.String
+    @Override
+    public String toString() {
+        return "pipeline=" + this.pipeline +
+                ",qps=" + this.qps +
+                ",concurrency=" + this.concurrency +
+                ",warmup=" + this.warmup +
+                ",steady=" + this.steady +
+                ",cooldown=" + this.cooldown;
+    }
+}
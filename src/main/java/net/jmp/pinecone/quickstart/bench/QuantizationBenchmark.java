@@ -0,0 +1,327 @@
+package net.jmp.pinecone.quickstart.bench;
+
+/*
+ * (#)QuantizationBenchmark.java    0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.*;
+
+import java.util.stream.Collectors;
+
+import net.jmp.pinecone.quickstart.Operation;
+
+import net.jmp.pinecone.quickstart.local.LocalIndexes;
+import net.jmp.pinecone.quickstart.local.LocalMatch;
+import net.jmp.pinecone.quickstart.local.MappedHnswIndex;
+import net.jmp.pinecone.quickstart.local.ProductQuantizer;
+import net.jmp.pinecone.quickstart.local.QuantizedDenseIndex;
+import net.jmp.pinecone.quickstart.local.ScalarQuantizer;
+import net.jmp.pinecone.quickstart.local.VectorQuantizer;
+
+import static net.jmp.util.logging.LoggerUtils.*;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/// The quantization benchmark class. Quantizes the local HNSW
+/// index of the dense index with each codec and reports the
+/// memory each one saves against the recall it loses. Recall
+/// is measured against an exact full-precision search, with
+/// stored vectors drawn at random as the queries.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+public final class QuantizationBenchmark extends Operation {
+    /// The number of queries.
+    private static final int QUERY_COUNT = 100;
+
+    /// The largest number of vectors the product quantizers train on.
+    private static final int TRAINING_SAMPLE_SIZE = 10_000;
+
+    /// The seed for the query and training samples.
+    private static final long SEED = 42L;
+
+    /// The logger.
+    private final Logger logger = LoggerFactory.getLogger(this.getClass().getName());
+
+    /// The constructor.
+    ///
+    /// @param  builder net.jmp.pinecone.quickstart.bench.QuantizationBenchmark.Builder
+    private QuantizationBenchmark(final Builder builder) {
+        super(Operation.operationBuilder()
+                .denseIndexName(builder.denseIndexName)
+                .namespace(builder.namespace)
+                .topK(builder.topK)
+                .localIndexDir(builder.localIndexDir)
+        );
+    }
+
+    /// Return an instance of the builder class.
+    ///
+    /// @return net.jmp.pinecone.quickstart.bench.QuantizationBenchmark.Builder
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /// The operate method.
+    @Override
+    public void operate() {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        final Optional<MappedHnswIndex> hnswIndex = LocalIndexes.hnswIndex(this.localIndexDir,
+                this.denseIndexName,
+                this.namespace);
+
+        if (hnswIndex.isPresent() && hnswIndex.get().size() > 0) {
+            this.benchmark(hnswIndex.get());
+        } else {
+            this.logger.error("No local HNSW index for {}: {}", this.denseIndexName, this.namespace);
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /// Benchmark the quantizers against an HNSW index.
+    ///
+    /// @param  hnswIndex   net.jmp.pinecone.quickstart.local.MappedHnswIndex
+    private void benchmark(final MappedHnswIndex hnswIndex) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entryWith(hnswIndex));
+        }
+
+        final int size = hnswIndex.size();
+        final int dimension = hnswIndex.getDimension();
+        final long fullPrecisionBytes = (long) size * dimension * Float.BYTES;
+        final Random random = new Random(SEED);
+
+        final List<float[]> queries = new ArrayList<>(QUERY_COUNT);
+        final List<Set<String>> expected = new ArrayList<>(QUERY_COUNT);
+
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            final float[] query = hnswIndex.getVector(random.nextInt(size));
+
+            queries.add(query);
+            expected.add(this.toIds(hnswIndex.exactSearch(query, this.topK, Set.of())));
+        }
+
+        this.logger.info("Benchmarking {} vectors of {} dimensions: {} bytes at full precision",
+                size,
+                dimension,
+                fullPrecisionBytes);
+
+        double hnswRecall = 0.0;
+
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            hnswRecall += this.recall(expected.get(i), hnswIndex.search(queries.get(i), this.topK, Set.of()));
+        }
+
+        this.logger.info("float32 HNSW: recall@{} {}", this.topK, String.format("%.3f", hnswRecall / QUERY_COUNT));
+
+        for (final VectorQuantizer quantizer : this.createQuantizers(hnswIndex, random)) {
+            final long start = System.nanoTime();
+            final QuantizedDenseIndex quantizedIndex = QuantizedDenseIndex.of(hnswIndex, quantizer);
+            final long encodeMillis = (System.nanoTime() - start) / 1_000_000;
+
+            double quantizedRecall = 0.0;
+            double rescoredRecall = 0.0;
+            long searchNanos = 0L;
+
+            for (int i = 0; i < QUERY_COUNT; i++) {
+                final float[] query = queries.get(i);
+
+                quantizedRecall += this.recall(expected.get(i), quantizedIndex.search(query, this.topK, Set.of(), 0));
+
+                final long searchStart = System.nanoTime();
+                final List<LocalMatch> matches = quantizedIndex.search(query, this.topK, Set.of());
+
+                searchNanos += System.nanoTime() - searchStart;
+                rescoredRecall += this.recall(expected.get(i), matches);
+            }
+
+            final long footprint = quantizedIndex.getFootprint();
+
+            this.logger.info("{}: {} bytes, {}x smaller; recall@{} {} quantized, {} rescored; {} us/query; encoded in {} ms",
+                    quantizer,
+                    footprint,
+                    String.format("%.1f", (double) fullPrecisionBytes / footprint),
+                    this.topK,
+                    String.format("%.3f", quantizedRecall / QUERY_COUNT),
+                    String.format("%.3f", rescoredRecall / QUERY_COUNT),
+                    searchNanos / QUERY_COUNT / 1_000,
+                    encodeMillis);
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /// Create the quantizers to benchmark: int8 and product
+    /// quantizers with four and eight dimensions per subspace.
+    ///
+    /// @param  hnswIndex   net.jmp.pinecone.quickstart.local.MappedHnswIndex
+    /// @param  random      java.util.Random
+    /// @return             java.util.List<net.jmp.pinecone.quickstart.local.VectorQuantizer>
+    private List<VectorQuantizer> createQuantizers(final MappedHnswIndex hnswIndex, final Random random) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entryWith(hnswIndex, random));
+        }
+
+        final int dimension = hnswIndex.getDimension();
+        final List<VectorQuantizer> quantizers = new ArrayList<>();
+
+        quantizers.add(new ScalarQuantizer(dimension));
+
+        final float[][] sample = new float[Math.min(TRAINING_SAMPLE_SIZE, hnswIndex.size())][];
+
+        for (int i = 0; i < sample.length; i++) {
+            sample[i] = hnswIndex.getVector(random.nextInt(hnswIndex.size()));
+        }
+
+        for (final int subDimension : new int[] {4, 8}) {
+            if (dimension % subDimension == 0) {
+                final long start = System.nanoTime();
+                final ProductQuantizer quantizer = ProductQuantizer.train(sample, dimension / subDimension);
+
+                this.logger.info("Trained {} on {} vectors in {} ms",
+                        quantizer,
+                        sample.length,
+                        (System.nanoTime() - start) / 1_000_000);
+
+                quantizers.add(quantizer);
+            }
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exitWith(quantizers));
+        }
+
+        return quantizers;
+    }
+
+    /// Return the fraction of the expected identifiers found in the matches.
+    ///
+    /// @param  expected    java.util.Set<java.lang.String>
+    /// @param  matches     java.util.List<net.jmp.pinecone.quickstart.local.LocalMatch>
+    /// @return             double
+    private double recall(final Set<String> expected, final List<LocalMatch> matches) {
+        if (expected.isEmpty()) {
+            return 1.0;
+        }
+
+        int found = 0;
+
+        for (final LocalMatch match : matches) {
+            if (expected.contains(match.getId())) {
+                found++;
+            }
+        }
+
+        return (double) found / expected.size();
+    }
+
+    /// Return the identifiers of the matches.
+    ///
+    /// @param  matches java.util.List<net.jmp.pinecone.quickstart.local.LocalMatch>
+    /// @return         java.util.Set<java.lang.String>
+    private Set<String> toIds(final List<LocalMatch> matches) {
+        return matches.stream()
+                .map(LocalMatch::getId)
+                .collect(Collectors.toSet());
+    }
+
+    /// The builder class.
+    public static class Builder {
+        /// The dense index name.
+        private String denseIndexName;
+
+        /// The namespace.
+        private String namespace;
+
+        /// The number of top results to return when querying.
+        private int topK;
+
+        /// The local index directory.
+        private String localIndexDir;
+
+        /// The default constructor.
+        private Builder() {
+            super();
+        }
+
+        /// Set the dense index name.
+        ///
+        /// @param  denseIndexName  java.lang.String
+        /// @return                 net.jmp.pinecone.quickstart.bench.QuantizationBenchmark.Builder
+        public Builder denseIndexName(final String denseIndexName) {
+            this.denseIndexName = denseIndexName;
+
+            return this;
+        }
+
+        /// Set the namespace.
+        ///
+        /// @param  namespace   java.lang.String
+        /// @return             net.jmp.pinecone.quickstart.bench.QuantizationBenchmark.Builder
+        public Builder namespace(final String namespace) {
+            this.namespace = namespace;
+
+            return this;
+        }
+
+        /// Set the number of top results to return.
+        ///
+        /// @param  topK    int
+        /// @return         net.jmp.pinecone.quickstart.bench.QuantizationBenchmark.Builder
+        public Builder topK(final int topK) {
+            this.topK = topK;
+
+            return this;
+        }
+
+        /// Set the local index directory.
+        ///
+        /// @param  localIndexDir   java.lang.String
+        /// @return                 net.jmp.pinecone.quickstart.bench.QuantizationBenchmark.Builder
+        public Builder localIndexDir(final String localIndexDir) {
+            this.localIndexDir = localIndexDir;
+
+            return this;
+        }
+
+        /// Build the quantization benchmark object.
+        ///
+        /// @return net.jmp.pinecone.quickstart.bench.QuantizationBenchmark
+        public QuantizationBenchmark build() {
+            return new QuantizationBenchmark(this);
+        }
+    }
+}
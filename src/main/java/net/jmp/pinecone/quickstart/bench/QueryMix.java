@@ -0,0 +1,131 @@
+package net.jmp.pinecone.quickstart.bench;
+
+/*
+ * (#)QueryMix.java 0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.io.IOException;
+
+import java.nio.charset.StandardCharsets;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import java.util.*;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import net.jmp.pinecone.quickstart.text.Corpus;
+
+/// The query mix class. The query texts a load generator
+/// cycles through, in a fixed order so that runs repeat.
+/// Every caller of next gets the following query, whatever
+/// thread it is on.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+final class QueryMix {
+    /// The query texts.
+    private final List<String> queries;
+
+    /// The number of queries handed out.
+    private final AtomicLong cursor = new AtomicLong();
+
+    /// The constructor.
+    ///
+    /// @param  queries java.util.List<java.lang.String>
+    QueryMix(final List<String> queries) {
+        super();
+
+        if (queries.isEmpty()) {
+            throw new IllegalArgumentException("The query mix is empty");
+        }
+
+        this.queries = List.copyOf(queries);
+    }
+
+    /// Read a query mix from a file of one query per line.
+    /// Blank lines and lines starting with '#' are skipped.
+    ///
+    /// @param  file    java.nio.file.Path
+    /// @return         net.jmp.pinecone.quickstart.bench.QueryMix
+    /// @throws         java.io.IOException
+    static QueryMix fromFile(final Path file) throws IOException {
+        final List<String> queries = new ArrayList<>();
+
+        for (final String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            final String query = line.trim();
+
+            if (!query.isEmpty() && !query.startsWith("#")) {
+                queries.add(query);
+            }
+        }
+
+        return new QueryMix(queries);
+    }
+
+    /// Derive a query mix from the content of the corpus,
+    /// shuffled with a seed. Each query is one of the stored
+    /// sentences, so every query has a close match.
+    ///
+    /// @param  corpus  net.jmp.pinecone.quickstart.text.Corpus
+    /// @param  seed    long
+    /// @return         net.jmp.pinecone.quickstart.bench.QueryMix
+    static QueryMix fromCorpus(final Corpus corpus, final long seed) {
+        final List<String> queries = new ArrayList<>(corpus.size());
+
+        for (int i = 0; i < corpus.size(); i++) {
+            queries.add(corpus.getContent(i));
+        }
+
+        Collections.shuffle(queries, new Random(seed));
+
+        return new QueryMix(queries);
+    }
+
+    /// Return the next query.
+    ///
+    /// @return java.lang.String
+    String next() {
+        return this.queries.get((int) (this.cursor.getAndIncrement() % this.queries.size()));
+    }
+
+    /// Return the number of distinct queries.
+    ///
+    /// @return int
+    int size() {
+        return this.queries.size();
+    }
+
+    /// Return the string representation.
+    ///
+    /// @return java.lang.String
+    @Override
+    public String toString() {
+        return this.queries.size() + " queries";
+    }
+}
@@ -0,0 +1,106 @@
+package net.jmp.pinecone.quickstart.chunk;
+
+/*
+ * (#)Chunk.java    0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import net.jmp.pinecone.quickstart.text.UnstructuredTextDocument;
+
+/// A chunk of a document. The chunk's document carries the
+/// MongoDB identifier, document identifier and category of
+/// the parent document with the text of the chunk as its
+/// content, so that matches on any chunk lead back to the
+/// parent document.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+public final class Chunk {
+    /// The vector identifier of the chunk.
+    private final String id;
+
+    /// The position of the chunk in its parent document.
+    private final int index;
+
+    /// The parent document with the chunk text as its content.
+    private final UnstructuredTextDocument document;
+
+    /// The constructor.
+    ///
+    /// @param  id          java.lang.String
+    /// @param  index       int
+    /// @param  document    net.jmp.pinecone.quickstart.text.UnstructuredTextDocument
+    Chunk(final String id, final int index, final UnstructuredTextDocument document) {
+        super();
+
+        this.id = id;
+        this.index = index;
+        this.document = document;
+    }
+
+    /// Return the vector identifier of the chunk.
+    ///
+    /// @return java.lang.String
+    public String getId() {
+        return this.id;
+    }
+
+    /// Return the position of the chunk in its parent document.
+    ///
+    /// @return int
+    public int getIndex() {
+        return this.index;
+    }
+
+    /// Return the parent document with the chunk text as its content.
+    ///
+    /// @return net.jmp.pinecone.quickstart.text.UnstructuredTextDocument
+    public UnstructuredTextDocument getDocument() {
+        return this.document;
+    }
+
+    /// Return the identifier of the parent document.
+    ///
+    /// @return java.lang.String
+    public String getParentId() {
+        return this.document.getDocumentId();
+    }
+
+    /// Return the text of the chunk.
+    ///
+    /// @return java.lang.String
+    public String getContent() {
+        return this.document.getContent();
+    }
+
+    /// Return the string representation.
+    ///
+    /// @return java.lang.String
+    @Override
+    public String toString() {
+        return this.id + ": " + this.document.getContent();
+    }
+}
@@ -0,0 +1,123 @@
+package net.jmp.pinecone.quickstart.chunk;
+
+/*
+ * (#)ChunkParameters.java  0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/// The chunking parameters, parsed from a string of
+/// comma-separated name=value pairs such as
+/// "maxTokens=300,overlap=50". Parameters that are not
+/// given keep their default values. A chunk holds whole
+/// sentences up to maxTokens tokens, and each chunk after
+/// the first repeats up to overlap tokens of trailing
+/// sentences from the chunk before it.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+public final class ChunkParameters {
+    /// The default maximum number of tokens in a chunk.
+    public static final int DEFAULT_MAX_TOKENS = 300;
+
+    /// The default number of tokens shared with the previous chunk.
+    public static final int DEFAULT_OVERLAP = 50;
+
+    /// The maximum number of tokens in a chunk.
+    private final int maxTokens;
+
+    /// The number of tokens shared with the previous chunk.
+    private final int overlap;
+
+    /// The constructor.
+    ///
+    /// @param  maxTokens   int
+    /// @param  overlap     int
+    public ChunkParameters(final int maxTokens, final int overlap) {
+        super();
+
+        if (maxTokens <= 0) {
+            throw new IllegalArgumentException("maxTokens must be positive: " + maxTokens);
+        }
+
+        if (overlap < 0 || overlap >= maxTokens) {
+            throw new IllegalArgumentException("overlap must be at least 0 and less than maxTokens: " + overlap);
+        }
+
+        this.maxTokens = maxTokens;
+        this.overlap = overlap;
+    }
+
+    /// Parse the parameters from a string.
+    ///
+    /// @param  parameters  java.lang.String
+    /// @return             net.jmp.pinecone.quickstart.chunk.ChunkParameters
+    public static ChunkParameters parse(final String parameters) {
+        int maxTokens = DEFAULT_MAX_TOKENS;
+        int overlap = DEFAULT_OVERLAP;
+
+        if (parameters != null && !parameters.isBlank()) {
+            for (final String parameter : parameters.split(",")) {
+                final String[] pair = parameter.split("=", 2);
+
+                if (pair.length != 2) {
+                    throw new IllegalArgumentException("Expected name=value: " + parameter);
+                }
+
+                final String value = pair[1].trim();
+
+                switch (pair[0].trim()) {
+                    case "maxTokens" -> maxTokens = Integer.parseInt(value);
+                    case "overlap" -> overlap = Integer.parseInt(value);
+                    default -> throw new IllegalArgumentException("Unknown chunk parameter: " + pair[0]);
+                }
+            }
+        }
+
+        return new ChunkParameters(maxTokens, overlap);
+    }
+
+    /// Return the maximum number of tokens in a chunk.
+    ///
+    /// @return int
+    public int getMaxTokens() {
+        return this.maxTokens;
+    }
+
+    /// Return the number of tokens shared with the previous chunk.
+    ///
+    /// @return int
+    public int getOverlap() {
+        return this.overlap;
+    }
+
+    /// Return the string representation.
+    ///
+    /// @return java.lang.String
+    @Override
+    public String toString() {
+        return "maxTokens=" + this.maxTokens + ",overlap=" + this.overlap;
+    }
+}
@@ -0,0 +1,116 @@
+package net.jmp.pinecone.quickstart.chunk;
+
+/*
+ * (#)Chunks.java   0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.ArrayList;
+import java.util.List;
+
+import java.util.stream.IntStream;
+
+import net.jmp.pinecone.quickstart.text.UnstructuredTextDocument;
+
+import static net.jmp.util.logging.LoggerUtils.*;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/// Utilities for chunk identifiers and for chunking many
+/// documents at once.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+public final class Chunks {
+    /// The separator between the parent document identifier and the chunk position.
+    public static final char SEPARATOR = '#';
+
+    /// The logger.
+    private static final Logger logger = LoggerFactory.getLogger(Chunks.class.getName());
+
+    /// The default constructor.
+    private Chunks() {
+        super();
+    }
+
+    /// Return the identifier of a chunk of a document.
+    ///
+    /// @param  parentId    java.lang.String
+    /// @param  index       int
+    /// @return             java.lang.String
+    public static String chunkId(final String parentId, final int index) {
+        return parentId + SEPARATOR + index;
+    }
+
+    /// Return the identifier of the parent document of a
+    /// vector. Vectors of documents that were not split
+    /// are their own parent.
+    ///
+    /// @param  vectorId    java.lang.String
+    /// @return             java.lang.String
+    public static String parentId(final String vectorId) {
+        final int separator = vectorId.lastIndexOf(SEPARATOR);
+
+        return separator < 0 ? vectorId : vectorId.substring(0, separator);
+    }
+
+    /// Split the documents into chunks in parallel. The chunks
+    /// are returned in document order and then in their order
+    /// within each document.
+    ///
+    /// @param  documents   java.util.List<net.jmp.pinecone.quickstart.text.UnstructuredTextDocument>
+    /// @param  chunker     net.jmp.pinecone.quickstart.chunk.SentenceChunker
+    /// @return             java.util.List<net.jmp.pinecone.quickstart.chunk.Chunk>
+    public static List<Chunk> chunkAll(final List<UnstructuredTextDocument> documents,
+                                       final SentenceChunker chunker) {
+        if (logger.isTraceEnabled()) {
+            logger.trace(entryWith(documents, chunker));
+        }
+
+        /* Index into a random-access copy so the parallel split is even */
+
+        final List<UnstructuredTextDocument> source = new ArrayList<>(documents);
+        final List<List<Chunk>> perDocument = IntStream.range(0, source.size())
+                .parallel()
+                .mapToObj(i -> chunker.chunk(source.get(i)))
+                .toList();
+
+        final List<Chunk> chunks = new ArrayList<>();
+
+        for (final List<Chunk> documentChunks : perDocument) {
+            chunks.addAll(documentChunks);
+        }
+
+        logger.info("Split {} documents into {} chunks", source.size(), chunks.size());
+
+        if (logger.isTraceEnabled()) {
+            logger.trace(exitWith(chunks));
+        }
+
+        return chunks;
+    }
+}
@@ -0,0 +1,309 @@
+package net.jmp.pinecone.quickstart.chunk;
+
+/*
+ * (#)SentenceChunker.java  0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.text.BreakIterator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import net.jmp.pinecone.quickstart.text.UnstructuredTextDocument;
+
+import static net.jmp.util.logging.LoggerUtils.*;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/// Splits a document into chunks of whole sentences. Sentences
+/// are found with the JDK's sentence break iterator and are
+/// added to a chunk until the next one would take it past the
+/// maximum number of tokens. The next chunk starts with the
+/// trailing sentences of the previous one that fit in the
+/// overlap, so that a passage straddling a boundary is whole
+/// in at least one chunk. A sentence longer than a chunk is
+/// split between words.
+///
+/// Tokens are estimated as runs of letters and digits plus
+/// each punctuation mark, which tracks the embedding model's
+/// word-piece count closely enough to keep chunks under its
+/// input limit. The chunker holds no state between documents
+/// and can be used from many threads at once.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+public final class SentenceChunker {
+    /// The logger.
+    private final Logger logger = LoggerFactory.getLogger(this.getClass().getName());
+
+    /// The chunking parameters.
+    private final ChunkParameters parameters;
+
+    /// The constructor.
+    ///
+    /// @param  parameters  net.jmp.pinecone.quickstart.chunk.ChunkParameters
+    public SentenceChunker(final ChunkParameters parameters) {
+        super();
+
+        this.parameters = parameters;
+    }
+
+    /// Split a document into chunks. A document that fits in one
+    /// chunk keeps its document identifier as the chunk identifier;
+    /// the chunks of a longer document are identified by the
+    /// document identifier followed by '#' and the chunk position.
+    ///
+    /// @param  document    net.jmp.pinecone.quickstart.text.UnstructuredTextDocument
+    /// @return             java.util.List<net.jmp.pinecone.quickstart.chunk.Chunk>
+    public List<Chunk> chunk(final UnstructuredTextDocument document) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entryWith(document));
+        }
+
+        final List<String> texts = this.split(document.getContent());
+        final List<Chunk> chunks = new ArrayList<>(Math.max(texts.size(), 1));
+
+        if (texts.size() <= 1) {
+            chunks.add(new Chunk(document.getDocumentId(), 0, document));
+        } else {
+            for (int i = 0; i < texts.size(); i++) {
+                chunks.add(new Chunk(Chunks.chunkId(document.getDocumentId(), i),
+                        i,
+                        new UnstructuredTextDocument(document.getMongoId(),
+                                document.getDocumentId(),
+                                texts.get(i),
+                                document.getCategory(),
+                                document.getKeywords())));
+            }
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exitWith(chunks));
+        }
+
+        return chunks;
+    }
+
+    /// Split the content into the texts of its chunks.
+    ///
+    /// @param  content java.lang.String
+    /// @return         java.util.List<java.lang.String>
+    List<String> split(final String content) {
+        final int maxTokens = this.parameters.getMaxTokens();
+        final List<String> texts = new ArrayList<>();
+        final List<Sentence> current = new ArrayList<>();
+
+        int currentTokens = 0;
+
+        for (final Sentence sentence : this.sentences(content)) {
+            if (!current.isEmpty() && currentTokens + sentence.tokens > maxTokens) {
+                texts.add(join(current));
+
+                /* Carry the trailing sentences that fit in the overlap, but never the whole chunk */
+
+                int overlapTokens = 0;
+                int first = current.size();
+
+                while (first > 1) {
+                    final int tokens = current.get(first - 1).tokens;
+
+                    if (overlapTokens + tokens > this.parameters.getOverlap() ||
+                            overlapTokens + tokens + sentence.tokens > maxTokens) {
+                        break;
+                    }
+
+                    overlapTokens += tokens;
+                    first--;
+                }
+
+                current.subList(0, first).clear();
+                currentTokens = overlapTokens;
+            }
+
+            current.add(sentence);
+            currentTokens += sentence.tokens;
+        }
+
+        if (!current.isEmpty()) {
+            texts.add(join(current));
+        }
+
+        return texts;
+    }
+
+    /// Break the content into sentences, splitting any sentence
+    /// longer than a chunk between words.
+    ///
+    /// @param  content java.lang.String
+    /// @return         java.util.List<net.jmp.pinecone.quickstart.chunk.SentenceChunker.Sentence>
+    private List<Sentence> sentences(final String content) {
+        final List<Sentence> sentences = new ArrayList<>();
+
+        if (content == null || content.isBlank()) {
+            return sentences;
+        }
+
+        final BreakIterator iterator = BreakIterator.getSentenceInstance(Locale.ENGLISH);
+
+        iterator.setText(content);
+
+        int start = iterator.first();
+
+        for (int end = iterator.next(); end != BreakIterator.DONE; start = end, end = iterator.next()) {
+            final String text = content.substring(start, end).strip();
+
+            if (!text.isEmpty()) {
+                final int tokens = countTokens(text);
+
+                if (tokens > this.parameters.getMaxTokens()) {
+                    this.splitWords(text, sentences);
+                } else {
+                    sentences.add(new Sentence(text, tokens));
+                }
+            }
+        }
+
+        return sentences;
+    }
+
+    /// Split an over-long sentence between words into pieces
+    /// of at most the maximum number of tokens.
+    ///
+    /// @param  text        java.lang.String
+    /// @param  sentences   java.util.List<net.jmp.pinecone.quickstart.chunk.SentenceChunker.Sentence>
+    private void splitWords(final String text, final List<Sentence> sentences) {
+        final int maxTokens = this.parameters.getMaxTokens();
+        final int length = text.length();
+
+        int pieceStart = 0;
+        int pieceTokens = 0;
+        int i = 0;
+
+        while (i < length) {
+            while (i < length && Character.isWhitespace(text.charAt(i))) {
+                i++;
+            }
+
+            final int wordStart = i;
+
+            while (i < length && !Character.isWhitespace(text.charAt(i))) {
+                i++;
+            }
+
+            if (wordStart == i) {
+                break;
+            }
+
+            final int wordTokens = countTokens(text.substring(wordStart, i));
+
+            if (pieceTokens > 0 && pieceTokens + wordTokens > maxTokens) {
+                sentences.add(new Sentence(text.substring(pieceStart, wordStart).strip(), pieceTokens));
+
+                pieceStart = wordStart;
+                pieceTokens = 0;
+            }
+
+            pieceTokens += wordTokens;
+        }
+
+        if (pieceTokens > 0) {
+            sentences.add(new Sentence(text.substring(pieceStart).strip(), pieceTokens));
+        }
+    }
+
+    /// Estimate the number of tokens in a text as the number
+    /// of runs of letters and digits plus the number of other
+    /// characters that are not white space.
+    ///
+    /// @param  text    java.lang.CharSequence
+    /// @return         int
+    static int countTokens(final CharSequence text) {
+        final int length = text.length();
+
+        int tokens = 0;
+        boolean inWord = false;
+
+        for (int i = 0; i < length; i++) {
+            final char c = text.charAt(i);
+
+            if (Character.isLetterOrDigit(c)) {
+                if (!inWord) {
+                    tokens++;
+                    inWord = true;
+                }
+            } else {
+                inWord = false;
+
+                if (!Character.isWhitespace(c)) {
+                    tokens++;
+                }
+            }
+        }
+
+        return tokens;
+    }
+
+    /// Join sentences into the text of a chunk.
+    ///
+    /// @param  sentences   java.util.List<net.jmp.pinecone.quickstart.chunk.SentenceChunker.Sentence>
+    /// @return             java.lang.String
+    private static String join(final List<Sentence> sentences) {
+        final StringBuilder builder = new StringBuilder();
+
+        for (final Sentence sentence : sentences) {
+            if (!builder.isEmpty()) {
+                builder.append(' ');
+            }
+
+            builder.append(sentence.text);
+        }
+
+        return builder.toString();
+    }
+
+    /// A sentence, or a piece of an over-long one, and its token count.
+    private static final class Sentence {
+        /// The text.
+        private final String text;
+
+        /// The number of tokens.
+        private final int tokens;
+
+        /// The constructor.
+        ///
+        /// @param  text    java.lang.String
+        /// @param  tokens  int
+        private Sentence(final String text, final int tokens) {
+            super();
+
+            this.text = text;
+            this.tokens = tokens;
+        }
+    }
+}
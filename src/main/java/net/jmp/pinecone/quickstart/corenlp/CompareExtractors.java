@@ -0,0 +1,219 @@
+package net.jmp.pinecone.quickstart.corenlp;
+
+/*
+ * (#)CompareExtractors.java    0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import net.jmp.pinecone.quickstart.Operation;
+
+import static net.jmp.util.logging.LoggerUtils.*;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/// The compare extractors class. Compares the fast extractor
+/// with the CoreNLP extractor on the query text and the
+/// sample texts of the CoreNLP operation. The CoreNLP words
+/// are taken as the reference for the precision and recall
+/// of the fast words. The startup time is that of the first
+/// pass over the texts, which loads any models, and the
+/// steady time is the mean of the passes after it.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+public final class CompareExtractors extends Operation {
+    /// The number of timed passes over the texts after the first.
+    private static final int PASSES = 50;
+
+    /// The logger.
+    private final Logger logger = LoggerFactory.getLogger(this.getClass().getName());
+
+    /// The constructor.
+    ///
+    /// @param  queryText   java.lang.String
+    public CompareExtractors(final String queryText) {
+        super(Operation.operationBuilder().queryText(queryText));
+    }
+
+    /// The operate method.
+    @Override
+    public void operate() {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        final List<String> texts = new ArrayList<>();
+
+        texts.add(this.queryText);
+        texts.addAll(CoreNLP.SAMPLE_TEXTS);
+
+        final Run reference = this.run(new CoreNlpExtractor(false), texts);
+        final Run candidate = this.run(new FastExtractor(false), texts);
+
+        int truePositives = 0;
+        int falsePositives = 0;
+        int falseNegatives = 0;
+
+        for (int i = 0; i < texts.size(); i++) {
+            final Set<String> expected = reference.words.get(i);
+            final Set<String> actual = candidate.words.get(i);
+            final Set<String> matched = new HashSet<>(actual);
+
+            matched.retainAll(expected);
+
+            truePositives += matched.size();
+            falsePositives += actual.size() - matched.size();
+            falseNegatives += expected.size() - matched.size();
+
+            this.logger.info("Text    : {}", texts.get(i));
+            this.logger.info("CoreNLP : {}", expected);
+            this.logger.info("Fast    : {}", actual);
+        }
+
+        final double precision = ratio(truePositives, truePositives + falsePositives);
+        final double recall = ratio(truePositives, truePositives + falseNegatives);
+        final double f1 = precision + recall > 0.0 ? 2.0 * precision * recall / (precision + recall) : 0.0;
+
+        this.logger.info("Precision: {}, recall: {}, F1: {}",
+                String.format("%.3f", precision),
+                String.format("%.3f", recall),
+                String.format("%.3f", f1));
+
+        this.logRun(reference, texts.size());
+        this.logRun(candidate, texts.size());
+
+        this.logger.info("Fast is {}x faster to start and {}x faster per text",
+                String.format("%.0f", ratio(reference.startupNanos, candidate.startupNanos)),
+                String.format("%.0f", ratio(reference.steadyNanos, candidate.steadyNanos)));
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /// Run an extractor over the texts once to start it and
+    /// then for the timed passes.
+    ///
+    /// @param  extractor   net.jmp.pinecone.quickstart.corenlp.Extractor
+    /// @param  texts       java.util.List<java.lang.String>
+    /// @return             net.jmp.pinecone.quickstart.corenlp.CompareExtractors.Run
+    private Run run(final Extractor extractor, final List<String> texts) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entryWith(extractor, texts));
+        }
+
+        final List<Set<String>> words = new ArrayList<>(texts.size());
+
+        long start = System.nanoTime();
+
+        for (final String text : texts) {
+            words.add(new LinkedHashSet<>(extractor.extract(text).getWords()));
+        }
+
+        final long startupNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+
+        for (int pass = 0; pass < PASSES; pass++) {
+            for (final String text : texts) {
+                extractor.extract(text);
+            }
+        }
+
+        final Run run = new Run(extractor.toString(), words, startupNanos, (System.nanoTime() - start) / PASSES);
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exitWith(run));
+        }
+
+        return run;
+    }
+
+    /// Log the times of a run.
+    ///
+    /// @param  run     net.jmp.pinecone.quickstart.corenlp.CompareExtractors.Run
+    /// @param  texts   int
+    private void logRun(final Run run, final int texts) {
+        this.logger.info("{}: startup {} ms, {} us per text",
+                run.name,
+                String.format("%.1f", run.startupNanos / 1_000_000.0),
+                String.format("%.1f", run.steadyNanos / 1_000.0 / texts));
+    }
+
+    /// Return a ratio, or zero when the denominator is zero.
+    ///
+    /// @param  numerator   double
+    /// @param  denominator double
+    /// @return             double
+    private static double ratio(final double numerator, final double denominator) {
+        return denominator > 0.0 ? numerator / denominator : 0.0;
+    }
+
+    /// The words and times of an extractor.
+    private static final class Run {
+        /// The extractor name.
+        private final String name;
+
+        /// The words of each text.
+        private final List<Set<String>> words;
+
+        /// The time of the first pass in nanoseconds.
+        private final long startupNanos;
+
+        /// The mean time of a later pass in nanoseconds.
+        private final long steadyNanos;
+
+        /// The constructor.
+        ///
+        /// @param  name            java.lang.String
+        /// @param  words           java.util.List<java.util.Set<java.lang.String>>
+        /// @param  startupNanos    long
+        /// @param  steadyNanos     long
+        private Run(final String name, final List<Set<String>> words, final long startupNanos, final long steadyNanos) {
+            super();
+
+            this.name = name;
+            this.words = words;
+            this.startupNanos = startupNanos;
+            this.steadyNanos = steadyNanos;
+        }
+
+        /// Return the string representation.
+        ///
+        /// @return java.lang.String
+        @Override
+        public String toString() {
+            return this.name;
+        }
+    }
+}
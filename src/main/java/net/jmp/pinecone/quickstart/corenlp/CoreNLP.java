@@ -1,6 +1,7 @@
 package net.jmp.pinecone.quickstart.corenlp;
 
 /*
+ * (#)CoreNLP.java  0.9.0   10/18/2026
  * (#)CoreNLP.java  0.5.0   06/12/2025
  *
  * @author   Jonathan Parker
@@ -34,6 +35,7 @@ import edu.stanford.nlp.semgraph.SemanticGraph;
 
 import edu.stanford.nlp.trees.Tree;
 
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Properties;
@@ -48,9 +50,19 @@ import org.slf4j.LoggerFactory;
 
 /// The core natural language processing class.
 ///
-/// @version    0.5.0
+/// @version    0.9.0
 /// @since      0.5.0
 public final class CoreNLP extends Operation {
+    /// The sample texts annotated after the query text.
+    static final List<String> SAMPLE_TEXTS = List.of(
+        "Famous historical structures and monuments",
+        "Tell me about famous persons in history and science",
+        "Tell me about the physics of light",
+        "The Great Wall of China was built to protect against invasions",
+        "The Pyramids of Giza are among the Seven Wonders of the Ancient World.",
+        "Albert Einstein developed the theory of relativity."
+    );
+
     /// The logger.
     private final Logger logger = LoggerFactory.getLogger(this.getClass().getName());
 
@@ -76,15 +88,10 @@ public final class CoreNLP extends Operation {
 
         final StanfordCoreNLP pipeline = new StanfordCoreNLP(props);
 
-        final List<String> documents = List.of(
-            this.queryText,
-            "Famous historical structures and monuments",
-            "Tell me about famous persons in history and science",
-            "Tell me about the physics of light",
-            "The Great Wall of China was built to protect against invasions",
-            "The Pyramids of Giza are among the Seven Wonders of the Ancient World.",
-            "Albert Einstein developed the theory of relativity."
-        );
+        final List<String> documents = new ArrayList<>();
+
+        documents.add(this.queryText);
+        documents.addAll(SAMPLE_TEXTS);
 
         for (final String documentText : documents) {
             final CoreDocument document = new CoreDocument(documentText);   // Create a document object
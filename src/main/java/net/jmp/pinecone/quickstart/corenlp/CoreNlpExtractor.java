@@ -0,0 +1,144 @@
+package net.jmp.pinecone.quickstart.corenlp;
+
+/*
+ * (#)CoreNlpExtractor.java 0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import edu.stanford.nlp.ling.CoreLabel;
+
+import edu.stanford.nlp.pipeline.CoreDocument;
+import edu.stanford.nlp.pipeline.StanfordCoreNLP;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+import java.util.Set;
+
+import static net.jmp.util.logging.LoggerUtils.*;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/// The CoreNLP keyword extractor. Takes the nouns and
+/// adjectives from the part-of-speech tags of a CoreNLP
+/// pipeline. Only the tokenize and pos annotators run, with
+/// lemma added when lemmas are extracted. A pipeline is not
+/// shared between threads; each thread builds its own on
+/// first use and keeps it.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+public final class CoreNlpExtractor implements Extractor {
+    /// The logger.
+    private final Logger logger = LoggerFactory.getLogger(this.getClass().getName());
+
+    /// Whether lemmas are extracted.
+    private final boolean lemmas;
+
+    /// The pipeline of each thread.
+    private final ThreadLocal<StanfordCoreNLP> pipelines;
+
+    /// The constructor.
+    ///
+    /// @param  lemmas  boolean
+    public CoreNlpExtractor(final boolean lemmas) {
+        super();
+
+        this.lemmas = lemmas;
+
+        final Properties props = new Properties();
+
+        props.setProperty("annotators", lemmas ? "tokenize,pos,lemma" : "tokenize,pos");
+
+        this.pipelines = ThreadLocal.withInitial(() -> new StanfordCoreNLP(props));
+    }
+
+    /// Extract the keywords of a text.
+    ///
+    /// @param  text    java.lang.String
+    /// @return         net.jmp.pinecone.quickstart.corenlp.Keywords
+    @Override
+    public Keywords extract(final String text) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entryWith(text));
+        }
+
+        Keywords keywords = Keywords.NONE;
+
+        if (text != null && !text.isBlank()) {
+            final CoreDocument document = new CoreDocument(text);
+
+            this.pipelines.get().annotate(document);
+
+            keywords = this.getKeywords(document.tokens());
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exitWith(keywords));
+        }
+
+        return keywords;
+    }
+
+    /// Return the nouns and adjectives among the tokens, and
+    /// their lemmas when lemmas are extracted.
+    ///
+    /// @param  tokens  java.util.List<edu.stanford.nlp.ling.CoreLabel>
+    /// @return         net.jmp.pinecone.quickstart.corenlp.Keywords
+    private Keywords getKeywords(final List<CoreLabel> tokens) {
+        final Set<String> words = new LinkedHashSet<>();
+        final Set<String> tokenLemmas = new LinkedHashSet<>();
+
+        for (final CoreLabel token : tokens) {
+            if (words.size() == KeywordExtractor.MAX_KEYWORDS) {
+                break;
+            }
+
+            final String tag = token.tag();
+
+            if (tag != null && (tag.startsWith("NN") || tag.startsWith("JJ")) && Extractors.isWord(token.word())) {
+                words.add(token.word().toLowerCase(Locale.ROOT));
+
+                if (this.lemmas && token.lemma() != null) {
+                    tokenLemmas.add(token.lemma().toLowerCase(Locale.ROOT));
+                }
+            }
+        }
+
+        return new Keywords(new ArrayList<>(words), new ArrayList<>(tokenLemmas));
+    }
+
+    /// Return the string representation.
+    ///
+    /// @return java.lang.String
+    @Override
+    public String toString() {
+        return "corenlp";
+    }
+}
@@ -0,0 +1,112 @@
+package net.jmp.pinecone.quickstart.corenlp;
+
+/*
+ * (#)Extractors.java   0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import static net.jmp.util.logging.LoggerUtils.*;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/// The extractors class. Creates keyword extractors by name
+/// and holds the one the query-time utility uses, which is
+/// the fast extractor unless another is configured.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+public final class Extractors {
+    /// The name of the fast extractor.
+    public static final String FAST = "fast";
+
+    /// The name of the CoreNLP extractor.
+    public static final String CORENLP = "corenlp";
+
+    /// The logger.
+    private static final Logger logger = LoggerFactory.getLogger(Extractors.class.getName());
+
+    /// The configured extractor.
+    private static volatile Extractor extractor = new FastExtractor(false);
+
+    /// The default constructor.
+    private Extractors() {
+        super();
+    }
+
+    /// Create the extractor the parameters name.
+    ///
+    /// @param  parameters  net.jmp.pinecone.quickstart.corenlp.KeywordParameters
+    /// @return             net.jmp.pinecone.quickstart.corenlp.Extractor
+    public static Extractor create(final KeywordParameters parameters) {
+        return switch (parameters.getExtractor()) {
+            case FAST -> new FastExtractor(parameters.isLemmas());
+            case CORENLP -> new CoreNlpExtractor(parameters.isLemmas());
+            default -> throw new IllegalArgumentException("Unknown extractor: " + parameters.getExtractor());
+        };
+    }
+
+    /// Configure the extractor from the parameters.
+    ///
+    /// @param  parameters  net.jmp.pinecone.quickstart.corenlp.KeywordParameters
+    public static void configure(final KeywordParameters parameters) {
+        if (logger.isTraceEnabled()) {
+            logger.trace(entryWith(parameters));
+        }
+
+        extractor = create(parameters);
+
+        if (logger.isTraceEnabled()) {
+            logger.trace(exit());
+        }
+    }
+
+    /// Return the configured extractor.
+    ///
+    /// @return net.jmp.pinecone.quickstart.corenlp.Extractor
+    public static Extractor get() {
+        return extractor;
+    }
+
+    /// Return whether a token is a word: at least two
+    /// characters long with at least one letter.
+    ///
+    /// @param  token   java.lang.String
+    /// @return         boolean
+    static boolean isWord(final String token) {
+        if (token.length() < 2) {
+            return false;
+        }
+
+        for (int i = 0; i < token.length(); i++) {
+            if (Character.isLetter(token.charAt(i))) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
@@ -0,0 +1,268 @@
+package net.jmp.pinecone.quickstart.corenlp;
+
+/*
+ * (#)FastExtractor.java    0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import static net.jmp.util.logging.LoggerUtils.*;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/// The fast keyword extractor. Needs no models: a text is
+/// split into words, function words and common verbs are
+/// dropped by list, and the remaining words are tagged as
+/// verbs or adverbs by a few heuristics on their suffixes
+/// and neighbors. Whatever is left is taken as a noun or an
+/// adjective. Lemmas are found by stripping plural endings.
+///
+/// The heuristics are tuned to the short questions and
+/// sentences of the corpus. They miss some verbs that a
+/// tagger would find, so the extractor trades a little
+/// precision for starting at once and running in a few
+/// microseconds a sentence.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+public final class FastExtractor implements Extractor {
+    /// The function words: determiners, pronouns, prepositions,
+    /// conjunctions, auxiliaries, adverbs and number words.
+    private static final Set<String> STOPWORDS = Set.of(
+            "a", "about", "above", "after", "again", "against", "all", "also", "am", "among", "an", "and", "any",
+            "are", "as", "at", "be", "because", "been", "before", "being", "below", "between", "both", "but", "by",
+            "can", "could", "did", "do", "does", "doing", "down", "during", "each", "eight", "either", "eleven",
+            "else", "ever", "every", "few", "five", "for", "four", "from", "further", "had", "has", "have", "having",
+            "he", "her", "here", "hers", "herself", "him", "himself", "his", "how", "however", "i", "if", "in",
+            "into", "is", "it", "its", "itself", "just", "least", "less", "many", "may", "me", "might", "more",
+            "most", "much", "must", "my", "myself", "neither", "never", "nine", "no", "nor", "not", "now", "of",
+            "off", "often", "on", "once", "one", "only", "or", "other", "our", "ours", "ourselves", "out", "over",
+            "own", "per", "please", "quite", "rather", "same", "seven", "shall", "she", "should", "six", "so",
+            "some", "such", "ten", "than", "that", "the", "their", "theirs", "them", "themselves", "then", "there",
+            "these", "they", "third", "this", "those", "three", "through", "thus", "to", "too", "twelve", "two",
+            "under", "until", "up", "upon", "us", "very", "via", "was", "we", "well", "were", "what", "when",
+            "where", "whether", "which", "while", "who", "whom", "whose", "why", "will", "with", "within",
+            "without", "would", "yet", "you", "your", "yours", "yourself", "yourselves"
+    );
+
+    /// Common verbs, including irregular past forms that no suffix rule finds.
+    private static final Set<String> VERBS = Set.of(
+            "ask", "asked", "became", "become", "began", "begin", "begun", "bring", "brought", "build", "built",
+            "came", "come", "describe", "describes", "developed", "develop", "develops", "did", "discover",
+            "discovered", "done", "explain", "explains", "find", "finds", "found", "gave", "get", "gets", "give",
+            "given", "gives", "go", "goes", "got", "held", "help", "helps", "know", "known", "knows", "led",
+            "let", "list", "made", "make", "makes", "mean", "means", "protect", "protects", "put", "said", "say",
+            "says", "see", "seen", "seems", "show", "shown", "shows", "take", "taken", "takes", "tell", "tells",
+            "think", "thought", "took", "use", "uses", "want", "wants", "went", "won", "wrote", "write", "writes",
+            "written"
+    );
+
+    /// The words after which a word ending in -ed, -en or -ing is a verb.
+    private static final Set<String> AUXILIARIES = Set.of(
+            "am", "are", "be", "been", "being", "did", "do", "does", "had", "has", "have", "is", "was", "were"
+    );
+
+    /// The words before which a word ending in -ed is a past tense verb.
+    private static final Set<String> OBJECT_STARTERS = Set.of(
+            "a", "an", "her", "his", "its", "many", "my", "our", "several", "that", "the", "their", "these",
+            "this", "those", "two", "your"
+    );
+
+    /// The logger.
+    private final Logger logger = LoggerFactory.getLogger(this.getClass().getName());
+
+    /// Whether lemmas are extracted.
+    private final boolean lemmas;
+
+    /// The constructor.
+    ///
+    /// @param  lemmas  boolean
+    public FastExtractor(final boolean lemmas) {
+        super();
+
+        this.lemmas = lemmas;
+    }
+
+    /// Extract the keywords of a text.
+    ///
+    /// @param  text    java.lang.String
+    /// @return         net.jmp.pinecone.quickstart.corenlp.Keywords
+    @Override
+    public Keywords extract(final String text) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entryWith(text));
+        }
+
+        Keywords keywords = Keywords.NONE;
+
+        if (text != null && !text.isBlank()) {
+            final List<String> tokens = tokenize(text);
+            final Set<String> words = new LinkedHashSet<>();
+            final Set<String> tokenLemmas = new LinkedHashSet<>();
+
+            for (int i = 0; i < tokens.size() && words.size() < KeywordExtractor.MAX_KEYWORDS; i++) {
+                final String token = tokens.get(i);
+                final String word = token.toLowerCase(Locale.ROOT);
+
+                if (Extractors.isWord(token) &&
+                        !STOPWORDS.contains(word) &&
+                        !VERBS.contains(word) &&
+                        !isVerb(tokens, i, word) &&
+                        !isAdverb(word)) {
+                    words.add(word);
+
+                    if (this.lemmas) {
+                        tokenLemmas.add(lemma(word));
+                    }
+                }
+            }
+
+            keywords = new Keywords(new ArrayList<>(words), new ArrayList<>(tokenLemmas));
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exitWith(keywords));
+        }
+
+        return keywords;
+    }
+
+    /// Split a text into words. A word is a run of letters and
+    /// digits that may hold an apostrophe or a hyphen; a
+    /// possessive 's is dropped.
+    ///
+    /// @param  text    java.lang.String
+    /// @return         java.util.List<java.lang.String>
+    static List<String> tokenize(final String text) {
+        final List<String> tokens = new ArrayList<>();
+        final int length = text.length();
+
+        int i = 0;
+
+        while (i < length) {
+            while (i < length && !Character.isLetterOrDigit(text.charAt(i))) {
+                i++;
+            }
+
+            final int start = i;
+
+            while (i < length && (Character.isLetterOrDigit(text.charAt(i)) ||
+                    (isJoiner(text.charAt(i)) && i + 1 < length && Character.isLetterOrDigit(text.charAt(i + 1))))) {
+                i++;
+            }
+
+            if (i > start) {
+                String token = text.substring(start, i);
+
+                if (token.endsWith("'s") || token.endsWith("\u2019s")) {
+                    token = token.substring(0, token.length() - 2);
+                }
+
+                tokens.add(token);
+            }
+        }
+
+        return tokens;
+    }
+
+    /// Return whether a character joins the parts of a word.
+    ///
+    /// @param  c   char
+    /// @return     boolean
+    private static boolean isJoiner(final char c) {
+        return c == '\'' || c == '\u2019' || c == '-';
+    }
+
+    /// Return whether a word is a verb by its neighbors: a
+    /// participle after an auxiliary, an infinitive after to
+    /// that is not capitalized, or a past tense before the
+    /// start of an object.
+    ///
+    /// @param  tokens  java.util.List<java.lang.String>
+    /// @param  i       int
+    /// @param  word    java.lang.String
+    /// @return         boolean
+    private static boolean isVerb(final List<String> tokens, final int i, final String word) {
+        final String previous = i > 0 ? tokens.get(i - 1).toLowerCase(Locale.ROOT) : "";
+        final String next = i + 1 < tokens.size() ? tokens.get(i + 1).toLowerCase(Locale.ROOT) : "";
+
+        if (AUXILIARIES.contains(previous) && (word.endsWith("ed") || word.endsWith("en") || word.endsWith("ing"))) {
+            return true;
+        }
+
+        if (previous.equals("to") && Character.isLowerCase(tokens.get(i).charAt(0))) {
+            return true;
+        }
+
+        return word.endsWith("ed") && OBJECT_STARTERS.contains(next);
+    }
+
+    /// Return whether a word is an adverb ending in -ly.
+    /// Adjectives such as early, only and holy are short
+    /// enough to be kept.
+    ///
+    /// @param  word    java.lang.String
+    /// @return         boolean
+    private static boolean isAdverb(final String word) {
+        return word.length() > 5 && word.endsWith("ly") && !word.endsWith("ily") && !word.endsWith("ply");
+    }
+
+    /// Return the lemma of a word by stripping a plural ending.
+    ///
+    /// @param  word    java.lang.String
+    /// @return         java.lang.String
+    static String lemma(final String word) {
+        final int length = word.length();
+
+        if (length > 4 && word.endsWith("ies")) {
+            return word.substring(0, length - 3) + "y";
+        }
+
+        if (length > 4 && (word.endsWith("sses") || word.endsWith("shes") || word.endsWith("ches") || word.endsWith("xes") || word.endsWith("zes"))) {
+            return word.substring(0, length - 2);
+        }
+
+        if (length > 3 && word.endsWith("s") && !word.endsWith("ss") && !word.endsWith("us") && !word.endsWith("is") && !word.endsWith("ics")) {
+            return word.substring(0, length - 1);
+        }
+
+        return word;
+    }
+
+    /// Return the string representation.
+    ///
+    /// @return java.lang.String
+    @Override
+    public String toString() {
+        return "fast";
+    }
+}
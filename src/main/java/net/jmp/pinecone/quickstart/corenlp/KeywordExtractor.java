@@ -0,0 +1,140 @@
+package net.jmp.pinecone.quickstart.corenlp;
+
+/*
+ * (#)KeywordExtractor.java 0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.Collections;
+import java.util.List;
+
+import java.util.concurrent.ForkJoinPool;
+
+import java.util.stream.IntStream;
+
+import static net.jmp.util.logging.LoggerUtils.*;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/// Extracts the keywords of documents at ingest time: the
+/// significant nouns and adjectives that the sparse query
+/// extracts from the query text, so that documents can be
+/// filtered and boosted on the same words. The extractor the
+/// parameters name does the work; the CoreNLP extractor keeps
+/// a pipeline for each thread that uses it.
+///
+/// Documents are extracted in a fork-join pool, so the pool
+/// holds one pipeline per worker and the extraction scales
+/// with the number of workers.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+public final class KeywordExtractor implements AutoCloseable {
+    /// The most keywords kept for a document, which bounds its metadata.
+    public static final int MAX_KEYWORDS = 64;
+
+    /// The logger.
+    private final Logger logger = LoggerFactory.getLogger(this.getClass().getName());
+
+    /// The keyword parameters.
+    private final KeywordParameters parameters;
+
+    /// The extractor.
+    private final Extractor extractor;
+
+    /// The pool the documents are extracted in.
+    private final ForkJoinPool pool;
+
+    /// The constructor.
+    ///
+    /// @param  parameters  net.jmp.pinecone.quickstart.corenlp.KeywordParameters
+    public KeywordExtractor(final KeywordParameters parameters) {
+        super();
+
+        this.parameters = parameters;
+        this.extractor = Extractors.create(parameters);
+        this.pool = new ForkJoinPool(parameters.getParallelism());
+    }
+
+    /// Return whether keywords are extracted.
+    ///
+    /// @return boolean
+    public boolean isEnabled() {
+        return this.parameters.isEnabled();
+    }
+
+    /// Extract the keywords of each text in parallel. The
+    /// keywords are returned in the order of the texts.
+    ///
+    /// @param  texts   java.util.List<java.lang.String>
+    /// @return         java.util.List<net.jmp.pinecone.quickstart.corenlp.Keywords>
+    public List<Keywords> extractAll(final List<String> texts) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entryWith(texts));
+        }
+
+        List<Keywords> keywords;
+
+        if (this.parameters.isEnabled()) {
+            keywords = this.pool.submit(() -> IntStream.range(0, texts.size())
+                    .parallel()
+                    .mapToObj(i -> this.extract(texts.get(i)))
+                    .toList()).join();
+        } else {
+            keywords = Collections.nCopies(texts.size(), Keywords.NONE);
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exitWith(keywords));
+        }
+
+        return keywords;
+    }
+
+    /// Extract the keywords of a text on the calling thread.
+    /// A text that cannot be extracted has no keywords.
+    ///
+    /// @param  text    java.lang.String
+    /// @return         net.jmp.pinecone.quickstart.corenlp.Keywords
+    public Keywords extract(final String text) {
+        Keywords keywords = Keywords.NONE;
+
+        try {
+            keywords = this.extractor.extract(text);
+        } catch (final RuntimeException re) {
+            this.logger.warn("Unable to extract keywords: {}", re.getMessage());
+        }
+
+        return keywords;
+    }
+
+    /// Close the extractor, shutting down its pool.
+    @Override
+    public void close() {
+        this.pool.shutdown();
+    }
+}
@@ -0,0 +1,162 @@
+package net.jmp.pinecone.quickstart.corenlp;
+
+/*
+ * (#)KeywordParameters.java    0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/// The keyword extraction parameters, parsed from a string of
+/// comma-separated name=value pairs such as
+/// "enabled=true,extractor=fast,lemmas=false,parallelism=0".
+/// Parameters that are not given keep their default values.
+/// When enabled is false no keywords are extracted. The
+/// extractor is fast or corenlp. When lemmas is true the
+/// lemmas of the keywords are extracted as well. Parallelism
+/// is the number of extractions run at once, or zero for one
+/// per available processor.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+public final class KeywordParameters {
+    /// The default of whether keywords are extracted.
+    public static final boolean DEFAULT_ENABLED = true;
+
+    /// The default extractor.
+    public static final String DEFAULT_EXTRACTOR = Extractors.FAST;
+
+    /// The default of whether lemmas are extracted.
+    public static final boolean DEFAULT_LEMMAS = false;
+
+    /// The default number of extractions run at once, zero for one per available processor.
+    public static final int DEFAULT_PARALLELISM = 0;
+
+    /// Whether keywords are extracted.
+    private final boolean enabled;
+
+    /// The name of the extractor.
+    private final String extractor;
+
+    /// Whether lemmas are extracted.
+    private final boolean lemmas;
+
+    /// The number of extractions run at once.
+    private final int parallelism;
+
+    /// The constructor.
+    ///
+    /// @param  enabled     boolean
+    /// @param  extractor   java.lang.String
+    /// @param  lemmas      boolean
+    /// @param  parallelism int
+    public KeywordParameters(final boolean enabled,
+                             final String extractor,
+                             final boolean lemmas,
+                             final int parallelism) {
+        super();
+
+        if (!Extractors.FAST.equals(extractor) && !Extractors.CORENLP.equals(extractor)) {
+            throw new IllegalArgumentException("extractor must be fast or corenlp: " + extractor);
+        }
+
+        if (parallelism < 0) {
+            throw new IllegalArgumentException("parallelism must not be negative: " + parallelism);
+        }
+
+        this.enabled = enabled;
+        this.extractor = extractor;
+        this.lemmas = lemmas;
+        this.parallelism = parallelism == 0 ? Runtime.getRuntime().availableProcessors() : parallelism;
+    }
+
+    /// Parse the parameters from a string.
+    ///
+    /// @param  parameters  java.lang.String
+    /// @return             net.jmp.pinecone.quickstart.corenlp.KeywordParameters
+    public static KeywordParameters parse(final String parameters) {
+        boolean enabled = DEFAULT_ENABLED;
+        String extractor = DEFAULT_EXTRACTOR;
+        boolean lemmas = DEFAULT_LEMMAS;
+        int parallelism = DEFAULT_PARALLELISM;
+
+        if (parameters != null && !parameters.isBlank()) {
+            for (final String parameter : parameters.split(",")) {
+                final String[] pair = parameter.split("=", 2);
+
+                if (pair.length != 2) {
+                    throw new IllegalArgumentException("Expected name=value: " + parameter);
+                }
+
+                final String value = pair[1].trim();
+
+                switch (pair[0].trim()) {
+                    case "enabled" -> enabled = Boolean.parseBoolean(value);
+                    case "extractor" -> extractor = value;
+                    case "lemmas" -> lemmas = Boolean.parseBoolean(value);
+                    case "parallelism" -> parallelism = Integer.parseInt(value);
+                    default -> throw new IllegalArgumentException("Unknown keyword parameter: " + pair[0]);
+                }
+            }
+        }
+
+        return new KeywordParameters(enabled, extractor, lemmas, parallelism);
+    }
+
+    /// Return whether keywords are extracted.
+    ///
+    /// @return boolean
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    /// Return the name of the extractor.
+    ///
+    /// @return java.lang.String
+    public String getExtractor() {
+        return this.extractor;
+    }
+
+    /// Return whether lemmas are extracted.
+    ///
+    /// @return boolean
+    public boolean isLemmas() {
+        return this.lemmas;
+    }
+
+    /// Return the number of extractions run at once.
+    ///
+    /// @return int
+    public int getParallelism() {
+        return this.parallelism;
+    }
+
+    /// Return the string representation.
+    ///
+    /// @return java.lang.String
+    @Override
+    public String toString() {
+        return "enabled=" + this.enabled + ",extractor=" + this.extractor + ",lemmas=" + this.lemmas + ",parallelism=" + this.parallelism;
+    }
+}
@@ -0,0 +1,82 @@
+package net.jmp.pinecone.quickstart.corenlp;
+
+/*
+ * (#)Keywords.java 0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.List;
+
+/// The keywords of a document: its significant nouns and
+/// adjectives in lower case, in the order they first appear,
+/// and their lemmas when lemmas are extracted.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+public final class Keywords {
+    /// No keywords.
+    public static final Keywords NONE = new Keywords(List.of(), List.of());
+
+    /// The keywords.
+    private final List<String> words;
+
+    /// The lemmas of the keywords.
+    private final List<String> lemmas;
+
+    /// The constructor.
+    ///
+    /// @param  words   java.util.List<java.lang.String>
+    /// @param  lemmas  java.util.List<java.lang.String>
+    public Keywords(final List<String> words, final List<String> lemmas) {
+        super();
+
+        this.words = words;
+        this.lemmas = lemmas;
+    }
+
+    /// Return the keywords.
+    ///
+    /// @return java.util.List<java.lang.String>
+    public List<String> getWords() {
+        return this.words;
+    }
+
+    /// Return the lemmas of the keywords, empty
+    /// when lemmas are not extracted.
+    ///
+    /// @return java.util.List<java.lang.String>
+    public List<String> getLemmas() {
+        return this.lemmas;
+    }
+
+    /// Return the string representation.
+    ///
+    /// @return java.lang.String
+    @Override
+    public String toString() {
+        return this.words.toString();
+    }
+}
@@ -1,6 +1,7 @@
 package net.jmp.pinecone.quickstart.corenlp;
 
 /*
+ * (#)NLPUtil.java  0.9.0   10/18/2026
  * (#)NLPUtil.java  0.5.0   06/13/2025
  *
  * @author   Jonathan Parker
@@ -28,10 +29,6 @@ package net.jmp.pinecone.quickstart.corenlp;
  * SOFTWARE.
  */
 
-import edu.stanford.nlp.pipeline.CoreDocument;
-import edu.stanford.nlp.pipeline.CoreSentence;
-import edu.stanford.nlp.pipeline.StanfordCoreNLP;
-
 import java.util.*;
 
 import org.slf4j.Logger;
@@ -41,7 +38,7 @@ import static net.jmp.util.logging.LoggerUtils.*;
 
 /// The natural language processing utility class.
 ///
-/// @version    0.5.0
+/// @version    0.9.0
 /// @since      0.5.0
 public final class NLPUtil {
     /// The logger.
@@ -78,7 +75,8 @@ public final class NLPUtil {
         return result;
     }
 
-    /// Gets the significant words from the text.
+    /// Gets the significant words from the text, using the
+    /// configured extractor.
     ///
     /// @param  text    java.lang.String
     /// @param  ordered boolean
@@ -90,43 +88,15 @@ public final class NLPUtil {
 
         Set<String> significantWords;
 
+        final List<String> words = Extractors.get().extract(text).getWords();
+
         if (ordered) {
-            significantWords = new LinkedHashSet<>();   // Preserve insertion order
+            significantWords = new LinkedHashSet<>(words);   // Preserve insertion order
         } else {
-            significantWords = new HashSet<>();
+            significantWords = new HashSet<>(words);
         }
 
-        final Properties props = new Properties();    // Set up pipeline properties
-
-        /* Set the list of annotators to run - The order is significant */
-
-        props.setProperty("annotators", "tokenize,pos,lemma,ner,parse,depparse");
-
-        final StanfordCoreNLP pipeline = new StanfordCoreNLP(props);
-        final CoreDocument document = new CoreDocument(text);   // Create a document object
-
-        pipeline.annotate(document);    // Annotate the document
-
-        /* Use the second sentence for POS, NER, and constituency and dependency parses */
-
-        for (final CoreSentence sentence : document.sentences()) {
-            if (logger.isDebugEnabled()) {
-                logger.info("Core sentence: {}", sentence.text());
-            }
-
-            if (ordered) {
-                significantWords.addAll(getAdjectivesAndNouns(sentence));
-            } else {
-                significantWords.addAll(getNouns(sentence));
-                significantWords.addAll(getAdjectives(sentence));
-            }
-
-            if (logger.isDebugEnabled()) {
-                logger.debug("Significant words: {}", significantWords);
-            }
-
-            logger.info("Significant words: {}", significantWords);
-        }
+        logger.info("Significant words: {}", significantWords);
 
         if (logger.isTraceEnabled()) {
             logger.trace(exitWith(significantWords));
@@ -134,109 +104,4 @@ public final class NLPUtil {
 
         return significantWords;
     }
-
-    /// Get the nouns.
-    ///
-    /// @param  sentence edu.stanford.nlp.trees.CoreSentence
-    /// @return          java.util.Set<java.lang.String>
-    private static Set<String> getNouns(final CoreSentence sentence) {
-        if (logger.isTraceEnabled()) {
-            logger.trace(entryWith(sentence));
-        }
-
-        final Set<String> nouns = getWordsMatchingPOS(sentence, "NN");
-
-        if (logger.isTraceEnabled()) {
-            logger.trace(exitWith(nouns));
-        }
-
-        return nouns;
-    }
-
-    /// Get the adjectives.
-    ///
-    /// @param  sentence edu.stanford.nlp.trees.CoreSentence
-    /// @return          java.util.Set<java.lang.String>
-    private static Set<String> getAdjectives(final CoreSentence sentence) {
-        if (logger.isTraceEnabled()) {
-            logger.trace(entryWith(sentence));
-        }
-
-        final Set<String> adjectives = getWordsMatchingPOS(sentence, "JJ");
-
-        if (logger.isTraceEnabled()) {
-            logger.trace(exitWith(adjectives));
-        }
-
-        return adjectives;
-    }
-
-    /// Get the words matching the specified part of speech.
-    ///
-    /// @param  sentence edu.stanford.nlp.trees.CoreSentence
-    /// @param  posTag   java.lang.String
-    /// @return          java.util.Set<java.lang.String>
-    private static Set<String> getWordsMatchingPOS(final CoreSentence sentence, final String posTag) {
-        if (logger.isTraceEnabled()) {
-            logger.trace(entryWith(sentence, posTag));
-        }
-
-        final Set<String> results = new HashSet<>();
-
-        final List<String> posTags = sentence.posTags();
-        final List<String> words = sentence.tokensAsStrings();
-
-        if (logger.isDebugEnabled()) {
-            logger.debug("POS tags: {}", posTags);
-            logger.debug("Tokens  : {}", sentence.tokensAsStrings());
-        }
-
-        for (int i = 0; i < posTags.size(); i++) {
-            final String tag = posTags.get(i);
-
-            if (tag.startsWith(posTag)) {
-                results.add(words.get(i));
-            }
-        }
-
-        if (logger.isTraceEnabled()) {
-            logger.trace(exit());
-        }
-
-        return results;
-    }
-
-    /// Get the words that are adjectives and nouns in a more natural order.
-    ///
-    /// @param  sentence edu.stanford.nlp.trees.CoreSentence
-    /// @return          java.util.Set<java.lang.String>
-    private static Set<String> getAdjectivesAndNouns(final CoreSentence sentence) {
-        if (logger.isTraceEnabled()) {
-            logger.trace(entryWith(sentence));
-        }
-
-        final Set<String> results = new LinkedHashSet<>();  // Preserve insertion order
-
-        final List<String> posTags = sentence.posTags();
-        final List<String> tokens = sentence.tokensAsStrings();
-
-        if (logger.isDebugEnabled()) {
-            logger.debug("POS tags: {}", posTags);
-            logger.debug("Tokens  : {}", tokens);
-        }
-
-        for (int i = 0; i < posTags.size(); i++) {
-            final String tag = posTags.get(i);
-
-            if (tag.startsWith("JJ") || tag.startsWith("NN")) {
-                results.add(tokens.get(i));
-            }
-        }
-
-        if (logger.isTraceEnabled()) {
-            logger.trace(exit());
-        }
-
-        return results;
-    }
 }
@@ -1,6 +1,7 @@
 package net.jmp.pinecone.quickstart.delete;
 
 /*
+ * (#)DeleteIndex.java  0.9.0   10/18/2026
  * (#)DeleteIndex.java  0.8.0   06/25/2025
  * (#)DeleteIndex.java  0.4.0   06/08/2025
  * (#)DeleteIndex.java  0.2.0   05/21/2025
@@ -34,6 +35,8 @@ import io.pinecone.clients.Pinecone;
 
 import net.jmp.pinecone.quickstart.Operation;
 
+import net.jmp.pinecone.quickstart.local.LocalIndexes;
+
 import static net.jmp.util.logging.LoggerUtils.*;
 
 import org.slf4j.Logger;
@@ -41,7 +44,7 @@ import org.slf4j.LoggerFactory;
 
 /// The delete index class.
 ///
-/// @version    0.8.0
+/// @version    0.9.0
 /// @since      0.2.0
 public final class DeleteIndex extends Operation {
     /// The logger.
@@ -57,6 +60,7 @@ public final class DeleteIndex extends Operation {
                 .searchableIndexName(builder.searchableIndexName)
                 .sparseIndexName(builder.sparseIndexName)
                 .namespace(builder.namespace)
+                .localIndexDir(builder.localIndexDir)
         );
     }
 
@@ -78,6 +82,8 @@ public final class DeleteIndex extends Operation {
             this.logger.info("Deleting dense index: {}", this.denseIndexName);
 
             this.pinecone.deleteIndex(this.denseIndexName);
+
+            LocalIndexes.deleteDenseIndexes(this.localIndexDir, this.denseIndexName, this.namespace);
         } else {
             this.logger.info("Dense index does not exist: {}", this.denseIndexName);
         }
@@ -94,6 +100,8 @@ public final class DeleteIndex extends Operation {
             this.logger.info("Deleting sparse index: {}", this.sparseIndexName);
 
             this.pinecone.deleteIndex(this.sparseIndexName);
+
+            LocalIndexes.deleteSparseInvertedIndex(this.localIndexDir, this.sparseIndexName, this.namespace);
         } else {
             this.logger.info("Sparse index does not exist: {}", this.sparseIndexName);
         }
@@ -120,6 +128,9 @@ public final class DeleteIndex extends Operation {
         /// The namespace.
         private String namespace;
 
+        /// The local index directory.
+        private String localIndexDir;
+
         /// The default constructor.
         private Builder() {
             super();
@@ -175,6 +186,16 @@ public final class DeleteIndex extends Operation {
             return this;
         }
 
+        /// Set the local index directory.
+        ///
+        /// @param  localIndexDir   java.lang.String
+        /// @return                 net.jmp.pinecone.quickstart.delete.DeleteIndex.Builder
+        public Builder localIndexDir(final String localIndexDir) {
+            this.localIndexDir = localIndexDir;
+
+            return this;
+        }
+
         /// Build the create index object.
         ///
         /// @return net.jmp.pinecone.quickstart.delete.DeleteIndex
@@ -1,6 +1,7 @@
 package net.jmp.pinecone.quickstart.describe;
 
 /*
+ * (#)DescribeIndex.java    0.9.0   10/18/2026
  * (#)DescribeIndex.java    0.4.0   06/09/2025
  * (#)DescribeIndex.java    0.2.0   05/21/2025
  *
@@ -36,6 +37,8 @@ import io.pinecone.proto.ListResponse;
 
 import net.jmp.pinecone.quickstart.Operation;
 
+import net.jmp.pinecone.quickstart.partition.Partitions;
+
 import static net.jmp.util.logging.LoggerUtils.*;
 
 import org.openapitools.db_control.client.model.IndexModel;
@@ -45,7 +48,7 @@ import org.slf4j.LoggerFactory;
 
 /// The query index class.
 ///
-/// @version    0.4.0
+/// @version    0.9.0
 /// @since      0.2.0
 public class DescribeIndex extends Operation {
     /// The logger.
@@ -85,11 +88,7 @@ public class DescribeIndex extends Operation {
             }
 
             try (final Index index = this.pinecone.getIndexConnection(this.denseIndexName)) {
-                final ListResponse response = index.list(this.namespace);
-
-                if (this.logger.isInfoEnabled()) {
-                    this.logger.info("Vectors count: {}", response.getVectorsCount());
-                }
+                this.logVectorsCount(index);
             }
         } else {
             this.logger.info("Dense index does not exist: {}", this.denseIndexName);
@@ -103,11 +102,7 @@ public class DescribeIndex extends Operation {
             }
 
             try (final Index index = this.pinecone.getIndexConnection(this.sparseIndexName)) {
-                final ListResponse response = index.list(this.namespace);
-
-                if (this.logger.isInfoEnabled()) {
-                    this.logger.info("Vectors count: {}", response.getVectorsCount());
-                }
+                this.logVectorsCount(index);
             }
         } else {
             this.logger.info("Sparse index does not exist: {}", this.sparseIndexName);
@@ -118,6 +113,28 @@ public class DescribeIndex extends Operation {
         }
     }
 
+    /// Log the vectors count of the first page of the listing
+    /// of each partition of the namespace.
+    ///
+    /// @param  index   io.pinecone.clients.Index
+    private void logVectorsCount(final Index index) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entryWith(index));
+        }
+
+        for (final String partition : Partitions.get().partitions(index, this.namespace)) {
+            final ListResponse response = index.list(partition);
+
+            if (this.logger.isInfoEnabled()) {
+                this.logger.info("Vectors count of {}: {}", partition, response.getVectorsCount());
+            }
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
     /// The builder class.
     public static class Builder {
         /// The Pinecone client.
@@ -1,6 +1,7 @@
 package net.jmp.pinecone.quickstart.describe;
 
 /*
+ * (#)DescribeNamespace.java    0.9.0   10/18/2026
  * (#)DescribeNamespace.java    0.4.0   06/09/2025
  * (#)DescribeNamespace.java    0.2.0   05/22/2025
  *
@@ -39,14 +40,17 @@ import java.util.Map;
 
 import net.jmp.pinecone.quickstart.Operation;
 
+import net.jmp.pinecone.quickstart.partition.Partitions;
+
 import static net.jmp.util.logging.LoggerUtils.*;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-/// The describe namespace class.
+/// The describe namespace class. Describes each partition
+/// of the namespace when the namespace is partitioned.
 ///
-/// @version    0.4.0
+/// @version    0.9.0
 /// @since      0.2.0
 public class DescribeNamespace extends Operation {
     /// The logger.
@@ -81,30 +85,38 @@ public class DescribeNamespace extends Operation {
         this.logger.info("Describing namespace {} for index: {}", this.namespace, this.denseIndexName);
 
         try (final Index index = this.pinecone.getIndexConnection(this.denseIndexName)) {
-            final DescribeIndexStatsResponse response = index.describeIndexStats();
-
-            if (response.containsNamespaces(this.namespace)) {
-                final Map<String, NamespaceSummary> namespaces = response.getNamespacesMap();
-                final NamespaceSummary namespaceSummary = namespaces.get(this.namespace);
-
-                this.logger.info("Vector count: {}", namespaceSummary.getVectorCount());
-            } else {
-                this.logger.info("Namespace does not exist: {}", this.namespace);
-            }
+            this.logVectorCount(index);
         }
 
         this.logger.info("Describing namespace {} for index: {}", this.namespace, this.sparseIndexName);
 
         try (final Index index = this.pinecone.getIndexConnection(this.sparseIndexName)) {
-            final DescribeIndexStatsResponse response = index.describeIndexStats();
+            this.logVectorCount(index);
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /// Log the vector count of each partition of the namespace.
+    ///
+    /// @param  index   io.pinecone.clients.Index
+    private void logVectorCount(final Index index) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entryWith(index));
+        }
+
+        final DescribeIndexStatsResponse response = index.describeIndexStats();
+        final Map<String, NamespaceSummary> namespaces = response.getNamespacesMap();
 
-            if (response.containsNamespaces(this.namespace)) {
-                final Map<String, NamespaceSummary> namespaces = response.getNamespacesMap();
-                final NamespaceSummary namespaceSummary = namespaces.get(this.namespace);
+        for (final String partition : Partitions.get().partitions(index, this.namespace)) {
+            if (namespaces.containsKey(partition)) {
+                final NamespaceSummary namespaceSummary = namespaces.get(partition);
 
-                this.logger.info("Vector count: {}", namespaceSummary.getVectorCount());
+                this.logger.info("Vector count of {}: {}", partition, namespaceSummary.getVectorCount());
             } else {
-                this.logger.info("Namespace does not exist: {}", this.namespace);
+                this.logger.info("Namespace does not exist: {}", partition);
             }
         }
 
@@ -0,0 +1,220 @@
+package net.jmp.pinecone.quickstart.fetch;
+
+/*
+ * (#)BulkFetcher.java  0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import io.pinecone.clients.Index;
+
+import io.pinecone.proto.FetchResponse;
+import io.pinecone.proto.Vector;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+import java.util.function.Consumer;
+
+import java.util.stream.Stream;
+
+import net.jmp.pinecone.quickstart.resilience.Endpoint;
+import net.jmp.pinecone.quickstart.resilience.Resilience;
+
+import static net.jmp.util.logging.LoggerUtils.*;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/// The bulk fetcher class. Fetches the vectors for any
+/// number of IDs from a namespace. The IDs are read lazily
+/// and split into chunks of one request each, and the chunks
+/// are fetched concurrently on virtual threads. A window bounds
+/// the chunks in flight, so no more than the window times the
+/// chunk size of vectors are held at once no matter how many
+/// IDs there are. Each vector is passed to the consumer as its
+/// chunk arrives, one at a time, so the consumer need not be
+/// thread-safe. Vectors come in ID order within a chunk but
+/// chunks come in the order they finish.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+public final class BulkFetcher {
+    /// The default number of IDs in each request.
+    public static final int DEFAULT_CHUNK_SIZE = 100;
+
+    /// The default number of requests in flight.
+    public static final int DEFAULT_CONCURRENCY = 4;
+
+    /// The logger.
+    private final Logger logger = LoggerFactory.getLogger(this.getClass().getName());
+
+    /// The index.
+    private final Index index;
+
+    /// The namespace.
+    private final String namespace;
+
+    /// The number of IDs in each request.
+    private final int chunkSize;
+
+    /// The number of requests in flight.
+    private final int concurrency;
+
+    /// The constructor.
+    ///
+    /// @param  index       io.pinecone.clients.Index
+    /// @param  namespace   java.lang.String
+    /// @param  chunkSize   int
+    /// @param  concurrency int
+    public BulkFetcher(final Index index, final String namespace, final int chunkSize, final int concurrency) {
+        super();
+
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+        }
+
+        if (concurrency <= 0) {
+            throw new IllegalArgumentException("concurrency must be positive: " + concurrency);
+        }
+
+        this.index = index;
+        this.namespace = namespace;
+        this.chunkSize = chunkSize;
+        this.concurrency = concurrency;
+    }
+
+    /// Fetch the vectors for the IDs, passing each to the
+    /// consumer, and return the number fetched. IDs with no
+    /// vector are skipped. The first failure stops the fetch
+    /// once the chunks in flight finish and is rethrown.
+    ///
+    /// @param  ids         java.util.stream.Stream<java.lang.String>
+    /// @param  consumer    java.util.function.Consumer<io.pinecone.proto.Vector>
+    /// @return             long
+    public long fetch(final Stream<String> ids, final Consumer<Vector> consumer) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entryWith(ids, consumer));
+        }
+
+        final Semaphore window = new Semaphore(this.concurrency);
+        final ReentrantLock consumerLock = new ReentrantLock();
+        final LongAdder requested = new LongAdder();
+        final LongAdder fetched = new LongAdder();
+        final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        final Iterator<String> iterator = ids.iterator();
+
+        try (final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            while (iterator.hasNext() && failure.get() == null) {
+                final List<String> chunk = new ArrayList<>(this.chunkSize);
+
+                while (iterator.hasNext() && chunk.size() < this.chunkSize) {
+                    chunk.add(iterator.next());
+                }
+
+                requested.add(chunk.size());
+
+                window.acquire();   // Wait for a chunk in flight to finish
+
+                executor.submit(() -> {
+                    try {
+                        final Map<String, Vector> vectors = this.fetchChunk(chunk);
+
+                        consumerLock.lock();
+
+                        try {
+                            for (final String id : chunk) {
+                                final Vector vector = vectors.get(id);
+
+                                if (vector != null) {
+                                    consumer.accept(vector);
+
+                                    fetched.increment();
+                                }
+                            }
+                        } finally {
+                            consumerLock.unlock();
+                        }
+                    } catch (final RuntimeException re) {
+                        failure.compareAndSet(null, re);
+                    } finally {
+                        window.release();
+                    }
+                });
+            }
+        } catch (final InterruptedException ie) {
+            Thread.currentThread().interrupt();
+
+            failure.compareAndSet(null, new CancellationException("Interrupted fetching from " + this.namespace));
+        }
+
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+
+        if (this.logger.isDebugEnabled()) {
+            this.logger.debug("Fetched {} of {} IDs from {}", fetched.sum(), requested.sum(), this.namespace);
+        }
+
+        final long result = fetched.sum();
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exitWith(result));
+        }
+
+        return result;
+    }
+
+    /// Fetch the vectors of a chunk of IDs.
+    ///
+    /// @param  chunk   java.util.List<java.lang.String>
+    /// @return         java.util.Map<java.lang.String, io.pinecone.proto.Vector>
+    private Map<String, Vector> fetchChunk(final List<String> chunk) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entryWith(chunk));
+        }
+
+        final FetchResponse response = Resilience.call(Endpoint.PINECONE_QUERY, () -> this.index.fetch(chunk, this.namespace));
+        final Map<String, Vector> vectors = response.getVectorsMap();
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exitWith(vectors.size()));
+        }
+
+        return vectors;
+    }
+}
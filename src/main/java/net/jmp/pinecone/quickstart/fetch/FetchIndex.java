@@ -1,6 +1,7 @@
 package net.jmp.pinecone.quickstart.fetch;
 
 /*
+ * (#)FetchIndex.java   0.9.0   10/18/2026
  * (#)FetchIndex.java   0.6.0   06/18/2025
  * (#)FetchIndex.java   0.4.0   06/09/2025
  * (#)FetchIndex.java   0.2.0   05/22/2025
@@ -35,22 +36,36 @@ import com.google.protobuf.Struct;
 import io.pinecone.clients.Index;
 import io.pinecone.clients.Pinecone;
 
-import io.pinecone.proto.FetchResponse;
 import io.pinecone.proto.Vector;
 
 import java.util.List;
-import java.util.Map;
+
+import java.util.function.Consumer;
+
+import java.util.stream.Stream;
 
 import net.jmp.pinecone.quickstart.Operation;
 
+import net.jmp.pinecone.quickstart.chunk.Chunks;
+
+import net.jmp.pinecone.quickstart.list.VectorIdIterator;
+import net.jmp.pinecone.quickstart.list.VectorIds;
+
+import net.jmp.pinecone.quickstart.partition.Partitions;
+
 import static net.jmp.util.logging.LoggerUtils.*;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-/// The fetch index class.
+/// The fetch index class. Fetches through a bulk fetcher,
+/// which takes any number of IDs. Each document ID is
+/// resolved to the ID of the document and the IDs of its
+/// chunks, so documents that were split are fetched too,
+/// and the IDs are fetched from every partition of the
+/// namespace.
 ///
-/// @version    0.6.0
+/// @version    0.9.0
 /// @since      0.2.0
 public final class FetchIndex extends Operation {
     /// The logger.
@@ -102,21 +117,13 @@ public final class FetchIndex extends Operation {
             try (final Index index = this.pinecone.getIndexConnection(this.denseIndexName)) {
                 // Fetch the history items
 
-                final FetchResponse response = index.fetch(
+                final long fetched = this.fetch(
+                        index,
                         List.of("rec1", "rec7", "rec17", "rec21", "rec26", "rec37", "rec38", "rec47"),
-                        this.namespace
+                        this::logDenseVector
                 );
 
-                final Map<String, Vector> vectors = response.getVectorsMap();
-
-                for (final Map.Entry<String, Vector> vector : vectors.entrySet()) {
-                    final Struct metadata = vector.getValue().getMetadata();
-                    final List<Float> values = vector.getValue().getValuesList();
-
-                    this.logger.info("ID      : {}", vector.getKey());
-                    this.logger.info("Category: {}", metadata.getFieldsMap().get("category").getStringValue());
-                    this.logger.info("Values  : {}", values.size());    // Number of values (dimensionality)
-                }
+                this.logger.info("Fetched {} vectors", fetched);
             }
         } else {
             this.logger.info("Dense index does not exist or is not loaded: {}", this.denseIndexName);
@@ -139,23 +146,13 @@ public final class FetchIndex extends Operation {
             try (final Index index = this.pinecone.getIndexConnection(this.sparseIndexName)) {
                 // Fetch the physics items
 
-                final FetchResponse response = index.fetch(
+                final long fetched = this.fetch(
+                        index,
                         List.of("rec6", "rec9", "rec10", "rec39", "rec42", "rec49"),
-                        this.namespace
+                        this::logSparseVector
                 );
 
-                final Map<String, Vector> vectors = response.getVectorsMap();
-
-                for (final Map.Entry<String, Vector> vector : vectors.entrySet()) {
-                    final Struct metadata = vector.getValue().getMetadata();
-                    final List<Float> values = vector.getValue().getSparseValues().getValuesList();
-                    final List<Integer> indices = vector.getValue().getSparseValues().getIndicesList();
-
-                    this.logger.info("ID      : {}", vector.getKey());
-                    this.logger.info("Category: {}", metadata.getFieldsMap().get("category").getStringValue());
-                    this.logger.info("Values  : {}", values.size());    // Number of values (dimensionality)
-                    this.logger.info("Indices : {}", indices.size());   // Number of indices (dimensionality)
-                }
+                this.logger.info("Fetched {} vectors", fetched);
             }
         } else {
             this.logger.info("Sparse index does not exist or is not loaded: {}", this.sparseIndexName);
@@ -166,6 +163,96 @@ public final class FetchIndex extends Operation {
         }
     }
 
+    /// Fetch the vectors of documents from every partition of
+    /// the namespace, passing each to the consumer, and return
+    /// the number fetched. When the namespace is not partitioned
+    /// the namespace is the one partition.
+    ///
+    /// @param  index       io.pinecone.clients.Index
+    /// @param  documentIds java.util.List<java.lang.String>
+    /// @param  consumer    java.util.function.Consumer<io.pinecone.proto.Vector>
+    /// @return             long
+    private long fetch(final Index index, final List<String> documentIds, final Consumer<Vector> consumer) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entryWith(index, documentIds, consumer));
+        }
+
+        long fetched = 0;
+
+        for (final String partition : Partitions.get().partitions(index, this.namespace)) {
+            final BulkFetcher fetcher = new BulkFetcher(index,
+                    partition,
+                    BulkFetcher.DEFAULT_CHUNK_SIZE,
+                    BulkFetcher.DEFAULT_CONCURRENCY);
+
+            try (final Stream<String> ids = this.resolveIds(index, partition, documentIds)) {
+                fetched += fetcher.fetch(ids, consumer);
+            }
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exitWith(fetched));
+        }
+
+        return fetched;
+    }
+
+    /// Resolve document IDs to the IDs of their vectors in a
+    /// partition: each document ID itself, for a document that
+    /// was not split, followed by the IDs listed with the chunk
+    /// prefix of each document. The stream must be closed.
+    ///
+    /// @param  index       io.pinecone.clients.Index
+    /// @param  partition   java.lang.String
+    /// @param  documentIds java.util.List<java.lang.String>
+    /// @return             java.util.stream.Stream<java.lang.String>
+    private Stream<String> resolveIds(final Index index, final String partition, final List<String> documentIds) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entryWith(index, partition, documentIds));
+        }
+
+        final List<String> prefixes = documentIds.stream()
+                .map(documentId -> documentId + Chunks.SEPARATOR)
+                .toList();
+
+        final Stream<String> ids = Stream.concat(
+                documentIds.stream(),
+                VectorIds.stream(index, partition, prefixes, VectorIdIterator.MAX_PAGE_SIZE)
+        );
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exitWith(ids));
+        }
+
+        return ids;
+    }
+
+    /// Log a vector fetched from the dense index.
+    ///
+    /// @param  vector  io.pinecone.proto.Vector
+    private void logDenseVector(final Vector vector) {
+        final Struct metadata = vector.getMetadata();
+        final List<Float> values = vector.getValuesList();
+
+        this.logger.info("ID      : {}", vector.getId());
+        this.logger.info("Category: {}", metadata.getFieldsMap().get("category").getStringValue());
+        this.logger.info("Values  : {}", values.size());    // Number of values (dimensionality)
+    }
+
+    /// Log a vector fetched from the sparse index.
+    ///
+    /// @param  vector  io.pinecone.proto.Vector
+    private void logSparseVector(final Vector vector) {
+        final Struct metadata = vector.getMetadata();
+        final List<Float> values = vector.getSparseValues().getValuesList();
+        final List<Integer> indices = vector.getSparseValues().getIndicesList();
+
+        this.logger.info("ID      : {}", vector.getId());
+        this.logger.info("Category: {}", metadata.getFieldsMap().get("category").getStringValue());
+        this.logger.info("Values  : {}", values.size());    // Number of values (dimensionality)
+        this.logger.info("Indices : {}", indices.size());   // Number of indices (dimensionality)
+    }
+
     /// The builder class.
     public static class Builder {
         /// The Pinecone client.
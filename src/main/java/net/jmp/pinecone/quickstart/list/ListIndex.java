@@ -1,6 +1,7 @@
 package net.jmp.pinecone.quickstart.list;
 
 /*
+ * (#)ListIndex.java    0.9.0   10/18/2026
  * (#)ListIndex.java    0.4.0   06/09/2025
  * (#)ListIndex.java    0.2.0   05/22/2025
  *
@@ -32,21 +33,20 @@ package net.jmp.pinecone.quickstart.list;
 import io.pinecone.clients.Index;
 import io.pinecone.clients.Pinecone;
 
-import io.pinecone.proto.ListItem;
-import io.pinecone.proto.ListResponse;
-
-import java.util.List;
-
 import net.jmp.pinecone.quickstart.Operation;
 
+import net.jmp.pinecone.quickstart.partition.Partitions;
+
 import static net.jmp.util.logging.LoggerUtils.*;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-/// The list index class.
+/// The list index class. Lists every vector ID in
+/// the namespace, following the pages of the listing,
+/// and in each partition when the namespace is partitioned.
 ///
-/// @version    0.4.0
+/// @version    0.9.0
 /// @since      0.2.0
 public final class ListIndex extends Operation {
     /// The logger.
@@ -81,14 +81,7 @@ public final class ListIndex extends Operation {
         if (this.doesDenseIndexExist() && this.isDenseIndexLoaded()) {
             this.logger.info("Listing dense index: {}", this.denseIndexName);
 
-            try (final Index index = this.pinecone.getIndexConnection(this.denseIndexName)) {
-                final ListResponse response = index.list(this.namespace);
-                final List<ListItem> vectors = response.getVectorsList();
-
-                for (final ListItem vector : vectors) {
-                    this.logger.info("ID: {}", vector.getId());
-                }
-            }
+            this.listIds(this.denseIndexName);
         } else {
             this.logger.info("Dense index does not exist or is not loaded: {}", this.denseIndexName);
         }
@@ -96,16 +89,39 @@ public final class ListIndex extends Operation {
         if (this.doesSparseIndexExist() && this.isSparseIndexLoaded()) {
             this.logger.info("Listing sparse index: {}", this.sparseIndexName);
 
-            try (final Index index = this.pinecone.getIndexConnection(this.sparseIndexName)) {
-                final ListResponse response = index.list(this.namespace);
-                final List<ListItem> vectors = response.getVectorsList();
+            this.listIds(this.sparseIndexName);
+        } else {
+            this.logger.info("Sparse index does not exist or is not loaded: {}", this.sparseIndexName);
+        }
 
-                for (final ListItem vector : vectors) {
-                    this.logger.info("ID: {}", vector.getId());
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /// Log the ID of every vector in the namespace of an
+    /// index, partition by partition.
+    ///
+    /// @param  indexName   java.lang.String
+    private void listIds(final String indexName) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entryWith(indexName));
+        }
+
+        try (final Index index = this.pinecone.getIndexConnection(indexName)) {
+            for (final String partition : Partitions.get().partitions(index, this.namespace)) {
+                long count = 0;
+
+                try (final VectorIdIterator ids = new VectorIdIterator(index, partition, null, VectorIdIterator.MAX_PAGE_SIZE)) {
+                    while (ids.hasNext()) {
+                        this.logger.info("ID: {}", ids.next());
+
+                        count++;
+                    }
+
+                    this.logger.info("Listed {} IDs of {} in {} pages", count, partition, ids.getPages());
                 }
             }
-        } else {
-            this.logger.info("Sparse index does not exist or is not loaded: {}", this.sparseIndexName);
         }
 
         if (this.logger.isTraceEnabled()) {
@@ -0,0 +1,232 @@
+package net.jmp.pinecone.quickstart.list;
+
+/*
+ * (#)VectorIdIterator.java 0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import io.pinecone.clients.Index;
+
+import io.pinecone.proto.ListItem;
+import io.pinecone.proto.ListResponse;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+import net.jmp.pinecone.quickstart.resilience.Endpoint;
+import net.jmp.pinecone.quickstart.resilience.Resilience;
+
+import static net.jmp.util.logging.LoggerUtils.*;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/// The vector ID iterator class. Lists the IDs of every
+/// vector in a namespace, optionally only those starting
+/// with a prefix, one page at a time by following the
+/// pagination tokens. The first page is requested when the
+/// iterator is created and each following page is requested
+/// as soon as the one before it arrives, on a virtual thread,
+/// so that the next page is on its way while the current one
+/// is consumed. Close the iterator to abandon a listing early.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+public final class VectorIdIterator implements Iterator<String>, AutoCloseable {
+    /// The largest page size Pinecone allows.
+    public static final int MAX_PAGE_SIZE = 100;
+
+    /// The executor that requests pages in the background.
+    private static final Executor prefetcher = task -> Thread.ofVirtual().name("vector-id-prefetch").start(task);
+
+    /// The logger.
+    private final Logger logger = LoggerFactory.getLogger(this.getClass().getName());
+
+    /// The index.
+    private final Index index;
+
+    /// The namespace.
+    private final String namespace;
+
+    /// The ID prefix, or null for every ID.
+    private final String prefix;
+
+    /// The number of IDs on each page.
+    private final int pageSize;
+
+    /// The IDs of the current page.
+    private Iterator<ListItem> page = Collections.emptyIterator();
+
+    /// The next page, or null when there are no more.
+    private CompletableFuture<ListResponse> nextPage;
+
+    /// The number of pages received.
+    private int pages;
+
+    /// The constructor.
+    ///
+    /// @param  index       io.pinecone.clients.Index
+    /// @param  namespace   java.lang.String
+    /// @param  prefix      java.lang.String
+    /// @param  pageSize    int
+    public VectorIdIterator(final Index index, final String namespace, final String prefix, final int pageSize) {
+        super();
+
+        if (pageSize <= 0 || pageSize > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("pageSize must be from 1 to " + MAX_PAGE_SIZE + ": " + pageSize);
+        }
+
+        this.index = index;
+        this.namespace = namespace;
+        this.prefix = prefix == null || prefix.isEmpty() ? null : prefix;
+        this.pageSize = pageSize;
+        this.nextPage = this.requestPage(null);
+    }
+
+    /// Return true if there is another ID, waiting
+    /// for the next page if the current one is spent.
+    ///
+    /// @return boolean
+    @Override
+    public boolean hasNext() {
+        while (!this.page.hasNext()) {
+            if (this.nextPage == null) {
+                return false;
+            }
+
+            final ListResponse response = this.await(this.nextPage);
+            final String paginationToken = response.hasPagination() ? response.getPagination().getNext() : "";
+
+            this.nextPage = paginationToken.isEmpty() ? null : this.requestPage(paginationToken);
+            this.page = response.getVectorsList().iterator();
+            this.pages++;
+
+            if (this.logger.isDebugEnabled()) {
+                this.logger.debug("Page {} of {} has {} IDs", this.pages, this.namespace, response.getVectorsCount());
+            }
+        }
+
+        return true;
+    }
+
+    /// Return the next ID.
+    ///
+    /// @return java.lang.String
+    @Override
+    public String next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        return this.page.next().getId();
+    }
+
+    /// Return the number of pages received.
+    ///
+    /// @return int
+    public int getPages() {
+        return this.pages;
+    }
+
+    /// Abandon the listing. A page already
+    /// requested is received and discarded.
+    @Override
+    public void close() {
+        if (this.nextPage != null) {
+            this.nextPage.cancel(false);
+            this.nextPage = null;
+        }
+
+        this.page = Collections.emptyIterator();
+    }
+
+    /// Request a page in the background.
+    ///
+    /// @param  paginationToken java.lang.String
+    /// @return                 java.util.concurrent.CompletableFuture<io.pinecone.proto.ListResponse>
+    private CompletableFuture<ListResponse> requestPage(final String paginationToken) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entryWith(paginationToken));
+        }
+
+        final CompletableFuture<ListResponse> future = CompletableFuture.supplyAsync(
+                () -> Resilience.call(Endpoint.PINECONE_QUERY, () -> this.list(paginationToken)),
+                prefetcher);
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exitWith(future));
+        }
+
+        return future;
+    }
+
+    /// List a page. The Pinecone client has an overload
+    /// for each combination of prefix and token given.
+    ///
+    /// @param  paginationToken java.lang.String
+    /// @return                 io.pinecone.proto.ListResponse
+    private ListResponse list(final String paginationToken) {
+        if (this.prefix == null) {
+            return paginationToken == null
+                    ? this.index.list(this.namespace, this.pageSize)
+                    : this.index.list(this.namespace, this.pageSize, paginationToken);
+        } else {
+            return paginationToken == null
+                    ? this.index.list(this.namespace, this.prefix, this.pageSize)
+                    : this.index.list(this.namespace, this.prefix, paginationToken, this.pageSize);
+        }
+    }
+
+    /// Wait for a page, rethrowing the
+    /// failure of the request if it failed.
+    ///
+    /// @param  future  java.util.concurrent.CompletableFuture<io.pinecone.proto.ListResponse>
+    /// @return         io.pinecone.proto.ListResponse
+    private ListResponse await(final CompletableFuture<ListResponse> future) {
+        try {
+            return future.join();
+        } catch (final CompletionException ce) {
+            if (ce.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+
+            throw ce;
+        }
+    }
+
+    /// Return the string representation.
+    ///
+    /// @return java.lang.String
+    @Override
+    public String toString() {
+        return this.namespace + (this.prefix != null ? " prefix " + this.prefix : "") + " page " + this.pages;
+    }
+}
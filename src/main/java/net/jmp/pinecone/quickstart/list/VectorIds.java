@@ -0,0 +1,143 @@
+package net.jmp.pinecone.quickstart.list;
+
+/*
+ * (#)VectorIds.java    0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import io.pinecone.clients.Index;
+
+import io.pinecone.proto.ListResponse;
+
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import net.jmp.pinecone.quickstart.resilience.Endpoint;
+import net.jmp.pinecone.quickstart.resilience.Resilience;
+
+/// The vector IDs class. Streams the IDs of the vectors in
+/// a namespace lazily, page by page. The streams must be
+/// closed, as with try-with-resources, to abandon pages
+/// still being requested when a stream is not read to its end.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+public final class VectorIds {
+    /// The default constructor.
+    private VectorIds() {
+        super();
+    }
+
+    /// Stream the ID of every vector in a namespace.
+    ///
+    /// @param  index       io.pinecone.clients.Index
+    /// @param  namespace   java.lang.String
+    /// @return             java.util.stream.Stream<java.lang.String>
+    public static Stream<String> stream(final Index index, final String namespace) {
+        return stream(new VectorIdIterator(index, namespace, null, VectorIdIterator.MAX_PAGE_SIZE));
+    }
+
+    /// Stream the IDs in a namespace that start with a prefix.
+    ///
+    /// @param  index       io.pinecone.clients.Index
+    /// @param  namespace   java.lang.String
+    /// @param  prefix      java.lang.String
+    /// @param  pageSize    int
+    /// @return             java.util.stream.Stream<java.lang.String>
+    public static Stream<String> stream(final Index index,
+                                        final String namespace,
+                                        final String prefix,
+                                        final int pageSize) {
+        return stream(new VectorIdIterator(index, namespace, prefix, pageSize));
+    }
+
+    /// Stream the IDs in a namespace that start with any of
+    /// the prefixes, listing the prefixes in parallel. The
+    /// first page of every prefix is requested at once and
+    /// each prefix keeps its next page on the way, so the
+    /// stream reads the prefixes in turn while they are all
+    /// being listed. The prefixes should not overlap, or the
+    /// IDs they share are streamed more than once.
+    ///
+    /// @param  index       io.pinecone.clients.Index
+    /// @param  namespace   java.lang.String
+    /// @param  prefixes    java.util.List<java.lang.String>
+    /// @param  pageSize    int
+    /// @return             java.util.stream.Stream<java.lang.String>
+    public static Stream<String> stream(final Index index,
+                                        final String namespace,
+                                        final List<String> prefixes,
+                                        final int pageSize) {
+        final List<VectorIdIterator> iterators = prefixes.stream()
+                .map(prefix -> new VectorIdIterator(index, namespace, prefix, pageSize))
+                .toList();
+
+        return iterators.stream()
+                .flatMap(VectorIds::stream)
+                .onClose(() -> iterators.forEach(VectorIdIterator::close));
+    }
+
+    /// Return the number of vectors in a namespace,
+    /// counting them across every page.
+    ///
+    /// @param  index       io.pinecone.clients.Index
+    /// @param  namespace   java.lang.String
+    /// @return             long
+    public static long count(final Index index, final String namespace) {
+        try (final Stream<String> ids = stream(index, namespace)) {
+            return ids.count();
+        }
+    }
+
+    /// Return true if a namespace has no vectors, listing
+    /// one page of one ID in a single request. No iterator
+    /// is used, since it would request the next page too.
+    ///
+    /// @param  index       io.pinecone.clients.Index
+    /// @param  namespace   java.lang.String
+    /// @return             boolean
+    public static boolean isEmpty(final Index index, final String namespace) {
+        final ListResponse response = Resilience.call(Endpoint.PINECONE_QUERY, () -> index.list(namespace, 1));
+
+        return response.getVectorsCount() == 0;
+    }
+
+    /// Stream the IDs of an iterator.
+    ///
+    /// @param  iterator    net.jmp.pinecone.quickstart.list.VectorIdIterator
+    /// @return             java.util.stream.Stream<java.lang.String>
+    private static Stream<String> stream(final VectorIdIterator iterator) {
+        final Spliterator<String> spliterator = Spliterators.spliteratorUnknownSize(
+                iterator,
+                Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL);
+
+        return StreamSupport.stream(spliterator, false).onClose(iterator::close);
+    }
+}
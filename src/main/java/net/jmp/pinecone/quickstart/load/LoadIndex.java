@@ -1,6 +1,7 @@
 package net.jmp.pinecone.quickstart.load;
 
 /*
+ * (#)LoadIndex.java    0.9.0   10/18/2026
  * (#)LoadIndex.java    0.8.0   06/25/2025
  * (#)LoadIndex.java    0.6.0   06/17/2025
  * (#)LoadIndex.java    0.4.0   06/04/2025
@@ -31,6 +32,7 @@ package net.jmp.pinecone.quickstart.load;
  * SOFTWARE.
  */
 
+import com.google.protobuf.ListValue;
 import com.google.protobuf.Struct;
 import com.google.protobuf.Value;
 
@@ -48,17 +50,44 @@ import io.pinecone.clients.Pinecone;
 
 import static io.pinecone.commons.IndexInterface.buildUpsertVectorWithUnsignedIndices;
 
-import io.pinecone.proto.ListResponse;
 import io.pinecone.proto.UpsertResponse;
 
 import io.pinecone.unsigned_indices_model.VectorWithUnsignedIndices;
 
+import java.io.IOException;
+
 import java.util.*;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import java.util.function.ToIntBiFunction;
+
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import net.jmp.pinecone.quickstart.Operation;
 
+import net.jmp.pinecone.quickstart.chunk.Chunk;
+import net.jmp.pinecone.quickstart.chunk.ChunkParameters;
+import net.jmp.pinecone.quickstart.chunk.Chunks;
+import net.jmp.pinecone.quickstart.chunk.SentenceChunker;
+
+import net.jmp.pinecone.quickstart.list.VectorIds;
+
+import net.jmp.pinecone.quickstart.local.FlatDenseIndex;
+import net.jmp.pinecone.quickstart.local.HnswIndex;
+import net.jmp.pinecone.quickstart.local.HnswParameters;
+import net.jmp.pinecone.quickstart.local.LocalIndexes;
+import net.jmp.pinecone.quickstart.local.Metric;
+import net.jmp.pinecone.quickstart.local.PrimitiveLists;
+import net.jmp.pinecone.quickstart.local.SparseInvertedIndex;
+
+import net.jmp.pinecone.quickstart.partition.Partitions;
+
+import net.jmp.pinecone.quickstart.resilience.Endpoint;
+import net.jmp.pinecone.quickstart.resilience.Resilience;
+
 import net.jmp.pinecone.quickstart.text.UnstructuredTextDocument;
 
 import static net.jmp.util.logging.LoggerUtils.*;
@@ -74,14 +103,30 @@ import org.openapitools.inference.client.model.EmbeddingsList;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-/// The load index class.
+/// The load index class. Documents are split into overlapping
+/// chunks of whole sentences before they are embedded, so long
+/// documents are embedded in full rather than truncated. Each
+/// chunk is its own vector; its metadata names the parent
+/// document so that query results can be collapsed per document.
+/// When the namespace is partitioned, each vector of the dense
+/// and sparse indexes is written to the partition of its
+/// category or hash bucket and the partitions are loaded at once.
 ///
-/// @version    0.8.0
+/// @version    0.9.0
 /// @since      0.2.0
 public final class LoadIndex extends Operation {
+    /// The number of inputs in an embedding request.
+    private static final int EMBED_BATCH_SIZE = 96;
+
+    /// The number of vectors in an upsert request.
+    private static final int UPSERT_BATCH_SIZE = 100;
+
     /// The logger.
     private final Logger logger = LoggerFactory.getLogger(this.getClass().getName());
 
+    /// The sentence chunker.
+    private final SentenceChunker chunker;
+
     /// The constructor.
     ///
     /// @param  builder net.jmp.pinecone.quickstart.load.LoadIndex.Builder
@@ -98,7 +143,11 @@ public final class LoadIndex extends Operation {
                 .mongoClient(builder.mongoClient)
                 .collectionName(builder.collectionName)
                 .dbName(builder.dbName)
+                .localIndexDir(builder.localIndexDir)
+                .hnswParameters(builder.hnswParameters)
         );
+
+        this.chunker = new SentenceChunker(ChunkParameters.parse(builder.chunkParameters));
     }
 
     /// Return the builder.
@@ -131,20 +180,23 @@ public final class LoadIndex extends Operation {
         }
 
         if (this.doesDenseIndexExist() && !this.isDenseIndexLoaded()) {
-            final List<UnstructuredTextDocument> documents = this.createContent();
+            LocalIndexes.deleteDenseIndexes(this.localIndexDir, this.denseIndexName, this.namespace);
+
+            final List<Chunk> chunks = this.createChunks();
+            final List<UnstructuredTextDocument> documents = this.chunkDocuments(chunks);
             final List<Embedding> embeddings = this.createEmbeddings(documents, this.denseEmbeddingModel);
-            final List<Struct> metadata = this.createMetadata(documents);
+            final List<Struct> metadata = this.createMetadata(chunks);
 
             assert embeddings.size() == metadata.size();
 
-            final List<VectorWithUnsignedIndices> vectors = new ArrayList<>(embeddings.size());
+            final Map<String, List<VectorWithUnsignedIndices>> partitions = new TreeMap<>();
 
             for (int i = 0; i < embeddings.size(); i++) {
                 final Embedding embedding = embeddings.get(i);
                 final Struct metadataStruct = metadata.get(i);
-                final String vectorId = metadataStruct.getFieldsMap().get("documentid").getStringValue();
+                final String vectorId = chunks.get(i).getId();
 
-                vectors.add(
+                partitions.computeIfAbsent(this.partitionOf(chunks.get(i)), partition -> new ArrayList<>()).add(
                         buildUpsertVectorWithUnsignedIndices(
                                 vectorId,
                                 embedding.getDenseEmbedding().getValues(),
@@ -158,12 +210,28 @@ public final class LoadIndex extends Operation {
             this.logger.info("Loading dense index: {}", this.denseIndexName);
 
             try (final Index index = this.pinecone.getIndexConnection(this.denseIndexName)) {
-                final UpsertResponse result = index.upsert(vectors, this.namespace);
-                final int upsertedCount = result.getUpsertedCount();
-                final int serializedSize = result.getSerializedSize();
+                final int totalUpsertedCount = this.upsertPartitions(partitions, (partition, vectors) -> {
+                    int upsertedCount = 0;
+
+                    for (int from = 0; from < vectors.size(); from += UPSERT_BATCH_SIZE) {
+                        final List<VectorWithUnsignedIndices> batch = vectors.subList(from, Math.min(from + UPSERT_BATCH_SIZE, vectors.size()));
+                        final UpsertResponse result = Resilience.call(Endpoint.PINECONE_WRITE, () -> index.upsert(batch, partition));
+
+                        upsertedCount += result.getUpsertedCount();
+
+                        if (this.logger.isDebugEnabled()) {
+                            this.logger.debug("Serialized size: {}", result.getSerializedSize());
+                        }
+                    }
+
+                    return upsertedCount;
+                });
 
-                this.logger.info("Upserted {} vectors", upsertedCount);
-                this.logger.info("Serialized size: {}", serializedSize);
+                this.logger.info("Upserted {} vectors", totalUpsertedCount);
+            }
+
+            if (LocalIndexes.isEnabled(this.localIndexDir)) {
+                this.saveLocalDenseIndexes(chunks, embeddings);
             }
         } else {
             this.logger.info("Dense index either does not exist or is already loaded: {}", this.denseIndexName);
@@ -174,7 +242,114 @@ public final class LoadIndex extends Operation {
         }
     }
 
-    /// Load the searchable index.
+    /// Save the dense vectors to the local indexes. A flat
+    /// index is saved when the namespace fits in memory so
+    /// that queries can be answered exactly without a round
+    /// trip to Pinecone. An HNSW index is always saved; it is
+    /// memory-mapped at query time and answers when Pinecone
+    /// is slow or unavailable. Each vector is kept under its
+    /// chunk identifier, as it is in Pinecone.
+    ///
+    /// @param  chunks      java.util.List<net.jmp.pinecone.quickstart.chunk.Chunk>
+    /// @param  embeddings  java.util.List<org.openapitools.inference.client.model.Embedding>
+    private void saveLocalDenseIndexes(final List<Chunk> chunks, final List<Embedding> embeddings) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entryWith(chunks, embeddings));
+        }
+
+        if (!embeddings.isEmpty()) {
+            final int dimension = embeddings.getFirst().getDenseEmbedding().getValues().size();
+
+            /* Unbox the embeddings once; both local indexes read the same arrays */
+
+            final float[][] vectors = new float[embeddings.size()][];
+
+            int i = 0;
+
+            for (final Embedding embedding : embeddings) {
+                vectors[i++] = PrimitiveLists.toFloatArray(embedding.getDenseEmbedding().getValues());
+            }
+
+            try {
+                if (FlatDenseIndex.fitsInMemory((long) vectors.length * dimension * Float.BYTES)) {
+                    this.saveFlatDenseIndex(chunks, vectors, dimension);
+                } else {
+                    this.logger.info("Namespace is too large for a local flat index: {}", this.namespace);
+
+                    LocalIndexes.deleteFlatDenseIndex(this.localIndexDir, this.denseIndexName, this.namespace);
+                }
+
+                this.saveHnswIndex(chunks, vectors, dimension);
+            } catch (final IOException ioe) {
+                this.logger.error(catching(ioe));
+            }
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /// Save the dense vectors to a local flat index.
+    ///
+    /// @param  chunks      java.util.List<net.jmp.pinecone.quickstart.chunk.Chunk>
+    /// @param  vectors     float[][]
+    /// @param  dimension   int
+    /// @throws             java.io.IOException
+    private void saveFlatDenseIndex(final List<Chunk> chunks,
+                                    final float[][] vectors,
+                                    final int dimension) throws IOException {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entryWith(chunks, vectors, dimension));
+        }
+
+        final FlatDenseIndex flatDenseIndex = new FlatDenseIndex(dimension, Metric.COSINE, vectors.length);
+
+        int i = 0;
+
+        for (final Chunk chunk : chunks) {
+            flatDenseIndex.add(chunk.getId(), chunk.getDocument(), vectors[i++]);
+        }
+
+        LocalIndexes.saveFlatDenseIndex(this.localIndexDir, this.denseIndexName, this.namespace, flatDenseIndex);
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /// Save the dense vectors to a local HNSW index.
+    /// The vectors are inserted concurrently.
+    ///
+    /// @param  chunks      java.util.List<net.jmp.pinecone.quickstart.chunk.Chunk>
+    /// @param  vectors     float[][]
+    /// @param  dimension   int
+    /// @throws             java.io.IOException
+    private void saveHnswIndex(final List<Chunk> chunks,
+                               final float[][] vectors,
+                               final int dimension) throws IOException {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entryWith(chunks, vectors, dimension));
+        }
+
+        final HnswIndex hnswIndex = new HnswIndex(dimension,
+                Metric.COSINE,
+                HnswParameters.parse(this.hnswParameters),
+                vectors.length);
+
+        IntStream.range(0, chunks.size())
+                .parallel()
+                .forEach(i -> hnswIndex.add(chunks.get(i).getId(), chunks.get(i).getDocument(), vectors[i]));
+
+        LocalIndexes.saveHnswIndex(this.localIndexDir, this.denseIndexName, this.namespace, hnswIndex);
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /// Load the searchable index, upserting the records
+    /// in batches.
     private void loadSearchableIndex() {
         if (this.logger.isTraceEnabled()) {
             this.logger.trace(entry());
@@ -183,13 +358,14 @@ public final class LoadIndex extends Operation {
         if (this.doesSearchableIndexExist() && !this.isSearchableIndexLoaded()) {
             this.logger.info("Loading searchable index: {}", this.searchableIndexName);
 
-            List<Map<String, String>> upsertRecords = new ArrayList<>();
-            final List<UnstructuredTextDocument> documents = this.createContent();
+            final List<Map<String, String>> upsertRecords = new ArrayList<>();
+            final List<Chunk> chunks = this.createChunks();
 
-            for (final UnstructuredTextDocument document : documents) {
+            for (final Chunk chunk : chunks) {
+                final UnstructuredTextDocument document = chunk.getDocument();
                 final Map<String, String> upsertRecord = new HashMap<>();
 
-                upsertRecord.put("_id", document.getDocumentId());
+                upsertRecord.put("_id", chunk.getId());
                 upsertRecord.put("text_segment", document.getContent());
                 upsertRecord.put("category", document.getCategory());
                 upsertRecord.put("documentid", document.getDocumentId());
@@ -199,10 +375,17 @@ public final class LoadIndex extends Operation {
             }
 
             try (final Index index = this.pinecone.getIndexConnection(this.searchableIndexName)) {
-                index.upsertRecords(this.namespace, upsertRecords);
+                for (int from = 0; from < upsertRecords.size(); from += UPSERT_BATCH_SIZE) {
+                    final List<Map<String, String>> batch = upsertRecords.subList(from, Math.min(from + UPSERT_BATCH_SIZE, upsertRecords.size()));
 
-                final ListResponse response = index.list(namespace);
-                final int vectorsCount = response.getVectorsCount();
+                    Resilience.call(Endpoint.PINECONE_WRITE, () -> {
+                        index.upsertRecords(this.namespace, batch);
+
+                        return null;
+                    });
+                }
+
+                final long vectorsCount = VectorIds.count(index, this.namespace);
 
                 this.logger.info("Upserted {} records", vectorsCount);
             } catch (final org.openapitools.db_data.client.ApiException ae) {
@@ -224,48 +407,65 @@ public final class LoadIndex extends Operation {
         }
 
         if (this.doesSparseIndexExist() && !this.isSparseIndexLoaded()) {
-            final List<UnstructuredTextDocument> documents = this.createContent();
+            LocalIndexes.deleteSparseInvertedIndex(this.localIndexDir, this.sparseIndexName, this.namespace);
+
+            final List<Chunk> chunks = this.createChunks();
+            final List<UnstructuredTextDocument> documents = this.chunkDocuments(chunks);
             final List<Embedding> sparseEmbeddings = this.createEmbeddings(documents, this.sparseEmbeddingModel);
-            final List<Struct> metadata = this.createMetadata(documents);
+            final List<Struct> metadata = this.createMetadata(chunks);
 
             assert sparseEmbeddings.size() == metadata.size();
 
             this.logger.info("Loading sparse index: {}", this.sparseIndexName);
 
+            final Map<String, List<Integer>> partitions = new TreeMap<>();
+
+            for (int i = 0; i < chunks.size(); i++) {
+                partitions.computeIfAbsent(this.partitionOf(chunks.get(i)), partition -> new ArrayList<>()).add(i);
+            }
+
             try (final Index index = this.pinecone.getIndexConnection(this.sparseIndexName)) {
-                int totalUpsertedCount = 0;
+                final int totalUpsertedCount = this.upsertPartitions(partitions, (partition, positions) -> {
+                    int partitionUpsertedCount = 0;
 
-                for (int i = 0; i < sparseEmbeddings.size(); i++) {
-                    final Embedding sparseEmbedding = sparseEmbeddings.get(i);
-                    final Struct metadataStruct = metadata.get(i);
-                    final String vectorId = metadataStruct.getFieldsMap().get("documentid").getStringValue();
+                    for (final int i : positions) {
+                        final Embedding sparseEmbedding = sparseEmbeddings.get(i);
+                        final Struct metadataStruct = metadata.get(i);
+                        final String vectorId = chunks.get(i).getId();
 
-                    final List<Long> sparseIndices = sparseEmbedding.getSparseEmbedding().getSparseIndices();
-                    final List<Float> sparseValues = sparseEmbedding.getSparseEmbedding().getSparseValues();
+                        final List<Long> sparseIndices = sparseEmbedding.getSparseEmbedding().getSparseIndices();
+                        final List<Float> sparseValues = sparseEmbedding.getSparseEmbedding().getSparseValues();
 
-                    final UpsertResponse result = index.upsert(
-                            vectorId,
-                            Collections.emptyList(),
-                            sparseIndices,
-                            sparseValues,
-                            metadataStruct,
-                            this.namespace
-                    );
+                        final UpsertResponse result = Resilience.call(Endpoint.PINECONE_WRITE, () -> index.upsert(
+                                vectorId,
+                                Collections.emptyList(),
+                                sparseIndices,
+                                sparseValues,
+                                metadataStruct,
+                                partition
+                        ));
 
-                    final int upsertedCount = result.getUpsertedCount();
+                        final int upsertedCount = result.getUpsertedCount();
 
-                    totalUpsertedCount += upsertedCount;
+                        partitionUpsertedCount += upsertedCount;
 
-                    if (this.logger.isDebugEnabled()) {
-                        final int serializedSize = result.getSerializedSize();
+                        if (this.logger.isDebugEnabled()) {
+                            final int serializedSize = result.getSerializedSize();
 
-                        this.logger.debug("Upserted {} vectors", upsertedCount);
-                        this.logger.debug("Serialized size: {}", serializedSize);
+                            this.logger.debug("Upserted {} vectors", upsertedCount);
+                            this.logger.debug("Serialized size: {}", serializedSize);
+                        }
                     }
-                }
+
+                    return partitionUpsertedCount;
+                });
 
                 this.logger.info("Upserted {} total vectors", totalUpsertedCount);
             }
+
+            if (LocalIndexes.isEnabled(this.localIndexDir)) {
+                this.saveLocalSparseIndex(chunks, sparseEmbeddings);
+            }
         } else {
             this.logger.info("Sparse index either does not exist or is already loaded: {}", this.sparseIndexName);
         }
@@ -275,6 +475,139 @@ public final class LoadIndex extends Operation {
         }
     }
 
+    /// Save the sparse vectors to a local inverted index so
+    /// that sparse queries can be answered without a round
+    /// trip to Pinecone. Each vector is kept under its chunk
+    /// identifier, as it is in Pinecone.
+    ///
+    /// @param  chunks              java.util.List<net.jmp.pinecone.quickstart.chunk.Chunk>
+    /// @param  sparseEmbeddings    java.util.List<org.openapitools.inference.client.model.Embedding>
+    private void saveLocalSparseIndex(final List<Chunk> chunks, final List<Embedding> sparseEmbeddings) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entryWith(chunks, sparseEmbeddings));
+        }
+
+        final SparseInvertedIndex.Builder builder = SparseInvertedIndex.builder();
+
+        int i = 0;
+
+        for (final Chunk chunk : chunks) {
+            final Embedding sparseEmbedding = sparseEmbeddings.get(i++);
+
+            builder.add(chunk.getId(),
+                    chunk.getDocument(),
+                    sparseEmbedding.getSparseEmbedding().getSparseIndices(),
+                    sparseEmbedding.getSparseEmbedding().getSparseValues());
+        }
+
+        try {
+            LocalIndexes.saveSparseInvertedIndex(this.localIndexDir, this.sparseIndexName, this.namespace, builder.build());
+        } catch (final IOException ioe) {
+            this.logger.error(catching(ioe));
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /// Return the partition of the namespace a chunk is written to.
+    ///
+    /// @param  chunk   net.jmp.pinecone.quickstart.chunk.Chunk
+    /// @return         java.lang.String
+    private String partitionOf(final Chunk chunk) {
+        return Partitions.get().partitionOf(this.namespace, chunk.getDocument().getCategory(), chunk.getParentId());
+    }
+
+    /// Upsert the vectors of each partition at once, each on
+    /// a virtual thread, and return the number upserted. The
+    /// vectors of a single partition are upserted on this thread.
+    ///
+    /// @param  <T>         The type of vector
+    /// @param  partitions  java.util.Map<java.lang.String, java.util.List<T>>
+    /// @param  upsert      java.util.function.ToIntBiFunction<java.lang.String, java.util.List<T>>
+    /// @return             int
+    private <T> int upsertPartitions(final Map<String, List<T>> partitions,
+                                     final ToIntBiFunction<String, List<T>> upsert) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entryWith(partitions.keySet(), upsert));
+        }
+
+        int upsertedCount = 0;
+
+        if (partitions.size() == 1) {
+            final Map.Entry<String, List<T>> partition = partitions.entrySet().iterator().next();
+
+            upsertedCount = upsert.applyAsInt(partition.getKey(), partition.getValue());
+        } else {
+            this.logger.info("Loading {} partitions: {}", partitions.size(), partitions.keySet());
+
+            final List<CompletableFuture<Integer>> futures = new ArrayList<>(partitions.size());
+
+            for (final Map.Entry<String, List<T>> partition : partitions.entrySet()) {
+                futures.add(CompletableFuture.supplyAsync(() -> upsert.applyAsInt(partition.getKey(), partition.getValue()),
+                        runnable -> Thread.ofVirtual().start(runnable)));
+            }
+
+            try {
+                for (final CompletableFuture<Integer> future : futures) {
+                    upsertedCount += future.join();
+                }
+            } catch (final CompletionException ce) {
+                if (ce.getCause() instanceof RuntimeException re) {
+                    throw re;
+                }
+
+                throw ce;
+            }
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exitWith(upsertedCount));
+        }
+
+        return upsertedCount;
+    }
+
+    /// Split the content from the database into chunks.
+    ///
+    /// @return  java.util.List<net.jmp.pinecone.quickstart.chunk.Chunk>
+    private List<Chunk> createChunks() {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        final List<Chunk> chunks = Chunks.chunkAll(this.createContent(), this.chunker);
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exitWith(chunks));
+        }
+
+        return chunks;
+    }
+
+    /// Return the documents of the chunks, whose content is the chunk text.
+    ///
+    /// @param  chunks  java.util.List<net.jmp.pinecone.quickstart.chunk.Chunk>
+    /// @return         java.util.List<net.jmp.pinecone.quickstart.text.UnstructuredTextDocument>
+    private List<UnstructuredTextDocument> chunkDocuments(final List<Chunk> chunks) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entryWith(chunks));
+        }
+
+        final List<UnstructuredTextDocument> documents = new ArrayList<>(chunks.size());
+
+        for (final Chunk chunk : chunks) {
+            documents.add(chunk.getDocument());
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exitWith(documents));
+        }
+
+        return documents;
+    }
+
     /// Create content from the database.
     ///
     /// @return  java.util.List<net.jmp.pinecone.quickstart.text.UnstructuredTextDocument>
@@ -291,7 +624,7 @@ public final class LoadIndex extends Operation {
         final MongoCollection<Document> collection = database.getCollection(this.collectionName);
 
         final Bson projectionFields = Projections.fields(
-                Projections.include("id", "content", "category")
+                Projections.include("id", "content", "category", "keywords")
         );
 
         try (final MongoCursor<Document> cursor = collection
@@ -309,15 +642,17 @@ public final class LoadIndex extends Operation {
                 final String documentId = document.get("id").toString();
                 final String content = document.get("content").toString();
                 final String category = document.get("category").toString();
+                final List<String> keywords = document.getList("keywords", String.class, List.of());
 
                 if (this.logger.isDebugEnabled()) {
                     this.logger.debug("MongoId : {}", mongoId);
                     this.logger.debug("DocId   : {}", documentId);
                     this.logger.debug("Content : {}", content);
                     this.logger.debug("Category: {}", category);
+                    this.logger.debug("Keywords: {}", keywords);
                 }
 
-                documents.add(new UnstructuredTextDocument(mongoId, documentId, content, category));
+                documents.add(new UnstructuredTextDocument(mongoId, documentId, content, category, keywords));
             }
         }
 
@@ -328,7 +663,10 @@ public final class LoadIndex extends Operation {
         return documents;
     }
 
-    /// Create embeddings.
+    /// Create embeddings. The inputs are sent in batches so
+    /// that documents split into many chunks stay within the
+    /// inference request limit; if any batch fails no
+    /// embeddings are returned.
     ///
     /// @param  documents       java.util.List<net.jmp.pinecone.quickstart.text.UnstructuredTextDocument>
     /// @param  embeddingModel  java.lang.String
@@ -360,16 +698,24 @@ public final class LoadIndex extends Operation {
             this.logger.debug("Embedding text: {}", inputs);
         }
 
-        EmbeddingsList embeddings = null;
+        for (int from = 0; from < inputs.size(); from += EMBED_BATCH_SIZE) {
+            final List<String> batch = inputs.subList(from, Math.min(from + EMBED_BATCH_SIZE, inputs.size()));
 
-        try {
-            embeddings = client.embed(embeddingModel, parameters, inputs);
-        } catch (ApiException e) {
-            this.logger.error(e.getMessage());
-        }
+            EmbeddingsList embeddings = null;
+
+            try {
+                embeddings = Resilience.call(Endpoint.INFERENCE_EMBED, () -> client.embed(embeddingModel, parameters, batch));
+            } catch (ApiException e) {
+                this.logger.error(e.getMessage());
+            }
+
+            if (embeddings == null) {
+                embeddingList = new ArrayList<>();
 
-        if (embeddings != null) {
-            embeddingList = embeddings.getData();
+                break;
+            }
+
+            embeddingList.addAll(embeddings.getData());
 
             if (this.logger.isDebugEnabled()) {
                 this.logger.debug("Embeddings: {}", embeddings.toJson());
@@ -383,25 +729,39 @@ public final class LoadIndex extends Operation {
         return embeddingList;
     }
 
-    /// Create metadata.
+    /// Create metadata. The document identifier is that of
+    /// the parent document and the chunk is the position of
+    /// the chunk in it. The keywords extracted from the parent
+    /// document when it was stored are added for filtering.
     ///
-    /// @param  documents   java.util.List<net.jmp.pinecone.quickstart.text.UnstructuredTextDocument>
-    /// @return             java.util.List<com.google.protobuf.Struct>
-    private List<Struct> createMetadata(final List<UnstructuredTextDocument> documents) {
+    /// @param  chunks  java.util.List<net.jmp.pinecone.quickstart.chunk.Chunk>
+    /// @return         java.util.List<com.google.protobuf.Struct>
+    private List<Struct> createMetadata(final List<Chunk> chunks) {
         if (this.logger.isTraceEnabled()) {
-            this.logger.trace(entryWith(documents));
+            this.logger.trace(entryWith(chunks));
         }
 
         List<Struct> metadataList = new ArrayList<>();
 
-        for (final UnstructuredTextDocument document : documents) {
-            final Struct metadataStruct = Struct.newBuilder()
+        for (final Chunk chunk : chunks) {
+            final UnstructuredTextDocument document = chunk.getDocument();
+            final Struct.Builder metadataBuilder = Struct.newBuilder()
                     .putFields("mongoid", Value.newBuilder().setStringValue(document.getMongoId()).build())
                     .putFields("documentid", Value.newBuilder().setStringValue(document.getDocumentId()).build())
                     .putFields("category", Value.newBuilder().setStringValue(document.getCategory()).build())
-                    .build();
+                    .putFields("chunk", Value.newBuilder().setNumberValue(chunk.getIndex()).build());
+
+            if (!document.getKeywords().isEmpty()) {
+                final ListValue.Builder keywords = ListValue.newBuilder();
+
+                for (final String keyword : document.getKeywords()) {
+                    keywords.addValues(Value.newBuilder().setStringValue(keyword).build());
+                }
+
+                metadataBuilder.putFields("keywords", Value.newBuilder().setListValue(keywords).build());
+            }
 
-            metadataList.add(metadataStruct);
+            metadataList.add(metadataBuilder.build());
         }
 
         if (this.logger.isDebugEnabled()) {
@@ -450,6 +810,15 @@ public final class LoadIndex extends Operation {
         /// The database name.
         private String dbName;
 
+        /// The local index directory.
+        private String localIndexDir;
+
+        /// The HNSW parameters.
+        private String hnswParameters;
+
+        /// The chunking parameters.
+        private String chunkParameters;
+
         /// The default constructor.
         public Builder() {
             super();
@@ -565,6 +934,36 @@ public final class LoadIndex extends Operation {
             return this;
         }
 
+        /// Set the local index directory.
+        ///
+        /// @param  localIndexDir   java.lang.String
+        /// @return                 net.jmp.pinecone.quickstart.load.LoadIndex.Builder
+        public Builder localIndexDir(final String localIndexDir) {
+            this.localIndexDir = localIndexDir;
+
+            return this;
+        }
+
+        /// Set the HNSW parameters.
+        ///
+        /// @param  hnswParameters  java.lang.String
+        /// @return                 net.jmp.pinecone.quickstart.load.LoadIndex.Builder
+        public Builder hnswParameters(final String hnswParameters) {
+            this.hnswParameters = hnswParameters;
+
+            return this;
+        }
+
+        /// Set the chunking parameters.
+        ///
+        /// @param  chunkParameters java.lang.String
+        /// @return                 net.jmp.pinecone.quickstart.load.LoadIndex.Builder
+        public Builder chunkParameters(final String chunkParameters) {
+            this.chunkParameters = chunkParameters;
+
+            return this;
+        }
+
         /// Build the load index.
         ///
         /// @return net.jmp.pinecone.quickstart.load.LoadIndex
@@ -0,0 +1,110 @@
+package net.jmp.pinecone.quickstart.local;
+
+/*
+ * (#)CategoryDictionary.java   0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.*;
+
+/// The category dictionary class. Categories are
+/// dictionary-encoded to small integers so that the
+/// local indexes can filter on them without string
+/// comparisons in the scoring loops.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+final class CategoryDictionary {
+    /// The ordinals by category.
+    private final Map<String, Integer> ordinals = new HashMap<>();
+
+    /// The categories by ordinal.
+    private final List<String> categories = new ArrayList<>();
+
+    /// The default constructor.
+    CategoryDictionary() {
+        super();
+    }
+
+    /// Return the ordinal of a category, adding it if necessary.
+    ///
+    /// @param  category    java.lang.String
+    /// @return             int
+    int encode(final String category) {
+        final String key = category == null ? "" : category;
+
+        return this.ordinals.computeIfAbsent(key, k -> {
+            this.categories.add(k);
+
+            return this.categories.size() - 1;
+        });
+    }
+
+    /// Return the category for an ordinal.
+    ///
+    /// @param  ordinal int
+    /// @return         java.lang.String
+    String decode(final int ordinal) {
+        return this.categories.get(ordinal);
+    }
+
+    /// Return a mask of the ordinals that match the
+    /// categories, or null if there is no restriction.
+    ///
+    /// @param  categories  java.util.Set<java.lang.String>
+    /// @return             boolean[]
+    boolean[] mask(final Set<String> categories) {
+        if (categories == null || categories.isEmpty()) {
+            return null;
+        }
+
+        final boolean[] mask = new boolean[this.categories.size()];
+
+        for (final String category : categories) {
+            final Integer ordinal = this.ordinals.get(category);
+
+            if (ordinal != null) {
+                mask[ordinal] = true;
+            }
+        }
+
+        return mask;
+    }
+
+    /// Return the categories in ordinal order.
+    ///
+    /// @return java.util.List<java.lang.String>
+    List<String> categories() {
+        return Collections.unmodifiableList(this.categories);
+    }
+
+    /// Return the number of categories.
+    ///
+    /// @return int
+    int size() {
+        return this.categories.size();
+    }
+}
@@ -0,0 +1,58 @@
+package net.jmp.pinecone.quickstart.local;
+
+/*
+ * (#)DenseSearcher.java    0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.List;
+import java.util.Set;
+
+/// The dense searcher interface. Implemented by the
+/// local indexes that can answer a dense vector query
+/// in place of the Pinecone dense index.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+public interface DenseSearcher {
+    /// Search the index.
+    ///
+    /// @param  query       float[]
+    /// @param  topK        int
+    /// @param  categories  java.util.Set<java.lang.String>
+    /// @return             java.util.List<net.jmp.pinecone.quickstart.local.LocalMatch>
+    List<LocalMatch> search(float[] query, int topK, Set<String> categories);
+
+    /// Return the number of vectors.
+    ///
+    /// @return int
+    int size();
+
+    /// Return the dimension.
+    ///
+    /// @return int
+    int getDimension();
+}
@@ -0,0 +1,415 @@
+package net.jmp.pinecone.quickstart.local;
+
+/*
+ * (#)FlatDenseIndex.java   0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.io.IOException;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+
+import java.nio.channels.FileChannel;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import java.util.*;
+
+import java.util.stream.IntStream;
+
+import net.jmp.pinecone.quickstart.text.UnstructuredTextDocument;
+
+/// The flat dense index class. An exact k-nearest-neighbour
+/// index that keeps every vector in one contiguous float array
+/// and scores all of them with the SIMD kernels in VectorMath.
+///
+/// The index is built by a single thread and is read-only
+/// afterward, so searches may run concurrently.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+public final class FlatDenseIndex implements DenseSearcher {
+    /// The file magic number.
+    private static final int MAGIC = 0x464C4154;    // FLAT
+
+    /// The file format version.
+    private static final int FORMAT_VERSION = 3;
+
+    /// The smallest partition worth scanning on its own core.
+    private static final int MIN_PARTITION_SIZE = 2048;
+
+    /// The fraction of the maximum heap a flat index may occupy.
+    private static final int HEAP_FRACTION = 4;
+
+    /// The dimension.
+    private final int dimension;
+
+    /// The metric.
+    private final Metric metric;
+
+    /// The category dictionary.
+    private final CategoryDictionary categoryDictionary = new CategoryDictionary();
+
+    /// The vectors, one row of dimension floats per document.
+    private float[] vectors;
+
+    /// The inverse norm of each row, used for cosine similarity.
+    private float[] inverseNorms;
+
+    /// The category ordinal of each row.
+    private int[] categoryOrdinals;
+
+    /// The vector identifier of each row.
+    private String[] vectorIds;
+
+    /// The document of each row.
+    private UnstructuredTextDocument[] documents;
+
+    /// The number of rows.
+    private int size;
+
+    /// The constructor.
+    ///
+    /// @param  dimension   int
+    /// @param  metric      net.jmp.pinecone.quickstart.local.Metric
+    public FlatDenseIndex(final int dimension, final Metric metric) {
+        this(dimension, metric, 16);
+    }
+
+    /// The constructor.
+    ///
+    /// @param  dimension   int
+    /// @param  metric      net.jmp.pinecone.quickstart.local.Metric
+    /// @param  capacity    int
+    public FlatDenseIndex(final int dimension, final Metric metric, final int capacity) {
+        super();
+
+        if (dimension <= 0) {
+            throw new IllegalArgumentException("Dimension must be positive: " + dimension);
+        }
+
+        this.dimension = dimension;
+        this.metric = Objects.requireNonNull(metric);
+        this.vectors = new float[Math.max(1, capacity) * dimension];
+        this.inverseNorms = new float[Math.max(1, capacity)];
+        this.categoryOrdinals = new int[Math.max(1, capacity)];
+        this.vectorIds = new String[Math.max(1, capacity)];
+        this.documents = new UnstructuredTextDocument[Math.max(1, capacity)];
+    }
+
+    /// Return true if an index file of the given
+    /// size fits comfortably in the current heap.
+    ///
+    /// @param  bytes   long
+    /// @return         boolean
+    public static boolean fitsInMemory(final long bytes) {
+        return bytes <= Runtime.getRuntime().maxMemory() / HEAP_FRACTION;
+    }
+
+    /// Add a vector.
+    ///
+    /// @param  vectorId    java.lang.String
+    /// @param  document    net.jmp.pinecone.quickstart.text.UnstructuredTextDocument
+    /// @param  values      float[]
+    /// @return             int
+    public int add(final String vectorId, final UnstructuredTextDocument document, final float[] values) {
+        if (values.length != this.dimension) {
+            throw new IllegalArgumentException("Expected " + this.dimension + " dimensions but found " + values.length);
+        }
+
+        this.ensureCapacity(this.size + 1);
+
+        final int ordinal = this.size++;
+        final int offset = ordinal * this.dimension;
+
+        System.arraycopy(values, 0, this.vectors, offset, this.dimension);
+
+        final float norm = VectorMath.norm(this.vectors, offset, this.dimension);
+
+        this.inverseNorms[ordinal] = norm == 0.0f ? 0.0f : 1.0f / norm;
+        this.categoryOrdinals[ordinal] = this.categoryDictionary.encode(document.getCategory());
+        this.vectorIds[ordinal] = vectorId;
+        this.documents[ordinal] = document;
+
+        return ordinal;
+    }
+
+    /// Add a vector.
+    ///
+    /// @param  vectorId    java.lang.String
+    /// @param  document    net.jmp.pinecone.quickstart.text.UnstructuredTextDocument
+    /// @param  values      java.util.List<java.lang.Float>
+    /// @return             int
+    public int add(final String vectorId, final UnstructuredTextDocument document, final List<Float> values) {
+        return this.add(vectorId, document, PrimitiveLists.toFloatArray(values));
+    }
+
+    /// Search the index.
+    ///
+    /// @param  query       float[]
+    /// @param  topK        int
+    /// @param  categories  java.util.Set<java.lang.String>
+    /// @return             java.util.List<net.jmp.pinecone.quickstart.local.LocalMatch>
+    @Override
+    public List<LocalMatch> search(final float[] query, final int topK, final Set<String> categories) {
+        if (query.length != this.dimension) {
+            throw new IllegalArgumentException("Expected " + this.dimension + " dimensions but found " + query.length);
+        }
+
+        if (this.size == 0) {
+            return List.of();
+        }
+
+        final boolean[] mask = this.categoryDictionary.mask(categories);
+        final float queryNorm = VectorMath.norm(query);
+        final float queryScale = (this.metric == Metric.COSINE && queryNorm != 0.0f) ? 1.0f / queryNorm : 1.0f;
+
+        final int partitions = Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(),
+                this.size / MIN_PARTITION_SIZE));
+        final int partitionSize = (this.size + partitions - 1) / partitions;
+
+        final TopK best;
+
+        if (partitions == 1) {
+            best = this.scan(query, queryScale, mask, topK, 0, this.size);
+        } else {
+            best = IntStream.range(0, partitions)
+                    .parallel()
+                    .mapToObj(p -> this.scan(query,
+                            queryScale,
+                            mask,
+                            topK,
+                            p * partitionSize,
+                            Math.min(this.size, (p + 1) * partitionSize)))
+                    .reduce(TopK::merge)
+                    .orElseGet(() -> new TopK(topK));
+        }
+
+        final int[] ordinals = best.ordinals();
+        final float[] scores = best.scores();
+        final List<LocalMatch> matches = new ArrayList<>(ordinals.length);
+
+        for (int i = 0; i < ordinals.length; i++) {
+            matches.add(new LocalMatch(this.vectorIds[ordinals[i]], this.documents[ordinals[i]], scores[i]));
+        }
+
+        return matches;
+    }
+
+    /// Scan one partition of the rows.
+    ///
+    /// @param  query       float[]
+    /// @param  queryScale  float
+    /// @param  mask        boolean[]
+    /// @param  topK        int
+    /// @param  from        int
+    /// @param  to          int
+    /// @return             net.jmp.pinecone.quickstart.local.TopK
+    private TopK scan(final float[] query,
+                      final float queryScale,
+                      final boolean[] mask,
+                      final int topK,
+                      final int from,
+                      final int to) {
+        final TopK best = new TopK(topK);
+        final boolean cosine = this.metric == Metric.COSINE;
+
+        for (int ordinal = from; ordinal < to; ordinal++) {
+            if (mask != null && !mask[this.categoryOrdinals[ordinal]]) {
+                continue;
+            }
+
+            float score = VectorMath.dotProduct(query, this.vectors, ordinal * this.dimension, this.dimension);
+
+            if (cosine) {
+                score *= queryScale * this.inverseNorms[ordinal];
+            }
+
+            best.offer(ordinal, score);
+        }
+
+        return best;
+    }
+
+    /// Return the number of vectors.
+    ///
+    /// @return int
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    /// Return the dimension.
+    ///
+    /// @return int
+    @Override
+    public int getDimension() {
+        return this.dimension;
+    }
+
+    /// Return the metric.
+    ///
+    /// @return net.jmp.pinecone.quickstart.local.Metric
+    public Metric getMetric() {
+        return this.metric;
+    }
+
+    /// Return the document stored at an ordinal.
+    ///
+    /// @param  ordinal int
+    /// @return         net.jmp.pinecone.quickstart.text.UnstructuredTextDocument
+    public UnstructuredTextDocument getDocument(final int ordinal) {
+        Objects.checkIndex(ordinal, this.size);
+
+        return this.documents[ordinal];
+    }
+
+    /// Copy the vector stored at an ordinal.
+    ///
+    /// @param  ordinal int
+    /// @return         float[]
+    public float[] getVector(final int ordinal) {
+        Objects.checkIndex(ordinal, this.size);
+
+        return Arrays.copyOfRange(this.vectors, ordinal * this.dimension, (ordinal + 1) * this.dimension);
+    }
+
+    /// Save the index to a file.
+    ///
+    /// @param  path    java.nio.file.Path
+    /// @throws         java.io.IOException
+    public void save(final Path path) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+
+        try (final SegmentWriter out = new SegmentWriter(Files.newOutputStream(path))) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeInt(this.dimension);
+            out.writeInt(this.metric.ordinal());
+            out.writeInt(this.size);
+            out.writeInt(this.categoryDictionary.size());
+
+            /* The vectors come first so that they can be copied out in one block */
+
+            out.writeFloats(this.vectors, 0, this.size * this.dimension);
+
+            for (final String category : this.categoryDictionary.categories()) {
+                out.writeString(category);
+            }
+
+            for (int ordinal = 0; ordinal < this.size; ordinal++) {
+                out.writeInt(this.categoryOrdinals[ordinal]);
+                out.writeString(this.vectorIds[ordinal]);
+                out.writeString(this.documents[ordinal].getMongoId());
+                out.writeString(this.documents[ordinal].getDocumentId());
+            }
+        }
+    }
+
+    /// Load an index from a file. The vectors are read into
+    /// one array that becomes the backing array of the index.
+    ///
+    /// @param  path    java.nio.file.Path
+    /// @return         net.jmp.pinecone.quickstart.local.FlatDenseIndex
+    /// @throws         java.io.IOException
+    public static FlatDenseIndex load(final Path path) throws IOException {
+        try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+             final Arena arena = Arena.ofConfined()) {
+            final MemorySegment segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size(), arena);
+            final SegmentReader reader = new SegmentReader(segment);
+
+            if (reader.readInt() != MAGIC) {
+                throw new IOException("Not a flat dense index file: " + path);
+            }
+
+            final int version = reader.readInt();
+
+            if (version != FORMAT_VERSION) {
+                throw new IOException("Unsupported flat dense index version: " + version);
+            }
+
+            final int dimension = reader.readInt();
+            final Metric metric = Metric.values()[reader.readInt()];
+            final int size = reader.readInt();
+            final int categoryCount = reader.readInt();
+
+            final float[] vectors = new float[size * dimension];
+
+            reader.readFloats(vectors, vectors.length);
+
+            final String[] categories = new String[categoryCount];
+
+            for (int i = 0; i < categoryCount; i++) {
+                categories[i] = reader.readString();
+            }
+
+            final FlatDenseIndex index = new FlatDenseIndex(dimension, metric, 1);
+
+            index.vectors = vectors;
+            index.inverseNorms = new float[size];
+            index.categoryOrdinals = new int[size];
+            index.vectorIds = new String[size];
+            index.documents = new UnstructuredTextDocument[size];
+
+            for (int ordinal = 0; ordinal < size; ordinal++) {
+                final String category = categories[reader.readInt()];
+                final String vectorId = reader.readString();
+                final String mongoId = reader.readString();
+                final String documentId = reader.readString();
+                final float norm = VectorMath.norm(vectors, ordinal * dimension, dimension);
+
+                index.inverseNorms[ordinal] = norm == 0.0f ? 0.0f : 1.0f / norm;
+                index.categoryOrdinals[ordinal] = index.categoryDictionary.encode(category);
+                index.vectorIds[ordinal] = vectorId;
+                index.documents[ordinal] = new UnstructuredTextDocument(mongoId, documentId, null, category);
+            }
+
+            index.size = size;
+
+            return index;
+        }
+    }
+
+    /// Grow the arrays to hold at least the given number of rows.
+    ///
+    /// @param  rows    int
+    private void ensureCapacity(final int rows) {
+        if (rows > this.documents.length) {
+            final int capacity = Math.max(rows, this.documents.length + (this.documents.length >> 1));
+
+            this.vectors = Arrays.copyOf(this.vectors, capacity * this.dimension);
+            this.inverseNorms = Arrays.copyOf(this.inverseNorms, capacity);
+            this.categoryOrdinals = Arrays.copyOf(this.categoryOrdinals, capacity);
+            this.vectorIds = Arrays.copyOf(this.vectorIds, capacity);
+            this.documents = Arrays.copyOf(this.documents, capacity);
+        }
+    }
+}
@@ -0,0 +1,401 @@
+package net.jmp.pinecone.quickstart.local;
+
+/*
+ * (#)HnswGraph.java    0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Set;
+
+import net.jmp.pinecone.quickstart.text.UnstructuredTextDocument;
+
+/// The HNSW graph class. The search side of a hierarchical
+/// navigable small world graph, shared by the in-memory index
+/// that builds the graph and the memory-mapped index that
+/// serves it from disk.
+///
+/// Vectors are stored normalized when the metric is cosine,
+/// so every score is a plain dot product.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+abstract class HnswGraph implements DenseSearcher {
+    /// The file magic number.
+    static final int MAGIC = 0x484E5357;    // HNSW
+
+    /// The file format version.
+    static final int FORMAT_VERSION = 2;
+
+    /// The size of the file header. The vectors start here,
+    /// aligned for the vector loads.
+    static final int HEADER_SIZE = 64;
+
+    /// The entry point of an empty graph.
+    static final long NO_ENTRY_POINT = -1L;
+
+    /// The default constructor.
+    HnswGraph() {
+        super();
+    }
+
+    /// Return the score of a node against a prepared query.
+    ///
+    /// @param  query   float[]
+    /// @param  node    int
+    /// @return         float
+    abstract float score(float[] query, int node);
+
+    /// Return the neighbours of a node on a layer.
+    ///
+    /// @param  node    int
+    /// @param  level   int
+    /// @return         int[]
+    abstract int[] neighbors(int node, int level);
+
+    /// Return the entry point packed by entryPoint(int, int),
+    /// or NO_ENTRY_POINT if the graph is empty.
+    ///
+    /// @return long
+    abstract long entryPoint();
+
+    /// Return the category ordinal of a node.
+    ///
+    /// @param  node    int
+    /// @return         int
+    abstract int categoryOrdinal(int node);
+
+    /// Return the category mask for a filter, or null
+    /// if there is no restriction.
+    ///
+    /// @param  categories  java.util.Set<java.lang.String>
+    /// @return             boolean[]
+    abstract boolean[] categoryMask(Set<String> categories);
+
+    /// Return the vector identifier of a node.
+    ///
+    /// @param  node    int
+    /// @return         java.lang.String
+    abstract String vectorId(int node);
+
+    /// Return the document of a node.
+    ///
+    /// @param  node    int
+    /// @return         net.jmp.pinecone.quickstart.text.UnstructuredTextDocument
+    abstract UnstructuredTextDocument document(int node);
+
+    /// Return the metric.
+    ///
+    /// @return net.jmp.pinecone.quickstart.local.Metric
+    public abstract Metric getMetric();
+
+    /// Copy the vector stored for a node. The copy is
+    /// normalized when the metric is cosine.
+    ///
+    /// @param  node    int
+    /// @return         float[]
+    public abstract float[] getVector(int node);
+
+    /// Return the size of the candidate list during search.
+    ///
+    /// @return int
+    public abstract int getEfSearch();
+
+    /// Search the index.
+    ///
+    /// @param  query       float[]
+    /// @param  topK        int
+    /// @param  categories  java.util.Set<java.lang.String>
+    /// @return             java.util.List<net.jmp.pinecone.quickstart.local.LocalMatch>
+    @Override
+    public List<LocalMatch> search(final float[] query, final int topK, final Set<String> categories) {
+        return this.search(query, topK, categories, this.getEfSearch());
+    }
+
+    /// Search the index with a given candidate list size.
+    ///
+    /// @param  query       float[]
+    /// @param  topK        int
+    /// @param  categories  java.util.Set<java.lang.String>
+    /// @param  efSearch    int
+    /// @return             java.util.List<net.jmp.pinecone.quickstart.local.LocalMatch>
+    public List<LocalMatch> search(final float[] query,
+                                   final int topK,
+                                   final Set<String> categories,
+                                   final int efSearch) {
+        if (query.length != this.getDimension()) {
+            throw new IllegalArgumentException("Expected " + this.getDimension() + " dimensions but found " + query.length);
+        }
+
+        final long entryPoint = this.entryPoint();
+
+        if (entryPoint == NO_ENTRY_POINT) {
+            return List.of();
+        }
+
+        final float[] prepared = this.prepare(query);
+
+        int entry = entryNode(entryPoint);
+
+        for (int level = entryLevel(entryPoint); level > 0; level--) {
+            entry = this.greedySearch(prepared, entry, level);
+        }
+
+        final TopK best = this.searchLayer(prepared,
+                new int[] {entry},
+                Math.max(efSearch, topK),
+                0,
+                this.categoryMask(categories));
+
+        return this.toMatches(best, topK);
+    }
+
+    /// Search every node at full precision without walking
+    /// the graph. This is the exact answer that the graph
+    /// and the quantized indexes approximate, so it is the
+    /// ground truth when their recall is measured.
+    ///
+    /// @param  query       float[]
+    /// @param  topK        int
+    /// @param  categories  java.util.Set<java.lang.String>
+    /// @return             java.util.List<net.jmp.pinecone.quickstart.local.LocalMatch>
+    public List<LocalMatch> exactSearch(final float[] query, final int topK, final Set<String> categories) {
+        if (query.length != this.getDimension()) {
+            throw new IllegalArgumentException("Expected " + this.getDimension() + " dimensions but found " + query.length);
+        }
+
+        final float[] prepared = this.prepare(query);
+        final boolean[] mask = this.categoryMask(categories);
+        final TopK best = new TopK(topK);
+        final int size = this.size();
+
+        for (int node = 0; node < size; node++) {
+            if (this.accepts(mask, node)) {
+                best.offer(node, this.score(prepared, node));
+            }
+        }
+
+        return this.toMatches(best, topK);
+    }
+
+    /// Return a searcher over this graph that uses
+    /// a different candidate list size.
+    ///
+    /// @param  efSearch    int
+    /// @return             net.jmp.pinecone.quickstart.local.DenseSearcher
+    public DenseSearcher withEfSearch(final int efSearch) {
+        final HnswGraph graph = this;
+
+        return new DenseSearcher() {
+            @Override
+            public List<LocalMatch> search(final float[] query, final int topK, final Set<String> categories) {
+                return graph.search(query, topK, categories, efSearch);
+            }
+
+            @Override
+            public int size() {
+                return graph.size();
+            }
+
+            @Override
+            public int getDimension() {
+                return graph.getDimension();
+            }
+        };
+    }
+
+    /// Prepare a query for scoring.
+    ///
+    /// @param  query   float[]
+    /// @return         float[]
+    float[] prepare(final float[] query) {
+        if (this.getMetric() != Metric.COSINE) {
+            return query;
+        }
+
+        final float norm = VectorMath.norm(query);
+        final float[] prepared = new float[query.length];
+
+        if (norm != 0.0f) {
+            for (int i = 0; i < query.length; i++) {
+                prepared[i] = query[i] / norm;
+            }
+        }
+
+        return prepared;
+    }
+
+    /// Walk greedily towards the query on one layer.
+    ///
+    /// @param  query   float[]
+    /// @param  entry   int
+    /// @param  level   int
+    /// @return         int
+    int greedySearch(final float[] query, final int entry, final int level) {
+        int current = entry;
+        float currentScore = this.score(query, current);
+        boolean changed = true;
+
+        while (changed) {
+            changed = false;
+
+            for (final int neighbor : this.neighbors(current, level)) {
+                final float score = this.score(query, neighbor);
+
+                if (score > currentScore) {
+                    current = neighbor;
+                    currentScore = score;
+                    changed = true;
+                }
+            }
+        }
+
+        return current;
+    }
+
+    /// Search one layer, returning the ef best nodes that
+    /// pass the category mask. Nodes that fail the mask are
+    /// still expanded, so a selective filter widens the walk
+    /// instead of cutting it off.
+    ///
+    /// @param  query   float[]
+    /// @param  entries int[]
+    /// @param  ef      int
+    /// @param  level   int
+    /// @param  mask    boolean[]
+    /// @return         net.jmp.pinecone.quickstart.local.TopK
+    TopK searchLayer(final float[] query,
+                     final int[] entries,
+                     final int ef,
+                     final int level,
+                     final boolean[] mask) {
+        final BitSet visited = new BitSet(this.size());
+        final NodeQueue candidates = new NodeQueue(ef);
+        final TopK results = new TopK(ef);
+
+        for (final int entry : entries) {
+            if (!visited.get(entry)) {
+                visited.set(entry);
+
+                final float score = this.score(query, entry);
+
+                candidates.push(entry, score);
+
+                if (this.accepts(mask, entry)) {
+                    results.offer(entry, score);
+                }
+            }
+        }
+
+        while (!candidates.isEmpty()) {
+            if (results.isFull() && candidates.peekScore() < results.threshold()) {
+                break;      // Nothing left to expand can improve the results
+            }
+
+            final int candidate = candidates.pop();
+
+            for (final int neighbor : this.neighbors(candidate, level)) {
+                if (visited.get(neighbor)) {
+                    continue;
+                }
+
+                visited.set(neighbor);
+
+                final float score = this.score(query, neighbor);
+
+                if (!results.isFull() || score > results.threshold()) {
+                    candidates.push(neighbor, score);
+
+                    if (this.accepts(mask, neighbor)) {
+                        results.offer(neighbor, score);
+                    }
+                }
+            }
+        }
+
+        return results;
+    }
+
+    /// Pack an entry point into a long.
+    ///
+    /// @param  node    int
+    /// @param  level   int
+    /// @return         long
+    static long entryPoint(final int node, final int level) {
+        return ((long) level << 32) | (node & 0xFFFFFFFFL);
+    }
+
+    /// Return the node of a packed entry point.
+    ///
+    /// @param  entryPoint  long
+    /// @return             int
+    static int entryNode(final long entryPoint) {
+        return (int) entryPoint;
+    }
+
+    /// Return the level of a packed entry point.
+    ///
+    /// @param  entryPoint  long
+    /// @return             int
+    static int entryLevel(final long entryPoint) {
+        return (int) (entryPoint >>> 32);
+    }
+
+    /// Convert the best nodes to matches.
+    ///
+    /// @param  best    net.jmp.pinecone.quickstart.local.TopK
+    /// @param  topK    int
+    /// @return         java.util.List<net.jmp.pinecone.quickstart.local.LocalMatch>
+    List<LocalMatch> toMatches(final TopK best, final int topK) {
+        final int[] ordinals = best.ordinals();
+        final float[] scores = best.scores();
+        final int count = Math.min(topK, ordinals.length);
+        final List<LocalMatch> matches = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            matches.add(new LocalMatch(this.vectorId(ordinals[i]), this.document(ordinals[i]), scores[i]));
+        }
+
+        return matches;
+    }
+
+    /// Return true if a node passes the category mask.
+    ///
+    /// @param  mask    boolean[]
+    /// @param  node    int
+    /// @return         boolean
+    boolean accepts(final boolean[] mask, final int node) {
+        if (mask == null) {
+            return true;
+        }
+
+        final int ordinal = this.categoryOrdinal(node);
+
+        return ordinal < mask.length && mask[ordinal];
+    }
+}
@@ -0,0 +1,600 @@
+package net.jmp.pinecone.quickstart.local;
+
+/*
+ * (#)HnswIndex.java    0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.io.IOException;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import net.jmp.pinecone.quickstart.text.UnstructuredTextDocument;
+
+/// The HNSW index class. An approximate nearest-neighbour
+/// index that is built in memory and saved in a format that
+/// MappedHnswIndex serves directly from disk.
+///
+/// Vectors may be added from several threads at once. Each
+/// neighbour list is replaced rather than modified, under a
+/// lock striped by node, so a search running alongside the
+/// insertions sees either the old list or the new one.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+public final class HnswIndex extends HnswGraph {
+    /// The number of lock stripes.
+    private static final int LOCK_STRIPES = 1024;
+
+    /// The highest layer a node may be assigned to.
+    private static final int MAX_LEVEL = 16;
+
+    /// An empty neighbour list.
+    private static final int[] NO_NEIGHBORS = new int[0];
+
+    /// The dimension.
+    private final int dimension;
+
+    /// The metric.
+    private final Metric metric;
+
+    /// The parameters.
+    private final HnswParameters parameters;
+
+    /// The maximum number of vectors.
+    private final int capacity;
+
+    /// The normalization factor for the level distribution.
+    private final double levelMultiplier;
+
+    /// The category dictionary, guarded by itself.
+    private final CategoryDictionary categoryDictionary = new CategoryDictionary();
+
+    /// The vectors, one row of dimension floats per node.
+    private final float[] vectors;
+
+    /// The category ordinal of each node.
+    private final int[] categoryOrdinals;
+
+    /// The vector identifier of each node.
+    private final String[] vectorIds;
+
+    /// The document of each node.
+    private final UnstructuredTextDocument[] documents;
+
+    /// The top layer of each node.
+    private final int[] levels;
+
+    /// The neighbour lists of each node by layer.
+    private final int[][][] neighbors;
+
+    /// The lock stripes for the neighbour lists.
+    private final Object[] locks = new Object[LOCK_STRIPES];
+
+    /// The lock for changing the entry point.
+    private final Object entryPointLock = new Object();
+
+    /// The number of nodes allocated.
+    private final AtomicInteger count = new AtomicInteger();
+
+    /// The entry point.
+    private volatile long entryPoint = NO_ENTRY_POINT;
+
+    /// The constructor.
+    ///
+    /// @param  dimension   int
+    /// @param  metric      net.jmp.pinecone.quickstart.local.Metric
+    /// @param  parameters  net.jmp.pinecone.quickstart.local.HnswParameters
+    /// @param  capacity    int
+    public HnswIndex(final int dimension,
+                     final Metric metric,
+                     final HnswParameters parameters,
+                     final int capacity) {
+        super();
+
+        if (dimension <= 0) {
+            throw new IllegalArgumentException("Dimension must be positive: " + dimension);
+        }
+
+        this.dimension = dimension;
+        this.metric = Objects.requireNonNull(metric);
+        this.parameters = Objects.requireNonNull(parameters);
+        this.capacity = Math.max(1, capacity);
+        this.levelMultiplier = 1.0 / Math.log(parameters.getM());
+        this.vectors = new float[this.capacity * dimension];
+        this.categoryOrdinals = new int[this.capacity];
+        this.vectorIds = new String[this.capacity];
+        this.documents = new UnstructuredTextDocument[this.capacity];
+        this.levels = new int[this.capacity];
+        this.neighbors = new int[this.capacity][][];
+
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            this.locks[i] = new Object();
+        }
+    }
+
+    /// Add a vector. This method may be called
+    /// concurrently from several threads.
+    ///
+    /// @param  vectorId    java.lang.String
+    /// @param  document    net.jmp.pinecone.quickstart.text.UnstructuredTextDocument
+    /// @param  values      float[]
+    /// @return             int
+    public int add(final String vectorId, final UnstructuredTextDocument document, final float[] values) {
+        if (values.length != this.dimension) {
+            throw new IllegalArgumentException("Expected " + this.dimension + " dimensions but found " + values.length);
+        }
+
+        final int node = this.count.getAndUpdate(n -> n < this.capacity ? n + 1 : n);
+
+        if (node == this.capacity) {
+            throw new IllegalStateException("The index is full: " + this.capacity);
+        }
+
+        final float[] vector = this.prepare(values);
+
+        System.arraycopy(vector, 0, this.vectors, node * this.dimension, this.dimension);
+
+        synchronized (this.categoryDictionary) {
+            this.categoryOrdinals[node] = this.categoryDictionary.encode(document.getCategory());
+        }
+
+        this.vectorIds[node] = vectorId;
+        this.documents[node] = document;
+
+        final int level = this.randomLevel();
+        final int[][] lists = new int[level + 1][];
+
+        Arrays.fill(lists, NO_NEIGHBORS);
+
+        synchronized (this.lock(node)) {
+            this.levels[node] = level;
+            this.neighbors[node] = lists;
+        }
+
+        final long entry;
+
+        synchronized (this.entryPointLock) {
+            entry = this.entryPoint;
+
+            if (entry == NO_ENTRY_POINT) {
+                this.entryPoint = entryPoint(node, level);
+
+                return node;
+            }
+        }
+
+        final int topLevel = entryLevel(entry);
+
+        int current = entryNode(entry);
+
+        for (int l = topLevel; l > level; l--) {
+            current = this.greedySearch(vector, current, l);
+        }
+
+        int[] entries = {current};
+
+        for (int l = Math.min(level, topLevel); l >= 0; l--) {
+            final TopK candidates = this.searchLayer(vector, entries, this.parameters.getEfConstruction(), l, null);
+            final int[] ordinals = candidates.ordinals();
+            final int[] selected = this.selectNeighbors(node,
+                    ordinals,
+                    candidates.scores(),
+                    this.maxConnections(l));
+
+            synchronized (this.lock(node)) {
+                this.neighbors[node][l] = selected;
+            }
+
+            for (final int neighbor : selected) {
+                this.connect(neighbor, node, l);
+            }
+
+            entries = ordinals;
+        }
+
+        if (level > topLevel) {
+            synchronized (this.entryPointLock) {
+                if (level > entryLevel(this.entryPoint)) {
+                    this.entryPoint = entryPoint(node, level);
+                }
+            }
+        }
+
+        return node;
+    }
+
+    /// Add a vector. This method may be called
+    /// concurrently from several threads.
+    ///
+    /// @param  vectorId    java.lang.String
+    /// @param  document    net.jmp.pinecone.quickstart.text.UnstructuredTextDocument
+    /// @param  values      java.util.List<java.lang.Float>
+    /// @return             int
+    public int add(final String vectorId, final UnstructuredTextDocument document, final List<Float> values) {
+        return this.add(vectorId, document, PrimitiveLists.toFloatArray(values));
+    }
+
+    /// Return the number of vectors.
+    ///
+    /// @return int
+    @Override
+    public int size() {
+        return this.count.get();
+    }
+
+    /// Return the dimension.
+    ///
+    /// @return int
+    @Override
+    public int getDimension() {
+        return this.dimension;
+    }
+
+    /// Return the metric.
+    ///
+    /// @return net.jmp.pinecone.quickstart.local.Metric
+    @Override
+    public Metric getMetric() {
+        return this.metric;
+    }
+
+    /// Return the size of the candidate list during search.
+    ///
+    /// @return int
+    @Override
+    public int getEfSearch() {
+        return this.parameters.getEfSearch();
+    }
+
+    /// Return the parameters.
+    ///
+    /// @return net.jmp.pinecone.quickstart.local.HnswParameters
+    public HnswParameters getParameters() {
+        return this.parameters;
+    }
+
+    /// Save the index to a file that MappedHnswIndex can open.
+    /// No vectors may be added while the index is being saved.
+    ///
+    /// The file holds a fixed-size header, then fixed-width
+    /// blocks indexed by node (vectors, levels, categories and
+    /// the offsets of each node's adjacency and metadata), then
+    /// the category names, the adjacency lists and the metadata.
+    /// Everything is located by arithmetic on the header, so
+    /// opening the file reads nothing but the header.
+    ///
+    /// @param  path    java.nio.file.Path
+    /// @throws         java.io.IOException
+    public void save(final Path path) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+
+        final int size = this.size();
+        final long fixedBlocks = (long) size * this.dimension * Float.BYTES
+                + (long) size * (Integer.BYTES + Integer.BYTES + Long.BYTES + Long.BYTES);
+
+        long graphStart = HEADER_SIZE + fixedBlocks;
+
+        for (final String category : this.categoryDictionary.categories()) {
+            graphStart += SegmentWriter.sizeOf(category);
+        }
+
+        final long[] graphOffsets = new long[size];
+
+        long position = graphStart;
+
+        for (int node = 0; node < size; node++) {
+            graphOffsets[node] = position;
+
+            for (final int[] list : this.neighbors[node]) {
+                position += Integer.BYTES + (long) list.length * Integer.BYTES;
+            }
+        }
+
+        final long metadataStart = position;
+        final long[] metadataOffsets = new long[size];
+
+        for (int node = 0; node < size; node++) {
+            metadataOffsets[node] = position;
+
+            position += SegmentWriter.sizeOf(this.vectorIds[node]);
+            position += SegmentWriter.sizeOf(this.documents[node].getMongoId());
+            position += SegmentWriter.sizeOf(this.documents[node].getDocumentId());
+        }
+
+        final long entry = this.entryPoint;
+
+        try (final SegmentWriter out = new SegmentWriter(Files.newOutputStream(path))) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeInt(this.dimension);
+            out.writeInt(this.metric.ordinal());
+            out.writeInt(size);
+            out.writeInt(this.parameters.getM());
+            out.writeInt(this.parameters.getEfConstruction());
+            out.writeInt(this.parameters.getEfSearch());
+            out.writeInt(entryNode(entry));
+            out.writeInt(entryLevel(entry));
+            out.writeInt(this.categoryDictionary.size());
+            out.writeInt(0);    // Reserved
+            out.writeLong(graphStart);
+            out.writeLong(metadataStart);
+
+            out.writeFloats(this.vectors, 0, size * this.dimension);
+
+            for (int node = 0; node < size; node++) {
+                out.writeInt(this.levels[node]);
+            }
+
+            for (int node = 0; node < size; node++) {
+                out.writeInt(this.categoryOrdinals[node]);
+            }
+
+            for (int node = 0; node < size; node++) {
+                out.writeLong(graphOffsets[node]);
+            }
+
+            for (int node = 0; node < size; node++) {
+                out.writeLong(metadataOffsets[node]);
+            }
+
+            for (final String category : this.categoryDictionary.categories()) {
+                out.writeString(category);
+            }
+
+            for (int node = 0; node < size; node++) {
+                for (final int[] list : this.neighbors[node]) {
+                    out.writeInt(list.length);
+
+                    for (final int neighbor : list) {
+                        out.writeInt(neighbor);
+                    }
+                }
+            }
+
+            for (int node = 0; node < size; node++) {
+                out.writeString(this.vectorIds[node]);
+                out.writeString(this.documents[node].getMongoId());
+                out.writeString(this.documents[node].getDocumentId());
+            }
+
+            if (out.position() != position) {
+                throw new IOException("Wrote " + out.position() + " bytes but expected " + position + ": " + path);
+            }
+        }
+    }
+
+    /// Copy the vector stored for a node. The copy is
+    /// normalized when the metric is cosine.
+    ///
+    /// @param  node    int
+    /// @return         float[]
+    @Override
+    public float[] getVector(final int node) {
+        Objects.checkIndex(node, this.size());
+
+        return Arrays.copyOfRange(this.vectors, node * this.dimension, (node + 1) * this.dimension);
+    }
+
+    /// Return the score of a node against a prepared query.
+    ///
+    /// @param  query   float[]
+    /// @param  node    int
+    /// @return         float
+    @Override
+    float score(final float[] query, final int node) {
+        return VectorMath.dotProduct(query, this.vectors, node * this.dimension, this.dimension);
+    }
+
+    /// Return the neighbours of a node on a layer.
+    ///
+    /// @param  node    int
+    /// @param  level   int
+    /// @return         int[]
+    @Override
+    int[] neighbors(final int node, final int level) {
+        synchronized (this.lock(node)) {
+            return this.neighbors[node][level];
+        }
+    }
+
+    /// Return the entry point.
+    ///
+    /// @return long
+    @Override
+    long entryPoint() {
+        return this.entryPoint;
+    }
+
+    /// Return the category ordinal of a node.
+    ///
+    /// @param  node    int
+    /// @return         int
+    @Override
+    int categoryOrdinal(final int node) {
+        return this.categoryOrdinals[node];
+    }
+
+    /// Return the category mask for a filter.
+    ///
+    /// @param  categories  java.util.Set<java.lang.String>
+    /// @return             boolean[]
+    @Override
+    boolean[] categoryMask(final Set<String> categories) {
+        synchronized (this.categoryDictionary) {
+            return this.categoryDictionary.mask(categories);
+        }
+    }
+
+    /// Return the vector identifier of a node.
+    ///
+    /// @param  node    int
+    /// @return         java.lang.String
+    @Override
+    String vectorId(final int node) {
+        return this.vectorIds[node];
+    }
+
+    /// Return the document of a node.
+    ///
+    /// @param  node    int
+    /// @return         net.jmp.pinecone.quickstart.text.UnstructuredTextDocument
+    @Override
+    UnstructuredTextDocument document(final int node) {
+        return this.documents[node];
+    }
+
+    /// Add a node to a neighbour's list on a layer, pruning
+    /// the list with the selection heuristic when it is full.
+    ///
+    /// @param  neighbor    int
+    /// @param  node        int
+    /// @param  level       int
+    private void connect(final int neighbor, final int node, final int level) {
+        final int maxConnections = this.maxConnections(level);
+
+        synchronized (this.lock(neighbor)) {
+            final int[] current = this.neighbors[neighbor][level];
+
+            int[] updated;
+
+            if (current.length < maxConnections) {
+                updated = Arrays.copyOf(current, current.length + 1);
+                updated[current.length] = node;
+            } else {
+                final TopK ranked = new TopK(current.length + 1);
+
+                for (final int existing : current) {
+                    ranked.offer(existing, this.similarity(neighbor, existing));
+                }
+
+                ranked.offer(node, this.similarity(neighbor, node));
+
+                updated = this.selectNeighbors(neighbor, ranked.ordinals(), ranked.scores(), maxConnections);
+            }
+
+            this.neighbors[neighbor][level] = updated;
+        }
+    }
+
+    /// Select the neighbours of a node from candidates ordered
+    /// by descending score. A candidate is preferred when it is
+    /// closer to the node than to any neighbour already chosen,
+    /// which keeps links spread across clusters; the remaining
+    /// slots are filled with the closest candidates passed over.
+    ///
+    /// @param  node            int
+    /// @param  candidates      int[]
+    /// @param  scores          float[]
+    /// @param  maxConnections  int
+    /// @return                 int[]
+    private int[] selectNeighbors(final int node,
+                                  final int[] candidates,
+                                  final float[] scores,
+                                  final int maxConnections) {
+        final int[] selected = new int[maxConnections];
+        final int[] skipped = new int[candidates.length];
+
+        int selectedCount = 0;
+        int skippedCount = 0;
+
+        for (int i = 0; i < candidates.length && selectedCount < maxConnections; i++) {
+            final int candidate = candidates[i];
+
+            if (candidate == node) {
+                continue;
+            }
+
+            boolean diverse = true;
+
+            for (int j = 0; j < selectedCount; j++) {
+                if (this.similarity(candidate, selected[j]) > scores[i]) {
+                    diverse = false;
+
+                    break;
+                }
+            }
+
+            if (diverse) {
+                selected[selectedCount++] = candidate;
+            } else {
+                skipped[skippedCount++] = candidate;
+            }
+        }
+
+        for (int i = 0; i < skippedCount && selectedCount < maxConnections; i++) {
+            selected[selectedCount++] = skipped[i];
+        }
+
+        return Arrays.copyOf(selected, selectedCount);
+    }
+
+    /// Return the similarity of two nodes.
+    ///
+    /// @param  a   int
+    /// @param  b   int
+    /// @return     float
+    private float similarity(final int a, final int b) {
+        return VectorMath.dotProduct(this.vectors, a * this.dimension, this.vectors, b * this.dimension, this.dimension);
+    }
+
+    /// Return the maximum number of connections on a layer.
+    ///
+    /// @param  level   int
+    /// @return         int
+    private int maxConnections(final int level) {
+        return level == 0 ? this.parameters.getMaxM0() : this.parameters.getM();
+    }
+
+    /// Draw a layer from the exponentially decaying distribution.
+    ///
+    /// @return int
+    private int randomLevel() {
+        final double draw = -Math.log(1.0 - ThreadLocalRandom.current().nextDouble()) * this.levelMultiplier;
+
+        return (int) Math.min(MAX_LEVEL, draw);
+    }
+
+    /// Return the lock for a node.
+    ///
+    /// @param  node    int
+    /// @return         java.lang.Object
+    private Object lock(final int node) {
+        return this.locks[node & (LOCK_STRIPES - 1)];
+    }
+}
@@ -0,0 +1,152 @@
+package net.jmp.pinecone.quickstart.local;
+
+/*
+ * (#)HnswParameters.java   0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/// The HNSW parameters class. Parsed from a string such
+/// as "m=16,efConstruction=200,efSearch=64". Parameters
+/// that are not given keep their default values.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+public final class HnswParameters {
+    /// The default number of connections per node above layer zero.
+    public static final int DEFAULT_M = 16;
+
+    /// The default size of the candidate list during construction.
+    public static final int DEFAULT_EF_CONSTRUCTION = 200;
+
+    /// The default size of the candidate list during search.
+    public static final int DEFAULT_EF_SEARCH = 64;
+
+    /// The number of connections per node above layer zero.
+    private final int m;
+
+    /// The size of the candidate list during construction.
+    private final int efConstruction;
+
+    /// The size of the candidate list during search.
+    private final int efSearch;
+
+    /// The default constructor.
+    public HnswParameters() {
+        this(DEFAULT_M, DEFAULT_EF_CONSTRUCTION, DEFAULT_EF_SEARCH);
+    }
+
+    /// The constructor.
+    ///
+    /// @param  m               int
+    /// @param  efConstruction  int
+    /// @param  efSearch        int
+    public HnswParameters(final int m, final int efConstruction, final int efSearch) {
+        super();
+
+        if (m < 2) {
+            throw new IllegalArgumentException("m must be at least 2: " + m);
+        }
+
+        if (efConstruction < m) {
+            throw new IllegalArgumentException("efConstruction must be at least m: " + efConstruction);
+        }
+
+        if (efSearch <= 0) {
+            throw new IllegalArgumentException("efSearch must be positive: " + efSearch);
+        }
+
+        this.m = m;
+        this.efConstruction = efConstruction;
+        this.efSearch = efSearch;
+    }
+
+    /// Parse the parameters from a string.
+    ///
+    /// @param  parameters  java.lang.String
+    /// @return             net.jmp.pinecone.quickstart.local.HnswParameters
+    public static HnswParameters parse(final String parameters) {
+        int m = DEFAULT_M;
+        int efConstruction = DEFAULT_EF_CONSTRUCTION;
+        int efSearch = DEFAULT_EF_SEARCH;
+
+        if (parameters != null && !parameters.isBlank()) {
+            for (final String parameter : parameters.split(",")) {
+                final String[] pair = parameter.split("=", 2);
+
+                if (pair.length != 2) {
+                    throw new IllegalArgumentException("Expected name=value: " + parameter);
+                }
+
+                final int value = Integer.parseInt(pair[1].trim());
+
+                switch (pair[0].trim()) {
+                    case "m" -> m = value;
+                    case "efConstruction" -> efConstruction = value;
+                    case "efSearch" -> efSearch = value;
+                    default -> throw new IllegalArgumentException("Unknown HNSW parameter: " + pair[0]);
+                }
+            }
+        }
+
+        return new HnswParameters(m, efConstruction, efSearch);
+    }
+
+    /// Return the number of connections per node above layer zero.
+    ///
+    /// @return int
+    public int getM() {
+        return this.m;
+    }
+
+    /// Return the number of connections per node on layer zero.
+    ///
+    /// @return int
+    public int getMaxM0() {
+        return this.m * 2;
+    }
+
+    /// Return the size of the candidate list during construction.
+    ///
+    /// @return int
+    public int getEfConstruction() {
+        return this.efConstruction;
+    }
+
+    /// Return the size of the candidate list during search.
+    ///
+    /// @return int
+    public int getEfSearch() {
+        return this.efSearch;
+    }
+
+    /// Return the string representation.
+    ///
+    /// @return java.lang.String
+    @Override
+    public String toString() {
+        return "m=" + this.m + ",efConstruction=" + this.efConstruction + ",efSearch=" + this.efSearch;
+    }
+}
@@ -0,0 +1,540 @@
+package net.jmp.pinecone.quickstart.local;
+
+/*
+ * (#)LocalIndexes.java 0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+
+import java.util.Map;
+import java.util.Optional;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import java.util.function.Function;
+
+import net.jmp.pinecone.quickstart.metrics.Metrics;
+
+import static net.jmp.util.logging.LoggerUtils.*;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/// The local indexes class. Locates the local index files
+/// for a Pinecone index and namespace and keeps the opened
+/// indexes for the life of the process. The files are copies
+/// of the vectors in Pinecone, so they are deleted whenever
+/// those vectors change and saved again when they are loaded.
+/// A local index is named for the namespace, not a partition,
+/// since it holds the vectors of every partition of it.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+public final class LocalIndexes {
+    /// The logger.
+    private static final Logger logger = LoggerFactory.getLogger(LocalIndexes.class.getName());
+
+    /// The opened flat dense indexes by path.
+    private static final Map<Path, Optional<FlatDenseIndex>> flatDenseIndexes = new ConcurrentHashMap<>();
+
+    /// The opened HNSW indexes by path.
+    private static final Map<Path, Optional<MappedHnswIndex>> hnswIndexes = new ConcurrentHashMap<>();
+
+    /// The opened sparse inverted indexes by path.
+    private static final Map<Path, Optional<SparseInvertedIndex>> sparseInvertedIndexes = new ConcurrentHashMap<>();
+
+    /// The default constructor.
+    private LocalIndexes() {
+        super();
+    }
+
+    /// Return true if local indexes are enabled.
+    ///
+    /// @param  localIndexDir   java.lang.String
+    /// @return                 boolean
+    public static boolean isEnabled(final String localIndexDir) {
+        return localIndexDir != null && !localIndexDir.isBlank();
+    }
+
+    /// Return the path of the flat dense index file.
+    ///
+    /// @param  localIndexDir   java.lang.String
+    /// @param  indexName       java.lang.String
+    /// @param  namespace       java.lang.String
+    /// @return                 java.nio.file.Path
+    public static Path flatDenseIndexPath(final String localIndexDir, final String indexName, final String namespace) {
+        return Paths.get(localIndexDir, indexName + "-" + namespace + ".flat");
+    }
+
+    /// Return the path of the HNSW index file.
+    ///
+    /// @param  localIndexDir   java.lang.String
+    /// @param  indexName       java.lang.String
+    /// @param  namespace       java.lang.String
+    /// @return                 java.nio.file.Path
+    public static Path hnswIndexPath(final String localIndexDir, final String indexName, final String namespace) {
+        return Paths.get(localIndexDir, indexName + "-" + namespace + ".hnsw");
+    }
+
+    /// Return the path of the sparse inverted index file.
+    ///
+    /// @param  localIndexDir   java.lang.String
+    /// @param  indexName       java.lang.String
+    /// @param  namespace       java.lang.String
+    /// @return                 java.nio.file.Path
+    public static Path sparseInvertedIndexPath(final String localIndexDir, final String indexName, final String namespace) {
+        return Paths.get(localIndexDir, indexName + "-" + namespace + ".sparse");
+    }
+
+    /// Return the flat dense index for the index and namespace
+    /// if one has been saved and it fits in memory.
+    ///
+    /// @param  localIndexDir   java.lang.String
+    /// @param  indexName       java.lang.String
+    /// @param  namespace       java.lang.String
+    /// @return                 java.util.Optional<net.jmp.pinecone.quickstart.local.FlatDenseIndex>
+    public static Optional<FlatDenseIndex> flatDenseIndex(final String localIndexDir,
+                                                          final String indexName,
+                                                          final String namespace) {
+        if (logger.isTraceEnabled()) {
+            logger.trace(entryWith(localIndexDir, indexName, namespace));
+        }
+
+        Optional<FlatDenseIndex> result = Optional.empty();
+
+        if (isEnabled(localIndexDir)) {
+            final Path path = flatDenseIndexPath(localIndexDir, indexName, namespace);
+
+            result = cached(flatDenseIndexes, path, "flat_dense_index", LocalIndexes::openFlatDenseIndex);
+        }
+
+        if (logger.isTraceEnabled()) {
+            logger.trace(exitWith(result));
+        }
+
+        return result;
+    }
+
+    /// Save a flat dense index and make it available to
+    /// later queries in this process. The file is written
+    /// beside the old one and moved over it, so a save that
+    /// fails part way leaves no truncated file to be opened.
+    ///
+    /// @param  localIndexDir   java.lang.String
+    /// @param  indexName       java.lang.String
+    /// @param  namespace       java.lang.String
+    /// @param  index           net.jmp.pinecone.quickstart.local.FlatDenseIndex
+    /// @throws                 java.io.IOException
+    public static void saveFlatDenseIndex(final String localIndexDir,
+                                          final String indexName,
+                                          final String namespace,
+                                          final FlatDenseIndex index) throws IOException {
+        if (logger.isTraceEnabled()) {
+            logger.trace(entryWith(localIndexDir, indexName, namespace, index));
+        }
+
+        final Path path = flatDenseIndexPath(localIndexDir, indexName, namespace);
+        final Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+
+        index.save(temporary);
+
+        Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        flatDenseIndexes.put(path, Optional.of(index));
+
+        logger.info("Saved {} vectors to local index: {}", index.size(), path);
+
+        if (logger.isTraceEnabled()) {
+            logger.trace(exit());
+        }
+    }
+
+    /// Return the HNSW index for the index and namespace
+    /// if one has been saved. The file is memory-mapped,
+    /// so it is served whatever its size.
+    ///
+    /// @param  localIndexDir   java.lang.String
+    /// @param  indexName       java.lang.String
+    /// @param  namespace       java.lang.String
+    /// @return                 java.util.Optional<net.jmp.pinecone.quickstart.local.MappedHnswIndex>
+    public static Optional<MappedHnswIndex> hnswIndex(final String localIndexDir,
+                                                      final String indexName,
+                                                      final String namespace) {
+        if (logger.isTraceEnabled()) {
+            logger.trace(entryWith(localIndexDir, indexName, namespace));
+        }
+
+        Optional<MappedHnswIndex> result = Optional.empty();
+
+        if (isEnabled(localIndexDir)) {
+            final Path path = hnswIndexPath(localIndexDir, indexName, namespace);
+
+            result = cached(hnswIndexes, path, "hnsw_index", LocalIndexes::openHnswIndex);
+        }
+
+        if (logger.isTraceEnabled()) {
+            logger.trace(exitWith(result));
+        }
+
+        return result;
+    }
+
+    /// Save an HNSW index. The file is written beside the
+    /// old one and moved over it, so a process that still
+    /// has the old file mapped is not affected. The old index
+    /// is dropped from the cache and unmapped once the searches
+    /// already running on it end.
+    ///
+    /// @param  localIndexDir   java.lang.String
+    /// @param  indexName       java.lang.String
+    /// @param  namespace       java.lang.String
+    /// @param  index           net.jmp.pinecone.quickstart.local.HnswIndex
+    /// @throws                 java.io.IOException
+    public static void saveHnswIndex(final String localIndexDir,
+                                     final String indexName,
+                                     final String namespace,
+                                     final HnswIndex index) throws IOException {
+        if (logger.isTraceEnabled()) {
+            logger.trace(entryWith(localIndexDir, indexName, namespace, index));
+        }
+
+        final Path path = hnswIndexPath(localIndexDir, indexName, namespace);
+        final Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+
+        index.save(temporary);
+
+        Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        final Optional<MappedHnswIndex> previous = hnswIndexes.remove(path);
+
+        if (previous != null) {
+            previous.ifPresent(MappedHnswIndex::close);
+        }
+
+        logger.info("Saved {} vectors to local HNSW index ({}): {}", index.size(), index.getParameters(), path);
+
+        if (logger.isTraceEnabled()) {
+            logger.trace(exit());
+        }
+    }
+
+    /// Delete the local dense indexes of the index and
+    /// namespace, the flat and the HNSW index, so that queries
+    /// go to Pinecone until the indexes are saved again. An
+    /// HNSW index this process has open is dropped from the
+    /// cache first and unmapped once the searches already
+    /// running on it end.
+    ///
+    /// @param  localIndexDir   java.lang.String
+    /// @param  indexName       java.lang.String
+    /// @param  namespace       java.lang.String
+    public static void deleteDenseIndexes(final String localIndexDir,
+                                          final String indexName,
+                                          final String namespace) {
+        if (logger.isTraceEnabled()) {
+            logger.trace(entryWith(localIndexDir, indexName, namespace));
+        }
+
+        if (isEnabled(localIndexDir)) {
+            deleteFlatDenseIndex(localIndexDir, indexName, namespace);
+
+            final Path path = hnswIndexPath(localIndexDir, indexName, namespace);
+            final Optional<MappedHnswIndex> previous = hnswIndexes.remove(path);
+
+            if (previous != null) {
+                previous.ifPresent(MappedHnswIndex::close);
+            }
+
+            deleteFile(path);
+        }
+
+        if (logger.isTraceEnabled()) {
+            logger.trace(exit());
+        }
+    }
+
+    /// Delete the local flat dense index of the index and
+    /// namespace and forget it if this process has it open.
+    ///
+    /// @param  localIndexDir   java.lang.String
+    /// @param  indexName       java.lang.String
+    /// @param  namespace       java.lang.String
+    public static void deleteFlatDenseIndex(final String localIndexDir,
+                                            final String indexName,
+                                            final String namespace) {
+        if (logger.isTraceEnabled()) {
+            logger.trace(entryWith(localIndexDir, indexName, namespace));
+        }
+
+        if (isEnabled(localIndexDir)) {
+            final Path path = flatDenseIndexPath(localIndexDir, indexName, namespace);
+
+            flatDenseIndexes.remove(path);
+
+            deleteFile(path);
+        }
+
+        if (logger.isTraceEnabled()) {
+            logger.trace(exit());
+        }
+    }
+
+    /// Return the sparse inverted index for the
+    /// index and namespace if one has been saved.
+    ///
+    /// @param  localIndexDir   java.lang.String
+    /// @param  indexName       java.lang.String
+    /// @param  namespace       java.lang.String
+    /// @return                 java.util.Optional<net.jmp.pinecone.quickstart.local.SparseInvertedIndex>
+    public static Optional<SparseInvertedIndex> sparseInvertedIndex(final String localIndexDir,
+                                                                    final String indexName,
+                                                                    final String namespace) {
+        if (logger.isTraceEnabled()) {
+            logger.trace(entryWith(localIndexDir, indexName, namespace));
+        }
+
+        Optional<SparseInvertedIndex> result = Optional.empty();
+
+        if (isEnabled(localIndexDir)) {
+            final Path path = sparseInvertedIndexPath(localIndexDir, indexName, namespace);
+
+            result = cached(sparseInvertedIndexes, path, "sparse_inverted_index", LocalIndexes::openSparseInvertedIndex);
+        }
+
+        if (logger.isTraceEnabled()) {
+            logger.trace(exitWith(result));
+        }
+
+        return result;
+    }
+
+    /// Save a sparse inverted index and make it available
+    /// to later queries in this process. The file is written
+    /// beside the old one and moved over it, so a save that
+    /// fails part way leaves no truncated file to be opened.
+    ///
+    /// @param  localIndexDir   java.lang.String
+    /// @param  indexName       java.lang.String
+    /// @param  namespace       java.lang.String
+    /// @param  index           net.jmp.pinecone.quickstart.local.SparseInvertedIndex
+    /// @throws                 java.io.IOException
+    public static void saveSparseInvertedIndex(final String localIndexDir,
+                                               final String indexName,
+                                               final String namespace,
+                                               final SparseInvertedIndex index) throws IOException {
+        if (logger.isTraceEnabled()) {
+            logger.trace(entryWith(localIndexDir, indexName, namespace, index));
+        }
+
+        final Path path = sparseInvertedIndexPath(localIndexDir, indexName, namespace);
+        final Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+
+        index.save(temporary);
+
+        Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        sparseInvertedIndexes.put(path, Optional.of(index));
+
+        logger.info("Saved {} sparse vectors ({} terms) to local index: {}", index.size(), index.getTermCount(), path);
+
+        if (logger.isTraceEnabled()) {
+            logger.trace(exit());
+        }
+    }
+
+    /// Delete the local sparse inverted index of the index and
+    /// namespace and forget it if this process has it open,
+    /// so that sparse queries go to Pinecone until it is
+    /// saved again.
+    ///
+    /// @param  localIndexDir   java.lang.String
+    /// @param  indexName       java.lang.String
+    /// @param  namespace       java.lang.String
+    public static void deleteSparseInvertedIndex(final String localIndexDir,
+                                                 final String indexName,
+                                                 final String namespace) {
+        if (logger.isTraceEnabled()) {
+            logger.trace(entryWith(localIndexDir, indexName, namespace));
+        }
+
+        if (isEnabled(localIndexDir)) {
+            final Path path = sparseInvertedIndexPath(localIndexDir, indexName, namespace);
+
+            sparseInvertedIndexes.remove(path);
+
+            deleteFile(path);
+        }
+
+        if (logger.isTraceEnabled()) {
+            logger.trace(exit());
+        }
+    }
+
+    /// Delete a local index file if there is one. A file
+    /// that cannot be deleted would answer later queries
+    /// with vectors that are no longer in Pinecone, so the
+    /// failure is thrown rather than logged.
+    ///
+    /// @param  path    java.nio.file.Path
+    private static void deleteFile(final Path path) {
+        if (logger.isTraceEnabled()) {
+            logger.trace(entryWith(path));
+        }
+
+        try {
+            if (Files.deleteIfExists(path)) {
+                logger.info("Deleted local index: {}", path);
+            }
+        } catch (final IOException ioe) {
+            throw new UncheckedIOException("Unable to delete local index: " + path, ioe);
+        }
+
+        if (logger.isTraceEnabled()) {
+            logger.trace(exit());
+        }
+    }
+
+    /// Return the index cached for a path, opening it on a
+    /// miss. Hits and misses are counted under the cache name.
+    ///
+    /// @param  <T>     The type of index
+    /// @param  cache   java.util.Map<java.nio.file.Path, java.util.Optional<T>>
+    /// @param  path    java.nio.file.Path
+    /// @param  name    java.lang.String
+    /// @param  opener  java.util.function.Function<java.nio.file.Path, java.util.Optional<T>>
+    /// @return         java.util.Optional<T>
+    private static <T> Optional<T> cached(final Map<Path, Optional<T>> cache,
+                                          final Path path,
+                                          final String name,
+                                          final Function<Path, Optional<T>> opener) {
+        final Optional<T> index = cache.get(path);
+
+        if (index != null) {
+            Metrics.incrementCacheHits(name);
+
+            return index;
+        }
+
+        Metrics.incrementCacheMisses(name);
+
+        return cache.computeIfAbsent(path, opener);
+    }
+
+    /// Open a flat dense index file.
+    ///
+    /// @param  path    java.nio.file.Path
+    /// @return         java.util.Optional<net.jmp.pinecone.quickstart.local.FlatDenseIndex>
+    private static Optional<FlatDenseIndex> openFlatDenseIndex(final Path path) {
+        if (logger.isTraceEnabled()) {
+            logger.trace(entryWith(path));
+        }
+
+        FlatDenseIndex index = null;
+
+        if (Files.isRegularFile(path)) {
+            try {
+                if (FlatDenseIndex.fitsInMemory(Files.size(path))) {
+                    index = FlatDenseIndex.load(path);
+
+                    logger.info("Opened local index with {} vectors: {}", index.size(), path);
+                } else {
+                    logger.info("Local index is too large to search in memory: {}", path);
+                }
+            } catch (final IOException ioe) {
+                logger.error("Unable to open local index: {}", path, ioe);
+            }
+        }
+
+        if (logger.isTraceEnabled()) {
+            logger.trace(exitWith(index));
+        }
+
+        return Optional.ofNullable(index);
+    }
+
+    /// Open an HNSW index file.
+    ///
+    /// @param  path    java.nio.file.Path
+    /// @return         java.util.Optional<net.jmp.pinecone.quickstart.local.MappedHnswIndex>
+    private static Optional<MappedHnswIndex> openHnswIndex(final Path path) {
+        if (logger.isTraceEnabled()) {
+            logger.trace(entryWith(path));
+        }
+
+        MappedHnswIndex index = null;
+
+        if (Files.isRegularFile(path)) {
+            try {
+                index = MappedHnswIndex.open(path);
+
+                logger.info("Opened local HNSW index with {} vectors: {}", index.size(), path);
+            } catch (final IOException ioe) {
+                logger.error("Unable to open local HNSW index: {}", path, ioe);
+            }
+        }
+
+        if (logger.isTraceEnabled()) {
+            logger.trace(exitWith(index));
+        }
+
+        return Optional.ofNullable(index);
+    }
+
+    /// Open a sparse inverted index file.
+    ///
+    /// @param  path    java.nio.file.Path
+    /// @return         java.util.Optional<net.jmp.pinecone.quickstart.local.SparseInvertedIndex>
+    private static Optional<SparseInvertedIndex> openSparseInvertedIndex(final Path path) {
+        if (logger.isTraceEnabled()) {
+            logger.trace(entryWith(path));
+        }
+
+        SparseInvertedIndex index = null;
+
+        if (Files.isRegularFile(path)) {
+            try {
+                index = SparseInvertedIndex.load(path);
+
+                logger.info("Opened local sparse index with {} vectors: {}", index.size(), path);
+            } catch (final IOException ioe) {
+                logger.error("Unable to open local sparse index: {}", path, ioe);
+            }
+        }
+
+        if (logger.isTraceEnabled()) {
+            logger.trace(exitWith(index));
+        }
+
+        return Optional.ofNullable(index);
+    }
+}
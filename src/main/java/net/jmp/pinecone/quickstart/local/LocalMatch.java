@@ -0,0 +1,91 @@
+package net.jmp.pinecone.quickstart.local;
+
+/*
+ * (#)LocalMatch.java   0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import net.jmp.pinecone.quickstart.text.UnstructuredTextDocument;
+
+/// The local match class. A match returned by one of
+/// the local indexes. Its identifier is that of the matched
+/// vector, the chunk identifier when the document was split,
+/// and its document carries the parent document identifier.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+public final class LocalMatch {
+    /// The vector identifier.
+    private final String vectorId;
+
+    /// The document the matched vector belongs to.
+    private final UnstructuredTextDocument document;
+
+    /// The score.
+    private final float score;
+
+    /// The constructor.
+    ///
+    /// @param  vectorId    java.lang.String
+    /// @param  document    net.jmp.pinecone.quickstart.text.UnstructuredTextDocument
+    /// @param  score       float
+    public LocalMatch(final String vectorId, final UnstructuredTextDocument document, final float score) {
+        super();
+
+        this.vectorId = vectorId;
+        this.document = document;
+        this.score = score;
+    }
+
+    /// Return the vector identifier.
+    ///
+    /// @return java.lang.String
+    public String getId() {
+        return this.vectorId;
+    }
+
+    /// Return the document.
+    ///
+    /// @return net.jmp.pinecone.quickstart.text.UnstructuredTextDocument
+    public UnstructuredTextDocument getDocument() {
+        return this.document;
+    }
+
+    /// Return the score.
+    ///
+    /// @return float
+    public float getScore() {
+        return this.score;
+    }
+
+    /// Return the string representation.
+    ///
+    /// @return java.lang.String
+    @Override
+    public String toString() {
+        return this.getId() + ": " + this.score;
+    }
+}
@@ -0,0 +1,409 @@
+package net.jmp.pinecone.quickstart.local;
+
+/*
+ * (#)MappedHnswIndex.java  0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.io.IOException;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+
+import java.nio.channels.FileChannel;
+
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import net.jmp.pinecone.quickstart.text.UnstructuredTextDocument;
+
+/// The mapped HNSW index class. Serves an index saved by
+/// HnswIndex directly from a memory-mapped file. Opening
+/// reads only the header and the category names; vectors,
+/// neighbour lists and metadata are read in place as the
+/// searches touch them, so a restart does not reload the
+/// graph and the operating system keeps the hot pages.
+///
+/// The index is read-only, so searches may run concurrently.
+/// Each search holds the mapping while it runs, so closing the
+/// index unmaps the file only once the searches in flight end.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+public final class MappedHnswIndex extends HnswGraph implements AutoCloseable {
+    /// The arena that owns the mapping.
+    private final Arena arena;
+
+    /// The mapped file.
+    private final MemorySegment segment;
+
+    /// The holders of the mapping: one for the opener until
+    /// it closes the index and one for each search in flight.
+    private final AtomicInteger holders = new AtomicInteger(1);
+
+    /// Whether the opener has closed the index.
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    /// The dimension.
+    private final int dimension;
+
+    /// The metric.
+    private final Metric metric;
+
+    /// The number of vectors.
+    private final int size;
+
+    /// The parameters the graph was built with.
+    private final HnswParameters parameters;
+
+    /// The entry point.
+    private final long entryPoint;
+
+    /// The category dictionary.
+    private final CategoryDictionary categoryDictionary = new CategoryDictionary();
+
+    /// The position of the category ordinals block.
+    private final long categoryOrdinalsStart;
+
+    /// The position of the adjacency offsets block.
+    private final long graphOffsetsStart;
+
+    /// The position of the metadata offsets block.
+    private final long metadataOffsetsStart;
+
+    /// The constructor.
+    ///
+    /// @param  arena   java.lang.foreign.Arena
+    /// @param  segment java.lang.foreign.MemorySegment
+    /// @param  path    java.nio.file.Path
+    /// @throws         java.io.IOException
+    private MappedHnswIndex(final Arena arena, final MemorySegment segment, final Path path) throws IOException {
+        super();
+
+        this.arena = arena;
+        this.segment = segment;
+
+        final SegmentReader reader = new SegmentReader(segment);
+
+        if (segment.byteSize() < HEADER_SIZE || reader.readInt() != MAGIC) {
+            throw new IOException("Not an HNSW index file: " + path);
+        }
+
+        final int version = reader.readInt();
+
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported HNSW index version: " + version);
+        }
+
+        this.dimension = reader.readInt();
+        this.metric = Metric.values()[reader.readInt()];
+        this.size = reader.readInt();
+
+        final int m = reader.readInt();
+        final int efConstruction = reader.readInt();
+        final int efSearch = reader.readInt();
+        final int entryNode = reader.readInt();
+        final int entryLevel = reader.readInt();
+        final int categoryCount = reader.readInt();
+
+        this.parameters = new HnswParameters(m, efConstruction, efSearch);
+        this.entryPoint = this.size == 0 ? NO_ENTRY_POINT : entryPoint(entryNode, entryLevel);
+
+        final long levelsStart = HEADER_SIZE + (long) this.size * this.dimension * Float.BYTES;
+
+        this.categoryOrdinalsStart = levelsStart + (long) this.size * Integer.BYTES;
+        this.graphOffsetsStart = this.categoryOrdinalsStart + (long) this.size * Integer.BYTES;
+        this.metadataOffsetsStart = this.graphOffsetsStart + (long) this.size * Long.BYTES;
+
+        reader.seek(this.metadataOffsetsStart + (long) this.size * Long.BYTES);
+
+        for (int i = 0; i < categoryCount; i++) {
+            this.categoryDictionary.encode(reader.readString());
+        }
+    }
+
+    /// Open an index file.
+    ///
+    /// @param  path    java.nio.file.Path
+    /// @return         net.jmp.pinecone.quickstart.local.MappedHnswIndex
+    /// @throws         java.io.IOException
+    public static MappedHnswIndex open(final Path path) throws IOException {
+        final Arena arena = Arena.ofShared();
+
+        try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final MemorySegment segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size(), arena);
+
+            return new MappedHnswIndex(arena, segment, path);
+        } catch (final IOException | RuntimeException e) {
+            arena.close();
+
+            throw e;
+        }
+    }
+
+    /// Return the number of vectors.
+    ///
+    /// @return int
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    /// Return the dimension.
+    ///
+    /// @return int
+    @Override
+    public int getDimension() {
+        return this.dimension;
+    }
+
+    /// Return the metric.
+    ///
+    /// @return net.jmp.pinecone.quickstart.local.Metric
+    @Override
+    public Metric getMetric() {
+        return this.metric;
+    }
+
+    /// Return the size of the candidate list during search.
+    ///
+    /// @return int
+    @Override
+    public int getEfSearch() {
+        return this.parameters.getEfSearch();
+    }
+
+    /// Return the parameters the graph was built with.
+    ///
+    /// @return net.jmp.pinecone.quickstart.local.HnswParameters
+    public HnswParameters getParameters() {
+        return this.parameters;
+    }
+
+    /// Search the index with a given candidate list size,
+    /// holding the mapping while the search runs.
+    ///
+    /// @param  query       float[]
+    /// @param  topK        int
+    /// @param  categories  java.util.Set<java.lang.String>
+    /// @param  efSearch    int
+    /// @return             java.util.List<net.jmp.pinecone.quickstart.local.LocalMatch>
+    @Override
+    public List<LocalMatch> search(final float[] query,
+                                   final int topK,
+                                   final Set<String> categories,
+                                   final int efSearch) {
+        this.hold();
+
+        try {
+            return super.search(query, topK, categories, efSearch);
+        } finally {
+            this.release();
+        }
+    }
+
+    /// Search every node at full precision, holding
+    /// the mapping while the search runs.
+    ///
+    /// @param  query       float[]
+    /// @param  topK        int
+    /// @param  categories  java.util.Set<java.lang.String>
+    /// @return             java.util.List<net.jmp.pinecone.quickstart.local.LocalMatch>
+    @Override
+    public List<LocalMatch> exactSearch(final float[] query, final int topK, final Set<String> categories) {
+        this.hold();
+
+        try {
+            return super.exactSearch(query, topK, categories);
+        } finally {
+            this.release();
+        }
+    }
+
+    /// Close the index. The file is unmapped once the
+    /// searches in flight end, and the index may not be
+    /// searched afterward.
+    @Override
+    public void close() {
+        if (this.closed.compareAndSet(false, true)) {
+            this.release();
+        }
+    }
+
+    /// Hold the mapping. No hold is given once the index is
+    /// closed, so the searches in flight drain and the file
+    /// is unmapped even while new searches keep arriving.
+    ///
+    /// @throws java.lang.IllegalStateException When the index is closed
+    private void hold() {
+        int count;
+
+        do {
+            count = this.holders.get();
+
+            if (count == 0 || this.closed.get()) {
+                throw new IllegalStateException("The HNSW index is closed");
+            }
+        } while (!this.holders.compareAndSet(count, count + 1));
+    }
+
+    /// Release a hold on the mapping, unmapping
+    /// the file when it was the last one.
+    private void release() {
+        if (this.holders.decrementAndGet() == 0) {
+            this.arena.close();
+        }
+    }
+
+    /// Copy the vector stored for a node. The copy is
+    /// normalized when the metric is cosine.
+    ///
+    /// @param  node    int
+    /// @return         float[]
+    @Override
+    public float[] getVector(final int node) {
+        Objects.checkIndex(node, this.size);
+
+        final float[] vector = new float[this.dimension];
+
+        this.hold();
+
+        try {
+            MemorySegment.copy(this.segment,
+                    SegmentReader.FLOAT,
+                    HEADER_SIZE + (long) node * this.dimension * Float.BYTES,
+                    vector,
+                    0,
+                    this.dimension);
+        } finally {
+            this.release();
+        }
+
+        return vector;
+    }
+
+    /// Return the score of a node against a prepared query.
+    ///
+    /// @param  query   float[]
+    /// @param  node    int
+    /// @return         float
+    @Override
+    float score(final float[] query, final int node) {
+        return VectorMath.dotProduct(query,
+                this.segment,
+                HEADER_SIZE + (long) node * this.dimension * Float.BYTES,
+                this.dimension);
+    }
+
+    /// Return the neighbours of a node on a layer.
+    ///
+    /// @param  node    int
+    /// @param  level   int
+    /// @return         int[]
+    @Override
+    int[] neighbors(final int node, final int level) {
+        long offset = this.segment.get(SegmentReader.LONG, this.graphOffsetsStart + (long) node * Long.BYTES);
+
+        for (int l = 0; l < level; l++) {   // Skip the lower layers
+            offset += Integer.BYTES + (long) this.segment.get(SegmentReader.INT, offset) * Integer.BYTES;
+        }
+
+        final int count = this.segment.get(SegmentReader.INT, offset);
+        final int[] neighbors = new int[count];
+
+        MemorySegment.copy(this.segment, SegmentReader.INT, offset + Integer.BYTES, neighbors, 0, count);
+
+        return neighbors;
+    }
+
+    /// Return the entry point.
+    ///
+    /// @return long
+    @Override
+    long entryPoint() {
+        return this.entryPoint;
+    }
+
+    /// Return the category ordinal of a node.
+    ///
+    /// @param  node    int
+    /// @return         int
+    @Override
+    int categoryOrdinal(final int node) {
+        return this.segment.get(SegmentReader.INT, this.categoryOrdinalsStart + (long) node * Integer.BYTES);
+    }
+
+    /// Return the category mask for a filter.
+    ///
+    /// @param  categories  java.util.Set<java.lang.String>
+    /// @return             boolean[]
+    @Override
+    boolean[] categoryMask(final Set<String> categories) {
+        return this.categoryDictionary.mask(categories);
+    }
+
+    /// Return the vector identifier of a node, the
+    /// first field of the node's metadata.
+    ///
+    /// @param  node    int
+    /// @return         java.lang.String
+    @Override
+    String vectorId(final int node) {
+        final SegmentReader reader = new SegmentReader(this.segment);
+
+        reader.seek(this.segment.get(SegmentReader.LONG, this.metadataOffsetsStart + (long) node * Long.BYTES));
+
+        return reader.readString();
+    }
+
+    /// Return the document of a node. Only the identifiers
+    /// and the category are kept in the file.
+    ///
+    /// @param  node    int
+    /// @return         net.jmp.pinecone.quickstart.text.UnstructuredTextDocument
+    @Override
+    UnstructuredTextDocument document(final int node) {
+        final SegmentReader reader = new SegmentReader(this.segment);
+
+        reader.seek(this.segment.get(SegmentReader.LONG, this.metadataOffsetsStart + (long) node * Long.BYTES));
+        reader.readString();    // The vector identifier
+
+        final String mongoId = reader.readString();
+        final String documentId = reader.readString();
+
+        return new UnstructuredTextDocument(mongoId,
+                documentId,
+                null,
+                this.categoryDictionary.decode(this.categoryOrdinal(node)));
+    }
+}
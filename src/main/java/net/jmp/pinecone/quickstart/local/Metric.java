@@ -0,0 +1,72 @@
+package net.jmp.pinecone.quickstart.local;
+
+/*
+ * (#)Metric.java   0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/// The similarity metrics supported by the local indexes.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+public enum Metric {
+    /// Cosine similarity.
+    COSINE("cosine"),
+
+    /// Dot product.
+    DOT_PRODUCT("dotproduct");
+
+    /// The Pinecone name of the metric.
+    private final String pineconeName;
+
+    /// The constructor.
+    ///
+    /// @param  pineconeName    java.lang.String
+    Metric(final String pineconeName) {
+        this.pineconeName = pineconeName;
+    }
+
+    /// Return the Pinecone name of the metric.
+    ///
+    /// @return java.lang.String
+    public String getPineconeName() {
+        return this.pineconeName;
+    }
+
+    /// Return the metric with the given Pinecone name.
+    ///
+    /// @param  pineconeName    java.lang.String
+    /// @return                 net.jmp.pinecone.quickstart.local.Metric
+    public static Metric fromPineconeName(final String pineconeName) {
+        for (final Metric metric : values()) {
+            if (metric.pineconeName.equalsIgnoreCase(pineconeName)) {
+                return metric;
+            }
+        }
+
+        throw new IllegalArgumentException("Unsupported metric: " + pineconeName);
+    }
+}
@@ -0,0 +1,137 @@
+package net.jmp.pinecone.quickstart.local;
+
+/*
+ * (#)NodeQueue.java    0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.Arrays;
+
+/// The node queue class. An unbounded max-heap of graph
+/// nodes by score, kept on primitive arrays. It holds the
+/// candidates still to be expanded during a graph search.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+final class NodeQueue {
+    /// The nodes in heap order.
+    private int[] nodes;
+
+    /// The scores in heap order.
+    private float[] scores;
+
+    /// The number of entries.
+    private int size;
+
+    /// The constructor.
+    ///
+    /// @param  capacity    int
+    NodeQueue(final int capacity) {
+        super();
+
+        this.nodes = new int[Math.max(1, capacity)];
+        this.scores = new float[Math.max(1, capacity)];
+    }
+
+    /// Add a node.
+    ///
+    /// @param  node    int
+    /// @param  score   float
+    void push(final int node, final float score) {
+        if (this.size == this.nodes.length) {
+            this.nodes = Arrays.copyOf(this.nodes, this.size << 1);
+            this.scores = Arrays.copyOf(this.scores, this.size << 1);
+        }
+
+        int position = this.size++;
+
+        while (position > 0) {
+            final int parent = (position - 1) >>> 1;
+
+            if (this.scores[parent] >= score) {
+                break;
+            }
+
+            this.nodes[position] = this.nodes[parent];
+            this.scores[position] = this.scores[parent];
+
+            position = parent;
+        }
+
+        this.nodes[position] = node;
+        this.scores[position] = score;
+    }
+
+    /// Return the highest score.
+    ///
+    /// @return float
+    float peekScore() {
+        return this.scores[0];
+    }
+
+    /// Remove and return the node with the highest score.
+    ///
+    /// @return int
+    int pop() {
+        final int top = this.nodes[0];
+        final int lastNode = this.nodes[--this.size];
+        final float lastScore = this.scores[this.size];
+
+        int position = 0;
+
+        while (true) {
+            final int left = (position << 1) + 1;
+
+            if (left >= this.size) {
+                break;
+            }
+
+            final int right = left + 1;
+            final int largest = (right < this.size && this.scores[right] > this.scores[left]) ? right : left;
+
+            if (lastScore >= this.scores[largest]) {
+                break;
+            }
+
+            this.nodes[position] = this.nodes[largest];
+            this.scores[position] = this.scores[largest];
+
+            position = largest;
+        }
+
+        this.nodes[position] = lastNode;
+        this.scores[position] = lastScore;
+
+        return top;
+    }
+
+    /// Return true if the queue is empty.
+    ///
+    /// @return boolean
+    boolean isEmpty() {
+        return this.size == 0;
+    }
+}
@@ -0,0 +1,183 @@
+package net.jmp.pinecone.quickstart.local;
+
+/*
+ * (#)PrimitiveLists.java   0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/// The primitive lists class. Converts the boxed lists used
+/// by the Pinecone client to primitive arrays, and wraps the
+/// arrays in read-only list views for the calls back into the
+/// client. A view copies nothing; a value is boxed only when
+/// the client reads it, and the box does not outlive the read.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+public final class PrimitiveLists {
+    /// The default constructor.
+    private PrimitiveLists() {
+        super();
+    }
+
+    /// Copy a list of floats to an array.
+    ///
+    /// @param  values  java.util.List<java.lang.Float>
+    /// @return         float[]
+    public static float[] toFloatArray(final List<Float> values) {
+        final float[] array = new float[values.size()];
+
+        int i = 0;
+
+        for (final Float value : values) {
+            array[i++] = value;
+        }
+
+        return array;
+    }
+
+    /// Copy a list of ints to an array.
+    ///
+    /// @param  values  java.util.List<java.lang.Integer>
+    /// @return         int[]
+    public static int[] toIntArray(final List<Integer> values) {
+        final int[] array = new int[values.size()];
+
+        int i = 0;
+
+        for (final Integer value : values) {
+            array[i++] = value;
+        }
+
+        return array;
+    }
+
+    /// Copy a list of unsigned 32-bit values held
+    /// in longs to an array of ints.
+    ///
+    /// @param  values  java.util.List<java.lang.Long>
+    /// @return         int[]
+    public static int[] toUnsignedIntArray(final List<Long> values) {
+        final int[] array = new int[values.size()];
+
+        int i = 0;
+
+        for (final Long value : values) {
+            if (value < 0 || value > 0xFFFFFFFFL) {
+                throw new IllegalArgumentException("Not an unsigned 32-bit value: " + value);
+            }
+
+            array[i++] = (int) value.longValue();
+        }
+
+        return array;
+    }
+
+    /// Return a list view of an array of floats.
+    ///
+    /// @param  values  float[]
+    /// @return         java.util.List<java.lang.Float>
+    public static List<Float> asList(final float[] values) {
+        return new FloatListView(values);
+    }
+
+    /// Return a list view of an array of unsigned
+    /// 32-bit values, each widened to a long.
+    ///
+    /// @param  values  int[]
+    /// @return         java.util.List<java.lang.Long>
+    public static List<Long> asUnsignedList(final int[] values) {
+        return new UnsignedIntListView(values);
+    }
+
+    /// A read-only list view of a float array.
+    private static final class FloatListView extends AbstractList<Float> implements RandomAccess {
+        /// The values.
+        private final float[] values;
+
+        /// The constructor.
+        ///
+        /// @param  values  float[]
+        private FloatListView(final float[] values) {
+            super();
+
+            this.values = Objects.requireNonNull(values);
+        }
+
+        /// Return the value at an index.
+        ///
+        /// @param  index   int
+        /// @return         java.lang.Float
+        @Override
+        public Float get(final int index) {
+            return this.values[index];
+        }
+
+        /// Return the number of values.
+        ///
+        /// @return int
+        @Override
+        public int size() {
+            return this.values.length;
+        }
+    }
+
+    /// A read-only list view of an unsigned int array.
+    private static final class UnsignedIntListView extends AbstractList<Long> implements RandomAccess {
+        /// The values.
+        private final int[] values;
+
+        /// The constructor.
+        ///
+        /// @param  values  int[]
+        private UnsignedIntListView(final int[] values) {
+            super();
+
+            this.values = Objects.requireNonNull(values);
+        }
+
+        /// Return the value at an index.
+        ///
+        /// @param  index   int
+        /// @return         java.lang.Long
+        @Override
+        public Long get(final int index) {
+            return Integer.toUnsignedLong(this.values[index]);
+        }
+
+        /// Return the number of values.
+        ///
+        /// @return int
+        @Override
+        public int size() {
+            return this.values.length;
+        }
+    }
+}
@@ -0,0 +1,377 @@
+package net.jmp.pinecone.quickstart.local;
+
+/*
+ * (#)ProductQuantizer.java 0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.Arrays;
+import java.util.Random;
+
+import java.util.stream.IntStream;
+
+/// The product quantizer class. Splits a vector into equal
+/// subspaces and replaces each subvector with the index of
+/// its nearest centroid in a codebook trained by k-means, so
+/// a vector costs one byte per subspace.
+///
+/// Queries are scored asymmetrically: the query stays at full
+/// precision and its dot product with every centroid is put
+/// in a lookup table once, after which scoring a code is one
+/// table lookup per subspace.
+///
+/// The quantizer is immutable once trained.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+public final class ProductQuantizer implements VectorQuantizer {
+    /// The largest number of centroids a byte can address.
+    public static final int MAX_CENTROIDS = 256;
+
+    /// The default number of k-means iterations.
+    public static final int DEFAULT_ITERATIONS = 10;
+
+    /// The dimension.
+    private final int dimension;
+
+    /// The number of subspaces.
+    private final int subspaces;
+
+    /// The dimension of one subspace.
+    private final int subDimension;
+
+    /// The number of centroids in each codebook.
+    private final int centroids;
+
+    /// The codebooks, one row of subDimension floats per
+    /// centroid, with the codebook of each subspace in turn.
+    private final float[] codebooks;
+
+    /// Half the squared norm of every centroid, in codebook order.
+    private final float[] halfNorms;
+
+    /// The constructor.
+    ///
+    /// @param  dimension   int
+    /// @param  subspaces   int
+    /// @param  centroids   int
+    /// @param  codebooks   float[]
+    private ProductQuantizer(final int dimension, final int subspaces, final int centroids, final float[] codebooks) {
+        super();
+
+        this.dimension = dimension;
+        this.subspaces = subspaces;
+        this.subDimension = dimension / subspaces;
+        this.centroids = centroids;
+        this.codebooks = codebooks;
+        this.halfNorms = halfNorms(codebooks, 0, subspaces * centroids, this.subDimension);
+    }
+
+    /// Train a quantizer on a sample of vectors.
+    ///
+    /// @param  sample      float[][]
+    /// @param  subspaces   int
+    /// @return             net.jmp.pinecone.quickstart.local.ProductQuantizer
+    public static ProductQuantizer train(final float[][] sample, final int subspaces) {
+        return train(sample, subspaces, DEFAULT_ITERATIONS, 0L);
+    }
+
+    /// Train a quantizer on a sample of vectors. Each subspace
+    /// is clustered independently, so they train in parallel.
+    ///
+    /// @param  sample      float[][]
+    /// @param  subspaces   int
+    /// @param  iterations  int
+    /// @param  seed        long
+    /// @return             net.jmp.pinecone.quickstart.local.ProductQuantizer
+    public static ProductQuantizer train(final float[][] sample,
+                                         final int subspaces,
+                                         final int iterations,
+                                         final long seed) {
+        if (sample.length == 0) {
+            throw new IllegalArgumentException("The training sample is empty");
+        }
+
+        final int dimension = sample[0].length;
+
+        if (subspaces <= 0 || dimension % subspaces != 0) {
+            throw new IllegalArgumentException("Subspaces must divide the dimension " + dimension + ": " + subspaces);
+        }
+
+        final int subDimension = dimension / subspaces;
+        final int centroids = Math.min(MAX_CENTROIDS, sample.length);
+        final float[] codebooks = new float[subspaces * centroids * subDimension];
+
+        IntStream.range(0, subspaces)
+                .parallel()
+                .forEach(s -> kMeans(sample,
+                        s * subDimension,
+                        subDimension,
+                        centroids,
+                        iterations,
+                        new Random(seed + s),
+                        codebooks,
+                        s * centroids * subDimension));
+
+        return new ProductQuantizer(dimension, subspaces, centroids, codebooks);
+    }
+
+    /// Cluster one subspace of the sample with Lloyd's
+    /// algorithm, writing the centroids into the codebooks.
+    ///
+    /// @param  sample          float[][]
+    /// @param  subOffset       int
+    /// @param  subDimension    int
+    /// @param  centroids       int
+    /// @param  iterations      int
+    /// @param  random          java.util.Random
+    /// @param  codebooks       float[]
+    /// @param  codebookOffset  int
+    private static void kMeans(final float[][] sample,
+                               final int subOffset,
+                               final int subDimension,
+                               final int centroids,
+                               final int iterations,
+                               final Random random,
+                               final float[] codebooks,
+                               final int codebookOffset) {
+        final int[] order = IntStream.range(0, sample.length).toArray();
+
+        for (int i = order.length - 1; i > 0; i--) {   // Seed with distinct sample rows
+            final int j = random.nextInt(i + 1);
+            final int swap = order[i];
+
+            order[i] = order[j];
+            order[j] = swap;
+        }
+
+        for (int c = 0; c < centroids; c++) {
+            System.arraycopy(sample[order[c]], subOffset, codebooks, codebookOffset + c * subDimension, subDimension);
+        }
+
+        final int[] assignments = new int[sample.length];
+        final int[] counts = new int[centroids];
+        final float[] sums = new float[centroids * subDimension];
+
+        for (int iteration = 0; iteration < iterations; iteration++) {
+            final float[] halfNorms = halfNorms(codebooks, codebookOffset, centroids, subDimension);
+
+            Arrays.fill(counts, 0);
+            Arrays.fill(sums, 0.0f);
+
+            for (int v = 0; v < sample.length; v++) {
+                final int nearest = nearest(sample[v],
+                        subOffset,
+                        codebooks,
+                        codebookOffset,
+                        halfNorms,
+                        0,
+                        centroids,
+                        subDimension);
+
+                assignments[v] = nearest;
+                counts[nearest]++;
+
+                for (int d = 0; d < subDimension; d++) {
+                    sums[nearest * subDimension + d] += sample[v][subOffset + d];
+                }
+            }
+
+            for (int c = 0; c < centroids; c++) {
+                final int row = codebookOffset + c * subDimension;
+
+                if (counts[c] == 0) {   // Reseed an empty cluster from a random row
+                    System.arraycopy(sample[random.nextInt(sample.length)], subOffset, codebooks, row, subDimension);
+                } else {
+                    for (int d = 0; d < subDimension; d++) {
+                        codebooks[row + d] = sums[c * subDimension + d] / counts[c];
+                    }
+                }
+            }
+        }
+    }
+
+    /// Return half the squared norm of every centroid in a codebook.
+    ///
+    /// @param  codebooks       float[]
+    /// @param  codebookOffset  int
+    /// @param  centroids       int
+    /// @param  subDimension    int
+    /// @return                 float[]
+    private static float[] halfNorms(final float[] codebooks,
+                                     final int codebookOffset,
+                                     final int centroids,
+                                     final int subDimension) {
+        final float[] halfNorms = new float[centroids];
+
+        for (int c = 0; c < centroids; c++) {
+            final int row = codebookOffset + c * subDimension;
+
+            halfNorms[c] = 0.5f * VectorMath.dotProduct(codebooks, row, codebooks, row, subDimension);
+        }
+
+        return halfNorms;
+    }
+
+    /// Return the centroid nearest to a subvector. Minimizing
+    /// the euclidean distance is the same as maximizing the dot
+    /// product less half the centroid's squared norm.
+    ///
+    /// @param  vector          float[]
+    /// @param  subOffset       int
+    /// @param  codebooks       float[]
+    /// @param  codebookOffset  int
+    /// @param  halfNorms       float[]
+    /// @param  halfNormsOffset int
+    /// @param  centroids       int
+    /// @param  subDimension    int
+    /// @return                 int
+    private static int nearest(final float[] vector,
+                               final int subOffset,
+                               final float[] codebooks,
+                               final int codebookOffset,
+                               final float[] halfNorms,
+                               final int halfNormsOffset,
+                               final int centroids,
+                               final int subDimension) {
+        int best = 0;
+        float bestScore = Float.NEGATIVE_INFINITY;
+
+        for (int c = 0; c < centroids; c++) {
+            final float score = VectorMath.dotProduct(vector,
+                    subOffset,
+                    codebooks,
+                    codebookOffset + c * subDimension,
+                    subDimension) - halfNorms[halfNormsOffset + c];
+
+            if (score > bestScore) {
+                best = c;
+                bestScore = score;
+            }
+        }
+
+        return best;
+    }
+
+    /// Return the dimension of the vectors.
+    ///
+    /// @return int
+    @Override
+    public int getDimension() {
+        return this.dimension;
+    }
+
+    /// Return the number of bytes in the code of one vector.
+    ///
+    /// @return int
+    @Override
+    public int getCodeSize() {
+        return this.subspaces;
+    }
+
+    /// Return the number of bytes the codebooks occupy.
+    ///
+    /// @return long
+    @Override
+    public long getFootprint() {
+        return (long) this.codebooks.length * Float.BYTES;
+    }
+
+    /// Return the number of subspaces.
+    ///
+    /// @return int
+    public int getSubspaces() {
+        return this.subspaces;
+    }
+
+    /// Encode a vector into a row of a code array.
+    ///
+    /// @param  vector  float[]
+    /// @param  codes   byte[]
+    /// @param  offset  int
+    @Override
+    public void encode(final float[] vector, final byte[] codes, final int offset) {
+        if (vector.length != this.dimension) {
+            throw new IllegalArgumentException("Expected " + this.dimension + " dimensions but found " + vector.length);
+        }
+
+        for (int s = 0; s < this.subspaces; s++) {
+            codes[offset + s] = (byte) nearest(vector,
+                    s * this.subDimension,
+                    this.codebooks,
+                    s * this.centroids * this.subDimension,
+                    this.halfNorms,
+                    s * this.centroids,
+                    this.centroids,
+                    this.subDimension);
+        }
+    }
+
+    /// Return a scorer for a query. The dot products of the
+    /// query with every centroid are computed once here.
+    ///
+    /// @param  query   float[]
+    /// @return         net.jmp.pinecone.quickstart.local.VectorQuantizer.Scorer
+    @Override
+    public Scorer scorer(final float[] query) {
+        if (query.length != this.dimension) {
+            throw new IllegalArgumentException("Expected " + this.dimension + " dimensions but found " + query.length);
+        }
+
+        final float[] table = new float[this.subspaces * this.centroids];
+
+        for (int s = 0; s < this.subspaces; s++) {
+            for (int c = 0; c < this.centroids; c++) {
+                table[s * this.centroids + c] = VectorMath.dotProduct(query,
+                        s * this.subDimension,
+                        this.codebooks,
+                        (s * this.centroids + c) * this.subDimension,
+                        this.subDimension);
+            }
+        }
+
+        final int subspaces = this.subspaces;
+        final int centroids = this.centroids;
+
+        return (codes, offset) -> {
+            float score = 0.0f;
+
+            for (int s = 0; s < subspaces; s++) {
+                score += table[s * centroids + (codes[offset + s] & 0xFF)];
+            }
+
+            return score;
+        };
+    }
+
+    /// Return the string representation.
+    ///
+    /// @return java.lang.String
+    @Override
+    public String toString() {
+        return "pq" + this.subspaces + "x" + this.centroids;
+    }
+}
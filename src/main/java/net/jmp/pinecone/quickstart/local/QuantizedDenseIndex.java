@@ -0,0 +1,223 @@
+package net.jmp.pinecone.quickstart.local;
+
+/*
+ * (#)QuantizedDenseIndex.java  0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import java.util.stream.IntStream;
+
+/// The quantized dense index class. Keeps only the quantized
+/// codes of an HNSW index on the heap and scans them with the
+/// quantizer's asymmetric scorer. The best candidates are then
+/// rescored at full precision against the vectors of the HNSW
+/// index, which stay in its memory-mapped file, so only the
+/// pages of the few rescored vectors are touched.
+///
+/// The index is read-only, so searches may run concurrently.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+public final class QuantizedDenseIndex implements DenseSearcher {
+    /// The default number of candidates rescored per result.
+    public static final int DEFAULT_RESCORE_FACTOR = 4;
+
+    /// The smallest partition worth scanning on its own core.
+    private static final int MIN_PARTITION_SIZE = 4096;
+
+    /// The index holding the full-precision vectors.
+    private final HnswGraph source;
+
+    /// The quantizer.
+    private final VectorQuantizer quantizer;
+
+    /// The code size in bytes.
+    private final int codeSize;
+
+    /// The codes, one row of code size bytes per node.
+    private final byte[] codes;
+
+    /// The constructor. Encodes every vector of the source.
+    ///
+    /// @param  source      net.jmp.pinecone.quickstart.local.HnswGraph
+    /// @param  quantizer   net.jmp.pinecone.quickstart.local.VectorQuantizer
+    QuantizedDenseIndex(final HnswGraph source, final VectorQuantizer quantizer) {
+        super();
+
+        if (quantizer.getDimension() != source.getDimension()) {
+            throw new IllegalArgumentException("Expected " + source.getDimension() + " dimensions but found " + quantizer.getDimension());
+        }
+
+        this.source = source;
+        this.quantizer = quantizer;
+        this.codeSize = quantizer.getCodeSize();
+        this.codes = new byte[Math.multiplyExact(source.size(), this.codeSize)];
+
+        IntStream.range(0, source.size())
+                .parallel()
+                .forEach(node -> quantizer.encode(source.getVector(node), this.codes, node * this.codeSize));
+    }
+
+    /// Quantize a memory-mapped HNSW index.
+    ///
+    /// @param  source      net.jmp.pinecone.quickstart.local.MappedHnswIndex
+    /// @param  quantizer   net.jmp.pinecone.quickstart.local.VectorQuantizer
+    /// @return             net.jmp.pinecone.quickstart.local.QuantizedDenseIndex
+    public static QuantizedDenseIndex of(final MappedHnswIndex source, final VectorQuantizer quantizer) {
+        return new QuantizedDenseIndex(Objects.requireNonNull(source), Objects.requireNonNull(quantizer));
+    }
+
+    /// Search the index, rescoring the default number of candidates.
+    ///
+    /// @param  query       float[]
+    /// @param  topK        int
+    /// @param  categories  java.util.Set<java.lang.String>
+    /// @return             java.util.List<net.jmp.pinecone.quickstart.local.LocalMatch>
+    @Override
+    public List<LocalMatch> search(final float[] query, final int topK, final Set<String> categories) {
+        return this.search(query, topK, categories, DEFAULT_RESCORE_FACTOR);
+    }
+
+    /// Search the index. The quantized scan keeps topK times
+    /// the rescore factor candidates and the full-precision
+    /// pass keeps the topK best of those. A rescore factor of
+    /// zero returns the quantized scores as they are.
+    ///
+    /// @param  query           float[]
+    /// @param  topK            int
+    /// @param  categories      java.util.Set<java.lang.String>
+    /// @param  rescoreFactor   int
+    /// @return                 java.util.List<net.jmp.pinecone.quickstart.local.LocalMatch>
+    public List<LocalMatch> search(final float[] query,
+                                   final int topK,
+                                   final Set<String> categories,
+                                   final int rescoreFactor) {
+        if (query.length != this.getDimension()) {
+            throw new IllegalArgumentException("Expected " + this.getDimension() + " dimensions but found " + query.length);
+        }
+
+        if (rescoreFactor < 0) {
+            throw new IllegalArgumentException("Rescore factor must not be negative: " + rescoreFactor);
+        }
+
+        final float[] prepared = this.source.prepare(query);
+        final boolean[] mask = this.source.categoryMask(categories);
+        final VectorQuantizer.Scorer scorer = this.quantizer.scorer(prepared);
+        final int candidateCount = rescoreFactor == 0 ? topK : Math.multiplyExact(topK, rescoreFactor);
+        final int size = this.size();
+
+        final int partitions = Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(),
+                size / MIN_PARTITION_SIZE));
+        final int partitionSize = (size + partitions - 1) / partitions;
+
+        final TopK candidates;
+
+        if (partitions == 1) {
+            candidates = this.scan(scorer, mask, candidateCount, 0, size);
+        } else {
+            candidates = IntStream.range(0, partitions)
+                    .parallel()
+                    .mapToObj(p -> this.scan(scorer,
+                            mask,
+                            candidateCount,
+                            p * partitionSize,
+                            Math.min(size, (p + 1) * partitionSize)))
+                    .reduce(TopK::merge)
+                    .orElseGet(() -> new TopK(candidateCount));
+        }
+
+        if (rescoreFactor == 0) {
+            return this.source.toMatches(candidates, topK);
+        }
+
+        final TopK best = new TopK(topK);
+
+        for (final int node : candidates.ordinals()) {
+            best.offer(node, this.source.score(prepared, node));
+        }
+
+        return this.source.toMatches(best, topK);
+    }
+
+    /// Scan one partition of the codes.
+    ///
+    /// @param  scorer          net.jmp.pinecone.quickstart.local.VectorQuantizer.Scorer
+    /// @param  mask            boolean[]
+    /// @param  candidateCount  int
+    /// @param  from            int
+    /// @param  to              int
+    /// @return                 net.jmp.pinecone.quickstart.local.TopK
+    private TopK scan(final VectorQuantizer.Scorer scorer,
+                      final boolean[] mask,
+                      final int candidateCount,
+                      final int from,
+                      final int to) {
+        final TopK candidates = new TopK(candidateCount);
+
+        for (int node = from; node < to; node++) {
+            if (this.source.accepts(mask, node)) {
+                candidates.offer(node, scorer.score(this.codes, node * this.codeSize));
+            }
+        }
+
+        return candidates;
+    }
+
+    /// Return the number of vectors.
+    ///
+    /// @return int
+    @Override
+    public int size() {
+        return this.codes.length / this.codeSize;
+    }
+
+    /// Return the dimension.
+    ///
+    /// @return int
+    @Override
+    public int getDimension() {
+        return this.source.getDimension();
+    }
+
+    /// Return the quantizer.
+    ///
+    /// @return net.jmp.pinecone.quickstart.local.VectorQuantizer
+    public VectorQuantizer getQuantizer() {
+        return this.quantizer;
+    }
+
+    /// Return the number of heap bytes the codes
+    /// and the quantizer occupy together.
+    ///
+    /// @return long
+    public long getFootprint() {
+        return this.codes.length + this.quantizer.getFootprint();
+    }
+}
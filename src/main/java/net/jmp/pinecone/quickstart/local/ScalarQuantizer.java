@@ -0,0 +1,144 @@
+package net.jmp.pinecone.quickstart.local;
+
+/*
+ * (#)ScalarQuantizer.java  0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+import java.nio.ByteOrder;
+
+/// The scalar quantizer class. Encodes each component as a
+/// signed byte with one scale per vector, so a vector costs
+/// its dimension plus four bytes instead of four bytes per
+/// component. The scale is the largest magnitude divided by
+/// 127 and is stored little-endian after the components.
+///
+/// No training is needed; the quantizer is stateless.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+public final class ScalarQuantizer implements VectorQuantizer {
+    /// The largest code magnitude.
+    private static final int MAX_CODE = 127;
+
+    /// A view of a byte array as little-endian floats.
+    private static final VarHandle FLOAT = MethodHandles.byteArrayViewVarHandle(float[].class, ByteOrder.LITTLE_ENDIAN);
+
+    /// The dimension.
+    private final int dimension;
+
+    /// The constructor.
+    ///
+    /// @param  dimension   int
+    public ScalarQuantizer(final int dimension) {
+        super();
+
+        if (dimension <= 0) {
+            throw new IllegalArgumentException("Dimension must be positive: " + dimension);
+        }
+
+        this.dimension = dimension;
+    }
+
+    /// Return the dimension of the vectors.
+    ///
+    /// @return int
+    @Override
+    public int getDimension() {
+        return this.dimension;
+    }
+
+    /// Return the number of bytes in the code of one vector.
+    ///
+    /// @return int
+    @Override
+    public int getCodeSize() {
+        return this.dimension + Float.BYTES;
+    }
+
+    /// Return the number of bytes the quantizer itself occupies.
+    ///
+    /// @return long
+    @Override
+    public long getFootprint() {
+        return 0L;
+    }
+
+    /// Encode a vector into a row of a code array.
+    ///
+    /// @param  vector  float[]
+    /// @param  codes   byte[]
+    /// @param  offset  int
+    @Override
+    public void encode(final float[] vector, final byte[] codes, final int offset) {
+        if (vector.length != this.dimension) {
+            throw new IllegalArgumentException("Expected " + this.dimension + " dimensions but found " + vector.length);
+        }
+
+        float maxMagnitude = 0.0f;
+
+        for (final float value : vector) {
+            maxMagnitude = Math.max(maxMagnitude, Math.abs(value));
+        }
+
+        final float scale = maxMagnitude / MAX_CODE;
+
+        for (int i = 0; i < this.dimension; i++) {
+            final int code = scale == 0.0f ? 0 : Math.round(vector[i] / scale);
+
+            codes[offset + i] = (byte) Math.max(-MAX_CODE, Math.min(MAX_CODE, code));
+        }
+
+        FLOAT.set(codes, offset + this.dimension, scale);
+    }
+
+    /// Return a scorer for a query.
+    ///
+    /// @param  query   float[]
+    /// @return         net.jmp.pinecone.quickstart.local.VectorQuantizer.Scorer
+    @Override
+    public Scorer scorer(final float[] query) {
+        if (query.length != this.dimension) {
+            throw new IllegalArgumentException("Expected " + this.dimension + " dimensions but found " + query.length);
+        }
+
+        final int length = this.dimension;
+
+        return (codes, offset) ->
+                VectorMath.dotProduct(query, codes, offset, length) * (float) FLOAT.get(codes, offset + length);
+    }
+
+    /// Return the string representation.
+    ///
+    /// @return java.lang.String
+    @Override
+    public String toString() {
+        return "int8";
+    }
+}
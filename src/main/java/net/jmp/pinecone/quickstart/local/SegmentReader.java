@@ -0,0 +1,154 @@
+package net.jmp.pinecone.quickstart.local;
+
+/*
+ * (#)SegmentReader.java    0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import java.nio.ByteOrder;
+
+import java.nio.charset.StandardCharsets;
+
+/// The segment reader class. A sequential reader over a
+/// memory-mapped local index file written by SegmentWriter.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+final class SegmentReader {
+    /// The int layout.
+    static final ValueLayout.OfInt INT = ValueLayout.JAVA_INT_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+
+    /// The long layout.
+    static final ValueLayout.OfLong LONG = ValueLayout.JAVA_LONG_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+
+    /// The float layout.
+    static final ValueLayout.OfFloat FLOAT = ValueLayout.JAVA_FLOAT_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+
+    /// The memory segment.
+    private final MemorySegment segment;
+
+    /// The current position.
+    private long position;
+
+    /// The constructor.
+    ///
+    /// @param  segment java.lang.foreign.MemorySegment
+    SegmentReader(final MemorySegment segment) {
+        super();
+
+        this.segment = segment;
+    }
+
+    /// Read an int.
+    ///
+    /// @return int
+    int readInt() {
+        final int value = this.segment.get(INT, this.position);
+
+        this.position += Integer.BYTES;
+
+        return value;
+    }
+
+    /// Read a long.
+    ///
+    /// @return long
+    long readLong() {
+        final long value = this.segment.get(LONG, this.position);
+
+        this.position += Long.BYTES;
+
+        return value;
+    }
+
+    /// Read a length-prefixed UTF-8 string.
+    ///
+    /// @return java.lang.String
+    String readString() {
+        final int length = this.readInt();
+        final byte[] bytes = new byte[length];
+
+        MemorySegment.copy(this.segment, ValueLayout.JAVA_BYTE, this.position, bytes, 0, length);
+
+        this.position += length;
+
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /// Read floats into an array.
+    ///
+    /// @param  destination float[]
+    /// @param  count       int
+    void readFloats(final float[] destination, final int count) {
+        MemorySegment.copy(this.segment, FLOAT, this.position, destination, 0, count);
+
+        this.position += (long) count * Float.BYTES;
+    }
+
+    /// Read bytes into an array.
+    ///
+    /// @param  destination byte[]
+    /// @param  count       int
+    void readBytes(final byte[] destination, final int count) {
+        MemorySegment.copy(this.segment, ValueLayout.JAVA_BYTE, this.position, destination, 0, count);
+
+        this.position += count;
+    }
+
+    /// Read ints into an array.
+    ///
+    /// @param  destination int[]
+    /// @param  count       int
+    void readInts(final int[] destination, final int count) {
+        MemorySegment.copy(this.segment, INT, this.position, destination, 0, count);
+
+        this.position += (long) count * Integer.BYTES;
+    }
+
+    /// Move to an absolute position.
+    ///
+    /// @param  position    long
+    void seek(final long position) {
+        this.position = position;
+    }
+
+    /// Skip bytes.
+    ///
+    /// @param  bytes   long
+    void skip(final long bytes) {
+        this.position += bytes;
+    }
+
+    /// Return the current position.
+    ///
+    /// @return long
+    long position() {
+        return this.position;
+    }
+}
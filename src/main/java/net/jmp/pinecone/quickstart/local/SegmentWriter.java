@@ -0,0 +1,187 @@
+package net.jmp.pinecone.quickstart.local;
+
+/*
+ * (#)SegmentWriter.java    0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import java.nio.charset.StandardCharsets;
+
+/// The segment writer class. A sequential writer for local
+/// index files. Values are little-endian so that a mapped
+/// file can be scored in place on the common platforms.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+final class SegmentWriter implements AutoCloseable {
+    /// The output stream.
+    private final OutputStream out;
+
+    /// The scratch buffer.
+    private final ByteBuffer buffer = ByteBuffer.allocate(1 << 16).order(ByteOrder.LITTLE_ENDIAN);
+
+    /// The number of bytes written.
+    private long position;
+
+    /// The constructor.
+    ///
+    /// @param  out java.io.OutputStream
+    SegmentWriter(final OutputStream out) {
+        super();
+
+        this.out = out;
+    }
+
+    /// Write an int.
+    ///
+    /// @param  value   int
+    /// @throws         java.io.IOException
+    void writeInt(final int value) throws IOException {
+        this.ensureRemaining(Integer.BYTES);
+        this.buffer.putInt(value);
+    }
+
+    /// Write a long.
+    ///
+    /// @param  value   long
+    /// @throws         java.io.IOException
+    void writeLong(final long value) throws IOException {
+        this.ensureRemaining(Long.BYTES);
+        this.buffer.putLong(value);
+    }
+
+    /// Write floats from an array.
+    ///
+    /// @param  values  float[]
+    /// @param  offset  int
+    /// @param  count   int
+    /// @throws         java.io.IOException
+    void writeFloats(final float[] values, final int offset, final int count) throws IOException {
+        for (int i = offset; i < offset + count; i++) {
+            this.ensureRemaining(Float.BYTES);
+            this.buffer.putFloat(values[i]);
+        }
+    }
+
+    /// Write ints from an array.
+    ///
+    /// @param  values  int[]
+    /// @param  offset  int
+    /// @param  count   int
+    /// @throws         java.io.IOException
+    void writeInts(final int[] values, final int offset, final int count) throws IOException {
+        for (int i = offset; i < offset + count; i++) {
+            this.writeInt(values[i]);
+        }
+    }
+
+    /// Write a length-prefixed UTF-8 string.
+    ///
+    /// @param  value   java.lang.String
+    /// @throws         java.io.IOException
+    void writeString(final String value) throws IOException {
+        final byte[] bytes = utf8(value);
+
+        this.writeInt(bytes.length);
+        this.writeBytes(bytes);
+    }
+
+    /// Write bytes.
+    ///
+    /// @param  bytes   byte[]
+    /// @throws         java.io.IOException
+    void writeBytes(final byte[] bytes) throws IOException {
+        int offset = 0;
+
+        while (offset < bytes.length) {
+            this.ensureRemaining(1);
+
+            final int length = Math.min(this.buffer.remaining(), bytes.length - offset);
+
+            this.buffer.put(bytes, offset, length);
+
+            offset += length;
+        }
+    }
+
+    /// Return the number of bytes written so far.
+    ///
+    /// @return long
+    long position() {
+        return this.position + this.buffer.position();
+    }
+
+    /// Return the size of a length-prefixed UTF-8 string.
+    ///
+    /// @param  value   java.lang.String
+    /// @return         int
+    static int sizeOf(final String value) {
+        return Integer.BYTES + utf8(value).length;
+    }
+
+    /// Flush and close the writer.
+    ///
+    /// @throws java.io.IOException
+    @Override
+    public void close() throws IOException {
+        this.drain();
+        this.out.close();
+    }
+
+    /// Encode a string, treating null as empty.
+    ///
+    /// @param  value   java.lang.String
+    /// @return         byte[]
+    private static byte[] utf8(final String value) {
+        return (value == null ? "" : value).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /// Drain the buffer if it cannot hold the given number of bytes.
+    ///
+    /// @param  bytes   int
+    /// @throws         java.io.IOException
+    private void ensureRemaining(final int bytes) throws IOException {
+        if (this.buffer.remaining() < bytes) {
+            this.drain();
+        }
+    }
+
+    /// Write the buffered bytes to the output stream.
+    ///
+    /// @throws java.io.IOException
+    private void drain() throws IOException {
+        this.out.write(this.buffer.array(), 0, this.buffer.position());
+
+        this.position += this.buffer.position();
+        this.buffer.clear();
+    }
+}
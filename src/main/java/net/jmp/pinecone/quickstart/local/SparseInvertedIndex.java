@@ -0,0 +1,729 @@
+package net.jmp.pinecone.quickstart.local;
+
+/*
+ * (#)SparseInvertedIndex.java  0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.io.IOException;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+
+import java.nio.channels.FileChannel;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import java.util.*;
+
+import net.jmp.pinecone.quickstart.text.UnstructuredTextDocument;
+
+/// The sparse inverted index class. Holds one posting list
+/// per sparse term and answers dot-product top-k queries
+/// with WAND dynamic pruning, so documents that cannot beat
+/// the current k-th score are skipped without being scored.
+///
+/// Terms are the unsigned 32-bit sparse indices produced by
+/// the sparse embedding model. Each posting list stores its
+/// document ordinals as varint-encoded gaps, with a skip entry
+/// every SKIP_INTERVAL postings, and its weights as floats.
+/// Document weights are expected to be non-negative, as the
+/// sparse embedding model produces them.
+///
+/// The index is built once with a Builder and is read-only
+/// afterward, so searches may run concurrently.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+public final class SparseInvertedIndex {
+    /// The file magic number.
+    private static final int MAGIC = 0x53505253;    // SPRS
+
+    /// The file format version.
+    private static final int FORMAT_VERSION = 2;
+
+    /// The number of postings between skip entries.
+    private static final int SKIP_INTERVAL = 64;
+
+    /// The document ordinal of an exhausted cursor.
+    private static final int NO_MORE_DOCS = Integer.MAX_VALUE;
+
+    /// The category dictionary.
+    private final CategoryDictionary categoryDictionary;
+
+    /// The terms in unsigned order.
+    private int[] terms;
+
+    /// The number of postings of each term.
+    private int[] postingCounts;
+
+    /// The offset of each term's first posting in the weights.
+    private int[] postingOffsets;
+
+    /// The byte offset of each term's gaps in the document bytes.
+    private int[] documentOffsets;
+
+    /// The largest weight of each term.
+    private float[] maxWeights;
+
+    /// The offset of each term's first skip entry.
+    private int[] skipOffsets;
+
+    /// The document ordinal before each skipped-to posting.
+    private int[] skipDocuments;
+
+    /// The byte offset of each skipped-to posting.
+    private int[] skipPositions;
+
+    /// The varint-encoded document ordinal gaps of all terms.
+    private byte[] documentGaps;
+
+    /// The weights of all postings.
+    private float[] weights;
+
+    /// The category ordinal of each document.
+    private int[] categoryOrdinals;
+
+    /// The vector identifiers by ordinal.
+    private String[] vectorIds;
+
+    /// The documents by ordinal.
+    private UnstructuredTextDocument[] documents;
+
+    /// The constructor.
+    ///
+    /// @param  categoryDictionary  net.jmp.pinecone.quickstart.local.CategoryDictionary
+    private SparseInvertedIndex(final CategoryDictionary categoryDictionary) {
+        super();
+
+        this.categoryDictionary = categoryDictionary;
+    }
+
+    /// Return the builder.
+    ///
+    /// @return net.jmp.pinecone.quickstart.local.SparseInvertedIndex.Builder
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /// Search the index.
+    ///
+    /// @param  sparseIndices   int[]
+    /// @param  sparseValues    float[]
+    /// @param  topK            int
+    /// @param  categories      java.util.Set<java.lang.String>
+    /// @return                 java.util.List<net.jmp.pinecone.quickstart.local.LocalMatch>
+    public List<LocalMatch> search(final int[] sparseIndices,
+                                   final float[] sparseValues,
+                                   final int topK,
+                                   final Set<String> categories) {
+        if (sparseIndices.length != sparseValues.length) {
+            throw new IllegalArgumentException("Expected " + sparseIndices.length + " values but found " + sparseValues.length);
+        }
+
+        /* Fold repeated terms together and open a cursor on each term the index knows */
+
+        final Map<Integer, Float> queryWeights = new LinkedHashMap<>();
+
+        for (int i = 0; i < sparseIndices.length; i++) {
+            queryWeights.merge(sparseIndices[i], sparseValues[i], Float::sum);
+        }
+
+        final List<Cursor> opened = new ArrayList<>(queryWeights.size());
+
+        for (final Map.Entry<Integer, Float> entry : queryWeights.entrySet()) {
+            final int slot = this.findTerm(entry.getKey());
+
+            if (slot >= 0) {
+                opened.add(new Cursor(slot, entry.getValue()));
+            }
+        }
+
+        if (opened.isEmpty()) {
+            return List.of();
+        }
+
+        final TopK best = this.wand(opened.toArray(new Cursor[0]), topK, this.categoryDictionary.mask(categories));
+        final int[] ordinals = best.ordinals();
+        final float[] scores = best.scores();
+        final List<LocalMatch> matches = new ArrayList<>(ordinals.length);
+
+        for (int i = 0; i < ordinals.length; i++) {
+            matches.add(new LocalMatch(this.vectorIds[ordinals[i]], this.documents[ordinals[i]], scores[i]));
+        }
+
+        return matches;
+    }
+
+    /// Return the number of documents.
+    ///
+    /// @return int
+    public int size() {
+        return this.documents.length;
+    }
+
+    /// Return the number of distinct terms.
+    ///
+    /// @return int
+    public int getTermCount() {
+        return this.terms.length;
+    }
+
+    /// Save the index to a file.
+    ///
+    /// @param  path    java.nio.file.Path
+    /// @throws         java.io.IOException
+    public void save(final Path path) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+
+        try (final SegmentWriter out = new SegmentWriter(Files.newOutputStream(path))) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeInt(this.documents.length);
+            out.writeInt(this.terms.length);
+            out.writeInt(this.skipDocuments.length);
+            out.writeInt(this.documentGaps.length);
+            out.writeInt(this.weights.length);
+            out.writeInt(this.categoryDictionary.size());
+
+            out.writeInts(this.terms, 0, this.terms.length);
+            out.writeInts(this.postingCounts, 0, this.terms.length);
+            out.writeInts(this.postingOffsets, 0, this.terms.length);
+            out.writeInts(this.documentOffsets, 0, this.terms.length);
+            out.writeFloats(this.maxWeights, 0, this.terms.length);
+            out.writeInts(this.skipOffsets, 0, this.terms.length);
+            out.writeInts(this.skipDocuments, 0, this.skipDocuments.length);
+            out.writeInts(this.skipPositions, 0, this.skipPositions.length);
+            out.writeBytes(this.documentGaps);
+            out.writeFloats(this.weights, 0, this.weights.length);
+
+            for (final String category : this.categoryDictionary.categories()) {
+                out.writeString(category);
+            }
+
+            for (int ordinal = 0; ordinal < this.documents.length; ordinal++) {
+                out.writeInt(this.categoryOrdinals[ordinal]);
+                out.writeString(this.vectorIds[ordinal]);
+                out.writeString(this.documents[ordinal].getMongoId());
+                out.writeString(this.documents[ordinal].getDocumentId());
+            }
+        }
+    }
+
+    /// Load an index from a file.
+    ///
+    /// @param  path    java.nio.file.Path
+    /// @return         net.jmp.pinecone.quickstart.local.SparseInvertedIndex
+    /// @throws         java.io.IOException
+    public static SparseInvertedIndex load(final Path path) throws IOException {
+        try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+             final Arena arena = Arena.ofConfined()) {
+            final MemorySegment segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size(), arena);
+            final SegmentReader reader = new SegmentReader(segment);
+
+            if (reader.readInt() != MAGIC) {
+                throw new IOException("Not a sparse inverted index file: " + path);
+            }
+
+            final int version = reader.readInt();
+
+            if (version != FORMAT_VERSION) {
+                throw new IOException("Unsupported sparse inverted index version: " + version);
+            }
+
+            final int documentCount = reader.readInt();
+            final int termCount = reader.readInt();
+            final int skipCount = reader.readInt();
+            final int gapBytes = reader.readInt();
+            final int postingCount = reader.readInt();
+            final int categoryCount = reader.readInt();
+
+            final SparseInvertedIndex index = new SparseInvertedIndex(new CategoryDictionary());
+
+            index.terms = new int[termCount];
+            index.postingCounts = new int[termCount];
+            index.postingOffsets = new int[termCount];
+            index.documentOffsets = new int[termCount];
+            index.maxWeights = new float[termCount];
+            index.skipOffsets = new int[termCount];
+            index.skipDocuments = new int[skipCount];
+            index.skipPositions = new int[skipCount];
+            index.documentGaps = new byte[gapBytes];
+            index.weights = new float[postingCount];
+            index.categoryOrdinals = new int[documentCount];
+            index.vectorIds = new String[documentCount];
+            index.documents = new UnstructuredTextDocument[documentCount];
+
+            reader.readInts(index.terms, termCount);
+            reader.readInts(index.postingCounts, termCount);
+            reader.readInts(index.postingOffsets, termCount);
+            reader.readInts(index.documentOffsets, termCount);
+            reader.readFloats(index.maxWeights, termCount);
+            reader.readInts(index.skipOffsets, termCount);
+            reader.readInts(index.skipDocuments, skipCount);
+            reader.readInts(index.skipPositions, skipCount);
+            reader.readBytes(index.documentGaps, gapBytes);
+            reader.readFloats(index.weights, postingCount);
+
+            for (int i = 0; i < categoryCount; i++) {
+                index.categoryDictionary.encode(reader.readString());
+            }
+
+            for (int ordinal = 0; ordinal < documentCount; ordinal++) {
+                final int categoryOrdinal = reader.readInt();
+                final String vectorId = reader.readString();
+                final String mongoId = reader.readString();
+                final String documentId = reader.readString();
+
+                index.categoryOrdinals[ordinal] = categoryOrdinal;
+                index.vectorIds[ordinal] = vectorId;
+                index.documents[ordinal] = new UnstructuredTextDocument(mongoId,
+                        documentId,
+                        null,
+                        index.categoryDictionary.decode(categoryOrdinal));
+            }
+
+            return index;
+        }
+    }
+
+    /// Run WAND over the cursors. The cursors are kept in
+    /// document order; the pivot is the first cursor at which
+    /// the summed upper bounds could beat the k-th best score.
+    /// A document is scored only when every cursor before the
+    /// pivot has reached it; otherwise those cursors skip ahead.
+    ///
+    /// @param  cursors net.jmp.pinecone.quickstart.local.SparseInvertedIndex.Cursor[]
+    /// @param  topK    int
+    /// @param  mask    boolean[]
+    /// @return         net.jmp.pinecone.quickstart.local.TopK
+    private TopK wand(final Cursor[] cursors, final int topK, final boolean[] mask) {
+        final TopK best = new TopK(topK);
+
+        while (true) {
+            sortByDocument(cursors);
+
+            final float threshold = best.isFull() ? best.threshold() : Float.NEGATIVE_INFINITY;
+
+            float bound = 0.0f;
+            int pivot = -1;
+
+            for (int i = 0; i < cursors.length && cursors[i].document != NO_MORE_DOCS; i++) {
+                bound += cursors[i].upperBound;
+
+                if (bound > threshold) {
+                    pivot = i;
+
+                    break;
+                }
+            }
+
+            if (pivot < 0) {
+                break;      // No remaining document can enter the top k
+            }
+
+            final int pivotDocument = cursors[pivot].document;
+
+            if (cursors[0].document == pivotDocument) {
+                final boolean accepted = mask == null || mask[this.categoryOrdinals[pivotDocument]];
+
+                float score = 0.0f;
+
+                for (int i = 0; i < cursors.length && cursors[i].document == pivotDocument; i++) {
+                    if (accepted) {
+                        score += cursors[i].queryWeight * cursors[i].weight();
+                    }
+
+                    cursors[i].next();
+                }
+
+                if (accepted) {
+                    best.offer(pivotDocument, score);
+                }
+            } else {
+                for (int i = 0; i < pivot; i++) {
+                    if (cursors[i].document < pivotDocument) {
+                        cursors[i].advance(pivotDocument);
+                    }
+                }
+            }
+        }
+
+        return best;
+    }
+
+    /// Return the slot of a term, or a negative number if absent.
+    ///
+    /// @param  term    int
+    /// @return         int
+    private int findTerm(final int term) {
+        int low = 0;
+        int high = this.terms.length - 1;
+
+        while (low <= high) {
+            final int middle = (low + high) >>> 1;
+            final int comparison = Integer.compareUnsigned(this.terms[middle], term);
+
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+
+        return -1;
+    }
+
+    /// Sort a few cursors by document with an insertion sort.
+    ///
+    /// @param  cursors net.jmp.pinecone.quickstart.local.SparseInvertedIndex.Cursor[]
+    private static void sortByDocument(final Cursor[] cursors) {
+        for (int i = 1; i < cursors.length; i++) {
+            final Cursor cursor = cursors[i];
+
+            int j = i - 1;
+
+            while (j >= 0 && cursors[j].document > cursor.document) {
+                cursors[j + 1] = cursors[j];
+                j--;
+            }
+
+            cursors[j + 1] = cursor;
+        }
+    }
+
+    /// A cursor over one term's posting list.
+    private final class Cursor {
+        /// The weight of the term in the query.
+        private final float queryWeight;
+
+        /// The largest contribution the term can make to a score.
+        private final float upperBound;
+
+        /// The offset of the term's first posting.
+        private final int postingOffset;
+
+        /// The number of postings.
+        private final int postingCount;
+
+        /// The offset of the term's first skip entry.
+        private final int skipOffset;
+
+        /// The number of skip entries.
+        private final int skipCount;
+
+        /// The current posting.
+        private int posting = -1;
+
+        /// The byte offset of the next gap.
+        private int position;
+
+        /// The current document ordinal.
+        private int document;
+
+        /// The constructor.
+        ///
+        /// @param  slot        int
+        /// @param  queryWeight float
+        private Cursor(final int slot, final float queryWeight) {
+            super();
+
+            this.queryWeight = queryWeight;
+            this.upperBound = Math.max(0.0f, queryWeight * maxWeights[slot]);
+            this.postingOffset = postingOffsets[slot];
+            this.postingCount = postingCounts[slot];
+            this.skipOffset = skipOffsets[slot];
+            this.skipCount = (this.postingCount - 1) / SKIP_INTERVAL;
+            this.position = documentOffsets[slot];
+
+            this.next();
+        }
+
+        /// Move to the next posting.
+        private void next() {
+            if (++this.posting >= this.postingCount) {
+                this.document = NO_MORE_DOCS;
+
+                return;
+            }
+
+            int gap = 0;
+            int shift = 0;
+            byte b;
+
+            do {
+                b = documentGaps[this.position++];
+                gap |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+
+            this.document += gap;
+        }
+
+        /// Move to the first posting at or after a document,
+        /// jumping over whole blocks with the skip entries.
+        ///
+        /// @param  target  int
+        private void advance(final int target) {
+            int skip = (this.posting + 1) / SKIP_INTERVAL;     // The first block not yet entered
+
+            while (skip < this.skipCount && skipDocuments[this.skipOffset + skip] < target) {
+                skip++;
+            }
+
+            if (skip > 0 && (skip * SKIP_INTERVAL) - 1 > this.posting) {
+                this.posting = (skip * SKIP_INTERVAL) - 1;
+                this.document = skipDocuments[this.skipOffset + skip - 1];
+                this.position = skipPositions[this.skipOffset + skip - 1];
+            }
+
+            while (this.document < target) {
+                this.next();
+            }
+        }
+
+        /// Return the weight of the current posting.
+        ///
+        /// @return float
+        private float weight() {
+            return weights[this.postingOffset + this.posting];
+        }
+    }
+
+    /// The builder class. Documents are added in ordinal
+    /// order, so each posting list is already sorted.
+    public static final class Builder {
+        /// The category dictionary.
+        private final CategoryDictionary categoryDictionary = new CategoryDictionary();
+
+        /// The posting lists by term.
+        private final Map<Integer, PostingList> postingLists = new HashMap<>();
+
+        /// The category ordinals.
+        private final List<Integer> categoryOrdinals = new ArrayList<>();
+
+        /// The vector identifiers.
+        private final List<String> vectorIds = new ArrayList<>();
+
+        /// The documents.
+        private final List<UnstructuredTextDocument> documents = new ArrayList<>();
+
+        /// The default constructor.
+        private Builder() {
+            super();
+        }
+
+        /// Add a document's sparse vector.
+        ///
+        /// @param  vectorId        java.lang.String
+        /// @param  document        net.jmp.pinecone.quickstart.text.UnstructuredTextDocument
+        /// @param  sparseIndices   java.util.List<java.lang.Long>
+        /// @param  sparseValues    java.util.List<java.lang.Float>
+        /// @return                 net.jmp.pinecone.quickstart.local.SparseInvertedIndex.Builder
+        public Builder add(final String vectorId,
+                           final UnstructuredTextDocument document,
+                           final List<Long> sparseIndices,
+                           final List<Float> sparseValues) {
+            if (sparseIndices.size() != sparseValues.size()) {
+                throw new IllegalArgumentException("Expected " + sparseIndices.size() + " values but found " + sparseValues.size());
+            }
+
+            final int ordinal = this.documents.size();
+            final int[] terms = PrimitiveLists.toUnsignedIntArray(sparseIndices);
+            final float[] weights = PrimitiveLists.toFloatArray(sparseValues);
+
+            this.vectorIds.add(vectorId);
+            this.documents.add(document);
+            this.categoryOrdinals.add(this.categoryDictionary.encode(document.getCategory()));
+
+            for (int i = 0; i < terms.length; i++) {
+                this.postingLists.computeIfAbsent(terms[i], k -> new PostingList()).add(ordinal, weights[i]);
+            }
+
+            return this;
+        }
+
+        /// Build the index.
+        ///
+        /// @return net.jmp.pinecone.quickstart.local.SparseInvertedIndex
+        public SparseInvertedIndex build() {
+            final SparseInvertedIndex index = new SparseInvertedIndex(this.categoryDictionary);
+            final int termCount = this.postingLists.size();
+
+            index.terms = this.postingLists.keySet().stream()
+                    .sorted(Integer::compareUnsigned)
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+
+            index.postingCounts = new int[termCount];
+            index.postingOffsets = new int[termCount];
+            index.documentOffsets = new int[termCount];
+            index.maxWeights = new float[termCount];
+            index.skipOffsets = new int[termCount];
+
+            int postingTotal = 0;
+            int skipTotal = 0;
+
+            for (final PostingList postingList : this.postingLists.values()) {
+                postingTotal += postingList.size;
+                skipTotal += (postingList.size - 1) / SKIP_INTERVAL;
+            }
+
+            index.weights = new float[postingTotal];
+            index.skipDocuments = new int[skipTotal];
+            index.skipPositions = new int[skipTotal];
+
+            final VarintBuffer gaps = new VarintBuffer(postingTotal * 2);
+
+            int postingOffset = 0;
+            int skipOffset = 0;
+
+            for (int slot = 0; slot < termCount; slot++) {
+                final PostingList postingList = this.postingLists.get(index.terms[slot]);
+
+                index.postingCounts[slot] = postingList.size;
+                index.postingOffsets[slot] = postingOffset;
+                index.documentOffsets[slot] = gaps.size();
+                index.skipOffsets[slot] = skipOffset;
+
+                float maxWeight = Float.NEGATIVE_INFINITY;
+                int previous = 0;
+
+                for (int i = 0; i < postingList.size; i++) {
+                    if (i > 0 && i % SKIP_INTERVAL == 0) {
+                        index.skipDocuments[skipOffset] = previous;
+                        index.skipPositions[skipOffset] = gaps.size();
+                        skipOffset++;
+                    }
+
+                    gaps.write(postingList.documents[i] - previous);
+
+                    previous = postingList.documents[i];
+                    maxWeight = Math.max(maxWeight, postingList.weights[i]);
+
+                    index.weights[postingOffset++] = postingList.weights[i];
+                }
+
+                index.maxWeights[slot] = maxWeight;
+            }
+
+            index.documentGaps = gaps.toByteArray();
+            index.categoryOrdinals = this.categoryOrdinals.stream().mapToInt(Integer::intValue).toArray();
+            index.vectorIds = this.vectorIds.toArray(new String[0]);
+            index.documents = this.documents.toArray(new UnstructuredTextDocument[0]);
+
+            return index;
+        }
+    }
+
+    /// A growable posting list used while building.
+    private static final class PostingList {
+        /// The document ordinals.
+        private int[] documents = new int[4];
+
+        /// The weights.
+        private float[] weights = new float[4];
+
+        /// The number of postings.
+        private int size;
+
+        /// Add a posting. A term repeated within
+        /// a document has its weights summed.
+        ///
+        /// @param  document    int
+        /// @param  weight      float
+        private void add(final int document, final float weight) {
+            if (this.size > 0 && this.documents[this.size - 1] == document) {
+                this.weights[this.size - 1] += weight;
+
+                return;
+            }
+
+            if (this.size == this.documents.length) {
+                this.documents = Arrays.copyOf(this.documents, this.size << 1);
+                this.weights = Arrays.copyOf(this.weights, this.size << 1);
+            }
+
+            this.documents[this.size] = document;
+            this.weights[this.size] = weight;
+            this.size++;
+        }
+    }
+
+    /// A growable buffer of varint-encoded ints.
+    private static final class VarintBuffer {
+        /// The bytes.
+        private byte[] bytes;
+
+        /// The number of bytes written.
+        private int size;
+
+        /// The constructor.
+        ///
+        /// @param  capacity    int
+        private VarintBuffer(final int capacity) {
+            super();
+
+            this.bytes = new byte[Math.max(16, capacity)];
+        }
+
+        /// Write a non-negative int, seven bits per byte.
+        ///
+        /// @param  value   int
+        private void write(int value) {
+            if (this.size + 5 > this.bytes.length) {
+                this.bytes = Arrays.copyOf(this.bytes, this.bytes.length << 1);
+            }
+
+            while ((value & ~0x7F) != 0) {
+                this.bytes[this.size++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+
+            this.bytes[this.size++] = (byte) value;
+        }
+
+        /// Return the number of bytes written.
+        ///
+        /// @return int
+        private int size() {
+            return this.size;
+        }
+
+        /// Return a copy of the bytes written.
+        ///
+        /// @return byte[]
+        private byte[] toByteArray() {
+            return Arrays.copyOf(this.bytes, this.size);
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package net.jmp.pinecone.quickstart.local;
+
+/*
+ * (#)TopK.java 0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.Arrays;
+
+/// A bounded top-k collector. The entries are kept in a
+/// min-heap on primitive arrays so that the lowest retained
+/// score can be evicted in log(k) time without boxing.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+public final class TopK {
+    /// The maximum number of entries.
+    private final int k;
+
+    /// The ordinals in heap order.
+    private final int[] ordinals;
+
+    /// The scores in heap order.
+    private final float[] scores;
+
+    /// The number of entries.
+    private int size;
+
+    /// The constructor.
+    ///
+    /// @param  k   int
+    public TopK(final int k) {
+        super();
+
+        if (k <= 0) {
+            throw new IllegalArgumentException("k must be positive: " + k);
+        }
+
+        this.k = k;
+        this.ordinals = new int[k];
+        this.scores = new float[k];
+    }
+
+    /// Offer an entry.
+    ///
+    /// @param  ordinal int
+    /// @param  score   float
+    /// @return         boolean
+    public boolean offer(final int ordinal, final float score) {
+        if (this.size < this.k) {
+            this.ordinals[this.size] = ordinal;
+            this.scores[this.size] = score;
+            this.siftUp(this.size++);
+
+            return true;
+        }
+
+        if (score > this.scores[0]) {
+            this.ordinals[0] = ordinal;
+            this.scores[0] = score;
+            this.siftDown(0);
+
+            return true;
+        }
+
+        return false;
+    }
+
+    /// Merge the entries of another collector into this one.
+    ///
+    /// @param  other   net.jmp.pinecone.quickstart.local.TopK
+    /// @return         net.jmp.pinecone.quickstart.local.TopK
+    public TopK merge(final TopK other) {
+        for (int i = 0; i < other.size; i++) {
+            this.offer(other.ordinals[i], other.scores[i]);
+        }
+
+        return this;
+    }
+
+    /// Return the lowest retained score, or negative
+    /// infinity if the collector is not yet full.
+    ///
+    /// @return float
+    public float threshold() {
+        return this.size < this.k ? Float.NEGATIVE_INFINITY : this.scores[0];
+    }
+
+    /// Return true if the collector is full.
+    ///
+    /// @return boolean
+    public boolean isFull() {
+        return this.size == this.k;
+    }
+
+    /// Return the number of entries.
+    ///
+    /// @return int
+    public int size() {
+        return this.size;
+    }
+
+    /// Return the ordinals ordered by descending score.
+    ///
+    /// @return int[]
+    public int[] ordinals() {
+        final int[] result = new int[this.size];
+        final Integer[] order = this.descendingOrder();
+
+        for (int i = 0; i < order.length; i++) {
+            result[i] = this.ordinals[order[i]];
+        }
+
+        return result;
+    }
+
+    /// Return the scores ordered by descending score.
+    ///
+    /// @return float[]
+    public float[] scores() {
+        final float[] result = new float[this.size];
+        final Integer[] order = this.descendingOrder();
+
+        for (int i = 0; i < order.length; i++) {
+            result[i] = this.scores[order[i]];
+        }
+
+        return result;
+    }
+
+    /// Return the heap positions ordered by descending score.
+    ///
+    /// @return java.lang.Integer[]
+    private Integer[] descendingOrder() {
+        final Integer[] order = new Integer[this.size];
+
+        for (int i = 0; i < this.size; i++) {
+            order[i] = i;
+        }
+
+        Arrays.sort(order, (a, b) -> Float.compare(this.scores[b], this.scores[a]));
+
+        return order;
+    }
+
+    /// Restore the heap property upwards from a position.
+    ///
+    /// @param  position    int
+    private void siftUp(int position) {
+        while (position > 0) {
+            final int parent = (position - 1) >>> 1;
+
+            if (this.scores[position] >= this.scores[parent]) {
+                break;
+            }
+
+            this.swap(position, parent);
+
+            position = parent;
+        }
+    }
+
+    /// Restore the heap property downwards from a position.
+    ///
+    /// @param  position    int
+    private void siftDown(int position) {
+        while (true) {
+            final int left = (position << 1) + 1;
+
+            if (left >= this.size) {
+                break;
+            }
+
+            final int right = left + 1;
+            final int smallest = (right < this.size && this.scores[right] < this.scores[left]) ? right : left;
+
+            if (this.scores[position] <= this.scores[smallest]) {
+                break;
+            }
+
+            this.swap(position, smallest);
+
+            position = smallest;
+        }
+    }
+
+    /// Swap two heap positions.
+    ///
+    /// @param  i   int
+    /// @param  j   int
+    private void swap(final int i, final int j) {
+        final int ordinal = this.ordinals[i];
+        final float score = this.scores[i];
+
+        this.ordinals[i] = this.ordinals[j];
+        this.scores[i] = this.scores[j];
+        this.ordinals[j] = ordinal;
+        this.scores[j] = score;
+    }
+}
@@ -0,0 +1,252 @@
+package net.jmp.pinecone.quickstart.local;
+
+/*
+ * (#)VectorMath.java   0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.lang.foreign.MemorySegment;
+
+import java.nio.ByteOrder;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+/// The vector math class. The kernels use the
+/// incubating vector API so that the scoring
+/// loops compile to SIMD instructions.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+public final class VectorMath {
+    /// The preferred species for this platform.
+    private static final VectorSpecies<Float> SPECIES = FloatVector.SPECIES_PREFERRED;
+
+    /// The byte species with one lane for every float lane,
+    /// or null if the platform has no vector shape that small.
+    private static final VectorSpecies<Byte> BYTE_SPECIES = byteSpecies();
+
+    /// The default constructor.
+    private VectorMath() {
+        super();
+    }
+
+    /// Return the dot product of a vector and a row
+    /// stored contiguously in a larger array.
+    ///
+    /// @param  query       float[]
+    /// @param  data        float[]
+    /// @param  dataOffset  int
+    /// @param  length      int
+    /// @return             float
+    public static float dotProduct(final float[] query,
+                                   final float[] data,
+                                   final int dataOffset,
+                                   final int length) {
+        return dotProduct(query, 0, data, dataOffset, length);
+    }
+
+    /// Return the dot product of two rows stored
+    /// contiguously in larger arrays.
+    ///
+    /// @param  a           float[]
+    /// @param  aOffset     int
+    /// @param  b           float[]
+    /// @param  bOffset     int
+    /// @param  length      int
+    /// @return             float
+    public static float dotProduct(final float[] a,
+                                   final int aOffset,
+                                   final float[] b,
+                                   final int bOffset,
+                                   final int length) {
+        final int upperBound = SPECIES.loopBound(length);
+
+        FloatVector sum = FloatVector.zero(SPECIES);
+
+        int i = 0;
+
+        for (; i < upperBound; i += SPECIES.length()) {
+            final FloatVector va = FloatVector.fromArray(SPECIES, a, aOffset + i);
+            final FloatVector vb = FloatVector.fromArray(SPECIES, b, bOffset + i);
+
+            sum = va.fma(vb, sum);
+        }
+
+        float result = sum.reduceLanes(VectorOperators.ADD);
+
+        for (; i < length; i++) {   // The tail that does not fill a full vector
+            result += a[aOffset + i] * b[bOffset + i];
+        }
+
+        return result;
+    }
+
+    /// Return the dot product of a vector and a row of
+    /// little-endian floats in a memory segment. This
+    /// scores a memory-mapped file without copying it.
+    ///
+    /// @param  query       float[]
+    /// @param  segment     java.lang.foreign.MemorySegment
+    /// @param  offset      long
+    /// @param  length      int
+    /// @return             float
+    public static float dotProduct(final float[] query,
+                                   final MemorySegment segment,
+                                   final long offset,
+                                   final int length) {
+        final int upperBound = SPECIES.loopBound(length);
+
+        FloatVector sum = FloatVector.zero(SPECIES);
+
+        int i = 0;
+
+        for (; i < upperBound; i += SPECIES.length()) {
+            final FloatVector a = FloatVector.fromArray(SPECIES, query, i);
+            final FloatVector b = FloatVector.fromMemorySegment(SPECIES,
+                    segment,
+                    offset + (long) i * Float.BYTES,
+                    ByteOrder.LITTLE_ENDIAN);
+
+            sum = a.fma(b, sum);
+        }
+
+        float result = sum.reduceLanes(VectorOperators.ADD);
+
+        for (; i < length; i++) {
+            result += query[i] * segment.get(SegmentReader.FLOAT, offset + (long) i * Float.BYTES);
+        }
+
+        return result;
+    }
+
+    /// Return the dot product of a vector and a row of
+    /// signed 8-bit codes stored contiguously in a larger
+    /// array. The codes are widened to floats in registers,
+    /// so quantized rows are scored without decoding them.
+    ///
+    /// @param  query       float[]
+    /// @param  codes       byte[]
+    /// @param  codesOffset int
+    /// @param  length      int
+    /// @return             float
+    public static float dotProduct(final float[] query,
+                                   final byte[] codes,
+                                   final int codesOffset,
+                                   final int length) {
+        float result = 0.0f;
+        int i = 0;
+
+        if (BYTE_SPECIES != null) {
+            final int upperBound = SPECIES.loopBound(length);
+
+            FloatVector sum = FloatVector.zero(SPECIES);
+
+            for (; i < upperBound; i += SPECIES.length()) {
+                final FloatVector a = FloatVector.fromArray(SPECIES, query, i);
+                final FloatVector b = (FloatVector) ByteVector.fromArray(BYTE_SPECIES, codes, codesOffset + i)
+                        .convertShape(VectorOperators.B2F, SPECIES, 0);
+
+                sum = a.fma(b, sum);
+            }
+
+            result = sum.reduceLanes(VectorOperators.ADD);
+        }
+
+        for (; i < length; i++) {
+            result += query[i] * codes[codesOffset + i];
+        }
+
+        return result;
+    }
+
+    /// Return the dot product of two vectors.
+    ///
+    /// @param  a   float[]
+    /// @param  b   float[]
+    /// @return     float
+    public static float dotProduct(final float[] a, final float[] b) {
+        if (a.length != b.length) {
+            throw new IllegalArgumentException("Vector lengths differ: " + a.length + " and " + b.length);
+        }
+
+        return dotProduct(a, b, 0, a.length);
+    }
+
+    /// Return the euclidean norm of a row
+    /// stored contiguously in a larger array.
+    ///
+    /// @param  data    float[]
+    /// @param  offset  int
+    /// @param  length  int
+    /// @return         float
+    public static float norm(final float[] data, final int offset, final int length) {
+        final int upperBound = SPECIES.loopBound(length);
+
+        FloatVector sum = FloatVector.zero(SPECIES);
+
+        int i = 0;
+
+        for (; i < upperBound; i += SPECIES.length()) {
+            final FloatVector a = FloatVector.fromArray(SPECIES, data, offset + i);
+
+            sum = a.fma(a, sum);
+        }
+
+        float result = sum.reduceLanes(VectorOperators.ADD);
+
+        for (; i < length; i++) {
+            result += data[offset + i] * data[offset + i];
+        }
+
+        return (float) Math.sqrt(result);
+    }
+
+    /// Return the euclidean norm of a vector.
+    ///
+    /// @param  a   float[]
+    /// @return     float
+    public static float norm(final float[] a) {
+        return norm(a, 0, a.length);
+    }
+
+    /// Return the byte species that matches the
+    /// lane count of the preferred float species.
+    ///
+    /// @return jdk.incubator.vector.VectorSpecies<java.lang.Byte>
+    private static VectorSpecies<Byte> byteSpecies() {
+        final int bitSize = SPECIES.length() * Byte.SIZE;
+
+        if (bitSize < VectorShape.S_64_BIT.vectorBitSize()) {
+            return null;
+        }
+
+        return VectorSpecies.of(byte.class, VectorShape.forBitSize(bitSize));
+    }
+}
@@ -0,0 +1,80 @@
+package net.jmp.pinecone.quickstart.local;
+
+/*
+ * (#)VectorQuantizer.java  0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/// The vector quantizer interface. A quantizer encodes a
+/// dense vector into a fixed number of bytes and scores a
+/// full-precision query against the codes directly, so the
+/// vectors never have to be decoded to be searched.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+public interface VectorQuantizer {
+    /// Return the dimension of the vectors.
+    ///
+    /// @return int
+    int getDimension();
+
+    /// Return the number of bytes in the code of one vector.
+    ///
+    /// @return int
+    int getCodeSize();
+
+    /// Return the number of bytes the quantizer itself
+    /// occupies, such as trained codebooks.
+    ///
+    /// @return long
+    long getFootprint();
+
+    /// Encode a vector into a row of a code array.
+    ///
+    /// @param  vector  float[]
+    /// @param  codes   byte[]
+    /// @param  offset  int
+    void encode(float[] vector, byte[] codes, int offset);
+
+    /// Return a scorer for a query. The scorer estimates the
+    /// dot product of the query with an encoded vector.
+    ///
+    /// @param  query   float[]
+    /// @return         net.jmp.pinecone.quickstart.local.VectorQuantizer.Scorer
+    Scorer scorer(float[] query);
+
+    /// The scorer interface. A scorer is bound to one query
+    /// and may be shared by threads scanning the codes.
+    @FunctionalInterface
+    interface Scorer {
+        /// Return the estimated score of an encoded vector.
+        ///
+        /// @param  codes   byte[]
+        /// @param  offset  int
+        /// @return         float
+        float score(byte[] codes, int offset);
+    }
+}
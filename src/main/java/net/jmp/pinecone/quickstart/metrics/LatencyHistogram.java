@@ -0,0 +1,215 @@
+package net.jmp.pinecone.quickstart.metrics;
+
+/*
+ * (#)LatencyHistogram.java 0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/// A latency histogram in the style of HdrHistogram. Values
+/// below 128 nanoseconds have a bucket each; above that every
+/// power of two is split into 64 linear buckets, so a recorded
+/// value is off by less than 1.6% however large it is. The
+/// buckets are fixed, so recording is a few atomic increments
+/// and never allocates.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+public final class LatencyHistogram {
+    /// The bits of precision kept within a power of two.
+    private static final int SUB_BUCKET_BITS = 7;
+
+    /// The number of buckets below the first split power of two.
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+    /// The number of buckets each power of two above that is split into.
+    private static final int SUB_BUCKET_HALF_COUNT = SUB_BUCKET_COUNT / 2;
+
+    /// The number of buckets needed to cover every positive long.
+    private static final int BUCKET_COUNT = SUB_BUCKET_COUNT + (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKET_HALF_COUNT;
+
+    /// The bucket counts.
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+
+    /// The number of recorded values.
+    private final LongAdder count = new LongAdder();
+
+    /// The sum of the recorded values.
+    private final LongAdder sum = new LongAdder();
+
+    /// The largest recorded value.
+    private final AtomicLong max = new AtomicLong();
+
+    /// The default constructor.
+    public LatencyHistogram() {
+        super();
+    }
+
+    /// Return a copy of the histogram as it is now.
+    ///
+    /// @return net.jmp.pinecone.quickstart.metrics.LatencyHistogram
+    public LatencyHistogram copy() {
+        final LatencyHistogram copy = new LatencyHistogram();
+
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            copy.counts.set(i, this.counts.get(i));
+        }
+
+        copy.count.add(this.getCount());
+        copy.sum.add(this.getSum());
+        copy.max.set(this.getMax());
+
+        return copy;
+    }
+
+    /// Return a histogram of the values recorded since an
+    /// earlier copy of this one. The largest value is the
+    /// upper bound of the highest bucket that changed,
+    /// capped at the largest value recorded overall.
+    ///
+    /// @param  earlier net.jmp.pinecone.quickstart.metrics.LatencyHistogram
+    /// @return         net.jmp.pinecone.quickstart.metrics.LatencyHistogram
+    public LatencyHistogram since(final LatencyHistogram earlier) {
+        final LatencyHistogram difference = new LatencyHistogram();
+
+        long highest = 0L;
+
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            final long delta = this.counts.get(i) - earlier.counts.get(i);
+
+            if (delta > 0) {
+                difference.counts.set(i, delta);
+
+                highest = highestValue(i);
+            }
+        }
+
+        difference.count.add(this.getCount() - earlier.getCount());
+        difference.sum.add(this.getSum() - earlier.getSum());
+        difference.max.set(Math.min(highest, this.getMax()));
+
+        return difference;
+    }
+
+    /// Record a latency.
+    ///
+    /// @param  nanos   long
+    public void record(final long nanos) {
+        final long value = Math.max(0L, nanos);
+
+        this.counts.incrementAndGet(bucketIndex(value));
+        this.count.increment();
+        this.sum.add(value);
+        this.max.accumulateAndGet(value, Math::max);
+    }
+
+    /// Return the number of recorded values.
+    ///
+    /// @return long
+    public long getCount() {
+        return this.count.sum();
+    }
+
+    /// Return the sum of the recorded values in nanoseconds.
+    ///
+    /// @return long
+    public long getSum() {
+        return this.sum.sum();
+    }
+
+    /// Return the largest recorded value in nanoseconds.
+    ///
+    /// @return long
+    public long getMax() {
+        return this.max.get();
+    }
+
+    /// Return the value in nanoseconds at a percentile. The
+    /// value is the upper bound of the bucket that holds it,
+    /// capped at the largest recorded value.
+    ///
+    /// @param  percentile  double
+    /// @return             long
+    public long getValueAtPercentile(final double percentile) {
+        if (percentile < 0.0 || percentile > 100.0) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100: " + percentile);
+        }
+
+        final long total = this.getCount();
+
+        if (total == 0) {
+            return 0L;
+        }
+
+        final long target = Math.max(1L, (long) Math.ceil(percentile / 100.0 * total));
+
+        long seen = 0L;
+
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += this.counts.get(i);
+
+            if (seen >= target) {
+                return Math.min(highestValue(i), this.getMax());
+            }
+        }
+
+        return this.getMax();
+    }
+
+    /// Return the bucket that holds a value.
+    ///
+    /// @param  value   long
+    /// @return         int
+    static int bucketIndex(final long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+
+        final int shift = (Long.SIZE - 1 - Long.numberOfLeadingZeros(value)) - (SUB_BUCKET_BITS - 1);
+        final int subBucket = (int) (value >>> shift);     // Between the half count and the count
+
+        return SUB_BUCKET_COUNT + (shift - 1) * SUB_BUCKET_HALF_COUNT + (subBucket - SUB_BUCKET_HALF_COUNT);
+    }
+
+    /// Return the largest value a bucket holds.
+    ///
+    /// @param  index   int
+    /// @return         long
+    static long highestValue(final int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+
+        final int shift = (index - SUB_BUCKET_COUNT) / SUB_BUCKET_HALF_COUNT + 1;
+        final long subBucket = (index - SUB_BUCKET_COUNT) % SUB_BUCKET_HALF_COUNT + SUB_BUCKET_HALF_COUNT;
+        final long highest = ((subBucket + 1) << shift) - 1;
+
+        return highest < 0 ? Long.MAX_VALUE : highest;      // The last bucket overflows
+    }
+}
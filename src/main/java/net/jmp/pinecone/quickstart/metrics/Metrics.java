@@ -0,0 +1,272 @@
+package net.jmp.pinecone.quickstart.metrics;
+
+/*
+ * (#)Metrics.java  0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/// The metrics class. Keeps a latency histogram and an
+/// error counter for every stage of the query pipeline,
+/// hit and miss counters for every named cache, and throttle
+/// and retry counters for every remote endpoint, for the life
+/// of the process. Renders them in the Prometheus
+/// text exposition format.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+public final class Metrics {
+    /// The metric name prefix.
+    private static final String PREFIX = "quickstart_";
+
+    /// The percentiles reported for each stage.
+    private static final double[] PERCENTILES = {50.0, 95.0, 99.0};
+
+    /// The number of nanoseconds in a second.
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    /// The latency histograms by stage.
+    private static final Map<Stage, LatencyHistogram> latencies = new EnumMap<>(Stage.class);
+
+    /// The error counters by stage.
+    private static final Map<Stage, LongAdder> errors = new EnumMap<>(Stage.class);
+
+    /// The cache hit counters by cache name.
+    private static final Map<String, LongAdder> cacheHits = new ConcurrentHashMap<>();
+
+    /// The cache miss counters by cache name.
+    private static final Map<String, LongAdder> cacheMisses = new ConcurrentHashMap<>();
+
+    /// The throttle counters by endpoint name.
+    private static final Map<String, LongAdder> throttles = new ConcurrentHashMap<>();
+
+    /// The retry counters by endpoint name.
+    private static final Map<String, LongAdder> retries = new ConcurrentHashMap<>();
+
+    /// The counters of retries refused by the budget by endpoint name.
+    private static final Map<String, LongAdder> retriesRejected = new ConcurrentHashMap<>();
+
+    static {
+        for (final Stage stage : Stage.values()) {      // Filled once so the maps are only read afterward
+            latencies.put(stage, new LatencyHistogram());
+            errors.put(stage, new LongAdder());
+        }
+    }
+
+    /// The default constructor.
+    private Metrics() {
+        super();
+    }
+
+    /// Record the latency of a stage that began at
+    /// the given value of System.nanoTime().
+    ///
+    /// @param  stage       net.jmp.pinecone.quickstart.metrics.Stage
+    /// @param  startNanos  long
+    public static void recordLatency(final Stage stage, final long startNanos) {
+        latencies.get(stage).record(System.nanoTime() - startNanos);
+    }
+
+    /// Count an error in a stage.
+    ///
+    /// @param  stage   net.jmp.pinecone.quickstart.metrics.Stage
+    public static void incrementErrors(final Stage stage) {
+        errors.get(stage).increment();
+    }
+
+    /// Count a hit in a cache.
+    ///
+    /// @param  cache   java.lang.String
+    public static void incrementCacheHits(final String cache) {
+        cacheHits.computeIfAbsent(cache, key -> new LongAdder()).increment();
+    }
+
+    /// Count a miss in a cache.
+    ///
+    /// @param  cache   java.lang.String
+    public static void incrementCacheMisses(final String cache) {
+        cacheMisses.computeIfAbsent(cache, key -> new LongAdder()).increment();
+    }
+
+    /// Count a call to an endpoint that was throttled.
+    ///
+    /// @param  endpoint    java.lang.String
+    public static void incrementThrottles(final String endpoint) {
+        throttles.computeIfAbsent(endpoint, key -> new LongAdder()).increment();
+    }
+
+    /// Count a retry of a call to an endpoint.
+    ///
+    /// @param  endpoint    java.lang.String
+    public static void incrementRetries(final String endpoint) {
+        retries.computeIfAbsent(endpoint, key -> new LongAdder()).increment();
+    }
+
+    /// Count a retry of a call to an endpoint
+    /// that was refused by the retry budget.
+    ///
+    /// @param  endpoint    java.lang.String
+    public static void incrementRetriesRejected(final String endpoint) {
+        retriesRejected.computeIfAbsent(endpoint, key -> new LongAdder()).increment();
+    }
+
+    /// Return the latency histogram of a stage.
+    ///
+    /// @param  stage   net.jmp.pinecone.quickstart.metrics.Stage
+    /// @return         net.jmp.pinecone.quickstart.metrics.LatencyHistogram
+    public static LatencyHistogram getLatency(final Stage stage) {
+        return latencies.get(stage);
+    }
+
+    /// Return the number of errors counted in a stage.
+    ///
+    /// @param  stage   net.jmp.pinecone.quickstart.metrics.Stage
+    /// @return         long
+    public static long getErrors(final Stage stage) {
+        return errors.get(stage).sum();
+    }
+
+    /// Return true if anything has been recorded.
+    ///
+    /// @return boolean
+    public static boolean isEmpty() {
+        for (final Stage stage : Stage.values()) {
+            if (latencies.get(stage).getCount() > 0 || errors.get(stage).sum() > 0) {
+                return false;
+            }
+        }
+
+        return cacheHits.isEmpty() &&
+                cacheMisses.isEmpty() &&
+                throttles.isEmpty() &&
+                retries.isEmpty() &&
+                retriesRejected.isEmpty();
+    }
+
+    /// Render the metrics in the Prometheus text exposition
+    /// format. Latencies are summaries in seconds; the largest
+    /// latency of each stage is a separate gauge.
+    ///
+    /// @return java.lang.String
+    public static String toPrometheus() {
+        final StringBuilder sb = new StringBuilder();
+
+        header(sb, "stage_latency_seconds", "Latency of each query pipeline stage.", "summary");
+
+        for (final Stage stage : Stage.values()) {
+            final LatencyHistogram histogram = latencies.get(stage);
+            final String label = "stage=\"" + stage.getLabel() + "\"";
+
+            for (final double percentile : PERCENTILES) {
+                sample(sb,
+                        "stage_latency_seconds",
+                        label + ",quantile=\"" + format(percentile / 100.0) + "\"",
+                        format(histogram.getValueAtPercentile(percentile) / NANOS_PER_SECOND));
+            }
+
+            sample(sb, "stage_latency_seconds_sum", label, format(histogram.getSum() / NANOS_PER_SECOND));
+            sample(sb, "stage_latency_seconds_count", label, Long.toString(histogram.getCount()));
+        }
+
+        header(sb, "stage_latency_max_seconds", "Largest latency of each query pipeline stage.", "gauge");
+
+        for (final Stage stage : Stage.values()) {
+            sample(sb,
+                    "stage_latency_max_seconds",
+                    "stage=\"" + stage.getLabel() + "\"",
+                    format(latencies.get(stage).getMax() / NANOS_PER_SECOND));
+        }
+
+        header(sb, "stage_errors_total", "Errors in each query pipeline stage.", "counter");
+
+        for (final Stage stage : Stage.values()) {
+            sample(sb, "stage_errors_total", "stage=\"" + stage.getLabel() + "\"", Long.toString(errors.get(stage).sum()));
+        }
+
+        counters(sb, "cache_hits_total", "Hits in each cache.", "cache", cacheHits);
+        counters(sb, "cache_misses_total", "Misses in each cache.", "cache", cacheMisses);
+        counters(sb, "throttles_total", "Throttled calls to each endpoint.", "endpoint", throttles);
+        counters(sb, "retries_total", "Retried calls to each endpoint.", "endpoint", retries);
+        counters(sb, "retries_rejected_total", "Retries refused by the retry budget of each endpoint.", "endpoint", retriesRejected);
+
+        return sb.toString();
+    }
+
+    /// Append the help and type lines of a metric.
+    ///
+    /// @param  sb      java.lang.StringBuilder
+    /// @param  name    java.lang.String
+    /// @param  help    java.lang.String
+    /// @param  type    java.lang.String
+    private static void header(final StringBuilder sb, final String name, final String help, final String type) {
+        sb.append("# HELP ").append(PREFIX).append(name).append(' ').append(help).append('\n');
+        sb.append("# TYPE ").append(PREFIX).append(name).append(' ').append(type).append('\n');
+    }
+
+    /// Append one sample line.
+    ///
+    /// @param  sb      java.lang.StringBuilder
+    /// @param  name    java.lang.String
+    /// @param  labels  java.lang.String
+    /// @param  value   java.lang.String
+    private static void sample(final StringBuilder sb, final String name, final String labels, final String value) {
+        sb.append(PREFIX).append(name).append('{').append(labels).append("} ").append(value).append('\n');
+    }
+
+    /// Append a counter with one sample per label value, in value order.
+    ///
+    /// @param  sb      java.lang.StringBuilder
+    /// @param  name    java.lang.String
+    /// @param  help    java.lang.String
+    /// @param  label   java.lang.String
+    /// @param  counts  java.util.Map<java.lang.String, java.util.concurrent.atomic.LongAdder>
+    private static void counters(final StringBuilder sb,
+                                 final String name,
+                                 final String help,
+                                 final String label,
+                                 final Map<String, LongAdder> counts) {
+        header(sb, name, help, "counter");
+
+        for (final Map.Entry<String, LongAdder> entry : new TreeMap<>(counts).entrySet()) {
+            sample(sb, name, label + "=\"" + entry.getKey() + "\"", Long.toString(entry.getValue().sum()));
+        }
+    }
+
+    /// Format a sample value.
+    ///
+    /// @param  value   double
+    /// @return         java.lang.String
+    private static String format(final double value) {
+        return Double.toString(value);
+    }
+}
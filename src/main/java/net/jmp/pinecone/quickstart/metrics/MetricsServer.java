@@ -0,0 +1,124 @@
+package net.jmp.pinecone.quickstart.metrics;
+
+/*
+ * (#)MetricsServer.java    0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+
+import java.nio.charset.StandardCharsets;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/// The metrics server class. Serves the metrics in the
+/// Prometheus text exposition format at /metrics on the
+/// loopback interface. Each scrape runs on a virtual thread.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+public final class MetricsServer implements AutoCloseable {
+    /// The content type of the Prometheus text format.
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    /// The HTTP server.
+    private final HttpServer server;
+
+    /// The executor the exchanges run on.
+    private final ExecutorService executor;
+
+    /// The constructor.
+    ///
+    /// @param  server      com.sun.net.httpserver.HttpServer
+    /// @param  executor    java.util.concurrent.ExecutorService
+    private MetricsServer(final HttpServer server, final ExecutorService executor) {
+        super();
+
+        this.server = server;
+        this.executor = executor;
+    }
+
+    /// Start serving the metrics on a port.
+    ///
+    /// @param  port    int
+    /// @return         net.jmp.pinecone.quickstart.metrics.MetricsServer
+    /// @throws         java.io.IOException
+    public static MetricsServer start(final int port) throws IOException {
+        final HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+        server.createContext("/metrics", MetricsServer::handle);
+        server.setExecutor(executor);
+        server.start();
+
+        return new MetricsServer(server, executor);
+    }
+
+    /// Return the port the server listens on.
+    ///
+    /// @return int
+    public int getPort() {
+        return this.server.getAddress().getPort();
+    }
+
+    /// Stop serving the metrics.
+    @Override
+    public void close() {
+        this.server.stop(0);
+        this.executor.close();
+    }
+
+    /// Answer a scrape.
+    ///
+    /// @param  exchange    com.sun.net.httpserver.HttpExchange
+    /// @throws             java.io.IOException
+    private static void handle(final HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+
+                return;
+            }
+
+            final byte[] body = Metrics.toPrometheus().getBytes(StandardCharsets.UTF_8);
+
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            exchange.sendResponseHeaders(200, body.length);
+
+            try (final OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package net.jmp.pinecone.quickstart.metrics;
+
+/*
+ * (#)Stage.java    0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/// The stages of the query pipeline that are timed.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+public enum Stage {
+    /// Extracting the significant words from the query text.
+    NLP_EXTRACTION("nlp_extraction"),
+
+    /// Embedding the query text.
+    EMBEDDING("embedding"),
+
+    /// Looking up the categories named in the query text.
+    CATEGORY_LOOKUP("category_lookup"),
+
+    /// Querying a Pinecone index.
+    PINECONE_QUERY("pinecone_query"),
+
+    /// Searching a Pinecone index by text, embedded and reranked on the server.
+    INTEGRATED_SEARCH("integrated_search"),
+
+    /// Querying a local index.
+    LOCAL_QUERY("local_query"),
+
+    /// Fetching a document from MongoDB.
+    DOCUMENT_FETCH("document_fetch"),
+
+    /// Reranking the matches.
+    RERANK("rerank"),
+
+    /// Summarizing the reranked content.
+    SUMMARIZE("summarize");
+
+    /// The label value of the stage.
+    private final String label;
+
+    /// The constructor.
+    ///
+    /// @param  label   java.lang.String
+    Stage(final String label) {
+        this.label = label;
+    }
+
+    /// Return the label value of the stage.
+    ///
+    /// @return java.lang.String
+    public String getLabel() {
+        return this.label;
+    }
+}
@@ -0,0 +1,172 @@
+package net.jmp.pinecone.quickstart.mongo;
+
+/*
+ * (#)AccessPlan.java   0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.bson.Document;
+
+/// The access plan class. Summarizes the winning plan of an
+/// explained MongoDB query: its stages from the root down,
+/// the indexes it reads, whether it scans the collection and
+/// whether the index covers it without fetching documents.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+public final class AccessPlan {
+    /// The collection scan stage.
+    private static final String COLLSCAN = "COLLSCAN";
+
+    /// The document fetch stage.
+    private static final String FETCH = "FETCH";
+
+    /// The index scan stage.
+    private static final String IXSCAN = "IXSCAN";
+
+    /// The name of the access pattern.
+    private final String name;
+
+    /// The stages from the root down.
+    private final List<String> stages;
+
+    /// The indexes read.
+    private final List<String> indexNames;
+
+    /// The constructor.
+    ///
+    /// @param  name        java.lang.String
+    /// @param  stages      java.util.List<java.lang.String>
+    /// @param  indexNames  java.util.List<java.lang.String>
+    AccessPlan(final String name, final List<String> stages, final List<String> indexNames) {
+        super();
+
+        this.name = name;
+        this.stages = Collections.unmodifiableList(stages);
+        this.indexNames = Collections.unmodifiableList(indexNames);
+    }
+
+    /// Create an access plan from the output of explain.
+    ///
+    /// @param  name    java.lang.String
+    /// @param  explain org.bson.Document
+    /// @return         net.jmp.pinecone.quickstart.mongo.AccessPlan
+    static AccessPlan fromExplain(final String name, final Document explain) {
+        final List<String> stages = new ArrayList<>();
+        final List<String> indexNames = new ArrayList<>();
+        final Document queryPlanner = explain.get("queryPlanner", Document.class);
+
+        if (queryPlanner != null) {
+            Document winningPlan = queryPlanner.get("winningPlan", Document.class);
+
+            /* The slot-based engine nests the plan one level down */
+
+            if (winningPlan != null && winningPlan.containsKey("queryPlan")) {
+                winningPlan = winningPlan.get("queryPlan", Document.class);
+            }
+
+            collect(winningPlan, stages, indexNames);
+        }
+
+        return new AccessPlan(name, stages, indexNames);
+    }
+
+    /// Collect the stages and index names of a plan stage and
+    /// its input stages.
+    ///
+    /// @param  stage       org.bson.Document
+    /// @param  stages      java.util.List<java.lang.String>
+    /// @param  indexNames  java.util.List<java.lang.String>
+    private static void collect(final Document stage, final List<String> stages, final List<String> indexNames) {
+        if (stage != null) {
+            stages.add(stage.getString("stage"));
+
+            final String indexName = stage.getString("indexName");
+
+            if (indexName != null) {
+                indexNames.add(indexName);
+            }
+
+            collect(stage.get("inputStage", Document.class), stages, indexNames);
+
+            final List<Document> inputStages = stage.getList("inputStages", Document.class);
+
+            if (inputStages != null) {
+                inputStages.forEach(input -> collect(input, stages, indexNames));
+            }
+        }
+    }
+
+    /// Return the name of the access pattern.
+    ///
+    /// @return java.lang.String
+    public String getName() {
+        return this.name;
+    }
+
+    /// Return the stages from the root down.
+    ///
+    /// @return java.util.List<java.lang.String>
+    public List<String> getStages() {
+        return this.stages;
+    }
+
+    /// Return the indexes read.
+    ///
+    /// @return java.util.List<java.lang.String>
+    public List<String> getIndexNames() {
+        return this.indexNames;
+    }
+
+    /// Return true if the plan scans the collection.
+    ///
+    /// @return boolean
+    public boolean isCollectionScan() {
+        return this.stages.contains(COLLSCAN) || this.stages.isEmpty();
+    }
+
+    /// Return true if the plan is answered from an index
+    /// without fetching any documents.
+    ///
+    /// @return boolean
+    public boolean isCovered() {
+        return this.stages.contains(IXSCAN) && !this.stages.contains(FETCH);
+    }
+
+    /// Return the string representation.
+    ///
+    /// @return java.lang.String
+    @Override
+    public String toString() {
+        return this.name + ": " + String.join(" <- ", this.stages)
+                + (this.indexNames.isEmpty() ? "" : " " + this.indexNames)
+                + (this.isCollectionScan() ? " [collection scan]" : this.isCovered() ? " [covered]" : "");
+    }
+}
@@ -0,0 +1,213 @@
+package net.jmp.pinecone.quickstart.mongo;
+
+/*
+ * (#)MongoIndexes.java 0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import com.mongodb.MongoException;
+
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoDatabase;
+
+import com.mongodb.client.model.IndexModel;
+import com.mongodb.client.model.IndexOptions;
+import com.mongodb.client.model.Indexes;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.Sorts;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.mongodb.client.model.Filters.eq;
+
+import static net.jmp.util.logging.LoggerUtils.*;
+
+import org.bson.Document;
+
+import org.bson.conversions.Bson;
+
+import org.bson.types.ObjectId;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/// The MongoDB indexes class. Creates the indexes that the
+/// reads of the text and categories collections depend on,
+/// and explains each of those reads to verify that none of
+/// them scans a collection. The text collection gets a unique
+/// index on id, an index on category, an index on id,
+/// category, content and _id that covers the sorted scan
+/// of the update task and the content lookups of the dense
+/// query, and a multikey index on the keywords extracted at
+/// ingest time. The load task's sorted scan reads the
+/// keywords too, so it walks the id index and fetches the
+/// documents. The categories collection gets a unique
+/// index on category. Creating an index that already exists
+/// does nothing, so the indexes can be ensured at any time.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+public final class MongoIndexes {
+    /// The name of the categories collection.
+    public static final String CATEGORIES_COLLECTION = "categories";
+
+    /// The logger.
+    private static final Logger logger = LoggerFactory.getLogger(MongoIndexes.class.getName());
+
+    /// The default constructor.
+    private MongoIndexes() {
+        super();
+    }
+
+    /// Ensure the indexes on the text collection and the
+    /// categories collection exist.
+    ///
+    /// @param  database        com.mongodb.client.MongoDatabase
+    /// @param  collectionName  java.lang.String
+    /// @return                 java.util.List<java.lang.String>
+    public static List<String> ensureIndexes(final MongoDatabase database, final String collectionName) {
+        if (logger.isTraceEnabled()) {
+            logger.trace(entryWith(database, collectionName));
+        }
+
+        final List<String> indexNames = new ArrayList<>();
+
+        indexNames.addAll(createIndexes(database.getCollection(collectionName), List.of(
+                new IndexModel(Indexes.ascending("id"), new IndexOptions().unique(true)),
+                new IndexModel(Indexes.ascending("category")),
+                new IndexModel(Indexes.ascending("id", "category", "content", "_id")),
+                new IndexModel(Indexes.ascending("keywords"))
+        )));
+
+        indexNames.addAll(createIndexes(database.getCollection(CATEGORIES_COLLECTION), List.of(
+                new IndexModel(Indexes.ascending("category"), new IndexOptions().unique(true))
+        )));
+
+        if (logger.isTraceEnabled()) {
+            logger.trace(exitWith(indexNames));
+        }
+
+        return indexNames;
+    }
+
+    /// Explain each read of the text collection and the
+    /// categories collection and return its access plan.
+    /// The reads use values that need not exist; only the
+    /// shape of each read determines its plan.
+    ///
+    /// @param  database        com.mongodb.client.MongoDatabase
+    /// @param  collectionName  java.lang.String
+    /// @return                 java.util.List<net.jmp.pinecone.quickstart.mongo.AccessPlan>
+    public static List<AccessPlan> explainReads(final MongoDatabase database, final String collectionName) {
+        if (logger.isTraceEnabled()) {
+            logger.trace(entryWith(database, collectionName));
+        }
+
+        final MongoCollection<Document> collection = database.getCollection(collectionName);
+        final MongoCollection<Document> categories = database.getCollection(CATEGORIES_COLLECTION);
+        final Bson sortById = Sorts.ascending("id");
+        final List<AccessPlan> plans = new ArrayList<>();
+
+        plans.add(AccessPlan.fromExplain("load scan sorted by id", collection
+                .find()
+                .projection(Projections.include("id", "content", "category", "keywords"))
+                .sort(sortById)
+                .explain()));
+
+        plans.add(AccessPlan.fromExplain("update scan sorted by id", collection
+                .find()
+                .projection(Projections.include("id", "content"))
+                .sort(sortById)
+                .explain()));
+
+        plans.add(AccessPlan.fromExplain("content by id", collection
+                .find(eq("id", "rec1"))
+                .projection(contentProjection())
+                .explain()));
+
+        plans.add(AccessPlan.fromExplain("document by _id", collection
+                .find(eq(new ObjectId()))
+                .projection(Projections.include("id", "content", "category"))
+                .explain()));
+
+        plans.add(AccessPlan.fromExplain("documents by category", collection
+                .find(eq("category", "science"))
+                .projection(Projections.include("id", "content", "category"))
+                .explain()));
+
+        plans.add(AccessPlan.fromExplain("documents by keyword", collection
+                .find(eq("keywords", "light"))
+                .projection(Projections.include("id", "content", "category"))
+                .explain()));
+
+        plans.add(AccessPlan.fromExplain("category lookup", categories
+                .find(eq("category", "science"))
+                .projection(categoryProjection())
+                .explain()));
+
+        if (logger.isTraceEnabled()) {
+            logger.trace(exitWith(plans));
+        }
+
+        return plans;
+    }
+
+    /// Return the projection of a content lookup by id,
+    /// which the covering index answers on its own.
+    ///
+    /// @return org.bson.conversions.Bson
+    public static Bson contentProjection() {
+        return Projections.fields(Projections.include("content"), Projections.excludeId());
+    }
+
+    /// Return the projection of a category lookup, which the
+    /// category index answers on its own.
+    ///
+    /// @return org.bson.conversions.Bson
+    public static Bson categoryProjection() {
+        return Projections.fields(Projections.include("category"), Projections.excludeId());
+    }
+
+    /// Create indexes on a collection.
+    ///
+    /// @param  collection  com.mongodb.client.MongoCollection<org.bson.Document>
+    /// @param  indexes     java.util.List<com.mongodb.client.model.IndexModel>
+    /// @return             java.util.List<java.lang.String>
+    private static List<String> createIndexes(final MongoCollection<Document> collection, final List<IndexModel> indexes) {
+        List<String> indexNames = List.of();
+
+        try {
+            indexNames = collection.createIndexes(indexes);
+
+            logger.info("Indexes on {}: {}", collection.getNamespace().getCollectionName(), indexNames);
+        } catch (final MongoException me) {
+            logger.error(catching(me));
+        }
+
+        return indexNames;
+    }
+}
@@ -0,0 +1,163 @@
+package net.jmp.pinecone.quickstart.mongo;
+
+/*
+ * (#)ProvisionMongoIndexes.java    0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import com.mongodb.MongoException;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoDatabase;
+
+import java.util.List;
+
+import net.jmp.pinecone.quickstart.Operation;
+
+import static net.jmp.util.logging.LoggerUtils.*;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/// The provision MongoDB indexes class. Ensures the indexes
+/// on the text and categories collections and reports the
+/// access plan of each of their reads, warning of any read
+/// that scans a collection.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+public final class ProvisionMongoIndexes extends Operation {
+    /// The logger.
+    private final Logger logger = LoggerFactory.getLogger(this.getClass().getName());
+
+    /// The constructor.
+    ///
+    /// @param  builder net.jmp.pinecone.quickstart.mongo.ProvisionMongoIndexes.Builder
+    private ProvisionMongoIndexes(final Builder builder) {
+        super(Operation.operationBuilder()
+                .dbName(builder.dbName)
+                .collectionName(builder.collectionName)
+                .mongoClient(builder.mongoClient)
+        );
+    }
+
+    /// Return the builder.
+    ///
+    /// @return net.jmp.pinecone.quickstart.mongo.ProvisionMongoIndexes.Builder
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /// The operate method.
+    @Override
+    public void operate() {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        final MongoDatabase database = this.mongoClient.getDatabase(this.dbName);
+
+        MongoIndexes.ensureIndexes(database, this.collectionName);
+
+        try {
+            final List<AccessPlan> plans = MongoIndexes.explainReads(database, this.collectionName);
+
+            int collectionScans = 0;
+
+            for (final AccessPlan plan : plans) {
+                if (plan.isCollectionScan()) {
+                    this.logger.warn("{}", plan);
+
+                    collectionScans++;
+                } else {
+                    this.logger.info("{}", plan);
+                }
+            }
+
+            this.logger.info("{} of {} read(s) scan a collection", collectionScans, plans.size());
+        } catch (final MongoException me) {
+            this.logger.error(catching(me));
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /// The builder class.
+    public static class Builder {
+        /// The mongo client.
+        private MongoClient mongoClient;
+
+        /// The collection name.
+        private String collectionName;
+
+        /// The database name.
+        private String dbName;
+
+        /// The default constructor.
+        private Builder() {
+            super();
+        }
+
+        /// Set the mongo client.
+        ///
+        /// @param  mongoClient com.mongodb.client.MongoClient
+        /// @return             net.jmp.pinecone.quickstart.mongo.ProvisionMongoIndexes.Builder
+        public Builder mongoClient(final MongoClient mongoClient) {
+            this.mongoClient = mongoClient;
+
+            return this;
+        }
+
+        /// Set the collection name.
+        ///
+        /// @param  collectionName  java.lang.String
+        /// @return                 net.jmp.pinecone.quickstart.mongo.ProvisionMongoIndexes.Builder
+        public Builder collectionName(final String collectionName) {
+            this.collectionName = collectionName;
+
+            return this;
+        }
+
+        /// Set the database name.
+        ///
+        /// @param  dbName  java.lang.String
+        /// @return         net.jmp.pinecone.quickstart.mongo.ProvisionMongoIndexes.Builder
+        public Builder dbName(final String dbName) {
+            this.dbName = dbName;
+
+            return this;
+        }
+
+        /// Build the object.
+        ///
+        /// @return net.jmp.pinecone.quickstart.mongo.ProvisionMongoIndexes
+        public ProvisionMongoIndexes build() {
+            return new ProvisionMongoIndexes(this);
+        }
+    }
+}
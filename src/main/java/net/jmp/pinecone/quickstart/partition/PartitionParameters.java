@@ -0,0 +1,126 @@
+package net.jmp.pinecone.quickstart.partition;
+
+/*
+ * (#)PartitionParameters.java  0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/// The partition parameters class. Parses the parameters
+/// from a comma-separated list of name=value pairs, such as:
+///
+/// layout=category,buckets=8
+///
+/// Parameters that are not given keep their default values.
+/// The layout is none, to keep every vector in the one
+/// namespace, category, to give each category a namespace of
+/// its own, or hash, to spread the documents over the number
+/// of buckets by the hash of their IDs.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+public final class PartitionParameters {
+    /// The default layout.
+    public static final String DEFAULT_LAYOUT = Partitions.NONE;
+
+    /// The default number of hash buckets.
+    public static final int DEFAULT_BUCKETS = 8;
+
+    /// The layout.
+    private final String layout;
+
+    /// The number of hash buckets.
+    private final int buckets;
+
+    /// The constructor.
+    ///
+    /// @param  layout  java.lang.String
+    /// @param  buckets int
+    public PartitionParameters(final String layout, final int buckets) {
+        super();
+
+        if (!Partitions.NONE.equals(layout) && !Partitions.CATEGORY.equals(layout) && !Partitions.HASH.equals(layout)) {
+            throw new IllegalArgumentException("layout must be none, category or hash: " + layout);
+        }
+
+        if (buckets < 1) {
+            throw new IllegalArgumentException("buckets must be positive: " + buckets);
+        }
+
+        this.layout = layout;
+        this.buckets = buckets;
+    }
+
+    /// Parse the parameters from a string.
+    ///
+    /// @param  parameters  java.lang.String
+    /// @return             net.jmp.pinecone.quickstart.partition.PartitionParameters
+    public static PartitionParameters parse(final String parameters) {
+        String layout = DEFAULT_LAYOUT;
+        int buckets = DEFAULT_BUCKETS;
+
+        if (parameters != null && !parameters.isBlank()) {
+            for (final String parameter : parameters.split(",")) {
+                final String[] pair = parameter.split("=", 2);
+
+                if (pair.length != 2) {
+                    throw new IllegalArgumentException("Expected name=value: " + parameter);
+                }
+
+                final String value = pair[1].trim();
+
+                switch (pair[0].trim()) {
+                    case "layout" -> layout = value;
+                    case "buckets" -> buckets = Integer.parseInt(value);
+                    default -> throw new IllegalArgumentException("Unknown partition parameter: " + pair[0]);
+                }
+            }
+        }
+
+        return new PartitionParameters(layout, buckets);
+    }
+
+    /// Return the layout.
+    ///
+    /// @return java.lang.String
+    public String getLayout() {
+        return this.layout;
+    }
+
+    /// Return the number of hash buckets.
+    ///
+    /// @return int
+    public int getBuckets() {
+        return this.buckets;
+    }
+
+    /// Return the string representation.
+    ///
+    /// @return java.lang.String
+    @Override
+    public String toString() {
+        return "layout=" + this.layout + ",buckets=" + this.buckets;
+    }
+}
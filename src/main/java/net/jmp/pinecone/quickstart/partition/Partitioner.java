@@ -0,0 +1,215 @@
+package net.jmp.pinecone.quickstart.partition;
+
+/*
+ * (#)Partitioner.java  0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import io.pinecone.clients.Index;
+
+import io.pinecone.proto.DescribeIndexStatsResponse;
+
+import java.util.*;
+
+import net.jmp.pinecone.quickstart.resilience.Endpoint;
+import net.jmp.pinecone.quickstart.resilience.Resilience;
+
+import static net.jmp.util.logging.LoggerUtils.*;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/// The partitioner class. Names the namespace each vector
+/// of an index is written to and the namespaces a query
+/// has to read. A partition is named for the namespace it
+/// belongs to and its category or hash bucket, such as
+/// quickstart-namespace-science or quickstart-namespace-3.
+/// When the layout is none the namespace is not partitioned.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+public final class Partitioner {
+    /// The name of the partition of the documents that have no category.
+    static final String UNCATEGORIZED = "uncategorized";
+
+    /// The logger.
+    private final Logger logger = LoggerFactory.getLogger(this.getClass().getName());
+
+    /// The parameters.
+    private final PartitionParameters parameters;
+
+    /// The constructor.
+    ///
+    /// @param  parameters  net.jmp.pinecone.quickstart.partition.PartitionParameters
+    public Partitioner(final PartitionParameters parameters) {
+        super();
+
+        this.parameters = parameters;
+    }
+
+    /// Return true if the namespace is partitioned.
+    ///
+    /// @return boolean
+    public boolean isPartitioned() {
+        return !Partitions.NONE.equals(this.parameters.getLayout());
+    }
+
+    /// Return true if a query restricted to categories still
+    /// needs its category filter. It does not when each
+    /// category has a partition of its own.
+    ///
+    /// @return boolean
+    public boolean isFilterNeeded() {
+        return !Partitions.CATEGORY.equals(this.parameters.getLayout());
+    }
+
+    /// Return the partition of the namespace a document is written to.
+    ///
+    /// @param  namespace   java.lang.String
+    /// @param  category    java.lang.String
+    /// @param  documentId  java.lang.String
+    /// @return             java.lang.String
+    public String partitionOf(final String namespace, final String category, final String documentId) {
+        return switch (this.parameters.getLayout()) {
+            case Partitions.CATEGORY -> this.categoryPartition(namespace, category);
+            case Partitions.HASH -> this.bucketPartition(namespace, Math.floorMod(documentId.hashCode(), this.parameters.getBuckets()));
+            default -> namespace;
+        };
+    }
+
+    /// Return every partition of the namespace. The partitions
+    /// of the category layout are the namespaces of the index
+    /// that were named for the namespace when it was loaded.
+    ///
+    /// @param  index       io.pinecone.clients.Index
+    /// @param  namespace   java.lang.String
+    /// @return             java.util.List<java.lang.String>
+    public List<String> partitions(final Index index, final String namespace) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entryWith(index, namespace));
+        }
+
+        final List<String> partitions = new ArrayList<>();
+
+        switch (this.parameters.getLayout()) {
+            case Partitions.CATEGORY -> {
+                final DescribeIndexStatsResponse response = Resilience.call(Endpoint.PINECONE_QUERY, index::describeIndexStats);
+                final String prefix = namespace + "-";
+
+                for (final String name : new TreeSet<>(response.getNamespacesMap().keySet())) {
+                    if (name.startsWith(prefix)) {
+                        partitions.add(name);
+                    }
+                }
+            }
+            case Partitions.HASH -> {
+                for (int bucket = 0; bucket < this.parameters.getBuckets(); bucket++) {
+                    partitions.add(this.bucketPartition(namespace, bucket));
+                }
+            }
+            default -> partitions.add(namespace);
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exitWith(partitions));
+        }
+
+        return partitions;
+    }
+
+    /// Return the partitions of the namespace that a query
+    /// restricted to the categories has to read. Only the
+    /// partitions of the categories are read when each
+    /// category has a partition of its own; otherwise, or
+    /// when there are no categories, every partition is read.
+    ///
+    /// @param  index       io.pinecone.clients.Index
+    /// @param  namespace   java.lang.String
+    /// @param  categories  java.util.Set<java.lang.String>
+    /// @return             java.util.List<java.lang.String>
+    public List<String> partitions(final Index index, final String namespace, final Set<String> categories) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entryWith(index, namespace, categories));
+        }
+
+        final List<String> partitions;
+
+        if (Partitions.CATEGORY.equals(this.parameters.getLayout()) && !categories.isEmpty()) {
+            final Set<String> names = new TreeSet<>();
+
+            for (final String category : categories) {
+                names.add(this.categoryPartition(namespace, category));
+            }
+
+            partitions = new ArrayList<>(names);
+        } else {
+            partitions = this.partitions(index, namespace);
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exitWith(partitions));
+        }
+
+        return partitions;
+    }
+
+    /// Return the partition of a category. The category is
+    /// lower-cased and each run of characters other than
+    /// letters and digits becomes a hyphen.
+    ///
+    /// @param  namespace   java.lang.String
+    /// @param  category    java.lang.String
+    /// @return             java.lang.String
+    private String categoryPartition(final String namespace, final String category) {
+        String name = category == null ? "" : category.trim()
+                .toLowerCase(Locale.ROOT)
+                .replaceAll("[^\\p{L}\\p{N}]+", "-")
+                .replaceAll("^-|-$", "");
+
+        if (name.isEmpty()) {
+            name = UNCATEGORIZED;
+        }
+
+        return namespace + "-" + name;
+    }
+
+    /// Return the partition of a hash bucket.
+    ///
+    /// @param  namespace   java.lang.String
+    /// @param  bucket      int
+    /// @return             java.lang.String
+    private String bucketPartition(final String namespace, final int bucket) {
+        return namespace + "-" + bucket;
+    }
+
+    /// Return the string representation.
+    ///
+    /// @return java.lang.String
+    @Override
+    public String toString() {
+        return this.parameters.toString();
+    }
+}
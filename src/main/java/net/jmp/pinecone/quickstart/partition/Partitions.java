@@ -0,0 +1,85 @@
+package net.jmp.pinecone.quickstart.partition;
+
+/*
+ * (#)Partitions.java   0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import static net.jmp.util.logging.LoggerUtils.*;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/// The partitions class. Holds the partitioner that the
+/// loads and queries of the dense and sparse indexes share,
+/// which leaves the namespace unpartitioned unless another
+/// layout is configured.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+public final class Partitions {
+    /// The name of the layout that keeps every vector in the one namespace.
+    public static final String NONE = "none";
+
+    /// The name of the layout that gives each category a partition.
+    public static final String CATEGORY = "category";
+
+    /// The name of the layout that spreads the documents over hash buckets.
+    public static final String HASH = "hash";
+
+    /// The logger.
+    private static final Logger logger = LoggerFactory.getLogger(Partitions.class.getName());
+
+    /// The configured partitioner.
+    private static volatile Partitioner partitioner = new Partitioner(PartitionParameters.parse(null));
+
+    /// The default constructor.
+    private Partitions() {
+        super();
+    }
+
+    /// Configure the partitioner from the parameters.
+    ///
+    /// @param  parameters  net.jmp.pinecone.quickstart.partition.PartitionParameters
+    public static void configure(final PartitionParameters parameters) {
+        if (logger.isTraceEnabled()) {
+            logger.trace(entryWith(parameters));
+        }
+
+        partitioner = new Partitioner(parameters);
+
+        if (logger.isTraceEnabled()) {
+            logger.trace(exit());
+        }
+    }
+
+    /// Return the configured partitioner.
+    ///
+    /// @return net.jmp.pinecone.quickstart.partition.Partitioner
+    public static Partitioner get() {
+        return partitioner;
+    }
+}
@@ -0,0 +1,253 @@
+package net.jmp.pinecone.quickstart.pipeline;
+
+/*
+ * (#)Pipeline.java 0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import java.util.function.Consumer;
+
+import static net.jmp.util.logging.LoggerUtils.*;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/// A pipeline of operations run in one process, parsed
+/// from a string of comma-separated steps such as
+/// "create,store,load:create+store,update:load,describe:update".
+/// A step starts as soon as all of its dependencies have
+/// finished, so steps that do not depend on each other
+/// run in parallel. A step that fails causes the steps
+/// that depend on it, directly or not, to be skipped.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+public final class Pipeline {
+    /// The logger.
+    private final Logger logger = LoggerFactory.getLogger(this.getClass().getName());
+
+    /// The steps in an order where every step follows its dependencies.
+    private final List<PipelineStep> steps;
+
+    /// The constructor.
+    ///
+    /// @param  steps   java.util.List<net.jmp.pinecone.quickstart.pipeline.PipelineStep>
+    public Pipeline(final List<PipelineStep> steps) {
+        super();
+
+        if (steps.isEmpty()) {
+            throw new IllegalArgumentException("A pipeline must have at least one step");
+        }
+
+        this.steps = Collections.unmodifiableList(order(steps));
+    }
+
+    /// Parse the pipeline from a string.
+    ///
+    /// @param  pipeline    java.lang.String
+    /// @return             net.jmp.pinecone.quickstart.pipeline.Pipeline
+    public static Pipeline parse(final String pipeline) {
+        final List<PipelineStep> steps = new ArrayList<>();
+
+        if (pipeline != null && !pipeline.isBlank()) {
+            for (final String step : pipeline.split(",")) {
+                steps.add(PipelineStep.parse(step));
+            }
+        }
+
+        return new Pipeline(steps);
+    }
+
+    /// Return the steps in an order where
+    /// every step follows its dependencies.
+    ///
+    /// @return java.util.List<net.jmp.pinecone.quickstart.pipeline.PipelineStep>
+    public List<PipelineStep> getSteps() {
+        return this.steps;
+    }
+
+    /// Run the pipeline, passing the operation of each
+    /// step to the runner once its dependencies have
+    /// finished, and wait for every step to finish or
+    /// be skipped.
+    ///
+    /// @param  runner  java.util.function.Consumer<java.lang.String>
+    /// @return         boolean
+    public boolean run(final Consumer<String> runner) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entryWith(runner));
+        }
+
+        final Map<String, CompletableFuture<Void>> futures = new HashMap<>();
+        final Map<String, String> outcomes = new ConcurrentHashMap<>();
+        final long start = System.nanoTime();
+
+        try (final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (final PipelineStep step : this.steps) {
+                final CompletableFuture<?>[] dependencies = step.getDependencies().stream()
+                        .map(futures::get)
+                        .toArray(CompletableFuture<?>[]::new);
+
+                futures.put(step.getOperation(),
+                        CompletableFuture.allOf(dependencies)
+                                .thenRunAsync(() -> this.runStep(step, runner, outcomes), executor));
+            }
+
+            try {
+                CompletableFuture.allOf(futures.values().toArray(new CompletableFuture<?>[0])).join();
+            } catch (final CompletionException ce) {
+                /* Each failure is already recorded in the outcomes */
+            }
+        }
+
+        boolean succeeded = true;
+
+        for (final PipelineStep step : this.steps) {
+            final String outcome = outcomes.getOrDefault(step.getOperation(), "skipped");
+
+            if (!outcome.startsWith("completed")) {
+                succeeded = false;
+            }
+
+            this.logger.info("Step {}: {}", step.getOperation(), outcome);
+        }
+
+        this.logger.info("Pipeline {} in {} ms",
+                succeeded ? "completed" : "failed",
+                (System.nanoTime() - start) / 1_000_000);
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exitWith(succeeded));
+        }
+
+        return succeeded;
+    }
+
+    /// Run one step and record its outcome.
+    ///
+    /// @param  step        net.jmp.pinecone.quickstart.pipeline.PipelineStep
+    /// @param  runner      java.util.function.Consumer<java.lang.String>
+    /// @param  outcomes    java.util.Map<java.lang.String, java.lang.String>
+    private void runStep(final PipelineStep step,
+                         final Consumer<String> runner,
+                         final Map<String, String> outcomes) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entryWith(step, runner, outcomes));
+        }
+
+        final String operation = step.getOperation();
+        final long start = System.nanoTime();
+
+        this.logger.info("Starting step: {}", operation);
+
+        try {
+            runner.accept(operation);
+
+            outcomes.put(operation, "completed in " + (System.nanoTime() - start) / 1_000_000 + " ms");
+        } catch (final RuntimeException re) {
+            outcomes.put(operation, "failed after " + (System.nanoTime() - start) / 1_000_000 + " ms: " + re.getMessage());
+
+            this.logger.error(catching(re));
+
+            throw re;
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /// Order the steps so that every step follows its
+    /// dependencies, each time taking the first step in
+    /// the given order whose dependencies are all placed.
+    ///
+    /// @param  steps   java.util.List<net.jmp.pinecone.quickstart.pipeline.PipelineStep>
+    /// @return         java.util.List<net.jmp.pinecone.quickstart.pipeline.PipelineStep>
+    private static List<PipelineStep> order(final List<PipelineStep> steps) {
+        final Map<String, PipelineStep> byOperation = new LinkedHashMap<>();
+
+        for (final PipelineStep step : steps) {
+            if (byOperation.put(step.getOperation(), step) != null) {
+                throw new IllegalArgumentException("Duplicate pipeline step: " + step.getOperation());
+            }
+        }
+
+        for (final PipelineStep step : steps) {
+            for (final String dependency : step.getDependencies()) {
+                if (!byOperation.containsKey(dependency)) {
+                    throw new IllegalArgumentException("Unknown dependency of pipeline step " + step.getOperation() + ": " + dependency);
+                }
+            }
+        }
+
+        final List<PipelineStep> ordered = new ArrayList<>(steps.size());
+        final Set<String> placed = new HashSet<>();
+
+        while (ordered.size() < steps.size()) {
+            boolean progressed = false;
+
+            for (final PipelineStep step : byOperation.values()) {
+                if (!placed.contains(step.getOperation()) && placed.containsAll(step.getDependencies())) {
+                    ordered.add(step);
+                    placed.add(step.getOperation());
+                    progressed = true;
+
+                    break;
+                }
+            }
+
+            if (!progressed) {
+                final List<String> remaining = new ArrayList<>(byOperation.keySet());
+
+                remaining.removeAll(placed);
+
+                throw new IllegalArgumentException("Pipeline steps depend on each other in a cycle: " + remaining);
+            }
+        }
+
+        return ordered;
+    }
+
+    /// Return the string representation.
+    ///
+    /// @return java.lang.String
+    @Override
+    public String toString() {
+        final StringJoiner joiner = new StringJoiner(",");
+
+        this.steps.forEach(step -> joiner.add(step.toString()));
+
+        return joiner.toString();
+    }
+}
@@ -0,0 +1,109 @@
+package net.jmp.pinecone.quickstart.pipeline;
+
+/*
+ * (#)PipelineStep.java 0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/// A step in a pipeline: an operation and the operations
+/// that must finish before it starts. A step is written
+/// as the operation name, optionally followed by a colon
+/// and the names of its dependencies separated by plus
+/// signs, such as "load:create+store".
+///
+/// @version    0.9.0
+/// @since      0.9.0
+public final class PipelineStep {
+    /// The operation.
+    private final String operation;
+
+    /// The operations that must finish before this one starts.
+    private final List<String> dependencies;
+
+    /// The constructor.
+    ///
+    /// @param  operation       java.lang.String
+    /// @param  dependencies    java.util.List<java.lang.String>
+    public PipelineStep(final String operation, final List<String> dependencies) {
+        super();
+
+        if (operation == null || operation.isBlank()) {
+            throw new IllegalArgumentException("A pipeline step must name an operation");
+        }
+
+        this.operation = operation;
+        this.dependencies = Collections.unmodifiableList(new ArrayList<>(dependencies));
+    }
+
+    /// Parse a step from a string.
+    ///
+    /// @param  step    java.lang.String
+    /// @return         net.jmp.pinecone.quickstart.pipeline.PipelineStep
+    public static PipelineStep parse(final String step) {
+        final String[] parts = step.split(":", 2);
+        final List<String> dependencies = new ArrayList<>();
+
+        if (parts.length == 2 && !parts[1].isBlank()) {
+            for (final String dependency : parts[1].split("\\+", -1)) {
+                if (dependency.isBlank()) {
+                    throw new IllegalArgumentException("Empty dependency in pipeline step: " + step);
+                }
+
+                dependencies.add(dependency.trim());
+            }
+        }
+
+        return new PipelineStep(parts[0].trim(), dependencies);
+    }
+
+    /// Return the operation.
+    ///
+    /// @return java.lang.String
+    public String getOperation() {
+        return this.operation;
+    }
+
+    /// Return the operations that must finish before this one starts.
+    ///
+    /// @return java.util.List<java.lang.String>
+    public List<String> getDependencies() {
+        return this.dependencies;
+    }
+
+    /// Return the string representation.
+    ///
+    /// @return java.lang.String
+    @Override
+    public String toString() {
+        return this.dependencies.isEmpty()
+                ? this.operation
+                : this.operation + ":" + String.join("+", this.dependencies);
+    }
+}
@@ -1,6 +1,7 @@
 package net.jmp.pinecone.quickstart.query;
 
 /*
+ * (#)CategoryUtil.java 0.9.0   10/18/2026
  * (#)CategoryUtil.java 0.4.0   06/09/2025
  *
  * @author   Jonathan Parker
@@ -35,6 +36,14 @@ import com.mongodb.client.MongoDatabase;
 import java.util.HashSet;
 import java.util.Set;
 
+import net.jmp.pinecone.quickstart.metrics.Metrics;
+import net.jmp.pinecone.quickstart.metrics.Stage;
+
+import net.jmp.pinecone.quickstart.mongo.MongoIndexes;
+
+import net.jmp.pinecone.quickstart.trace.Span;
+import net.jmp.pinecone.quickstart.trace.Tracer;
+
 import static net.jmp.util.logging.LoggerUtils.*;
 
 import org.bson.Document;
@@ -44,7 +53,7 @@ import org.slf4j.LoggerFactory;
 
 /// The category utility class.
 ///
-/// @version    0.4.0
+/// @version    0.9.0
 /// @since      0.4.0
 final class CategoryUtil {
     /// The logger.
@@ -77,6 +86,7 @@ final class CategoryUtil {
         }
 
         final Set<String> categories = new HashSet<>();
+        final long start = System.nanoTime();
 
         String textToSplit;
 
@@ -88,12 +98,19 @@ final class CategoryUtil {
 
         final String[] splits = textToSplit.split(" ");
 
-        for (final String split : splits) {
-            if (this.isWordACategory(split)) {
-                categories.add(split);
+        try (final Span span = Tracer.startSpan("category-lookup")) {
+            for (final String split : splits) {
+                if (this.isWordACategory(split)) {
+                    categories.add(split);
+                }
             }
+
+            span.setAttribute("word.count", splits.length)
+                    .setAttribute("category.count", categories.size());
         }
 
+        Metrics.recordLatency(Stage.CATEGORY_LOOKUP, start);
+
         if (this.logger.isTraceEnabled()) {
             this.logger.trace(exitWith(categories));
         }
@@ -113,9 +130,17 @@ final class CategoryUtil {
         boolean result = false;
 
         final MongoDatabase database = this.mongoClient.getDatabase(this.mongoDbName);
-        final MongoCollection<Document> categoriesCollection = database.getCollection("categories");
+        final MongoCollection<Document> categoriesCollection = database.getCollection(MongoIndexes.CATEGORIES_COLLECTION);
+
+        try (final Span span = Tracer.startSpan("mongo-find")) {
+            result = categoriesCollection
+                    .find(new Document("category", word))
+                    .projection(MongoIndexes.categoryProjection())
+                    .first() != null;
 
-        result = categoriesCollection.find(new Document("category", word)).first() != null;
+            span.setAttribute("collection", "categories")
+                    .setAttribute("found", result);
+        }
 
         if (this.logger.isTraceEnabled()) {
             this.logger.trace(exitWith(result));
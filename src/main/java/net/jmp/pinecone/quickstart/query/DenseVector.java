@@ -1,6 +1,7 @@
 package net.jmp.pinecone.quickstart.query;
 
 /*
+ * (#)DenseVector.java  0.9.0   10/18/2026
  * (#)DenseVector.java  0.7.0   06/23/2025
  * (#)DenseVector.java  0.4.0   06/11/2025
  *
@@ -31,9 +32,11 @@ package net.jmp.pinecone.quickstart.query;
 
 import java.util.List;
 
+import net.jmp.pinecone.quickstart.local.PrimitiveLists;
+
 /// The dense vector class.
 ///
-/// @version    0.7.0
+/// @version    0.9.0
 /// @since      0.4.0
 public final class DenseVector extends Vector {
     /// The default constructor.
@@ -43,15 +46,23 @@ public final class DenseVector extends Vector {
 
     /// Return the dense values.
     ///
-    /// @return  java.util.List<java.lang.Float>
-    public List<Float> getDenseValues() {
+    /// @return  float[]
+    public float[] getDenseValues() {
         return this.getValues();
     }
 
+    /// Return a list view of the dense values
+    /// for the Pinecone client. Nothing is copied.
+    ///
+    /// @return  java.util.List<java.lang.Float>
+    public List<Float> getDenseValuesAsList() {
+        return PrimitiveLists.asList(this.getValues());
+    }
+
     /// Set the dense values.
     ///
-    /// @param  denseValues  java.util.List<java.lang.Float>
-    public void setDenseValues(final List<Float> denseValues) {
+    /// @param  denseValues  float[]
+    public void setDenseValues(final float[] denseValues) {
         this.setValues(denseValues);
     }
 }
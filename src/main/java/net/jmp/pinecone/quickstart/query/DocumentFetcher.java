@@ -1,6 +1,7 @@
 package net.jmp.pinecone.quickstart.query;
 
 /*
+ * (#)DocumentFetcher.java  0.9.0   10/18/2026
  * (#)DocumentFetcher.java  0.2.0   05/26/2025
  *
  * @author   Jonathan Parker
@@ -38,8 +39,14 @@ import com.mongodb.client.model.Projections;
 
 import java.util.Optional;
 
+import net.jmp.pinecone.quickstart.metrics.Metrics;
+import net.jmp.pinecone.quickstart.metrics.Stage;
+
 import net.jmp.pinecone.quickstart.text.UnstructuredTextDocument;
 
+import net.jmp.pinecone.quickstart.trace.Span;
+import net.jmp.pinecone.quickstart.trace.Tracer;
+
 import static net.jmp.util.logging.LoggerUtils.*;
 
 import org.bson.Document;
@@ -53,7 +60,7 @@ import org.slf4j.LoggerFactory;
 
 /// The document fetcher class.
 ///
-/// @version    0.2.0
+/// @version    0.9.0
 /// @since      0.2.0
 final class DocumentFetcher {
     /// The logger.
@@ -90,6 +97,7 @@ final class DocumentFetcher {
             this.logger.trace(entryWith(mongoId));
         }
 
+        final long start = System.nanoTime();
         final MongoDatabase database = this.mongoClient.getDatabase(this.dbName);
         final MongoCollection<Document> collection = database.getCollection(this.collectionName);
 
@@ -97,10 +105,20 @@ final class DocumentFetcher {
                 Projections.include("id", "content", "category")
         );
 
-        final Document mongoDocument = collection
-                .find(eq(new ObjectId(mongoId)))
-                .projection(projectionFields)
-                .first();
+        final Document mongoDocument;
+
+        try (final Span span = Tracer.startSpan("mongo-find")) {
+            mongoDocument = collection
+                    .find(eq(new ObjectId(mongoId)))
+                    .projection(projectionFields)
+                    .first();
+
+            span.setAttribute("collection", this.collectionName)
+                    .setAttribute("mongo.id", mongoId)
+                    .setAttribute("found", mongoDocument != null);
+        }
+
+        Metrics.recordLatency(Stage.DOCUMENT_FETCH, start);
 
         UnstructuredTextDocument document = null;
 
@@ -1,6 +1,7 @@
 package net.jmp.pinecone.quickstart.query;
 
 /*
+ * (#)Query.java    0.9.0   10/18/2026
  * (#)Query.java    0.5.0   06/13/2025
  * (#)Query.java    0.4.0   06/11/2025
  * (#)Query.java    0.3.0   05/27/2025
@@ -40,13 +41,46 @@ import com.mongodb.client.MongoClient;
 import io.pinecone.clients.Index;
 import io.pinecone.clients.Pinecone;
 
+import io.pinecone.proto.FetchResponse;
+import io.pinecone.proto.ScoredVector;
+
 import io.pinecone.unsigned_indices_model.QueryResponseWithUnsignedIndices;
 import io.pinecone.unsigned_indices_model.ScoredVectorWithUnsignedIndices;
 
+import java.time.Duration;
+
 import java.util.*;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import net.jmp.pinecone.quickstart.chunk.Chunks;
+
+import net.jmp.pinecone.quickstart.local.DenseSearcher;
+import net.jmp.pinecone.quickstart.local.LocalMatch;
+import net.jmp.pinecone.quickstart.local.PrimitiveLists;
+import net.jmp.pinecone.quickstart.local.SparseInvertedIndex;
+
+import net.jmp.pinecone.quickstart.metrics.Metrics;
+import net.jmp.pinecone.quickstart.metrics.Stage;
+
+import net.jmp.pinecone.quickstart.partition.Partitioner;
+import net.jmp.pinecone.quickstart.partition.Partitions;
+
+import net.jmp.pinecone.quickstart.resilience.Endpoint;
+import net.jmp.pinecone.quickstart.resilience.Resilience;
+
 import net.jmp.pinecone.quickstart.text.UnstructuredTextDocument;
 
+import net.jmp.pinecone.quickstart.trace.Span;
+import net.jmp.pinecone.quickstart.trace.Tracer;
+
 import static net.jmp.util.logging.LoggerUtils.*;
 
 import org.slf4j.Logger;
@@ -54,9 +88,16 @@ import org.slf4j.LoggerFactory;
 
 /// The query class.
 ///
-/// @version    0.5.0
+/// @version    0.9.0
 /// @since      0.2.0
 final class Query {
+    /// How long to wait for Pinecone before answering from the failover index.
+    private static final Duration FAILOVER_TIMEOUT = Duration.ofSeconds(2);
+
+    /// How many more matches than top K to fetch, so that
+    /// top K documents remain once their chunks are collapsed.
+    static final int CHUNK_OVERFETCH = 2;
+
     /// The logger.
     private final Logger logger = LoggerFactory.getLogger(this.getClass().getName());
 
@@ -81,6 +122,15 @@ final class Query {
     /// The number of top results to return when querying.
     private final int topK;
 
+    /// The local dense index, if the namespace fits in memory.
+    private final DenseSearcher localDenseIndex;
+
+    /// The local dense index to answer from when Pinecone fails or is slow.
+    private final DenseSearcher failoverDenseIndex;
+
+    /// The local sparse index.
+    private final SparseInvertedIndex localSparseIndex;
+
     /// The constructor.
     ///
     /// @param  builder net.jmp.pinecone.quickstart.query.Query.Builder
@@ -94,6 +144,9 @@ final class Query {
         this.collectionName = builder.collectionName;
         this.dbName = builder.dbName;
         this.topK = builder.topK;
+        this.localDenseIndex = builder.localDenseIndex;
+        this.failoverDenseIndex = builder.failoverDenseIndex;
+        this.localSparseIndex = builder.localSparseIndex;
     }
 
     /// Return the builder.
@@ -117,16 +170,27 @@ final class Query {
         this.logger.info("Querying dense index: {}", this.indexName);
         this.logger.info("Querying ID         : {}", vectorId);
 
-        try (final Index index = this.pinecone.getIndexConnection(this.indexName)) {
-            final QueryResponseWithUnsignedIndices queryResponse =
-                    index.queryByVectorId(this.topK,
-                            vectorId,
-                            this.namespace,
-                            null,
-                            true,
-                            true);
+        final long start = System.nanoTime();
+
+        try (final Span span = this.startSpan("pinecone-query", "id");
+             final Index index = this.pinecone.getIndexConnection(this.indexName)) {
+            if (Partitions.get().isPartitioned()) {
+                matches = this.collapseChunks(this.queryPartitionsById(index, vectorId));
+            } else {
+                final QueryResponseWithUnsignedIndices queryResponse = Resilience.call(Endpoint.PINECONE_QUERY,
+                        () -> index.queryByVectorId(this.topK * CHUNK_OVERFETCH,
+                                vectorId,
+                                this.namespace,
+                                null,
+                                true,
+                                true));
+
+                matches = this.collapseChunks(queryResponse.getMatchesList());
+            }
 
-            matches = queryResponse.getMatchesList();
+            Metrics.recordLatency(Stage.PINECONE_QUERY, start);
+
+            span.setAttribute("match.count", matches.size());
 
             this.logMatches(matches);
         }
@@ -140,36 +204,23 @@ final class Query {
 
     /// Query the index by dense query vector.
     ///
-    /// @param  queryVector java.util.List<java.lang.Float>
+    /// @param  queryVector float[]
     /// @param  categories  java.util.Set<java.lang.String>
     /// @return             java.util.List<io.pinecone.unsigned_indices_model.ScoredVectorWithUnsignedIndices>
-    List<ScoredVectorWithUnsignedIndices> query(final List<Float> queryVector,
+    List<ScoredVectorWithUnsignedIndices> query(final float[] queryVector,
                                                 final Set<String> categories) {
         if (this.logger.isTraceEnabled()) {
-            this.logger.trace(entryWith(queryVector.toString(), categories));
+            this.logger.trace(entryWith(Arrays.toString(queryVector), categories));
         }
 
         List<ScoredVectorWithUnsignedIndices> matches;
 
-        this.logger.info("Querying dense index: {}", this.indexName);
-
-        final Struct filter = this.createFilter(categories);
-
-        try (final Index index = this.pinecone.getIndexConnection(this.indexName)) {
-            final QueryResponseWithUnsignedIndices queryResponse =
-                    index.query(this.topK,
-                            queryVector,
-                            null,
-                            null,
-                            null,
-                            this.namespace,
-                            filter,
-                            true,
-                            true);
-
-            matches = queryResponse.getMatchesList();
-
-            this.logMatches(matches);
+        if (this.localDenseIndex != null && queryVector.length == this.localDenseIndex.getDimension()) {
+            matches = this.queryLocalIndex(this.localDenseIndex, queryVector, categories);
+        } else if (this.failoverDenseIndex != null && queryVector.length == this.failoverDenseIndex.getDimension()) {
+            matches = this.queryWithFailover(queryVector, categories);
+        } else {
+            matches = this.queryDenseIndex(queryVector, categories);
         }
 
         if (this.logger.isTraceEnabled()) {
@@ -181,39 +232,65 @@ final class Query {
 
     /// Query the index by sparse query vector.
     ///
-    /// @param  sparseIndices   java.util.List<java.lang.Long>
-    /// @param  sparseValues    java.util.List<java.lang.Float>
+    /// @param  sparseIndices   int[]
+    /// @param  sparseValues    float[]
     /// @param  categories      java.util.Set<java.lang.String>
     /// @return                 java.util.List<io.pinecone.unsigned_indices_model.ScoredVectorWithUnsignedIndices>
-    List<ScoredVectorWithUnsignedIndices> query(final List<Long> sparseIndices,
-                                                final List<Float> sparseValues,
+    List<ScoredVectorWithUnsignedIndices> query(final int[] sparseIndices,
+                                                final float[] sparseValues,
                                                 final Set<String> categories) {
         if (this.logger.isTraceEnabled()) {
-            this.logger.trace(entryWith(sparseIndices.toString(), sparseValues.toString(), categories));
+            this.logger.trace(entryWith(Arrays.toString(sparseIndices), Arrays.toString(sparseValues), categories));
         }
 
         List<ScoredVectorWithUnsignedIndices> matches;
 
-        this.logger.info("Querying sparse index: {}", this.indexName);
+        if (this.localSparseIndex != null) {
+            this.logger.info("Querying local sparse index: {}", this.indexName);
+
+            final long start = System.nanoTime();
 
-        final Struct filter = this.createFilter(categories);
+            try (final Span span = this.startSpan("local-query", "sparse").setAttribute("category.count", categories.size())) {
+                matches = this.collapseChunks(this.toScoredVectors(
+                        this.localSparseIndex.search(sparseIndices, sparseValues, this.topK * CHUNK_OVERFETCH, categories)));
 
-        try (final Index index = this.pinecone.getIndexConnection(this.indexName)) {
-            final QueryResponseWithUnsignedIndices response = index.query(
-                    this.topK,
-                    Collections.emptyList(),
-                    sparseIndices,
-                    sparseValues,
-                    null,
-                    this.namespace,
-                    filter,
-                    true,
-                    true
-            );
+                span.setAttribute("match.count", matches.size());
+            }
 
-            matches = response.getMatchesList();
+            Metrics.recordLatency(Stage.LOCAL_QUERY, start);
 
             this.logMatches(matches);
+        } else {
+            this.logger.info("Querying sparse index: {}", this.indexName);
+
+            final Partitioner partitioner = Partitions.get();
+            final Struct filter = partitioner.isFilterNeeded() ? this.createFilter(categories) : null;
+            final long start = System.nanoTime();
+
+            try (final Span span = this.startSpan("pinecone-query", "sparse").setAttribute("category.count", categories.size());
+                 final Index index = this.pinecone.getIndexConnection(this.indexName)) {
+                final List<String> partitions = partitioner.partitions(index, this.namespace, categories);
+
+                span.setAttribute("partition.count", partitions.size());
+
+                matches = this.collapseChunks(this.queryPartitions(partitions, filter, (partition, partitionFilter) -> index.query(
+                        this.topK * CHUNK_OVERFETCH,
+                        Collections.emptyList(),
+                        PrimitiveLists.asUnsignedList(sparseIndices),
+                        PrimitiveLists.asList(sparseValues),
+                        null,
+                        partition,
+                        partitionFilter,
+                        true,
+                        true
+                )));
+
+                Metrics.recordLatency(Stage.PINECONE_QUERY, start);
+
+                span.setAttribute("match.count", matches.size());
+
+                this.logMatches(matches);
+            }
         }
 
         if (this.logger.isTraceEnabled()) {
@@ -223,6 +300,29 @@ final class Query {
         return matches;
     }
 
+    /// Start a span for a query of the index.
+    ///
+    /// @param  name        java.lang.String
+    /// @param  queryType   java.lang.String
+    /// @return             net.jmp.pinecone.quickstart.trace.Span
+    private Span startSpan(final String name, final String queryType) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entryWith(name, queryType));
+        }
+
+        final Span span = Tracer.startSpan(name)
+                .setAttribute("index.name", this.indexName)
+                .setAttribute("namespace", this.namespace)
+                .setAttribute("top_k", this.topK)
+                .setAttribute("query.type", queryType);
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exitWith(span));
+        }
+
+        return span;
+    }
+
     /// Create the filter. For multiple categories, the filter will be equivalent to:
     ///
     /// "category": { "$in": ["category1", "category2"] }
@@ -275,6 +375,401 @@ final class Query {
         return filter;
     }
 
+    /// Query the Pinecone dense index.
+    ///
+    /// @param  queryVector float[]
+    /// @param  categories  java.util.Set<java.lang.String>
+    /// @return             java.util.List<io.pinecone.unsigned_indices_model.ScoredVectorWithUnsignedIndices>
+    private List<ScoredVectorWithUnsignedIndices> queryDenseIndex(final float[] queryVector,
+                                                                  final Set<String> categories) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entryWith(Arrays.toString(queryVector), categories));
+        }
+
+        List<ScoredVectorWithUnsignedIndices> matches;
+
+        this.logger.info("Querying dense index: {}", this.indexName);
+
+        final Partitioner partitioner = Partitions.get();
+        final Struct filter = partitioner.isFilterNeeded() ? this.createFilter(categories) : null;
+        final long start = System.nanoTime();
+
+        try (final Span span = this.startSpan("pinecone-query", "dense").setAttribute("category.count", categories.size());
+             final Index index = this.pinecone.getIndexConnection(this.indexName)) {
+            final List<String> partitions = partitioner.partitions(index, this.namespace, categories);
+
+            span.setAttribute("partition.count", partitions.size());
+
+            matches = this.collapseChunks(this.queryPartitions(partitions, filter,
+                    (partition, partitionFilter) -> index.query(this.topK * CHUNK_OVERFETCH,
+                            PrimitiveLists.asList(queryVector),
+                            null,
+                            null,
+                            null,
+                            partition,
+                            partitionFilter,
+                            true,
+                            true)));
+
+            Metrics.recordLatency(Stage.PINECONE_QUERY, start);
+
+            span.setAttribute("match.count", matches.size());
+
+            this.logMatches(matches);
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exitWith(matches));
+        }
+
+        return matches;
+    }
+
+    /// Query the partitions of a partitioned index by the
+    /// vector of an ID. The vector is fetched from whichever
+    /// partition holds it and its values are queried in every
+    /// partition, since its neighbours may be in any of them.
+    ///
+    /// @param  index       io.pinecone.clients.Index
+    /// @param  vectorId    java.lang.String
+    /// @return             java.util.List<io.pinecone.unsigned_indices_model.ScoredVectorWithUnsignedIndices>
+    private List<ScoredVectorWithUnsignedIndices> queryPartitionsById(final Index index, final String vectorId) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entryWith(index, vectorId));
+        }
+
+        final List<String> partitions = Partitions.get().partitions(index, this.namespace);
+        final List<List<Float>> fetched = this.scatter(partitions, partition -> {
+            final FetchResponse response = Resilience.call(Endpoint.PINECONE_QUERY, () -> index.fetch(List.of(vectorId), partition));
+
+            return response.getVectorsMap().containsKey(vectorId)
+                    ? response.getVectorsMap().get(vectorId).getValuesList()
+                    : List.<Float>of();
+        });
+
+        List<ScoredVectorWithUnsignedIndices> matches = List.of();
+
+        for (final List<Float> values : fetched) {
+            if (!values.isEmpty()) {
+                matches = this.queryPartitions(partitions, null,
+                        (partition, filter) -> index.query(this.topK * CHUNK_OVERFETCH,
+                                values,
+                                null,
+                                null,
+                                null,
+                                partition,
+                                filter,
+                                true,
+                                true));
+
+                break;
+            }
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exitWith(matches));
+        }
+
+        return matches;
+    }
+
+    /// Query each of the partitions and merge their matches
+    /// into the best of them, in descending order of score.
+    /// An unpartitioned index has one partition, its namespace.
+    ///
+    /// @param  partitions  java.util.List<java.lang.String>
+    /// @param  filter      com.google.protobuf.Struct
+    /// @param  query       java.util.function.BiFunction<java.lang.String, com.google.protobuf.Struct, io.pinecone.unsigned_indices_model.QueryResponseWithUnsignedIndices>
+    /// @return             java.util.List<io.pinecone.unsigned_indices_model.ScoredVectorWithUnsignedIndices>
+    private List<ScoredVectorWithUnsignedIndices> queryPartitions(final List<String> partitions,
+                                                                  final Struct filter,
+                                                                  final BiFunction<String, Struct, QueryResponseWithUnsignedIndices> query) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entryWith(partitions, filter, query));
+        }
+
+        final List<List<ScoredVectorWithUnsignedIndices>> results = this.scatter(partitions, partition -> {
+            final QueryResponseWithUnsignedIndices response = Resilience.call(Endpoint.PINECONE_QUERY, () -> query.apply(partition, filter));
+
+            return response.getMatchesList();
+        });
+
+        final List<ScoredVectorWithUnsignedIndices> matches = results.size() == 1 ? results.getFirst() : this.merge(results);
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exitWith(matches));
+        }
+
+        return matches;
+    }
+
+    /// Call each of the partitions at once, each on a virtual
+    /// thread, and return their results in the order of the
+    /// partitions. A single partition is called on this thread.
+    ///
+    /// @param  <T>         The type of result
+    /// @param  partitions  java.util.List<java.lang.String>
+    /// @param  call        java.util.function.Function<java.lang.String, T>
+    /// @return             java.util.List<T>
+    private <T> List<T> scatter(final List<String> partitions, final Function<String, T> call) {
+        if (partitions.size() == 1) {
+            return List.of(call.apply(partitions.getFirst()));
+        }
+
+        final List<CompletableFuture<T>> futures = new ArrayList<>(partitions.size());
+
+        for (final String partition : partitions) {
+            futures.add(CompletableFuture.supplyAsync(Tracer.wrap(() -> call.apply(partition)),
+                    runnable -> Thread.ofVirtual().start(runnable)));
+        }
+
+        final List<T> results = new ArrayList<>(futures.size());
+
+        try {
+            for (final CompletableFuture<T> future : futures) {
+                results.add(future.join());
+            }
+        } catch (final CompletionException ce) {
+            if (ce.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+
+            throw ce;
+        }
+
+        return results;
+    }
+
+    /// Merge the matches of the partitions into the best top K
+    /// times the chunk overfetch of them with a min-heap, so
+    /// that the worst of the best seen so far is dropped first.
+    ///
+    /// @param  results java.util.List<java.util.List<io.pinecone.unsigned_indices_model.ScoredVectorWithUnsignedIndices>>
+    /// @return         java.util.List<io.pinecone.unsigned_indices_model.ScoredVectorWithUnsignedIndices>
+    private List<ScoredVectorWithUnsignedIndices> merge(final List<List<ScoredVectorWithUnsignedIndices>> results) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entryWith(results));
+        }
+
+        final int limit = this.topK * CHUNK_OVERFETCH;
+        final PriorityQueue<ScoredVectorWithUnsignedIndices> heap =
+                new PriorityQueue<>(limit + 1, Comparator.comparingDouble(ScoredVectorWithUnsignedIndices::getScore));
+
+        for (final List<ScoredVectorWithUnsignedIndices> result : results) {
+            for (final ScoredVectorWithUnsignedIndices match : result) {
+                heap.offer(match);
+
+                if (heap.size() > limit) {
+                    heap.poll();
+                }
+            }
+        }
+
+        final List<ScoredVectorWithUnsignedIndices> merged = new ArrayList<>(heap.size());
+
+        while (!heap.isEmpty()) {
+            merged.add(heap.poll());
+        }
+
+        Collections.reverse(merged);
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exitWith(merged));
+        }
+
+        return merged;
+    }
+
+    /// Query a local dense index.
+    ///
+    /// @param  denseSearcher   net.jmp.pinecone.quickstart.local.DenseSearcher
+    /// @param  queryVector     float[]
+    /// @param  categories      java.util.Set<java.lang.String>
+    /// @return                 java.util.List<io.pinecone.unsigned_indices_model.ScoredVectorWithUnsignedIndices>
+    private List<ScoredVectorWithUnsignedIndices> queryLocalIndex(final DenseSearcher denseSearcher,
+                                                                  final float[] queryVector,
+                                                                  final Set<String> categories) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entryWith(denseSearcher, Arrays.toString(queryVector), categories));
+        }
+
+        this.logger.info("Querying local dense index: {}", this.indexName);
+
+        final long start = System.nanoTime();
+        final List<LocalMatch> localMatches;
+
+        try (final Span span = this.startSpan("local-query", "dense").setAttribute("category.count", categories.size())) {
+            localMatches = denseSearcher.search(queryVector, this.topK * CHUNK_OVERFETCH, categories);
+
+            span.setAttribute("searcher", denseSearcher.getClass().getSimpleName())
+                    .setAttribute("match.count", localMatches.size());
+        }
+
+        Metrics.recordLatency(Stage.LOCAL_QUERY, start);
+
+        final List<ScoredVectorWithUnsignedIndices> matches = this.collapseChunks(this.toScoredVectors(localMatches));
+
+        this.logMatches(matches);
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exitWith(matches));
+        }
+
+        return matches;
+    }
+
+    /// Query the Pinecone dense index on a virtual thread and
+    /// answer from the failover index instead if Pinecone fails
+    /// or does not answer within the failover timeout.
+    ///
+    /// @param  queryVector float[]
+    /// @param  categories  java.util.Set<java.lang.String>
+    /// @return             java.util.List<io.pinecone.unsigned_indices_model.ScoredVectorWithUnsignedIndices>
+    private List<ScoredVectorWithUnsignedIndices> queryWithFailover(final float[] queryVector,
+                                                                    final Set<String> categories) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entryWith(Arrays.toString(queryVector), categories));
+        }
+
+        final Span span = Tracer.startSpan("failover-query").setAttribute("timeout_ms", FAILOVER_TIMEOUT.toMillis());
+
+        /* The remote query runs as a child of the failover span on its virtual thread */
+
+        final CompletableFuture<List<ScoredVectorWithUnsignedIndices>> remote =
+                CompletableFuture.supplyAsync(Tracer.wrap(() -> this.queryDenseIndex(queryVector, categories)),
+                        runnable -> Thread.ofVirtual().start(runnable));
+
+        List<ScoredVectorWithUnsignedIndices> matches;
+
+        try {
+            matches = remote.get(FAILOVER_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+
+            span.setAttribute("answered.by", "pinecone");
+        } catch (final TimeoutException te) {
+            span.recordError(te).setAttribute("answered.by", "local");
+
+            Metrics.incrementErrors(Stage.PINECONE_QUERY);
+
+            this.logger.warn("Dense index did not answer within {} ms: {}", FAILOVER_TIMEOUT.toMillis(), this.indexName);
+
+            matches = this.queryFailoverIndex(remote, queryVector, categories);
+        } catch (final ExecutionException ee) {
+            span.recordError(ee.getCause()).setAttribute("answered.by", "local");
+
+            Metrics.incrementErrors(Stage.PINECONE_QUERY);
+
+            this.logger.warn("Dense index query failed: {}", ee.getCause().getMessage());
+
+            matches = this.queryFailoverIndex(remote, queryVector, categories);
+        } catch (final InterruptedException ie) {
+            Thread.currentThread().interrupt();
+
+            span.recordError(ie).setAttribute("answered.by", "local");
+
+            matches = this.queryFailoverIndex(remote, queryVector, categories);
+        } finally {
+            span.close();
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exitWith(matches));
+        }
+
+        return matches;
+    }
+
+    /// Answer from the failover index, or wait for Pinecone
+    /// after all if the failover index was closed because
+    /// the local indexes were deleted.
+    ///
+    /// @param  remote      java.util.concurrent.CompletableFuture<java.util.List<io.pinecone.unsigned_indices_model.ScoredVectorWithUnsignedIndices>>
+    /// @param  queryVector float[]
+    /// @param  categories  java.util.Set<java.lang.String>
+    /// @return             java.util.List<io.pinecone.unsigned_indices_model.ScoredVectorWithUnsignedIndices>
+    private List<ScoredVectorWithUnsignedIndices> queryFailoverIndex(final CompletableFuture<List<ScoredVectorWithUnsignedIndices>> remote,
+                                                                     final float[] queryVector,
+                                                                     final Set<String> categories) {
+        try {
+            return this.queryLocalIndex(this.failoverDenseIndex, queryVector, categories);
+        } catch (final IllegalStateException ise) {
+            this.logger.warn("Failover index is not available: {}", ise.getMessage());
+
+            return remote.join();
+        }
+    }
+
+    /// Convert local matches to scored vectors carrying the
+    /// same metadata that the Pinecone index would return.
+    ///
+    /// @param  localMatches    java.util.List<net.jmp.pinecone.quickstart.local.LocalMatch>
+    /// @return                 java.util.List<io.pinecone.unsigned_indices_model.ScoredVectorWithUnsignedIndices>
+    private List<ScoredVectorWithUnsignedIndices> toScoredVectors(final List<LocalMatch> localMatches) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entryWith(localMatches));
+        }
+
+        final List<ScoredVectorWithUnsignedIndices> matches = new ArrayList<>(localMatches.size());
+
+        for (final LocalMatch localMatch : localMatches) {
+            final UnstructuredTextDocument document = localMatch.getDocument();
+
+            final Struct metadata = Struct.newBuilder()
+                    .putFields("mongoid", Value.newBuilder().setStringValue(document.getMongoId()).build())
+                    .putFields("documentid", Value.newBuilder().setStringValue(document.getDocumentId()).build())
+                    .putFields("category", Value.newBuilder().setStringValue(document.getCategory()).build())
+                    .build();
+
+            final ScoredVector scoredVector = ScoredVector.newBuilder()
+                    .setId(localMatch.getId())
+                    .setScore(localMatch.getScore())
+                    .setMetadata(metadata)
+                    .build();
+
+            matches.add(new ScoredVectorWithUnsignedIndices(scoredVector));
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exitWith(matches));
+        }
+
+        return matches;
+    }
+
+    /// Collapse the matches of the chunks of a document into
+    /// the best of them and keep the top K documents. The
+    /// matches arrive in descending order of score, so the
+    /// first match of each document is its best.
+    ///
+    /// @param  matches java.util.List<io.pinecone.unsigned_indices_model.ScoredVectorWithUnsignedIndices>
+    /// @return         java.util.List<io.pinecone.unsigned_indices_model.ScoredVectorWithUnsignedIndices>
+    private List<ScoredVectorWithUnsignedIndices> collapseChunks(final List<ScoredVectorWithUnsignedIndices> matches) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entryWith(matches));
+        }
+
+        final List<ScoredVectorWithUnsignedIndices> collapsed = new ArrayList<>(Math.min(matches.size(), this.topK));
+        final Set<String> documentIds = new HashSet<>();
+
+        for (final ScoredVectorWithUnsignedIndices match : matches) {
+            if (collapsed.size() == this.topK) {
+                break;
+            }
+
+            final Value documentId = match.getMetadata().getFieldsMap().get("documentid");
+            final String parentId = documentId != null ? documentId.getStringValue() : Chunks.parentId(match.getId());
+
+            if (documentIds.add(parentId)) {
+                collapsed.add(match);
+            }
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exitWith(collapsed));
+        }
+
+        return collapsed;
+    }
+
     /// Log the matches.
     ///
     /// @param  matches java.util.List<io.pinecone.unsigned_indices_model.ScoredVectorWithUnsignedIndices>
@@ -329,6 +824,15 @@ final class Query {
         /// The number of top results to return when querying.
         private int topK;
 
+        /// The local dense index.
+        private DenseSearcher localDenseIndex;
+
+        /// The failover dense index.
+        private DenseSearcher failoverDenseIndex;
+
+        /// The local sparse index.
+        private SparseInvertedIndex localSparseIndex;
+
         /// The default constructor.
         Builder() {
             super();
@@ -404,6 +908,36 @@ final class Query {
             return this;
         }
 
+        /// Set the local dense index.
+        ///
+        /// @param  localDenseIndex net.jmp.pinecone.quickstart.local.DenseSearcher
+        /// @return                 net.jmp.pinecone.quickstart.query.Query.Builder
+        Builder localDenseIndex(final DenseSearcher localDenseIndex) {
+            this.localDenseIndex = localDenseIndex;
+
+            return this;
+        }
+
+        /// Set the failover dense index.
+        ///
+        /// @param  failoverDenseIndex  net.jmp.pinecone.quickstart.local.DenseSearcher
+        /// @return                     net.jmp.pinecone.quickstart.query.Query.Builder
+        Builder failoverDenseIndex(final DenseSearcher failoverDenseIndex) {
+            this.failoverDenseIndex = failoverDenseIndex;
+
+            return this;
+        }
+
+        /// Set the local sparse index.
+        ///
+        /// @param  localSparseIndex    net.jmp.pinecone.quickstart.local.SparseInvertedIndex
+        /// @return                     net.jmp.pinecone.quickstart.query.Query.Builder
+        Builder localSparseIndex(final SparseInvertedIndex localSparseIndex) {
+            this.localSparseIndex = localSparseIndex;
+
+            return this;
+        }
+
         /// Build the object.
         ///
         /// @return net.jmp.pinecone.quickstart.query.Query
@@ -1,6 +1,7 @@
 package net.jmp.pinecone.quickstart.query;
 
 /*
+ * (#)QueryDenseIndex.java  0.9.0   10/18/2026
  * (#)QueryDenseIndex.java  0.5.0   06/14/2025
  * (#)QueryDenseIndex.java  0.4.0   06/09/2025
  * (#)QueryDenseIndex.java  0.2.0   05/21/2025
@@ -32,6 +33,7 @@ package net.jmp.pinecone.quickstart.query;
 
 import com.mongodb.client.*;
 
+import io.pinecone.clients.Index;
 import io.pinecone.clients.Pinecone;
 
 import io.pinecone.unsigned_indices_model.ScoredVectorWithUnsignedIndices;
@@ -40,16 +42,39 @@ import java.util.*;
 
 import net.jmp.pinecone.quickstart.Operation;
 
+import net.jmp.pinecone.quickstart.chunk.Chunks;
+
+import net.jmp.pinecone.quickstart.local.DenseSearcher;
+import net.jmp.pinecone.quickstart.local.HnswParameters;
+import net.jmp.pinecone.quickstart.local.LocalIndexes;
+
+import net.jmp.pinecone.quickstart.metrics.Metrics;
+import net.jmp.pinecone.quickstart.metrics.Stage;
+
+import net.jmp.pinecone.quickstart.mongo.MongoIndexes;
+
+import net.jmp.pinecone.quickstart.resilience.Endpoint;
+import net.jmp.pinecone.quickstart.resilience.Resilience;
+
+import net.jmp.pinecone.quickstart.trace.Span;
+
 import static net.jmp.util.logging.LoggerUtils.*;
 
 import org.bson.Document;
 
+import org.openapitools.db_data.client.ApiException;
+
+import org.openapitools.db_data.client.model.Hit;
+import org.openapitools.db_data.client.model.SearchRecordsRequestQuery;
+import org.openapitools.db_data.client.model.SearchRecordsRequestRerank;
+import org.openapitools.db_data.client.model.SearchRecordsResponse;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /// The query dense index class.
 ///
-/// @version    0.5.0
+/// @version    0.9.0
 /// @since      0.2.0
 public final class QueryDenseIndex extends Operation {
     /// The logger.
@@ -64,6 +89,7 @@ public final class QueryDenseIndex extends Operation {
                 .chatModel(builder.chatModel)
                 .denseEmbeddingModel(builder.denseEmbeddingModel)
                 .denseIndexName(builder.denseIndexName)
+                .searchableIndexName(builder.searchableIndexName)
                 .namespace(builder.namespace)
                 .rerankingModel(builder.rerankingModel)
                 .queryText(builder.queryText)
@@ -72,6 +98,8 @@ public final class QueryDenseIndex extends Operation {
                 .collectionName(builder.collectionName)
                 .dbName(builder.dbName)
                 .topK(builder.topK)
+                .localIndexDir(builder.localIndexDir)
+                .hnswParameters(builder.hnswParameters)
         );
     }
 
@@ -82,41 +110,98 @@ public final class QueryDenseIndex extends Operation {
         return new Builder();
     }
 
-    /// The operate method.
+    /// The operate method. A query by text takes the path
+    /// the retrieval paths choose: the client path, which
+    /// embeds the text, queries the dense index and reranks
+    /// the documents in separate calls, or the integrated
+    /// path, which searches the searchable index in one call.
+    /// When the integrated path cannot answer, the query falls
+    /// back to the client path and the integrated path is
+    /// charged for the fallback.
     @Override
     public void operate() {
         if (this.logger.isTraceEnabled()) {
             this.logger.trace(entry());
         }
 
-        if (this.doesDenseIndexExist() && this.isDenseIndexLoaded()) {
-            List<ScoredVectorWithUnsignedIndices> matches;
+        try (final Span span = this.startSpan("query-dense", this.denseIndexName)) {
+            final RetrievalPath path = this.queryText.startsWith("rec") ? RetrievalPath.CLIENT : RetrievalPaths.choose();
+
+            List<String> reranked = List.of();
+            boolean answered = false;
+            long integratedStart = System.nanoTime();
+
+            if (path == RetrievalPath.INTEGRATED) {
+                if (this.doesSearchableIndexExist() && this.isSearchableIndexLoaded()) {
+                    integratedStart = System.nanoTime();    // Time the search alone, as the client path is timed
+                    reranked = this.searchIntegrated();
+
+                    if (!reranked.isEmpty()) {
+                        RetrievalPaths.record(RetrievalPath.INTEGRATED, integratedStart);
+
+                        span.setAttribute("retrieval.path", RetrievalPath.INTEGRATED.getLabel());
 
-            if (this.queryText.startsWith("rec")) {
-                matches = this.queryById();
-            } else {
-                matches = this.queryByVector();
+                        answered = true;
+                    }
+                } else {
+                    this.logger.info("Searchable index does not exist or is not loaded: {}", this.searchableIndexName);
+                }
             }
 
-            final Reranker reranker = Reranker.builder()
-                .pinecone(this.pinecone)
-                .rerankingModel(this.rerankingModel)
-                .queryText(this.queryText)
-                .mongoClient(this.mongoClient)
-                .collectionName(this.collectionName)
-                .dbName(this.dbName)
-                .topN(this.topK)
-                .build();
+            if (!answered) {
+                if (this.doesDenseIndexExist() && this.isDenseIndexLoaded()) {
+                    final long start = System.nanoTime();
+
+                    List<ScoredVectorWithUnsignedIndices> matches;
+
+                    if (this.queryText.startsWith("rec")) {
+                        matches = this.queryById();
+                    } else {
+                        matches = this.queryByVector();
+                    }
+
+                    span.setAttribute("candidate.count", matches.size());
+
+                    final Reranker reranker = Reranker.builder()
+                        .pinecone(this.pinecone)
+                        .rerankingModel(this.rerankingModel)
+                        .queryText(this.queryText)
+                        .mongoClient(this.mongoClient)
+                        .collectionName(this.collectionName)
+                        .dbName(this.dbName)
+                        .topN(this.topK)
+                        .build();
+
+                    reranked = reranker.rerank(matches);
+
+                    if (!reranked.isEmpty() && !this.queryText.startsWith("rec")) {
+                        RetrievalPaths.record(RetrievalPath.CLIENT, start);
+                    }
+
+                    span.setAttribute("retrieval.path", RetrievalPath.CLIENT.getLabel());
+
+                    if (reranked.isEmpty()) {
+                        this.logger.info("No documents matched the query: {}", this.queryText);
+                    } else {
+                        answered = true;
+                    }
+                } else {
+                    this.logger.info("Dense index does not exist or is not loaded: {}", this.denseIndexName);
+                }
+
+                if (path == RetrievalPath.INTEGRATED) {
+                    RetrievalPaths.recordFallback(RetrievalPath.INTEGRATED, integratedStart);
+                }
+            }
 
-            final List<String> reranked = reranker.rerank(matches);
-            final String question = this.getQuestion(reranked.getFirst());
+            if (answered) {
+                final String question = this.getQuestion(reranked.getFirst());
 
-            final Summarizer summarizer = new Summarizer(this.openAiApiKey, question, this.chatModel);
-            final String summary = summarizer.summarize(reranked);
+                final Summarizer summarizer = new Summarizer(this.openAiApiKey, question, this.chatModel);
+                final String summary = summarizer.summarize(reranked);
 
-            this.logger.info(summary);
-        } else {
-            this.logger.info("Dense index does not exist or is not loaded: {}", this.denseIndexName);
+                this.logger.info(summary);
+            }
         }
 
         if (this.logger.isTraceEnabled()) {
@@ -124,6 +209,88 @@ public final class QueryDenseIndex extends Operation {
         }
     }
 
+    /// Search the searchable index by the query text in one
+    /// call that embeds the text, filters on the categories
+    /// named in it and reranks the hits. Return the content
+    /// of the hits, best first, collapsing the chunks of a
+    /// document into the best of them, or an empty list if
+    /// the search fails.
+    ///
+    /// @return java.util.List<java.lang.String>
+    private List<String> searchIntegrated() {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        final CategoryUtil categoryUtil = new CategoryUtil(this.mongoClient, this.dbName);
+        final Set<String> categories = categoryUtil.getCategories(this.queryText);
+
+        if (this.logger.isDebugEnabled()) {
+            this.logger.debug("Categories: {}", categories);
+        }
+
+        final int candidates = this.topK * Query.CHUNK_OVERFETCH;
+        final SearchRecordsRequestQuery requestQuery = new SearchRecordsRequestQuery();
+
+        requestQuery.setInputs(Map.of("text", this.queryText));
+        requestQuery.setTopK(candidates);
+
+        if (!categories.isEmpty()) {
+            requestQuery.setFilter(Map.of("category", Map.of("$in", new ArrayList<>(categories))));
+        }
+
+        final SearchRecordsRequestRerank requestRerank = new SearchRecordsRequestRerank();
+
+        requestRerank.model(this.rerankingModel);
+        requestRerank.setQuery(this.queryText);
+        requestRerank.setTopN(candidates);
+        requestRerank.setRankFields(List.of("text_segment"));
+
+        final List<String> content = new ArrayList<>();
+        final long start = System.nanoTime();
+
+        try (final Span span = this.startSpan("integrated-search", this.searchableIndexName)
+                .setAttribute("category.count", categories.size())
+                .setAttribute("model", this.rerankingModel);
+             final Index index = this.pinecone.getIndexConnection(this.searchableIndexName)) {
+            try {
+                final SearchRecordsResponse response = Resilience.call(Endpoint.PINECONE_QUERY, () -> index.searchRecords(
+                        this.namespace,
+                        requestQuery,
+                        List.of("text_segment", "category"),
+                        requestRerank
+                ));
+
+                final Set<String> documentIds = new HashSet<>();
+
+                for (final Hit hit : response.getResult().getHits()) {
+                    if (content.size() < this.topK && documentIds.add(Chunks.parentId(hit.getId()))) {
+                        @SuppressWarnings("unchecked")
+                        final Map<String, Object> fields = (Map<String, Object>) hit.getFields();
+
+                        content.add((String) fields.getOrDefault("text_segment", ""));
+                    }
+                }
+
+                span.setAttribute("result.count", content.size());
+            } catch (final ApiException e) {
+                span.recordError(e);
+
+                Metrics.incrementErrors(Stage.INTEGRATED_SEARCH);
+
+                this.logger.error(catching(e));
+            }
+        }
+
+        Metrics.recordLatency(Stage.INTEGRATED_SEARCH, start);
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exitWith(content));
+        }
+
+        return content;
+    }
+
     /// Query the dense index by vector ID.
     ///
     /// @return java.util.List<io.pinecone.unsigned_indices_model.ScoredVectorWithUnsignedIndices>
@@ -142,7 +309,13 @@ public final class QueryDenseIndex extends Operation {
                 .topK(this.topK)
                 .build();
 
-        final List<ScoredVectorWithUnsignedIndices> matches = query.queryById(this.queryText);
+        List<ScoredVectorWithUnsignedIndices> matches = query.queryById(this.queryText);
+
+        /* A document split into chunks has no vector of its own; query by its first chunk */
+
+        if (matches.isEmpty() && this.queryText.indexOf(Chunks.SEPARATOR) < 0) {
+            matches = query.queryById(Chunks.chunkId(this.queryText, 0));
+        }
 
         if (this.logger.isTraceEnabled()) {
             this.logger.trace(exitWith(matches));
@@ -170,6 +343,8 @@ public final class QueryDenseIndex extends Operation {
                 .collectionName(this.collectionName)
                 .dbName(this.dbName)
                 .topK(this.topK)
+                .localDenseIndex(LocalIndexes.flatDenseIndex(this.localIndexDir, this.denseIndexName, this.namespace).orElse(null))
+                .failoverDenseIndex(this.getFailoverDenseIndex())
                 .build();
 
         final CategoryUtil categoryUtil = new CategoryUtil(this.mongoClient, this.dbName);
@@ -188,6 +363,29 @@ public final class QueryDenseIndex extends Operation {
         return matches;
     }
 
+    /// Return the local HNSW index to answer from when
+    /// Pinecone fails or is slow, searched with the
+    /// configured efSearch, or null if none was saved.
+    ///
+    /// @return net.jmp.pinecone.quickstart.local.DenseSearcher
+    private DenseSearcher getFailoverDenseIndex() {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        final int efSearch = HnswParameters.parse(this.hnswParameters).getEfSearch();
+
+        final DenseSearcher denseSearcher = LocalIndexes.hnswIndex(this.localIndexDir, this.denseIndexName, this.namespace)
+                .map(hnswIndex -> hnswIndex.withEfSearch(efSearch))
+                .orElse(null);
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exitWith(denseSearcher));
+        }
+
+        return denseSearcher;
+    }
+
     /// Get the content by vector ID.
     ///
     /// @param  vectorId java.lang.String
@@ -201,7 +399,10 @@ public final class QueryDenseIndex extends Operation {
 
         final MongoDatabase database = this.mongoClient.getDatabase(this.dbName);
         final MongoCollection<Document> collection = database.getCollection(this.collectionName);
-        final Document document = collection.find(new Document("id", vectorId)).first();
+        final Document document = collection
+                .find(new Document("id", vectorId))
+                .projection(MongoIndexes.contentProjection())
+                .first();
 
         if (document != null && document.containsKey("content")) {
             content = document.get("content").toString();
@@ -252,6 +453,9 @@ public final class QueryDenseIndex extends Operation {
         /// The dense index name.
         private String denseIndexName;
 
+        /// The searchable index name.
+        private String searchableIndexName;
+
         /// The namespace.
         private String namespace;
 
@@ -276,6 +480,12 @@ public final class QueryDenseIndex extends Operation {
         /// The number of top results to return when querying.
         private int topK;
 
+        /// The local index directory.
+        private String localIndexDir;
+
+        /// The HNSW parameters.
+        private String hnswParameters;
+
         /// The default constructor.
         public Builder() {
             super();
@@ -321,6 +531,16 @@ public final class QueryDenseIndex extends Operation {
             return this;
         }
 
+        /// Set the searchable index name.
+        ///
+        /// @param  searchableIndexName java.lang.String
+        /// @return                     net.jmp.pinecone.quickstart.query.QueryDenseIndex.Builder
+        public Builder searchableIndexName(final String searchableIndexName) {
+            this.searchableIndexName = searchableIndexName;
+
+            return this;
+        }
+
         /// Set the namespace.
         ///
         /// @param  namespace java.lang.String
@@ -401,6 +621,26 @@ public final class QueryDenseIndex extends Operation {
             return this;
         }
 
+        /// Set the local index directory.
+        ///
+        /// @param  localIndexDir   java.lang.String
+        /// @return                 net.jmp.pinecone.quickstart.query.QueryDenseIndex.Builder
+        public Builder localIndexDir(final String localIndexDir) {
+            this.localIndexDir = localIndexDir;
+
+            return this;
+        }
+
+        /// Set the HNSW parameters.
+        ///
+        /// @param  hnswParameters  java.lang.String
+        /// @return                 net.jmp.pinecone.quickstart.query.QueryDenseIndex.Builder
+        public Builder hnswParameters(final String hnswParameters) {
+            this.hnswParameters = hnswParameters;
+
+            return this;
+        }
+
         /// Build the dense query index.
         ///
         /// @return  net.jmp.pinecone.quickstart.query.QueryDenseIndex
@@ -1,6 +1,7 @@
 package net.jmp.pinecone.quickstart.query;
 
 /*
+ * (#)QueryHybrid.java  0.9.0   10/18/2026
  * (#)QueryHybrid.java  0.5.0   06/14/2025
  *
  * @author   Jonathan Parker
@@ -41,6 +42,8 @@ import java.util.*;
 
 import net.jmp.pinecone.quickstart.Operation;
 
+import net.jmp.pinecone.quickstart.trace.Span;
+
 import static net.jmp.util.logging.LoggerUtils.*;
 
 import org.slf4j.Logger;
@@ -48,7 +51,7 @@ import org.slf4j.LoggerFactory;
 
 /// The query hybrid class.
 ///
-/// @version    0.5.0
+/// @version    0.9.0
 /// @since      0.5.0
 public final class QueryHybrid extends Operation {
     /// The logger.
@@ -73,6 +76,8 @@ public final class QueryHybrid extends Operation {
                 .collectionName(builder.collectionName)
                 .dbName(builder.dbName)
                 .topK(builder.topK)
+                .localIndexDir(builder.localIndexDir)
+                .hnswParameters(builder.hnswParameters)
         );
     }
 
@@ -90,25 +95,30 @@ public final class QueryHybrid extends Operation {
             this.logger.trace(entry());
         }
 
-        final List<ScoredVectorWithUnsignedIndices> denseMatches = this.getDenseMatches();
-        final List<ScoredVectorWithUnsignedIndices> sparseMatches = this.getSparseMatches();
-        final List<ScoredVectorWithUnsignedIndices> mergedMatches = this.mergeDenseAndSparseMatches(denseMatches, sparseMatches);
+        try (final Span span = this.startSpan("query-hybrid", this.denseIndexName)) {
+            final List<ScoredVectorWithUnsignedIndices> denseMatches = this.getDenseMatches();
+            final List<ScoredVectorWithUnsignedIndices> sparseMatches = this.getSparseMatches();
+            final List<ScoredVectorWithUnsignedIndices> mergedMatches = this.mergeDenseAndSparseMatches(denseMatches, sparseMatches);
 
-        final Reranker reranker = Reranker.builder()
-                .pinecone(this.pinecone)
-                .rerankingModel(this.rerankingModel)
-                .queryText(this.queryText)
-                .mongoClient(this.mongoClient)
-                .collectionName(this.collectionName)
-                .dbName(this.dbName)
-                .topN(((denseMatches.size() + sparseMatches.size()) / 2) + 1)
-                .build();
+            span.setAttribute("sparse.index.name", this.sparseIndexName)
+                    .setAttribute("candidate.count", mergedMatches.size());
 
-        final List<String> reranked = reranker.rerank(mergedMatches);
-        final Summarizer summarizer = new Summarizer(this.openAiApiKey, this.queryText, this.chatModel);
-        final String summary = summarizer.summarize(reranked);
+            final Reranker reranker = Reranker.builder()
+                    .pinecone(this.pinecone)
+                    .rerankingModel(this.rerankingModel)
+                    .queryText(this.queryText)
+                    .mongoClient(this.mongoClient)
+                    .collectionName(this.collectionName)
+                    .dbName(this.dbName)
+                    .topN(((denseMatches.size() + sparseMatches.size()) / 2) + 1)
+                    .build();
 
-        this.logger.info(summary);
+            final List<String> reranked = reranker.rerank(mergedMatches);
+            final Summarizer summarizer = new Summarizer(this.openAiApiKey, this.queryText, this.chatModel);
+            final String summary = summarizer.summarize(reranked);
+
+            this.logger.info(summary);
+        }
 
         if (this.logger.isTraceEnabled()) {
             this.logger.trace(exit());
@@ -138,6 +148,8 @@ public final class QueryHybrid extends Operation {
                     .collectionName(this.collectionName)
                     .dbName(this.dbName)
                     .topK(this.topK)
+                    .localIndexDir(this.localIndexDir)
+                    .hnswParameters(this.hnswParameters)
                     .build();
 
             matches = queryDenseIndex.queryByVector();
@@ -175,6 +187,7 @@ public final class QueryHybrid extends Operation {
                     .collectionName(this.collectionName)
                     .dbName(this.dbName)
                     .topK(this.topK)
+                    .localIndexDir(this.localIndexDir)
                     .build();
 
             matches = querySparseIndex.query();
@@ -279,6 +292,12 @@ public final class QueryHybrid extends Operation {
         /// The number of top results to return when querying.
         private int topK;
 
+        /// The local index directory.
+        private String localIndexDir;
+
+        /// The HNSW parameters.
+        private String hnswParameters;
+
         /// The default constructor.
         public Builder() {
             super();
@@ -424,6 +443,26 @@ public final class QueryHybrid extends Operation {
             return this;
         }
 
+        /// Set the local index directory.
+        ///
+        /// @param  localIndexDir   java.lang.String
+        /// @return                 net.jmp.pinecone.quickstart.query.QueryHybrid.Builder
+        public Builder localIndexDir(final String localIndexDir) {
+            this.localIndexDir = localIndexDir;
+
+            return this;
+        }
+
+        /// Set the HNSW parameters.
+        ///
+        /// @param  hnswParameters  java.lang.String
+        /// @return                 net.jmp.pinecone.quickstart.query.QueryHybrid.Builder
+        public Builder hnswParameters(final String hnswParameters) {
+            this.hnswParameters = hnswParameters;
+
+            return this;
+        }
+
         /// Build the dense hybrid instance.
         ///
         /// @return  net.jmp.pinecone.quickstart.query.QueryHybrid
@@ -1,6 +1,7 @@
 package net.jmp.pinecone.quickstart.query;
 
 /*
+ * (#)QuerySparseIndex.java 0.9.0   10/18/2026
  * (#)QuerySparseIndex.java 0.5.0   06/14/2025
  * (#)QuerySparseIndex.java 0.4.0   06/10/2025
  *
@@ -41,6 +42,14 @@ import net.jmp.pinecone.quickstart.Operation;
 
 import net.jmp.pinecone.quickstart.corenlp.NLPUtil;
 
+import net.jmp.pinecone.quickstart.local.LocalIndexes;
+
+import net.jmp.pinecone.quickstart.metrics.Metrics;
+import net.jmp.pinecone.quickstart.metrics.Stage;
+
+import net.jmp.pinecone.quickstart.trace.Span;
+import net.jmp.pinecone.quickstart.trace.Tracer;
+
 import static net.jmp.util.logging.LoggerUtils.*;
 
 import org.slf4j.Logger;
@@ -48,7 +57,7 @@ import org.slf4j.LoggerFactory;
 
 /// The query sparse index class.
 ///
-/// @version    0.5.0
+/// @version    0.9.0
 /// @since      0.4.0
 public final class QuerySparseIndex extends Operation {
     /// The logger.
@@ -71,6 +80,7 @@ public final class QuerySparseIndex extends Operation {
                 .collectionName(builder.collectionName)
                 .dbName(builder.dbName)
                 .topK(builder.topK)
+                .localIndexDir(builder.localIndexDir)
         );
     }
 
@@ -88,26 +98,30 @@ public final class QuerySparseIndex extends Operation {
             this.logger.trace(entry());
         }
 
-        if (this.doesSparseIndexExist() && this.isSparseIndexLoaded()) {
-            final List<ScoredVectorWithUnsignedIndices> matches = this.query();
-
-            final Reranker reranker = Reranker.builder()
-                    .pinecone(this.pinecone)
-                    .rerankingModel(this.rerankingModel)
-                    .queryText(this.queryText)
-                    .mongoClient(this.mongoClient)
-                    .collectionName(this.collectionName)
-                    .dbName(this.dbName)
-                    .topN(this.topK)
-                    .build();
-
-            final List<String> reranked = reranker.rerank(matches);
-            final Summarizer summarizer = new Summarizer(this.openAiApiKey, this.queryText, this.chatModel);
-            final String summary = summarizer.summarize(reranked);
-
-            this.logger.info(summary);
-        } else {
-            this.logger.info("Sparse index does not exist or is not loaded: {}", this.sparseIndexName);
+        try (final Span span = this.startSpan("query-sparse", this.sparseIndexName)) {
+            if (this.doesSparseIndexExist() && this.isSparseIndexLoaded()) {
+                final List<ScoredVectorWithUnsignedIndices> matches = this.query();
+
+                span.setAttribute("candidate.count", matches.size());
+
+                final Reranker reranker = Reranker.builder()
+                        .pinecone(this.pinecone)
+                        .rerankingModel(this.rerankingModel)
+                        .queryText(this.queryText)
+                        .mongoClient(this.mongoClient)
+                        .collectionName(this.collectionName)
+                        .dbName(this.dbName)
+                        .topN(this.topK)
+                        .build();
+
+                final List<String> reranked = reranker.rerank(matches);
+                final Summarizer summarizer = new Summarizer(this.openAiApiKey, this.queryText, this.chatModel);
+                final String summary = summarizer.summarize(reranked);
+
+                this.logger.info(summary);
+            } else {
+                this.logger.info("Sparse index does not exist or is not loaded: {}", this.sparseIndexName);
+            }
         }
 
         if (this.logger.isTraceEnabled()) {
@@ -125,11 +139,21 @@ public final class QuerySparseIndex extends Operation {
 
         List<ScoredVectorWithUnsignedIndices> matches = new ArrayList<>();
 
-        final String significantWords = NLPUtil.getSignificantWordsAsString(this.queryText, true);
+        final long start = System.nanoTime();
+        final String significantWords;
+
+        try (final Span span = Tracer.startSpan("nlp-extraction")) {
+            significantWords = NLPUtil.getSignificantWordsAsString(this.queryText, true);
+
+            span.setAttribute("word.count", significantWords.isEmpty() ? 0 : significantWords.split(" ").length);
+        }
+
+        Metrics.recordLatency(Stage.NLP_EXTRACTION, start);
+
         final QueryVector queryVector = new QueryVector(this.pinecone, this.sparseEmbeddingModel);
         final SparseVector sparseVector = queryVector.queryTextToSparseVector(significantWords);
 
-        if (!sparseVector.getSparseValues().isEmpty() && !sparseVector.getSparseIndices().isEmpty()) {
+        if (sparseVector.getSparseValues().length > 0 && sparseVector.getSparseIndices().length > 0) {
             final Query query = Query.builder()
                     .pinecone(this.pinecone)
                     .indexName(this.sparseIndexName)
@@ -138,6 +162,7 @@ public final class QuerySparseIndex extends Operation {
                     .mongoClient(this.mongoClient)
                     .collectionName(this.collectionName)
                     .dbName(this.dbName)
+                    .localSparseIndex(LocalIndexes.sparseInvertedIndex(this.localIndexDir, this.sparseIndexName, this.namespace).orElse(null))
                     .build();
 
             final CategoryUtil categoryUtil = new CategoryUtil(this.mongoClient, this.dbName);
@@ -204,6 +229,9 @@ public final class QuerySparseIndex extends Operation {
         /// The number of top results to return when querying.
         private int topK;
 
+        /// The local index directory.
+        private String localIndexDir;
+
         /// The default constructor.
         public Builder() {
             super();
@@ -329,6 +357,16 @@ public final class QuerySparseIndex extends Operation {
             return this;
         }
 
+        /// Set the local index directory.
+        ///
+        /// @param  localIndexDir   java.lang.String
+        /// @return                 net.jmp.pinecone.quickstart.query.QuerySparseIndex.Builder
+        public Builder localIndexDir(final String localIndexDir) {
+            this.localIndexDir = localIndexDir;
+
+            return this;
+        }
+
         /// Build the query sparse index.
         ///
         /// @return  net.jmp.pinecone.quickstart.query.QuerySparseIndex
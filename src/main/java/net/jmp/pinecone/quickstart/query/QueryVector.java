@@ -1,6 +1,7 @@
 package net.jmp.pinecone.quickstart.query;
 
 /*
+ * (#)QueryVector.java  0.9.0   10/18/2026
  * (#)QueryVector.java  0.7.0   06/23/2025
  * (#)QueryVector.java  0.6.0   06/17/2025
  * (#)QueryVector.java  0.4.0   06/11/2025
@@ -38,6 +39,17 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import net.jmp.pinecone.quickstart.local.PrimitiveLists;
+
+import net.jmp.pinecone.quickstart.metrics.Metrics;
+import net.jmp.pinecone.quickstart.metrics.Stage;
+
+import net.jmp.pinecone.quickstart.resilience.Endpoint;
+import net.jmp.pinecone.quickstart.resilience.Resilience;
+
+import net.jmp.pinecone.quickstart.trace.Span;
+import net.jmp.pinecone.quickstart.trace.Tracer;
+
 import static net.jmp.util.logging.LoggerUtils.*;
 
 import org.openapitools.inference.client.ApiException;
@@ -50,7 +62,7 @@ import org.slf4j.LoggerFactory;
 
 /// The query vector class.
 ///
-/// @version    0.7.0
+/// @version    0.9.0
 /// @since      0.2.0
 public final class QueryVector {
     /// The logger.
@@ -91,12 +103,26 @@ public final class QueryVector {
 
         EmbeddingsList embeddings = null;
 
-        try {
-            embeddings = client.embed(this.embeddingModel, parameters, List.of(queryText));
-        } catch (ApiException e) {
-            this.logger.error(e.getMessage());
+        final long start = System.nanoTime();
+
+        try (final Span span = Tracer.startSpan("embed")) {
+            span.setAttribute("model", this.embeddingModel)
+                    .setAttribute("vector.type", "dense");
+
+            try {
+                embeddings = Resilience.call(Endpoint.INFERENCE_EMBED,
+                        () -> client.embed(this.embeddingModel, parameters, List.of(queryText)));
+            } catch (ApiException e) {
+                span.recordError(e);
+
+                Metrics.incrementErrors(Stage.EMBEDDING);
+
+                this.logger.error(e.getMessage());
+            }
         }
 
+        Metrics.recordLatency(Stage.EMBEDDING, start);
+
         if (embeddings != null) {
             final List<Embedding> embeddingsList = embeddings.getData();
 
@@ -104,7 +130,7 @@ public final class QueryVector {
 
             final List<Float> values = embeddingsList.getFirst().getDenseEmbedding().getValues();
 
-            denseVector.setDenseValues(values);
+            denseVector.setDenseValues(PrimitiveLists.toFloatArray(values));
 
             if (this.logger.isDebugEnabled()) {
                 this.logger.debug("Query: {}: {}", queryText, embeddings.toJson());
@@ -136,12 +162,26 @@ public final class QueryVector {
 
         EmbeddingsList sparseEmbeddings = null;
 
-        try {
-            sparseEmbeddings = client.embed(this.embeddingModel, parameters, List.of(queryText));
-        } catch (ApiException e) {
-            this.logger.error(e.getMessage());
+        final long start = System.nanoTime();
+
+        try (final Span span = Tracer.startSpan("embed")) {
+            span.setAttribute("model", this.embeddingModel)
+                    .setAttribute("vector.type", "sparse");
+
+            try {
+                sparseEmbeddings = Resilience.call(Endpoint.INFERENCE_EMBED,
+                        () -> client.embed(this.embeddingModel, parameters, List.of(queryText)));
+            } catch (ApiException e) {
+                span.recordError(e);
+
+                Metrics.incrementErrors(Stage.EMBEDDING);
+
+                this.logger.error(e.getMessage());
+            }
         }
 
+        Metrics.recordLatency(Stage.EMBEDDING, start);
+
         if (sparseEmbeddings != null) {
             final List<Embedding> embeddingsList = sparseEmbeddings.getData();
 
@@ -150,8 +190,8 @@ public final class QueryVector {
             final List<Float> sparseValues = embeddingsList.getFirst().getSparseEmbedding().getSparseValues();
             final List<Long> sparseIndices = embeddingsList.getFirst().getSparseEmbedding().getSparseIndices();
 
-            sparseVector.setSparseValues(sparseValues);
-            sparseVector.setSparseIndices(sparseIndices);
+            sparseVector.setSparseValues(PrimitiveLists.toFloatArray(sparseValues));
+            sparseVector.setSparseIndices(PrimitiveLists.toUnsignedIntArray(sparseIndices));
 
             if (this.logger.isDebugEnabled()) {
                 this.logger.debug("Query sparse embeddings: {}: {}", queryText, sparseEmbeddings.toJson());
@@ -1,6 +1,7 @@
 package net.jmp.pinecone.quickstart.query;
 
 /*
+ * (#)Reranker.java 0.9.0   10/18/2026
  * (#)Reranker.java 0.5.0   06/16/2025
  * (#)Reranker.java 0.3.0   05/27/2025
  * (#)Reranker.java 0.2.0   05/26/2025
@@ -42,8 +43,17 @@ import io.pinecone.unsigned_indices_model.ScoredVectorWithUnsignedIndices;
 
 import java.util.*;
 
+import net.jmp.pinecone.quickstart.metrics.Metrics;
+import net.jmp.pinecone.quickstart.metrics.Stage;
+
+import net.jmp.pinecone.quickstart.resilience.Endpoint;
+import net.jmp.pinecone.quickstart.resilience.Resilience;
+
 import net.jmp.pinecone.quickstart.text.UnstructuredTextDocument;
 
+import net.jmp.pinecone.quickstart.trace.Span;
+import net.jmp.pinecone.quickstart.trace.Tracer;
+
 import static net.jmp.util.logging.LoggerUtils.*;
 
 import org.openapitools.inference.client.ApiException;
@@ -56,7 +66,7 @@ import org.slf4j.LoggerFactory;
 
 /// The re-ranker class.
 ///
-/// @version    0.5.0
+/// @version    0.9.0
 /// @since      0.2.0
 final class Reranker {
     /// The logger.
@@ -117,17 +127,27 @@ final class Reranker {
         this.logger.info("Reranking model: {}", this.rerankingModel);
         this.logger.info("Reranking results for {} matches", matches.size());
 
-        /* Create a list of documents to rerank. */
+        final List<String> rankedContent;
+
+        try (final Span span = Tracer.startSpan("rerank")) {
+            span.setAttribute("model", this.rerankingModel)
+                    .setAttribute("candidate.count", matches.size())
+                    .setAttribute("top_n", this.topN);
 
-        final List<Map<String, Object>> documents = this.getDocuments(matches);
+            /* Create a list of documents to rerank. */
 
-        /* Rerank the documents based on the content field */
+            final List<Map<String, Object>> documents = this.getDocuments(matches);
 
-        final RerankResult result = this.rerankDocuments(documents);
+            /* Rerank the documents based on the content field */
 
-        /* Get the ranked content. */
+            final RerankResult result = this.rerankDocuments(documents);
 
-        final List<String> rankedContent = this.getRankedContent(result, matches.size());
+            /* Get the ranked content. */
+
+            rankedContent = this.getRankedContent(result, matches.size());
+
+            span.setAttribute("result.count", rankedContent.size());
+        }
 
         if (this.logger.isTraceEnabled()) {
             this.logger.trace(exitWith(rankedContent));
@@ -147,22 +167,27 @@ final class Reranker {
 
         final List<Map<String, Object>> documents = new ArrayList<>(matches.size());
 
-        for (final ScoredVectorWithUnsignedIndices match : matches) {
-            final Struct metadata = match.getMetadata();
-            final Map<String, Value> fields = metadata.getFieldsMap();
-            final Map<String, Object> document = new HashMap<>();
+        try (final Span span = Tracer.startSpan("fetch-documents")) {
+            span.setAttribute("collection", this.collectionName)
+                    .setAttribute("document.count", matches.size());
+
+            for (final ScoredVectorWithUnsignedIndices match : matches) {
+                final Struct metadata = match.getMetadata();
+                final Map<String, Value> fields = metadata.getFieldsMap();
+                final Map<String, Object> document = new HashMap<>();
 
-            document.put("mongoid", fields.get("mongoid").getStringValue());
-            document.put("documentid", fields.get("documentid").getStringValue());
-            document.put("category", fields.get("category").getStringValue());
+                document.put("mongoid", fields.get("mongoid").getStringValue());
+                document.put("documentid", fields.get("documentid").getStringValue());
+                document.put("category", fields.get("category").getStringValue());
 
-            final DocumentFetcher fetcher = new DocumentFetcher(this.mongoClient, this.collectionName, this.dbName);
-            final Optional<UnstructuredTextDocument> content = fetcher.getDocument(fields.get("mongoid").getStringValue());
-            final UnstructuredTextDocument doc = content.orElseThrow(() -> new RuntimeException("Could not find MongoDB document: " + fields.get("mongoid").getStringValue()));
+                final DocumentFetcher fetcher = new DocumentFetcher(this.mongoClient, this.collectionName, this.dbName);
+                final Optional<UnstructuredTextDocument> content = fetcher.getDocument(fields.get("mongoid").getStringValue());
+                final UnstructuredTextDocument doc = content.orElseThrow(() -> new RuntimeException("Could not find MongoDB document: " + fields.get("mongoid").getStringValue()));
 
-            document.put("content", doc.getContent());
+                document.put("content", doc.getContent());
 
-            documents.add(document);
+                documents.add(document);
+            }
         }
 
         if (this.logger.isTraceEnabled()) {
@@ -195,20 +220,33 @@ final class Reranker {
 
         RerankResult result = null;
 
-        try {
-            result = inference.rerank(
-                    this.rerankingModel,
-                    this.queryText,
-                    documents,
-                    rankFields,
-                    this.topN,
-                    true,
-                    parameters
-            );
-        } catch (ApiException e) {
-            this.logger.error(e.getMessage());
+        final long start = System.nanoTime();
+
+        try (final Span span = Tracer.startSpan("inference-rerank")) {
+            span.setAttribute("model", this.rerankingModel)
+                    .setAttribute("document.count", documents.size());
+
+            try {
+                result = Resilience.call(Endpoint.INFERENCE_RERANK, () -> inference.rerank(
+                        this.rerankingModel,
+                        this.queryText,
+                        documents,
+                        rankFields,
+                        this.topN,
+                        true,
+                        parameters
+                ));
+            } catch (ApiException e) {
+                span.recordError(e);
+
+                Metrics.incrementErrors(Stage.RERANK);
+
+                this.logger.error(e.getMessage());
+            }
         }
 
+        Metrics.recordLatency(Stage.RERANK, start);
+
         if (this.logger.isTraceEnabled()) {
             this.logger.trace(exitWith(result));
         }
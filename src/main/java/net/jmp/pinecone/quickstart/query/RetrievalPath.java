@@ -0,0 +1,68 @@
+package net.jmp.pinecone.quickstart.query;
+
+/*
+ * (#)RetrievalPath.java    0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/// The paths a dense query by text can take.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+public enum RetrievalPath {
+    /// Embed the query text, query the dense index, fetch
+    /// the documents and rerank them, each a call of its own.
+    CLIENT("client"),
+
+    /// Search the searchable index by text, filtered and
+    /// reranked, embedding the text on the server in one call.
+    INTEGRATED("integrated");
+
+    /// The name of the path.
+    private final String label;
+
+    /// The constructor.
+    ///
+    /// @param  label   java.lang.String
+    RetrievalPath(final String label) {
+        this.label = label;
+    }
+
+    /// Return the name of the path.
+    ///
+    /// @return java.lang.String
+    public String getLabel() {
+        return this.label;
+    }
+
+    /// Return the string representation.
+    ///
+    /// @return java.lang.String
+    @Override
+    public String toString() {
+        return this.label;
+    }
+}
@@ -0,0 +1,258 @@
+package net.jmp.pinecone.quickstart.query;
+
+/*
+ * (#)RetrievalPaths.java   0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Properties;
+
+import static net.jmp.util.logging.LoggerUtils.*;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/// The retrieval paths class. Chooses the path a dense
+/// query by text takes. A fixed mode always takes its
+/// path. The auto mode measures each path, keeping a
+/// moving average of its latency, and takes the faster
+/// one, but takes the slower one every tenth query so
+/// that its average stays current. A path not measured
+/// yet is taken first. A query that falls back from a
+/// path to the other records a penalty latency for the
+/// path it fell back from, so the auto mode turns away
+/// from a path that cannot answer. The averages are saved
+/// to a file, when one is configured, when the task exits,
+/// so that they carry over from one run to the next.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+public final class RetrievalPaths {
+    /// The mode that chooses the path by its latency.
+    public static final String AUTO = "auto";
+
+    /// The weight of the latest latency in the moving average.
+    static final double SMOOTHING = 0.2;
+
+    /// The number of queries between those that take the slower path.
+    static final int EXPLORE_EVERY = 10;
+
+    /// The multiple of the average latency of the other path
+    /// that a path is charged at least when a query falls back.
+    static final double FALLBACK_PENALTY = 2.0;
+
+    /// The logger.
+    private static final Logger logger = LoggerFactory.getLogger(RetrievalPaths.class.getName());
+
+    /// The moving average latency of each path in milliseconds.
+    private static final Map<RetrievalPath, Double> latencies = new EnumMap<>(RetrievalPath.class);
+
+    /// The retrieval mode.
+    private static String mode = AUTO;
+
+    /// The file the latencies are kept in, or null to keep them in memory.
+    private static Path latencyFile;
+
+    /// The number of choices made in the auto mode.
+    private static long choices;
+
+    /// The default constructor.
+    private RetrievalPaths() {
+        super();
+    }
+
+    /// Configure the retrieval mode, auto or the name of a
+    /// path, and the file the latencies are kept in, loading
+    /// the latencies it holds.
+    ///
+    /// @param  retrievalMode   java.lang.String
+    /// @param  file            java.nio.file.Path
+    public static synchronized void configure(final String retrievalMode, final Path file) {
+        if (logger.isTraceEnabled()) {
+            logger.trace(entryWith(retrievalMode, file));
+        }
+
+        final String newMode = retrievalMode == null || retrievalMode.isBlank() ? AUTO : retrievalMode.trim();
+
+        if (!newMode.equals(AUTO) && fromLabel(newMode) == null) {
+            throw new IllegalArgumentException("Unknown retrieval mode: " + newMode);
+        }
+
+        mode = newMode;
+        latencyFile = file;
+        latencies.clear();
+        choices = 0;
+
+        if (file != null && Files.isReadable(file)) {
+            final Properties properties = new Properties();
+
+            try (final Reader reader = Files.newBufferedReader(file)) {
+                properties.load(reader);
+
+                for (final RetrievalPath path : RetrievalPath.values()) {
+                    final String latency = properties.getProperty(path.getLabel());
+
+                    if (latency != null) {
+                        latencies.put(path, Double.parseDouble(latency));
+                    }
+                }
+
+                choices = Long.parseLong(properties.getProperty("choices", "0"));
+            } catch (final IOException | NumberFormatException e) {
+                logger.warn("Unable to read the retrieval latencies from {}: {}", file, e.getMessage());
+            }
+        }
+
+        if (logger.isTraceEnabled()) {
+            logger.trace(exit());
+        }
+    }
+
+    /// Choose the path of the next query.
+    ///
+    /// @return net.jmp.pinecone.quickstart.query.RetrievalPath
+    public static synchronized RetrievalPath choose() {
+        if (!mode.equals(AUTO)) {
+            return fromLabel(mode);
+        }
+
+        for (final RetrievalPath path : RetrievalPath.values()) {
+            if (!latencies.containsKey(path)) {
+                return path;
+            }
+        }
+
+        final RetrievalPath faster = latencies.get(RetrievalPath.INTEGRATED) <= latencies.get(RetrievalPath.CLIENT)
+                ? RetrievalPath.INTEGRATED
+                : RetrievalPath.CLIENT;
+
+        choices++;
+
+        if (choices % EXPLORE_EVERY == 0) {
+            return faster == RetrievalPath.INTEGRATED ? RetrievalPath.CLIENT : RetrievalPath.INTEGRATED;
+        }
+
+        return faster;
+    }
+
+    /// Record the latency of a query that took a path.
+    ///
+    /// @param  path        net.jmp.pinecone.quickstart.query.RetrievalPath
+    /// @param  startNanos  long
+    public static synchronized void record(final RetrievalPath path, final long startNanos) {
+        final double latency = (System.nanoTime() - startNanos) / 1_000_000.0;
+
+        merge(path, latency);
+
+        logger.info("Retrieval path {} took {} ms (average {} ms)",
+                path,
+                String.format("%.1f", latency),
+                String.format("%.1f", latencies.get(path)));
+    }
+
+    /// Record a query that took a path but fell back to the
+    /// other to be answered. The path is charged the time
+    /// from its start through the fallback, and at least
+    /// the penalty multiple of the average of the other path
+    /// when it has one, so that its average rises above the
+    /// path that answered.
+    ///
+    /// @param  path        net.jmp.pinecone.quickstart.query.RetrievalPath
+    /// @param  startNanos  long
+    public static synchronized void recordFallback(final RetrievalPath path, final long startNanos) {
+        final RetrievalPath other = path == RetrievalPath.INTEGRATED ? RetrievalPath.CLIENT : RetrievalPath.INTEGRATED;
+        final double elapsed = (System.nanoTime() - startNanos) / 1_000_000.0;
+        final double latency = Math.max(elapsed, FALLBACK_PENALTY * latencies.getOrDefault(other, 0.0));
+
+        merge(path, latency);
+
+        logger.info("Retrieval path {} fell back to {}: charged {} ms (average {} ms)",
+                path,
+                other,
+                String.format("%.1f", latency),
+                String.format("%.1f", latencies.get(path)));
+    }
+
+    /// Save the latencies to the latency file, if one is
+    /// configured. Called once when the task exits rather
+    /// than after every query.
+    public static synchronized void save() {
+        if (latencyFile == null) {
+            return;
+        }
+
+        final Properties properties = new Properties();
+
+        for (final Map.Entry<RetrievalPath, Double> entry : latencies.entrySet()) {
+            properties.setProperty(entry.getKey().getLabel(), String.valueOf(entry.getValue()));
+        }
+
+        properties.setProperty("choices", String.valueOf(choices));
+
+        try {
+            if (latencyFile.getParent() != null) {
+                Files.createDirectories(latencyFile.getParent());
+            }
+
+            try (final Writer writer = Files.newBufferedWriter(latencyFile)) {
+                properties.store(writer, "Retrieval path latencies in milliseconds");
+            }
+        } catch (final IOException ioe) {
+            logger.warn("Unable to save the retrieval latencies to {}: {}", latencyFile, ioe.getMessage());
+        }
+    }
+
+    /// Merge a latency into the moving average of a path.
+    ///
+    /// @param  path    net.jmp.pinecone.quickstart.query.RetrievalPath
+    /// @param  latency double
+    private static void merge(final RetrievalPath path, final double latency) {
+        latencies.merge(path, latency, (average, latest) -> average + SMOOTHING * (latest - average));
+    }
+
+    /// Return the path with a name, or null if there is none.
+    ///
+    /// @param  label   java.lang.String
+    /// @return         net.jmp.pinecone.quickstart.query.RetrievalPath
+    private static RetrievalPath fromLabel(final String label) {
+        for (final RetrievalPath path : RetrievalPath.values()) {
+            if (path.getLabel().equals(label)) {
+                return path;
+            }
+        }
+
+        return null;
+    }
+}
@@ -1,6 +1,7 @@
 package net.jmp.pinecone.quickstart.query;
 
 /*
+ * (#)SparseVector.java 0.9.0   10/18/2026
  * (#)SparseVector.java 0.6.0   06/17/2025
  * (#)SparseVector.java 0.4.0   06/11/2025
  *
@@ -29,18 +30,18 @@ package net.jmp.pinecone.quickstart.query;
  * SOFTWARE.
  */
 
-import static java.lang.Integer.toUnsignedLong;
-
-import java.util.ArrayList;
 import java.util.List;
 
-/// The sparse vector class.
+import net.jmp.pinecone.quickstart.local.PrimitiveLists;
+
+/// The sparse vector class. The sparse indices are
+/// unsigned 32-bit values held in an int array.
 ///
-/// @version    0.6.0
+/// @version    0.9.0
 /// @since      0.4.0
 final class SparseVector extends Vector {
     /// The sparse indices.
-    private List<Long> sparseIndices = new ArrayList<>();
+    private int[] sparseIndices = new int[0];
 
     /// The default constructor.
     SparseVector() {
@@ -49,43 +50,45 @@ final class SparseVector extends Vector {
 
     /// Return the sparse values.
     ///
-    /// @return  java.util.List<java.lang.Float>
-    List<Float> getSparseValues() {
+    /// @return  float[]
+    float[] getSparseValues() {
         return this.getValues();
     }
 
+    /// Return a list view of the sparse values
+    /// for the Pinecone client. Nothing is copied.
+    ///
+    /// @return  java.util.List<java.lang.Float>
+    List<Float> getSparseValuesAsList() {
+        return PrimitiveLists.asList(this.getValues());
+    }
+
     /// Set the sparse values.
     ///
-    /// @param  sparseValues  java.util.List<java.lang.Float>
-    void setSparseValues(final List<Float> sparseValues) {
+    /// @param  sparseValues  float[]
+    void setSparseValues(final float[] sparseValues) {
         this.setValues(sparseValues);
     }
 
     /// Return the sparse indices.
     ///
-    /// @return  java.util.List<java.lang.Long>
-    List<Long> getSparseIndices() {
+    /// @return  int[]
+    int[] getSparseIndices() {
         return this.sparseIndices;
     }
 
-    /// Set the sparse indices.
+    /// Return a list view of the sparse indices, widened to
+    /// unsigned longs for the Pinecone client. Nothing is copied.
     ///
-    /// @param  sparseIndices  java.util.List<java.lang.Long>
-    void setSparseIndices(final List<Long> sparseIndices) {
-        this.sparseIndices = sparseIndices;
+    /// @return  java.util.List<java.lang.Long>
+    List<Long> getSparseIndicesAsList() {
+        return PrimitiveLists.asUnsignedList(this.sparseIndices);
     }
 
-    /// Set the sparse indices from a list of integers.
+    /// Set the sparse indices.
     ///
-    /// @param  sparseIndices  java.util.List<java.lang.Integer>
-    @Deprecated
-    void setIntSparseIndices(final List<Integer> sparseIndices) {
-        final List<Long> sparseIndicesAsLongs = new ArrayList<>(sparseIndices.size());
-
-        for (Integer sparseIndex : sparseIndices) {
-            sparseIndicesAsLongs.add(toUnsignedLong(sparseIndex));
-        }
-
-        this.sparseIndices = sparseIndicesAsLongs;
+    /// @param  sparseIndices  int[]
+    void setSparseIndices(final int[] sparseIndices) {
+        this.sparseIndices = sparseIndices;
     }
 }
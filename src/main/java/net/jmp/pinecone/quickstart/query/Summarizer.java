@@ -1,6 +1,7 @@
 package net.jmp.pinecone.quickstart.query;
 
 /*
+ * (#)Summarizer.java   0.9.0   10/18/2026
  * (#)Summarizer.java   0.6.0   06/18/2025
  * (#)Summarizer.java   0.5.0   06/16/2025
  * (#)Summarizer.java   0.2.0   05/26/2025
@@ -41,6 +42,15 @@ import com.openai.models.chat.completions.ChatCompletionCreateParams;
 
 import java.util.List;
 
+import net.jmp.pinecone.quickstart.metrics.Metrics;
+import net.jmp.pinecone.quickstart.metrics.Stage;
+
+import net.jmp.pinecone.quickstart.resilience.Endpoint;
+import net.jmp.pinecone.quickstart.resilience.Resilience;
+
+import net.jmp.pinecone.quickstart.trace.Span;
+import net.jmp.pinecone.quickstart.trace.Tracer;
+
 import static net.jmp.util.logging.LoggerUtils.*;
 
 import org.slf4j.Logger;
@@ -48,7 +58,7 @@ import org.slf4j.LoggerFactory;
 
 /// The summarizer class.
 ///
-/// @version    0.6.0
+/// @version    0.9.0
 /// @since      0.2.0
 final class Summarizer {
     /// The logger.
@@ -94,9 +104,15 @@ final class Summarizer {
             throw new IllegalArgumentException("Unsupported chat model: " + this.chatModelName);
         }
 
+        final long start = System.nanoTime();
+        final Span span = Tracer.startSpan("summarize")
+                .setAttribute("model", chatModel.asString())
+                .setAttribute("content.count", rankedContent.size());
+
         try {
             openai = OpenAIOkHttpClient.builder()
                     .apiKey(this.openAiApiKey)
+                    .maxRetries(0)      // Retried by the resilience layer instead
                     .build();
 
             /* Construct the prompt */
@@ -111,6 +127,8 @@ final class Summarizer {
             sb.append("\nQuestion: ").append(this.question).append("\n");
             final String prompt = sb.toString();
 
+            span.setAttribute("prompt.length", prompt.length());
+
             if (this.logger.isInfoEnabled()) {
                 this.logger.info("Chat Model: {}", chatModel.asString());
                 this.logger.info("Prompt    : {}", prompt);
@@ -127,17 +145,29 @@ final class Summarizer {
 
             /* Send the prompt to OpenAI */
 
-            final ChatCompletion chatCompletion = openai.chat().completions().create(chatCompletionCreateParams);
+            final OpenAIClient client = openai;
+            final ChatCompletion chatCompletion = Resilience.call(Endpoint.OPENAI_CHAT,
+                    () -> client.chat().completions().create(chatCompletionCreateParams));
 
             if (this.logger.isDebugEnabled()) {
                 this.logger.debug(chatCompletion.toString());   // See etc/open-ai-chat-completion.txt
             }
 
             response = chatCompletion.choices().getFirst().message().content().orElse("No response returned");
+        } catch (final RuntimeException re) {
+            span.recordError(re);
+
+            Metrics.incrementErrors(Stage.SUMMARIZE);
+
+            throw re;
         } finally {
             if (openai != null) {
                 openai.close();
             }
+
+            Metrics.recordLatency(Stage.SUMMARIZE, start);
+
+            span.close();
         }
 
         if (this.logger.isTraceEnabled()) {
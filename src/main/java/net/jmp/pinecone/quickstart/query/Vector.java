@@ -1,6 +1,7 @@
 package net.jmp.pinecone.quickstart.query;
 
 /*
+ * (#)Vector.java   0.9.0   10/18/2026
  * (#)Vector.java   0.4.0   06/12/2025
  *
  * @author   Jonathan Parker
@@ -28,16 +29,15 @@ package net.jmp.pinecone.quickstart.query;
  * SOFTWARE.
  */
 
-import java.util.ArrayList;
-import java.util.List;
-
-/// The vector class.
+/// The vector class. The values are held in a primitive
+/// array; use the list views in the subclasses to pass
+/// them to the Pinecone client without copying.
 ///
-/// @version    0.4.0
+/// @version    0.9.0
 /// @since      0.4.0
 class Vector {
     /// The dense or sparse values.
-    private List<Float> values = new ArrayList<>();
+    private float[] values = new float[0];
 
     /// The default constructor.
     protected Vector() {
@@ -46,15 +46,15 @@ class Vector {
 
     /// Return the values.
     ///
-    /// @return  java.util.List<java.lang.Float>
-    protected List<Float> getValues() {
+    /// @return  float[]
+    protected float[] getValues() {
         return this.values;
     }
 
     /// Set the values.
     ///
-    /// @param  values  java.util.List<java.lang.Float>
-    protected void setValues(final List<Float> values) {
+    /// @param  values  float[]
+    protected void setValues(final float[] values) {
         this.values = values;
     }
 }
@@ -0,0 +1,185 @@
+package net.jmp.pinecone.quickstart.resilience;
+
+/*
+ * (#)AdaptiveLimiter.java  0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/// The adaptive limiter class. Bounds the calls in flight
+/// to an endpoint with a limit found by additive increase and
+/// multiplicative decrease (AIMD). Each call that succeeds
+/// raises the limit by one over the limit, about one for each
+/// round of calls; a call that is throttled halves it. Only
+/// one throttled call in each round lowers the limit: calls
+/// that started before the last decrease were already counted
+/// by it.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+public final class AdaptiveLimiter {
+    /// The factor applied to the limit when a call is throttled.
+    private static final double DECREASE_FACTOR = 0.5;
+
+    /// The lock guarding the state.
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /// Signalled when a call ends or the limit rises.
+    private final Condition available = this.lock.newCondition();
+
+    /// The lowest limit.
+    private final int minLimit;
+
+    /// The highest limit.
+    private final int maxLimit;
+
+    /// The limit.
+    private double limit;
+
+    /// The calls in flight.
+    private int inFlight;
+
+    /// The number of decreases made, which
+    /// marks the round each call started in.
+    private long decreases;
+
+    /// The constructor.
+    ///
+    /// @param  initialLimit    int
+    /// @param  minLimit        int
+    /// @param  maxLimit        int
+    public AdaptiveLimiter(final int initialLimit, final int minLimit, final int maxLimit) {
+        super();
+
+        if (minLimit <= 0) {
+            throw new IllegalArgumentException("minLimit must be positive: " + minLimit);
+        }
+
+        if (maxLimit < minLimit) {
+            throw new IllegalArgumentException("maxLimit must be at least minLimit: " + maxLimit);
+        }
+
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.limit = Math.clamp(initialLimit, minLimit, maxLimit);
+    }
+
+    /// Wait until a call may start and return the round it
+    /// started in, to pass to release() when the call ends.
+    ///
+    /// @return     long
+    /// @throws     java.lang.InterruptedException
+    public long acquire() throws InterruptedException {
+        this.lock.lock();
+
+        try {
+            while (this.inFlight >= (int) this.limit) {
+                this.available.await();
+            }
+
+            this.inFlight++;
+
+            return this.decreases;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /// End a call, adjusting the limit by its outcome.
+    ///
+    /// @param  round       long
+    /// @param  throttled   boolean
+    public void release(final long round, final boolean throttled) {
+        this.lock.lock();
+
+        try {
+            this.inFlight--;
+
+            if (throttled) {
+                if (round == this.decreases) {
+                    this.limit = Math.max(this.minLimit, this.limit * DECREASE_FACTOR);
+                    this.decreases++;
+                }
+            } else {
+                this.limit = Math.min(this.maxLimit, this.limit + 1.0 / this.limit);
+            }
+
+            this.available.signalAll();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /// End a call without adjusting the limit, as
+    /// when it failed for a reason other than load.
+    public void release() {
+        this.lock.lock();
+
+        try {
+            this.inFlight--;
+
+            this.available.signal();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /// Return the limit.
+    ///
+    /// @return int
+    public int getLimit() {
+        this.lock.lock();
+
+        try {
+            return (int) this.limit;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /// Return the calls in flight.
+    ///
+    /// @return int
+    public int getInFlight() {
+        this.lock.lock();
+
+        try {
+            return this.inFlight;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /// Return the string representation.
+    ///
+    /// @return java.lang.String
+    @Override
+    public String toString() {
+        return "limit " + this.getLimit() + " in flight " + this.getInFlight();
+    }
+}
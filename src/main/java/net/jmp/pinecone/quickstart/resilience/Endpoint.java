@@ -0,0 +1,69 @@
+package net.jmp.pinecone.quickstart.resilience;
+
+/*
+ * (#)Endpoint.java 0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/// The remote endpoints whose calls are limited and retried.
+/// Each has its own concurrency limit and retry budget, so
+/// throttling by one service does not slow calls to another.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+public enum Endpoint {
+    /// Querying or searching a Pinecone index.
+    PINECONE_QUERY("pinecone_query"),
+
+    /// Writing vectors or records to a Pinecone index.
+    PINECONE_WRITE("pinecone_write"),
+
+    /// Embedding text with Pinecone inference.
+    INFERENCE_EMBED("inference_embed"),
+
+    /// Reranking documents with Pinecone inference.
+    INFERENCE_RERANK("inference_rerank"),
+
+    /// Completing a chat with OpenAI.
+    OPENAI_CHAT("openai_chat");
+
+    /// The label value of the endpoint.
+    private final String label;
+
+    /// The constructor.
+    ///
+    /// @param  label   java.lang.String
+    Endpoint(final String label) {
+        this.label = label;
+    }
+
+    /// Return the label value of the endpoint.
+    ///
+    /// @return java.lang.String
+    public String getLabel() {
+        return this.label;
+    }
+}
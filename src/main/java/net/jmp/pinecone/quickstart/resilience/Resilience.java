@@ -0,0 +1,228 @@
+package net.jmp.pinecone.quickstart.resilience;
+
+/*
+ * (#)Resilience.java   0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.time.Duration;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeUnit;
+
+import net.jmp.pinecone.quickstart.metrics.Metrics;
+
+import static net.jmp.util.logging.LoggerUtils.*;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/// The resilience class. Guards each call to a remote
+/// endpoint with the adaptive limiter, retry policy and
+/// retry budget of that endpoint. A call that is throttled
+/// lowers the limit and is retried after a jittered backoff;
+/// a call that fails transiently is retried without touching
+/// the limit; any other failure is thrown at once. Retries
+/// stop when the attempts or the budget run out, and the last
+/// failure is thrown. Throttles, retries and retries refused
+/// by the budget are counted in the metrics by endpoint.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+public final class Resilience {
+    /// The lowest concurrency limit.
+    private static final int MIN_LIMIT = 1;
+
+    /// The delay before the first retry.
+    private static final Duration RETRY_BASE_DELAY = Duration.ofMillis(100);
+
+    /// The longest delay before a retry.
+    private static final Duration RETRY_MAX_DELAY = Duration.ofSeconds(5);
+
+    /// The retries per second each endpoint always allows.
+    private static final double MIN_RETRIES_PER_SECOND = 5.0;
+
+    /// The most retries that each endpoint accumulates.
+    private static final double RETRY_BUDGET_CAPACITY = 50.0;
+
+    /// The logger.
+    private static final Logger logger = LoggerFactory.getLogger(Resilience.class.getName());
+
+    /// The guards by endpoint.
+    private static volatile Map<Endpoint, Guard> guards = createGuards(ResilienceParameters.parse(null));
+
+    /// The default constructor.
+    private Resilience() {
+        super();
+    }
+
+    /// Replace the guards of every endpoint with
+    /// new ones made from the parameters.
+    ///
+    /// @param  parameters  net.jmp.pinecone.quickstart.resilience.ResilienceParameters
+    public static void configure(final ResilienceParameters parameters) {
+        if (logger.isTraceEnabled()) {
+            logger.trace(entryWith(parameters));
+        }
+
+        guards = createGuards(parameters);
+
+        if (logger.isTraceEnabled()) {
+            logger.trace(exit());
+        }
+    }
+
+    /// Call an endpoint, waiting for room under its
+    /// concurrency limit and retrying the call while
+    /// it is throttled or fails transiently.
+    ///
+    /// @param  <T>         The type of result
+    /// @param  <E>         The type of exception
+    /// @param  endpoint    net.jmp.pinecone.quickstart.resilience.Endpoint
+    /// @param  action      net.jmp.pinecone.quickstart.resilience.RemoteCall<T, E>
+    /// @return             T
+    /// @throws             E   When the last attempt fails
+    public static <T, E extends Exception> T call(final Endpoint endpoint, final RemoteCall<T, E> action) throws E {
+        final Guard guard = guards.get(endpoint);
+
+        guard.budget.deposit();
+
+        for (int attempt = 1; ; attempt++) {
+            final long round = acquire(guard.limiter, endpoint);
+
+            try {
+                final T result = action.call();
+
+                guard.limiter.release(round, false);
+
+                return result;
+            } catch (final Exception e) {
+                final boolean throttled = Throttling.isThrottled(e);
+
+                if (throttled) {
+                    guard.limiter.release(round, true);
+
+                    Metrics.incrementThrottles(endpoint.getLabel());
+                } else {
+                    guard.limiter.release();
+                }
+
+                if (attempt >= guard.retryPolicy.getMaxAttempts() || !(throttled || Throttling.isTransient(e))) {
+                    throw e;
+                }
+
+                if (!guard.budget.tryWithdraw()) {
+                    Metrics.incrementRetriesRejected(endpoint.getLabel());
+
+                    logger.warn("Retry budget of {} spent after: {}", endpoint.getLabel(), e.getMessage());
+
+                    throw e;
+                }
+
+                Metrics.incrementRetries(endpoint.getLabel());
+
+                if (logger.isDebugEnabled()) {
+                    logger.debug("Retrying {} after attempt {}: {}", endpoint.getLabel(), attempt, e.getMessage());
+                }
+
+                try {
+                    TimeUnit.NANOSECONDS.sleep(guard.retryPolicy.backoffNanos(attempt));
+                } catch (final InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+
+                    throw e;
+                }
+            } catch (final Error err) {
+                guard.limiter.release();
+
+                throw err;
+            }
+        }
+    }
+
+    /// Return the concurrency limit of an endpoint.
+    ///
+    /// @param  endpoint    net.jmp.pinecone.quickstart.resilience.Endpoint
+    /// @return             int
+    public static int getLimit(final Endpoint endpoint) {
+        return guards.get(endpoint).limiter.getLimit();
+    }
+
+    /// Wait for room under a concurrency limit.
+    ///
+    /// @param  limiter     net.jmp.pinecone.quickstart.resilience.AdaptiveLimiter
+    /// @param  endpoint    net.jmp.pinecone.quickstart.resilience.Endpoint
+    /// @return             long
+    private static long acquire(final AdaptiveLimiter limiter, final Endpoint endpoint) {
+        try {
+            return limiter.acquire();
+        } catch (final InterruptedException ie) {
+            Thread.currentThread().interrupt();
+
+            throw new CancellationException("Interrupted waiting to call " + endpoint.getLabel());
+        }
+    }
+
+    /// Create a guard for each endpoint.
+    ///
+    /// @param  parameters  net.jmp.pinecone.quickstart.resilience.ResilienceParameters
+    /// @return             java.util.Map<net.jmp.pinecone.quickstart.resilience.Endpoint, net.jmp.pinecone.quickstart.resilience.Resilience.Guard>
+    private static Map<Endpoint, Guard> createGuards(final ResilienceParameters parameters) {
+        final Map<Endpoint, Guard> created = new EnumMap<>(Endpoint.class);
+
+        for (final Endpoint endpoint : Endpoint.values()) {
+            created.put(endpoint, new Guard(parameters));
+        }
+
+        return created;
+    }
+
+    /// The limiter, retry policy and retry budget of an endpoint.
+    private static final class Guard {
+        /// The concurrency limiter.
+        private final AdaptiveLimiter limiter;
+
+        /// The retry policy.
+        private final RetryPolicy retryPolicy;
+
+        /// The retry budget.
+        private final RetryBudget budget;
+
+        /// The constructor.
+        ///
+        /// @param  parameters  net.jmp.pinecone.quickstart.resilience.ResilienceParameters
+        private Guard(final ResilienceParameters parameters) {
+            super();
+
+            this.limiter = new AdaptiveLimiter(parameters.getInitialLimit(), MIN_LIMIT, parameters.getMaxLimit());
+            this.retryPolicy = new RetryPolicy(parameters.getMaxAttempts(), RETRY_BASE_DELAY, RETRY_MAX_DELAY);
+            this.budget = new RetryBudget(parameters.getRetryRatio(), MIN_RETRIES_PER_SECOND, RETRY_BUDGET_CAPACITY);
+        }
+    }
+}
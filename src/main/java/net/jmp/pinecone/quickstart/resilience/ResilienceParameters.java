@@ -0,0 +1,170 @@
+package net.jmp.pinecone.quickstart.resilience;
+
+/*
+ * (#)ResilienceParameters.java 0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/// The resilience parameters class. Parsed from a string such
+/// as "initialLimit=8,maxLimit=64,maxAttempts=4,retryRatio=0.2".
+/// Parameters that are not given keep their default values.
+/// Each applies to each endpoint on its own: the calls in flight
+/// to start with and at most, the attempts at each call, and the
+/// retries allowed for each call made.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+public final class ResilienceParameters {
+    /// The default number of calls in flight to start with.
+    public static final int DEFAULT_INITIAL_LIMIT = 8;
+
+    /// The default largest number of calls in flight.
+    public static final int DEFAULT_MAX_LIMIT = 64;
+
+    /// The default number of attempts at each call.
+    public static final int DEFAULT_MAX_ATTEMPTS = 4;
+
+    /// The default number of retries allowed for each call.
+    public static final double DEFAULT_RETRY_RATIO = 0.2;
+
+    /// The number of calls in flight to start with.
+    private final int initialLimit;
+
+    /// The largest number of calls in flight.
+    private final int maxLimit;
+
+    /// The number of attempts at each call.
+    private final int maxAttempts;
+
+    /// The number of retries allowed for each call.
+    private final double retryRatio;
+
+    /// The constructor.
+    ///
+    /// @param  initialLimit    int
+    /// @param  maxLimit        int
+    /// @param  maxAttempts     int
+    /// @param  retryRatio      double
+    public ResilienceParameters(final int initialLimit,
+                                final int maxLimit,
+                                final int maxAttempts,
+                                final double retryRatio) {
+        super();
+
+        if (initialLimit <= 0) {
+            throw new IllegalArgumentException("initialLimit must be positive: " + initialLimit);
+        }
+
+        if (maxLimit < initialLimit) {
+            throw new IllegalArgumentException("maxLimit must be at least initialLimit: " + maxLimit);
+        }
+
+        if (maxAttempts <= 0) {
+            throw new IllegalArgumentException("maxAttempts must be positive: " + maxAttempts);
+        }
+
+        if (retryRatio < 0.0) {
+            throw new IllegalArgumentException("retryRatio must not be negative: " + retryRatio);
+        }
+
+        this.initialLimit = initialLimit;
+        this.maxLimit = maxLimit;
+        this.maxAttempts = maxAttempts;
+        this.retryRatio = retryRatio;
+    }
+
+    /// Parse the parameters from a string.
+    ///
+    /// @param  parameters  java.lang.String
+    /// @return             net.jmp.pinecone.quickstart.resilience.ResilienceParameters
+    public static ResilienceParameters parse(final String parameters) {
+        int initialLimit = DEFAULT_INITIAL_LIMIT;
+        int maxLimit = DEFAULT_MAX_LIMIT;
+        int maxAttempts = DEFAULT_MAX_ATTEMPTS;
+        double retryRatio = DEFAULT_RETRY_RATIO;
+
+        if (parameters != null && !parameters.isBlank()) {
+            for (final String parameter : parameters.split(",")) {
+                final String[] pair = parameter.split("=", 2);
+
+                if (pair.length != 2) {
+                    throw new IllegalArgumentException("Expected name=value: " + parameter);
+                }
+
+                final String value = pair[1].trim();
+
+                switch (pair[0].trim()) {
+                    case "initialLimit" -> initialLimit = Integer.parseInt(value);
+                    case "maxLimit" -> maxLimit = Integer.parseInt(value);
+                    case "maxAttempts" -> maxAttempts = Integer.parseInt(value);
+                    case "retryRatio" -> retryRatio = Double.parseDouble(value);
+                    default -> throw new IllegalArgumentException("Unknown resilience parameter: " + pair[0]);
+                }
+            }
+        }
+
+        return new ResilienceParameters(initialLimit, maxLimit, maxAttempts, retryRatio);
+    }
+
+    /// Return the number of calls in flight to start with.
+    ///
+    /// @return int
+    public int getInitialLimit() {
+        return this.initialLimit;
+    }
+
+    /// Return the largest number of calls in flight.
+    ///
+    /// @return int
+    public int getMaxLimit() {
+        return this.maxLimit;
+    }
+
+    /// Return the number of attempts at each call.
+    ///
+    /// @return int
+    public int getMaxAttempts() {
+        return this.maxAttempts;
+    }
+
+    /// Return the number of retries allowed for each call.
+    ///
+    /// @return double
+    public double getRetryRatio() {
+        return this.retryRatio;
+    }
+
+    /// Return the string representation.
+    ///
+    /// @return java.lang.String
+    @Override
+    public String toString() {
+        return "initialLimit=" + this.initialLimit +
+                ",maxLimit=" + this.maxLimit +
+                ",maxAttempts=" + this.maxAttempts +
+                ",retryRatio=" + this.retryRatio;
+    }
+}
@@ -0,0 +1,146 @@
+package net.jmp.pinecone.quickstart.resilience;
+
+/*
+ * (#)RetryBudget.java  0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/// The retry budget class. Caps retries at a share of the
+/// calls made, so that when an endpoint is overloaded the
+/// retries do not multiply its load. Each call deposits the
+/// ratio and each retry withdraws one; a small reserve that
+/// refills over time lets an idle client retry at all.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+public final class RetryBudget {
+    /// The number of nanoseconds in a second.
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    /// The lock guarding the state.
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /// The retries earned by each call.
+    private final double ratio;
+
+    /// The retries per second always allowed.
+    private final double minPerSecond;
+
+    /// The most retries that accumulate.
+    private final double capacity;
+
+    /// The retries available.
+    private double balance;
+
+    /// The time from System.nanoTime() of the last refill.
+    private long lastRefillNanos;
+
+    /// The constructor.
+    ///
+    /// @param  ratio           double
+    /// @param  minPerSecond    double
+    /// @param  capacity        double
+    public RetryBudget(final double ratio, final double minPerSecond, final double capacity) {
+        super();
+
+        if (ratio < 0.0) {
+            throw new IllegalArgumentException("ratio must not be negative: " + ratio);
+        }
+
+        if (minPerSecond < 0.0) {
+            throw new IllegalArgumentException("minPerSecond must not be negative: " + minPerSecond);
+        }
+
+        if (capacity < 1.0) {
+            throw new IllegalArgumentException("capacity must be at least one: " + capacity);
+        }
+
+        this.ratio = ratio;
+        this.minPerSecond = minPerSecond;
+        this.capacity = capacity;
+        this.balance = Math.min(capacity, minPerSecond);
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /// Count a call, earning its share of a retry.
+    public void deposit() {
+        this.lock.lock();
+
+        try {
+            this.balance = Math.min(this.capacity, this.balance + this.ratio);
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /// Take a retry if one is available.
+    ///
+    /// @return boolean
+    public boolean tryWithdraw() {
+        this.lock.lock();
+
+        try {
+            final long now = System.nanoTime();
+
+            this.balance = Math.min(this.capacity,
+                    this.balance + (now - this.lastRefillNanos) / NANOS_PER_SECOND * this.minPerSecond);
+            this.lastRefillNanos = now;
+
+            if (this.balance >= 1.0) {
+                this.balance -= 1.0;
+
+                return true;
+            }
+
+            return false;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /// Return the retries available.
+    ///
+    /// @return double
+    public double getBalance() {
+        this.lock.lock();
+
+        try {
+            return this.balance;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /// Return the string representation.
+    ///
+    /// @return java.lang.String
+    @Override
+    public String toString() {
+        return String.format("ratio %.2f balance %.1f", this.ratio, this.getBalance());
+    }
+}
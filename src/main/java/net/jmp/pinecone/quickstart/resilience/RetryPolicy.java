@@ -0,0 +1,140 @@
+package net.jmp.pinecone.quickstart.resilience;
+
+/*
+ * (#)RetryPolicy.java  0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.time.Duration;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import java.util.function.Predicate;
+
+/// The retry policy class. Calls an action until it succeeds,
+/// fails with an exception that is not retryable, or runs out
+/// of attempts. Between attempts it sleeps for an exponential
+/// backoff with full jitter: a random time up to the base delay
+/// doubled for each retry, capped at the maximum delay, so that
+/// callers throttled together do not retry together.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+public final class RetryPolicy {
+    /// The most attempts, counting the first.
+    private final int maxAttempts;
+
+    /// The base delay in nanoseconds.
+    private final long baseDelayNanos;
+
+    /// The maximum delay in nanoseconds.
+    private final long maxDelayNanos;
+
+    /// The number of retries made.
+    private final LongAdder retries = new LongAdder();
+
+    /// The constructor.
+    ///
+    /// @param  maxAttempts int
+    /// @param  baseDelay   java.time.Duration
+    /// @param  maxDelay    java.time.Duration
+    public RetryPolicy(final int maxAttempts, final Duration baseDelay, final Duration maxDelay) {
+        super();
+
+        if (maxAttempts <= 0) {
+            throw new IllegalArgumentException("maxAttempts must be positive: " + maxAttempts);
+        }
+
+        this.maxAttempts = maxAttempts;
+        this.baseDelayNanos = baseDelay.toNanos();
+        this.maxDelayNanos = Math.max(this.baseDelayNanos, maxDelay.toNanos());
+    }
+
+    /// Call an action, retrying it while it throws an
+    /// exception that is retryable and attempts remain.
+    /// The last exception is rethrown. The action may wait,
+    /// as for a rate limit, on each attempt.
+    ///
+    /// @param  <T>         The type of result
+    /// @param  action      net.jmp.pinecone.quickstart.resilience.RemoteCall<T, java.lang.InterruptedException>
+    /// @param  retryable   java.util.function.Predicate<java.lang.RuntimeException>
+    /// @return             T
+    /// @throws             java.lang.InterruptedException
+    public <T> T call(final RemoteCall<T, InterruptedException> action, final Predicate<RuntimeException> retryable) throws InterruptedException {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return action.call();
+            } catch (final RuntimeException re) {
+                if (attempt >= this.maxAttempts || !retryable.test(re)) {
+                    throw re;
+                }
+
+                this.retries.increment();
+
+                TimeUnit.NANOSECONDS.sleep(this.backoffNanos(attempt));
+            }
+        }
+    }
+
+    /// Return the number of retries made.
+    ///
+    /// @return long
+    public long getRetries() {
+        return this.retries.sum();
+    }
+
+    /// Return the most attempts.
+    ///
+    /// @return int
+    public int getMaxAttempts() {
+        return this.maxAttempts;
+    }
+
+    /// Return a random backoff before the retry that
+    /// follows the given attempt, in nanoseconds.
+    ///
+    /// @param  attempt int
+    /// @return         long
+    long backoffNanos(final int attempt) {
+        final int shift = Math.min(attempt - 1, 30);
+        final long ceiling = Math.min(this.maxDelayNanos, this.baseDelayNanos << shift);
+
+        return ceiling > 0 ? ThreadLocalRandom.current().nextLong(ceiling + 1) : 0L;
+    }
+
+    /// Return the string representation.
+    ///
+    /// @return java.lang.String
+    @Override
+    public String toString() {
+        return "maxAttempts=" + this.maxAttempts +
+                ",baseDelay=" + Duration.ofNanos(this.baseDelayNanos) +
+                ",maxDelay=" + Duration.ofNanos(this.maxDelayNanos);
+    }
+}
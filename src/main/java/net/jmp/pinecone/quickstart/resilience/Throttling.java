@@ -0,0 +1,113 @@
+package net.jmp.pinecone.quickstart.resilience;
+
+/*
+ * (#)Throttling.java   0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+
+import java.io.IOException;
+
+import java.util.regex.Pattern;
+
+/// The throttling class. Decides whether a failed call
+/// to a remote service was refused for load and is worth
+/// retrying. Pinecone data plane calls fail with a gRPC
+/// status; control plane, inference and OpenAI calls fail
+/// with an HTTP status in the message.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+public final class Throttling {
+    /// The HTTP statuses and reasons that mean throttling.
+    private static final Pattern THROTTLED = Pattern.compile("\\b(429|503)\\b|Too Many Requests|Service Unavailable");
+
+    /// The HTTP statuses and reasons that mean a transient failure.
+    private static final Pattern TRANSIENT = Pattern.compile("\\b(500|502|504)\\b|Bad Gateway|Gateway Timeout");
+
+    /// The default constructor.
+    private Throttling() {
+        super();
+    }
+
+    /// Return true if the throwable or any of its causes
+    /// reports throttling or a server that is briefly unavailable.
+    ///
+    /// @param  throwable   java.lang.Throwable
+    /// @return             boolean
+    public static boolean isThrottled(final Throwable throwable) {
+        for (Throwable t = throwable; t != null; t = t.getCause() == t ? null : t.getCause()) {
+            if (t instanceof StatusRuntimeException sre) {
+                final Status.Code code = sre.getStatus().getCode();
+
+                if (code == Status.Code.RESOURCE_EXHAUSTED || code == Status.Code.UNAVAILABLE) {
+                    return true;
+                }
+            }
+
+            final String message = t.getMessage();
+
+            if (message != null && THROTTLED.matcher(message).find()) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /// Return true if the throwable or any of its causes
+    /// reports a failure that may not recur, such as a
+    /// server error, a timeout or a dropped connection.
+    /// Throttling is not included.
+    ///
+    /// @param  throwable   java.lang.Throwable
+    /// @return             boolean
+    public static boolean isTransient(final Throwable throwable) {
+        for (Throwable t = throwable; t != null; t = t.getCause() == t ? null : t.getCause()) {
+            if (t instanceof StatusRuntimeException sre) {
+                final Status.Code code = sre.getStatus().getCode();
+
+                if (code == Status.Code.DEADLINE_EXCEEDED || code == Status.Code.ABORTED || code == Status.Code.INTERNAL) {
+                    return true;
+                }
+            }
+
+            if (t instanceof IOException) {
+                return true;
+            }
+
+            final String message = t.getMessage();
+
+            if (message != null && TRANSIENT.matcher(message).find()) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
@@ -0,0 +1,198 @@
+package net.jmp.pinecone.quickstart.resilience;
+
+/*
+ * (#)TokenBucket.java  0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.concurrent.TimeUnit;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/// The token bucket class. Hands out permits at a steady
+/// rate, letting up to a burst of them accumulate while
+/// unused. A caller that finds the bucket empty reserves
+/// the next permit and sleeps until it is due, so waiting
+/// callers are served in order and the lock is never held
+/// while sleeping.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+public final class TokenBucket {
+    /// The number of nanoseconds in a second.
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    /// The lock guarding the state.
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /// The most permits that accumulate.
+    private final double burst;
+
+    /// The nanoseconds between permits.
+    private double intervalNanos;
+
+    /// The permits stored.
+    private double stored;
+
+    /// The time from System.nanoTime() the next permit is free.
+    private long nextFreeNanos;
+
+    /// The constructor.
+    ///
+    /// @param  permitsPerSecond    double
+    /// @param  burst               int
+    public TokenBucket(final double permitsPerSecond, final int burst) {
+        super();
+
+        if (permitsPerSecond <= 0.0) {
+            throw new IllegalArgumentException("permitsPerSecond must be positive: " + permitsPerSecond);
+        }
+
+        if (burst <= 0) {
+            throw new IllegalArgumentException("burst must be positive: " + burst);
+        }
+
+        this.burst = burst;
+        this.intervalNanos = NANOS_PER_SECOND / permitsPerSecond;
+        this.stored = burst;
+        this.nextFreeNanos = System.nanoTime();
+    }
+
+    /// Take a permit, waiting until one is free.
+    ///
+    /// @throws java.lang.InterruptedException
+    public void acquire() throws InterruptedException {
+        final long waitNanos = this.reserve(System.nanoTime());
+
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    /// Take a permit if one is free now.
+    ///
+    /// @return boolean
+    public boolean tryAcquire() {
+        this.lock.lock();
+
+        try {
+            final long now = System.nanoTime();
+
+            this.refill(now);
+
+            if (this.stored >= 1.0) {
+                this.stored -= 1.0;
+
+                return true;
+            }
+
+            return false;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /// Return the rate in permits per second.
+    ///
+    /// @return double
+    public double getRate() {
+        this.lock.lock();
+
+        try {
+            return NANOS_PER_SECOND / this.intervalNanos;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /// Change the rate. Permits already reserved keep
+    /// their times; later ones come at the new rate.
+    ///
+    /// @param  permitsPerSecond    double
+    public void setRate(final double permitsPerSecond) {
+        if (permitsPerSecond <= 0.0) {
+            throw new IllegalArgumentException("permitsPerSecond must be positive: " + permitsPerSecond);
+        }
+
+        this.lock.lock();
+
+        try {
+            this.refill(System.nanoTime());
+
+            this.intervalNanos = NANOS_PER_SECOND / permitsPerSecond;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /// Reserve the next permit and return how long
+    /// to wait for it in nanoseconds.
+    ///
+    /// @param  now long
+    /// @return     long
+    private long reserve(final long now) {
+        this.lock.lock();
+
+        try {
+            this.refill(now);
+
+            if (this.stored >= 1.0) {
+                this.stored -= 1.0;
+
+                return 0L;
+            }
+
+            /* Borrow the fraction that is missing from the future */
+
+            final long waitNanos = Math.max(0L, this.nextFreeNanos - now) + (long) ((1.0 - this.stored) * this.intervalNanos);
+
+            this.stored = 0.0;
+            this.nextFreeNanos = now + waitNanos;
+
+            return waitNanos;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /// Add the permits earned since the next free time.
+    ///
+    /// @param  now long
+    private void refill(final long now) {
+        if (now > this.nextFreeNanos) {
+            this.stored = Math.min(this.burst, this.stored + (now - this.nextFreeNanos) / this.intervalNanos);
+            this.nextFreeNanos = now;
+        }
+    }
+
+    /// Return the string representation.
+    ///
+    /// @return java.lang.String
+    @Override
+    public String toString() {
+        return String.format("%.1f/s burst %d", this.getRate(), (int) this.burst);
+    }
+}
@@ -0,0 +1,198 @@
+package net.jmp.pinecone.quickstart.search;
+
+/*
+ * (#)SearchComparison.java 0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.*;
+
+/// A comparison of the search modes run for one query
+/// text. For each mode it reports the latency, the number
+/// of documents returned, and against the reference mode
+/// the share of those documents the two have in common
+/// and the rank correlation of the documents they share.
+/// It then names the fastest mode that meets the relevance
+/// bar: enough overlap with the reference, with the shared
+/// documents ranked in much the same order.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+final class SearchComparison {
+    /// The least overlap with the reference mode that meets the relevance bar.
+    static final double MIN_OVERLAP = 0.8;
+
+    /// The least rank correlation with the reference mode that meets the relevance bar.
+    static final double MIN_RANK_CORRELATION = 0.5;
+
+    /// The mode the others are compared with.
+    private final String reference;
+
+    /// The document identifiers returned by each mode, in rank order.
+    private final Map<String, List<String>> documentIds = new LinkedHashMap<>();
+
+    /// The latency of each mode in nanoseconds.
+    private final Map<String, Long> latencies = new LinkedHashMap<>();
+
+    /// The constructor.
+    ///
+    /// @param  reference   java.lang.String
+    SearchComparison(final String reference) {
+        super();
+
+        this.reference = reference;
+    }
+
+    /// Add the results of a mode.
+    ///
+    /// @param  mode        java.lang.String
+    /// @param  documentIds java.util.List<java.lang.String>
+    /// @param  latency     long
+    void add(final String mode, final List<String> documentIds, final long latency) {
+        this.documentIds.put(mode, documentIds);
+        this.latencies.put(mode, latency);
+    }
+
+    /// Return the share of the documents of the shorter
+    /// list that are also in the other, or 0 if either
+    /// list is empty.
+    ///
+    /// @param  first   java.util.List<java.lang.String>
+    /// @param  second  java.util.List<java.lang.String>
+    /// @return         double
+    static double overlap(final List<String> first, final List<String> second) {
+        if (first.isEmpty() || second.isEmpty()) {
+            return 0;
+        }
+
+        final Set<String> shared = new HashSet<>(first);
+
+        shared.retainAll(second);
+
+        return (double) shared.size() / Math.min(first.size(), second.size());
+    }
+
+    /// Return the Spearman rank correlation of the documents
+    /// that are in both lists, ranked by their order in each,
+    /// or NaN if fewer than two documents are shared.
+    ///
+    /// @param  first   java.util.List<java.lang.String>
+    /// @param  second  java.util.List<java.lang.String>
+    /// @return         double
+    static double rankCorrelation(final List<String> first, final List<String> second) {
+        final Set<String> inSecond = new HashSet<>(second);
+        final List<String> shared = new ArrayList<>();
+
+        for (final String documentId : first) {
+            if (inSecond.contains(documentId)) {
+                shared.add(documentId);
+            }
+        }
+
+        final int n = shared.size();
+
+        if (n < 2) {
+            return Double.NaN;
+        }
+
+        final Map<String, Integer> secondRanks = new HashMap<>();
+
+        for (final String documentId : second) {
+            if (shared.contains(documentId)) {
+                secondRanks.put(documentId, secondRanks.size());
+            }
+        }
+
+        double sumOfSquares = 0;
+
+        for (int rank = 0; rank < n; rank++) {
+            final int difference = rank - secondRanks.get(shared.get(rank));
+
+            sumOfSquares += (double) difference * difference;
+        }
+
+        return 1 - (6 * sumOfSquares) / ((double) n * ((double) n * n - 1));
+    }
+
+    /// Return the report.
+    ///
+    /// @return java.lang.String
+    String report() {
+        final List<String> referenceIds = this.documentIds.getOrDefault(this.reference, List.of());
+        final StringBuilder sb = new StringBuilder();
+
+        sb.append(String.format("Search modes compared with %s:%n", this.reference));
+        sb.append(String.format("%-28s %10s %5s %8s %10s%n", "Mode", "Latency ms", "Hits", "Overlap", "Rank corr."));
+
+        String cheapest = null;
+        long cheapestLatency = Long.MAX_VALUE;
+
+        for (final Map.Entry<String, List<String>> entry : this.documentIds.entrySet()) {
+            final String mode = entry.getKey();
+            final List<String> ids = entry.getValue();
+            final long latency = this.latencies.get(mode);
+            final double overlap = overlap(ids, referenceIds);
+            final double correlation = rankCorrelation(ids, referenceIds);
+
+            sb.append(String.format("%-28s %10.1f %5d %8.2f %10s%n",
+                    mode,
+                    latency / 1_000_000.0,
+                    ids.size(),
+                    overlap,
+                    Double.isNaN(correlation) ? "n/a" : String.format("%.2f", correlation)));
+
+            final boolean relevant = overlap >= MIN_OVERLAP
+                    && (Double.isNaN(correlation) || correlation >= MIN_RANK_CORRELATION);
+
+            if (relevant && latency < cheapestLatency) {
+                cheapest = mode;
+                cheapestLatency = latency;
+            }
+        }
+
+        sb.append("Pairwise overlap:\n");
+
+        for (final Map.Entry<String, List<String>> row : this.documentIds.entrySet()) {
+            sb.append(String.format("%-28s", row.getKey()));
+
+            for (final List<String> column : this.documentIds.values()) {
+                sb.append(String.format(" %5.2f", overlap(row.getValue(), column)));
+            }
+
+            sb.append('\n');
+        }
+
+        if (cheapest != null) {
+            sb.append(String.format("Fastest mode with an overlap of at least %.2f and a rank correlation of at least %.2f: %s (%.1f ms)",
+                    MIN_OVERLAP, MIN_RANK_CORRELATION, cheapest, cheapestLatency / 1_000_000.0));
+        } else {
+            sb.append(String.format("No mode has an overlap of at least %.2f and a rank correlation of at least %.2f",
+                    MIN_OVERLAP, MIN_RANK_CORRELATION));
+        }
+
+        return sb.toString();
+    }
+}
@@ -1,6 +1,7 @@
 package net.jmp.pinecone.quickstart.search;
 
 /*
+ * (#)SearchIndex.java  0.9.0   10/18/2026
  * (#)SearchIndex.java  0.8.0   06/25/2025
  * (#)SearchIndex.java  0.7.0   06/23/2025
  *
@@ -34,17 +35,34 @@ import com.mongodb.client.*;
 import io.pinecone.clients.Index;
 import io.pinecone.clients.Pinecone;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+import java.util.function.Supplier;
 
 import net.jmp.pinecone.quickstart.Operation;
 
+import net.jmp.pinecone.quickstart.chunk.Chunks;
+
 import static net.jmp.util.logging.LoggerUtils.*;
 
 import net.jmp.pinecone.quickstart.query.DenseVector;
 import net.jmp.pinecone.quickstart.query.QueryVector;
 
-import net.jmp.pinecone.quickstart.text.UnstructuredText;
+import net.jmp.pinecone.quickstart.resilience.Endpoint;
+import net.jmp.pinecone.quickstart.resilience.Resilience;
+
+import net.jmp.pinecone.quickstart.text.Corpora;
+
+import net.jmp.pinecone.quickstart.trace.Tracer;
 
 import org.openapitools.db_data.client.ApiException;
 
@@ -55,18 +73,18 @@ import org.slf4j.LoggerFactory;
 
 /// The search index class.
 ///
-/// @version    0.8.0
+/// @version    0.9.0
 /// @since      0.7.0
 public final class SearchIndex extends Operation {
+    /// The search mode the others are compared with.
+    private static final String SEARCH_RECORDS = "Search records";
+
     /// The logger.
     private final Logger logger = LoggerFactory.getLogger(this.getClass().getName());
 
     /// The list of fields to be searched within the records.
     private final List<String> fields = List.of("text_segment", "category");
 
-    /// The unstructured text object.
-    private final UnstructuredText unstructuredText = new UnstructuredText();
-
     /// The constructor.
     ///
     /// @param  builder net.jmp.pinecone.quickstart.search.SearchIndex.Builder
@@ -94,7 +112,10 @@ public final class SearchIndex extends Operation {
         return new Builder();
     }
 
-    /// The operate method.
+    /// The operate method. Runs the search modes at the
+    /// same time over one index connection, logs the hits
+    /// of each, and then compares the modes with the search
+    /// of records, which reranks its hits.
     ///
     /// Search by records and probably search
     /// by text most likely require the dense
@@ -105,10 +126,52 @@ public final class SearchIndex extends Operation {
             this.logger.trace(entry());
         }
 
-        this.searchRecords();
-        this.searchRecordsByText();
-        this.searchRecordsByVectorId();
-        this.searchRecordsByVector();
+        try (final Index index = this.pinecone.getIndexConnection(this.searchableIndexName)) {
+            final Map<String, Supplier<List<Hit>>> modes = new LinkedHashMap<>();
+
+            modes.put(SEARCH_RECORDS, () -> this.searchRecords(index));
+            modes.put("Search records by text", () -> this.searchRecordsByText(index));
+            modes.put("Search by vector ID 'rec11'", () -> this.searchRecordsByVectorId(index));
+            modes.put("Search by vector", () -> this.searchRecordsByVector(index));
+
+            final Map<String, Long> latencies = new ConcurrentHashMap<>();
+            final Map<String, CompletableFuture<List<Hit>>> searches = new LinkedHashMap<>();
+
+            for (final Map.Entry<String, Supplier<List<Hit>>> mode : modes.entrySet()) {
+                searches.put(mode.getKey(), CompletableFuture.supplyAsync(Tracer.wrap(() -> {
+                    final long start = System.nanoTime();
+
+                    try {
+                        return mode.getValue().get();
+                    } finally {
+                        latencies.put(mode.getKey(), System.nanoTime() - start);
+                    }
+                }), runnable -> Thread.ofVirtual().start(runnable)));
+            }
+
+            final SearchComparison comparison = new SearchComparison(SEARCH_RECORDS);
+
+            for (final Map.Entry<String, CompletableFuture<List<Hit>>> search : searches.entrySet()) {
+                final String mode = search.getKey();
+
+                try {
+                    final List<Hit> hits = search.getValue().join();
+
+                    this.logger.info("{} found {} hits: ", mode, hits.size());
+
+                    for (final Hit hit : hits) {
+                        this.logHit(hit);
+                        this.logContent(hit);
+                    }
+
+                    comparison.add(mode, hits.stream().map(hit -> Chunks.parentId(hit.getId())).toList(), latencies.get(mode));
+                } catch (final CompletionException ce) {
+                    this.logger.error("{} failed: {}", mode, ce.getCause().getMessage());
+                }
+            }
+
+            this.logger.info(comparison.report());
+        }
 
         if (this.logger.isTraceEnabled()) {
             this.logger.trace(exit());
@@ -116,162 +179,188 @@ public final class SearchIndex extends Operation {
     }
 
     /// Search records.
-    private void searchRecords() {
+    ///
+    /// @param  index   io.pinecone.clients.Index
+    /// @return         java.util.List<org.openapitools.db_data.client.model.Hit>
+    private List<Hit> searchRecords(final Index index) {
         if (this.logger.isTraceEnabled()) {
-            this.logger.trace(entry());
+            this.logger.trace(entryWith(index));
         }
 
-        try (final Index index = this.pinecone.getIndexConnection(this.searchableIndexName)) {
-            final Map<String, String> inputs = Map.of("text", this.queryText);
-            final SearchRecordsRequestQuery requestQuery = new SearchRecordsRequestQuery();
+        final Map<String, String> inputs = Map.of("text", this.queryText);
+        final SearchRecordsRequestQuery requestQuery = new SearchRecordsRequestQuery();
 
-            requestQuery.setInputs(inputs);
-            requestQuery.setTopK(this.topK);
+        requestQuery.setInputs(inputs);
+        requestQuery.setTopK(this.topK);
 
-            final SearchRecordsRequestRerank requestRerank = new SearchRecordsRequestRerank();
+        final SearchRecordsRequestRerank requestRerank = new SearchRecordsRequestRerank();
 
-            requestRerank.model(this.rerankingModel);
-            requestRerank.setQuery(this.queryText);
-            requestRerank.setTopN(this.topK);
-            requestRerank.setRankFields(List.of("text_segment"));
+        requestRerank.model(this.rerankingModel);
+        requestRerank.setQuery(this.queryText);
+        requestRerank.setTopN(this.topK);
+        requestRerank.setRankFields(List.of("text_segment"));
 
-            try {
-                final SearchRecordsResponse response = index.searchRecords(
-                        this.namespace,
-                        requestQuery,
-                        this.fields,
-                        requestRerank
-                );
+        List<Hit> hits = List.of();
 
-                final SearchRecordsResponseResult result = response.getResult();
-                final List<Hit> hits = result.getHits();
+        try {
+            final SearchRecordsResponse response = Resilience.call(Endpoint.PINECONE_QUERY, () -> index.searchRecords(
+                    this.namespace,
+                    requestQuery,
+                    this.fields,
+                    requestRerank
+            ));
 
-                this.logger.info("Search records found {} hits: ", hits.size());
+            final SearchRecordsResponseResult result = response.getResult();
 
-                for (final Hit hit : hits) {
-                    this.logHit(hit);
-                    this.logContent(hit);
-                }
-            } catch (final ApiException e) {
-                this.logger.error(catching(e));
-            }
+            hits = this.collapseChunks(result.getHits());
+        } catch (final ApiException e) {
+            this.logger.error(catching(e));
         }
 
         if (this.logger.isTraceEnabled()) {
-            this.logger.trace(exit());
+            this.logger.trace(exitWith(hits));
         }
+
+        return hits;
     }
 
     /// Search records by text.
-    private void searchRecordsByText() {
+    ///
+    /// @param  index   io.pinecone.clients.Index
+    /// @return         java.util.List<org.openapitools.db_data.client.model.Hit>
+    private List<Hit> searchRecordsByText(final Index index) {
         if (this.logger.isTraceEnabled()) {
-            this.logger.trace(entry());
+            this.logger.trace(entryWith(index));
         }
 
-        try (final Index index = this.pinecone.getIndexConnection(this.searchableIndexName)) {
-            try {
-                final SearchRecordsResponse response = index.searchRecordsByText(
-                        this.queryText,
-                        this.namespace,
-                        this.fields,
-                        this.topK,
-                        null,
-                        null
-                );
-
-                final SearchRecordsResponseResult result = response.getResult();
-                final List<Hit> hits = result.getHits();
-
-                this.logger.info("Search records by text found {} hits: ", hits.size());
-
-                for (final Hit hit : hits) {
-                    this.logHit(hit);
-                    this.logContent(hit);
-                }
-            } catch (final ApiException e) {
-                this.logger.error(catching(e));
-            }
+        List<Hit> hits = List.of();
+
+        try {
+            final SearchRecordsResponse response = Resilience.call(Endpoint.PINECONE_QUERY, () -> index.searchRecordsByText(
+                    this.queryText,
+                    this.namespace,
+                    this.fields,
+                    this.topK,
+                    null,
+                    null
+            ));
+
+            final SearchRecordsResponseResult result = response.getResult();
+
+            hits = this.collapseChunks(result.getHits());
+        } catch (final ApiException e) {
+            this.logger.error(catching(e));
         }
 
         if (this.logger.isTraceEnabled()) {
-            this.logger.trace(exit());
+            this.logger.trace(exitWith(hits));
         }
+
+        return hits;
     }
 
     /// Search records by vector ID.
-    private void searchRecordsByVectorId() {
+    ///
+    /// @param  index   io.pinecone.clients.Index
+    /// @return         java.util.List<org.openapitools.db_data.client.model.Hit>
+    private List<Hit> searchRecordsByVectorId(final Index index) {
         if (this.logger.isTraceEnabled()) {
-            this.logger.trace(entry());
+            this.logger.trace(entryWith(index));
         }
 
-        try (final Index index = this.pinecone.getIndexConnection(this.searchableIndexName)) {
-            final SearchRecordsResponse response = index.searchRecordsById(
+        List<Hit> hits = List.of();
+
+        try {
+            final SearchRecordsResponse response = Resilience.call(Endpoint.PINECONE_QUERY, () -> index.searchRecordsById(
                     "rec11",
                     this.namespace,
                     this.fields,
                     this.topK,
                     null,
                     null
-            );
+            ));
 
             final SearchRecordsResponseResult result = response.getResult();
-            final List<Hit> hits = result.getHits();
-
-            this.logger.info("Search by vector ID 'rec11' found {} hits: ", hits.size());
 
-            for (final Hit hit : hits) {
-                this.logHit(hit);
-                this.logContent(hit);
-            }
+            hits = this.collapseChunks(result.getHits());
         } catch (final ApiException e) {
             this.logger.error(catching(e));
         }
 
         if (this.logger.isTraceEnabled()) {
-            this.logger.trace(exit());
+            this.logger.trace(exitWith(hits));
         }
+
+        return hits;
     }
 
     /// Search records by vector.
-    private void searchRecordsByVector() {
+    ///
+    /// @param  index   io.pinecone.clients.Index
+    /// @return         java.util.List<org.openapitools.db_data.client.model.Hit>
+    private List<Hit> searchRecordsByVector(final Index index) {
         if (this.logger.isTraceEnabled()) {
-            this.logger.trace(entry());
+            this.logger.trace(entryWith(index));
         }
 
         final QueryVector queryVector = new QueryVector(this.pinecone, this.searchableEmbeddingModel);
         final DenseVector denseVector = queryVector.queryTextToDenseVector(this.queryText);
-        final List<Float> denseVectorValues = denseVector.getDenseValues();
+        final List<Float> denseVectorValues = denseVector.getDenseValuesAsList();
         final SearchRecordsVector searchRecordsVector = new SearchRecordsVector();
 
         searchRecordsVector.setValues(denseVectorValues);
 
-        try (final Index index = this.pinecone.getIndexConnection(this.searchableIndexName)) {
+        List<Hit> hits = List.of();
+
+        try {
             final Map<String, Object> filter = Map.of("category", "biology");
-            final SearchRecordsResponse response = index.searchRecordsByVector(
+            final SearchRecordsResponse response = Resilience.call(Endpoint.PINECONE_QUERY, () -> index.searchRecordsByVector(
                     searchRecordsVector,
                     this.namespace,
                     this.fields,
                     this.topK,
                     filter,
                     null
-            );
+            ));
 
             final SearchRecordsResponseResult result = response.getResult();
-            final List<Hit> hits = result.getHits();
-
-            this.logger.info("Search by vector found {} hits: ", hits.size());
 
-            for (final Hit hit : hits) {
-                this.logHit(hit);
-                this.logContent(hit);
-            }
+            hits = this.collapseChunks(result.getHits());
         } catch (final ApiException e) {
             this.logger.error(catching(e));
         }
 
         if (this.logger.isTraceEnabled()) {
-            this.logger.trace(exit());
+            this.logger.trace(exitWith(hits));
         }
+
+        return hits;
+    }
+
+    /// Collapse the hits on the chunks of a document into the
+    /// first of them, which has the best score.
+    ///
+    /// @param  hits    java.util.List<org.openapitools.db_data.client.model.Hit>
+    /// @return         java.util.List<org.openapitools.db_data.client.model.Hit>
+    private List<Hit> collapseChunks(final List<Hit> hits) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entryWith(hits));
+        }
+
+        final List<Hit> collapsed = new ArrayList<>(hits.size());
+        final Set<String> documentIds = new HashSet<>();
+
+        for (final Hit hit : hits) {
+            if (documentIds.add(Chunks.parentId(hit.getId()))) {
+                collapsed.add(hit);
+            }
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exitWith(collapsed));
+        }
+
+        return collapsed;
     }
 
     /// Log a hit.
@@ -309,7 +398,7 @@ public final class SearchIndex extends Operation {
         @SuppressWarnings("unchecked")
         final Map<String, Object> hitFields = (Map<String, Object>) hit.getFields();
         final String category = (String) hitFields.getOrDefault("category", "");
-        final String content = this.unstructuredText.lookup(hit.getId()).getContent();
+        final String content = Corpora.get().getContent(Chunks.parentId(hit.getId())).orElse("");
 
         this.logger.info("{}: {}", category, content);
 
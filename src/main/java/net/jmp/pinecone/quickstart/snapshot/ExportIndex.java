@@ -0,0 +1,302 @@
+package net.jmp.pinecone.quickstart.snapshot;
+
+/*
+ * (#)ExportIndex.java  0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import com.google.protobuf.Struct;
+import com.google.protobuf.Value;
+
+import io.pinecone.clients.Index;
+import io.pinecone.clients.Pinecone;
+
+import io.pinecone.proto.Vector;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+import java.util.stream.Stream;
+
+import net.jmp.pinecone.quickstart.Operation;
+
+import net.jmp.pinecone.quickstart.fetch.BulkFetcher;
+
+import net.jmp.pinecone.quickstart.list.VectorIds;
+
+import net.jmp.pinecone.quickstart.local.PrimitiveLists;
+
+import static net.jmp.util.logging.LoggerUtils.*;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/// The export index class. Writes every vector in the
+/// namespace of the dense and the sparse index, with its
+/// metadata, to a snapshot file for each. The IDs are listed
+/// page by page and the vectors are fetched in concurrent
+/// chunks and written as they arrive, so the export holds
+/// no more than a few chunks of vectors at once. Each snapshot
+/// is written beside the old one and moved over it only when
+/// every vector has been written, so an export that fails
+/// leaves the old snapshot in place.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+public final class ExportIndex extends Operation {
+    /// The name of the category metadata field.
+    static final String CATEGORY = "category";
+
+    /// The logger.
+    private final Logger logger = LoggerFactory.getLogger(this.getClass().getName());
+
+    /// The snapshot directory.
+    private final String snapshotDir;
+
+    /// The constructor.
+    ///
+    /// @param  builder net.jmp.pinecone.quickstart.snapshot.ExportIndex.Builder
+    private ExportIndex(final Builder builder) {
+        super(Operation.operationBuilder()
+                .pinecone(builder.pinecone)
+                .denseIndexName(builder.denseIndexName)
+                .sparseIndexName(builder.sparseIndexName)
+                .namespace(builder.namespace)
+        );
+
+        this.snapshotDir = builder.snapshotDir;
+    }
+
+    /// Return an instance of the builder class.
+    ///
+    /// @return net.jmp.pinecone.quickstart.snapshot.ExportIndex.Builder
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /// The operate method.
+    @Override
+    public void operate() {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        if (this.doesDenseIndexExist() && this.isDenseIndexLoaded()) {
+            this.export(this.denseIndexName);
+        } else {
+            this.logger.info("Dense index does not exist or is not loaded: {}", this.denseIndexName);
+        }
+
+        if (this.doesSparseIndexExist() && this.isSparseIndexLoaded()) {
+            this.export(this.sparseIndexName);
+        } else {
+            this.logger.info("Sparse index does not exist or is not loaded: {}", this.sparseIndexName);
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /// Export the namespace of an index to its snapshot file.
+    ///
+    /// @param  indexName   java.lang.String
+    private void export(final String indexName) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entryWith(indexName));
+        }
+
+        final Path path = Snapshots.path(this.snapshotDir, indexName, this.namespace);
+        final Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        final long start = System.nanoTime();
+
+        this.logger.info("Exporting {} to {}", indexName, path);
+
+        boolean exported = false;
+
+        try (final Index index = this.pinecone.getIndexConnection(indexName);
+             final Stream<String> ids = VectorIds.stream(index, this.namespace)) {
+            final BulkFetcher fetcher = new BulkFetcher(index,
+                    this.namespace,
+                    BulkFetcher.DEFAULT_CHUNK_SIZE,
+                    BulkFetcher.DEFAULT_CONCURRENCY);
+
+            final long vectorCount;
+
+            try (final SnapshotWriter writer = new SnapshotWriter(temporary, indexName, this.namespace, SnapshotWriter.DEFAULT_BLOCK_SIZE)) {
+                fetcher.fetch(ids, vector -> {
+                    try {
+                        writer.write(this.toSnapshotVector(vector));
+                    } catch (final IOException ioe) {
+                        throw new UncheckedIOException(ioe);
+                    }
+                });
+
+                vectorCount = writer.getVectorCount();
+            }
+
+            Files.move(temporary, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+            exported = true;
+
+            this.logger.info("Exported {} vectors in {} ms", vectorCount, (System.nanoTime() - start) / 1_000_000);
+        } catch (final IOException | UncheckedIOException e) {
+            this.logger.error(catching(e));
+        } finally {
+            if (!exported) {
+                this.deleteTemporary(temporary);
+            }
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /// Delete the file of a snapshot that was not completed.
+    ///
+    /// @param  temporary   java.nio.file.Path
+    private void deleteTemporary(final Path temporary) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entryWith(temporary));
+        }
+
+        try {
+            Files.deleteIfExists(temporary);
+        } catch (final IOException ioe) {
+            this.logger.error(catching(ioe));
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /// Convert a fetched vector to a snapshot vector. The
+    /// category is taken out of the metadata to be dictionary
+    /// encoded; the rest of the metadata is kept serialized.
+    ///
+    /// @param  vector  io.pinecone.proto.Vector
+    /// @return         net.jmp.pinecone.quickstart.snapshot.SnapshotVector
+    private SnapshotVector toSnapshotVector(final Vector vector) {
+        final Struct metadata = vector.getMetadata();
+        final Value category = metadata.getFieldsMap().get(CATEGORY);
+        final Struct rest = metadata.toBuilder().removeFields(CATEGORY).build();
+
+        return new SnapshotVector(
+                vector.getId(),
+                PrimitiveLists.toFloatArray(vector.getValuesList()),
+                vector.hasSparseValues() ? PrimitiveLists.toIntArray(vector.getSparseValues().getIndicesList()) : null,
+                vector.hasSparseValues() ? PrimitiveLists.toFloatArray(vector.getSparseValues().getValuesList()) : null,
+                category != null && category.hasStringValue() ? category.getStringValue() : null,
+                rest.getFieldsCount() > 0 ? rest.toByteArray() : null
+        );
+    }
+
+    /// The builder class.
+    public static class Builder {
+        /// The Pinecone client.
+        private Pinecone pinecone;
+
+        /// The dense index name.
+        private String denseIndexName;
+
+        /// The sparse index name.
+        private String sparseIndexName;
+
+        /// The namespace.
+        private String namespace;
+
+        /// The snapshot directory.
+        private String snapshotDir;
+
+        /// The default constructor.
+        private Builder() {
+            super();
+        }
+
+        /// Set the Pinecone client.
+        ///
+        /// @param  pinecone    io.pinecone.clients.Pinecone
+        /// @return             net.jmp.pinecone.quickstart.snapshot.ExportIndex.Builder
+        public Builder pinecone(final Pinecone pinecone) {
+            this.pinecone = pinecone;
+
+            return this;
+        }
+
+        /// Set the dense index name.
+        ///
+        /// @param  denseIndexName  java.lang.String
+        /// @return                 net.jmp.pinecone.quickstart.snapshot.ExportIndex.Builder
+        public Builder denseIndexName(final String denseIndexName) {
+            this.denseIndexName = denseIndexName;
+
+            return this;
+        }
+
+        /// Set the sparse index name.
+        ///
+        /// @param  sparseIndexName java.lang.String
+        /// @return                 net.jmp.pinecone.quickstart.snapshot.ExportIndex.Builder
+        public Builder sparseIndexName(final String sparseIndexName) {
+            this.sparseIndexName = sparseIndexName;
+
+            return this;
+        }
+
+        /// Set the namespace.
+        ///
+        /// @param  namespace   java.lang.String
+        /// @return             net.jmp.pinecone.quickstart.snapshot.ExportIndex.Builder
+        public Builder namespace(final String namespace) {
+            this.namespace = namespace;
+
+            return this;
+        }
+
+        /// Set the snapshot directory.
+        ///
+        /// @param  snapshotDir java.lang.String
+        /// @return             net.jmp.pinecone.quickstart.snapshot.ExportIndex.Builder
+        public Builder snapshotDir(final String snapshotDir) {
+            this.snapshotDir = snapshotDir;
+
+            return this;
+        }
+
+        /// Build the object.
+        ///
+        /// @return net.jmp.pinecone.quickstart.snapshot.ExportIndex
+        public ExportIndex build() {
+            return new ExportIndex(this);
+        }
+    }
+}
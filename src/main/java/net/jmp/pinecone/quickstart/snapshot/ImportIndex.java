@@ -0,0 +1,363 @@
+package net.jmp.pinecone.quickstart.snapshot;
+
+/*
+ * (#)ImportIndex.java  0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.Struct;
+import com.google.protobuf.Value;
+
+import io.pinecone.clients.Index;
+import io.pinecone.clients.Pinecone;
+
+import static io.pinecone.commons.IndexInterface.buildUpsertVectorWithUnsignedIndices;
+
+import io.pinecone.unsigned_indices_model.VectorWithUnsignedIndices;
+
+import java.io.IOException;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+import net.jmp.pinecone.quickstart.Operation;
+
+import net.jmp.pinecone.quickstart.local.LocalIndexes;
+import net.jmp.pinecone.quickstart.local.PrimitiveLists;
+
+import net.jmp.pinecone.quickstart.resilience.Endpoint;
+import net.jmp.pinecone.quickstart.resilience.Resilience;
+
+import static net.jmp.util.logging.LoggerUtils.*;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/// The import index class. Restores the dense and the sparse
+/// index from the snapshot files written by the export
+/// operation. The vectors are upserted as stored, so no
+/// embeddings are created; blocks are decoded on the calling
+/// thread while a bounded number of upsert batches are sent
+/// concurrently. The indexes must already exist.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+public final class ImportIndex extends Operation {
+    /// The number of vectors in an upsert batch.
+    private static final int BATCH_SIZE = 100;
+
+    /// The maximum number of upsert batches in flight.
+    private static final int MAX_IN_FLIGHT = 8;
+
+    /// The logger.
+    private final Logger logger = LoggerFactory.getLogger(this.getClass().getName());
+
+    /// The snapshot directory.
+    private final String snapshotDir;
+
+    /// The constructor.
+    ///
+    /// @param  builder net.jmp.pinecone.quickstart.snapshot.ImportIndex.Builder
+    private ImportIndex(final Builder builder) {
+        super(Operation.operationBuilder()
+                .pinecone(builder.pinecone)
+                .denseIndexName(builder.denseIndexName)
+                .sparseIndexName(builder.sparseIndexName)
+                .namespace(builder.namespace)
+                .localIndexDir(builder.localIndexDir)
+        );
+
+        this.snapshotDir = builder.snapshotDir;
+    }
+
+    /// Return an instance of the builder class.
+    ///
+    /// @return net.jmp.pinecone.quickstart.snapshot.ImportIndex.Builder
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /// The operate method.
+    @Override
+    public void operate() {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        if (this.doesDenseIndexExist()) {
+            LocalIndexes.deleteDenseIndexes(this.localIndexDir, this.denseIndexName, this.namespace);
+
+            this.restore(this.denseIndexName);
+        } else {
+            this.logger.info("Dense index does not exist: {}", this.denseIndexName);
+        }
+
+        if (this.doesSparseIndexExist()) {
+            LocalIndexes.deleteSparseInvertedIndex(this.localIndexDir, this.sparseIndexName, this.namespace);
+
+            this.restore(this.sparseIndexName);
+        } else {
+            this.logger.info("Sparse index does not exist: {}", this.sparseIndexName);
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /// Restore the namespace of an index from its snapshot file.
+    ///
+    /// @param  indexName   java.lang.String
+    private void restore(final String indexName) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entryWith(indexName));
+        }
+
+        final Path path = Snapshots.path(this.snapshotDir, indexName, this.namespace);
+
+        if (Files.isRegularFile(path)) {
+            final long start = System.nanoTime();
+            final LongAdder imported = new LongAdder();
+            final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+            final Semaphore window = new Semaphore(MAX_IN_FLIGHT);
+
+            this.logger.info("Importing {} from {}", indexName, path);
+
+            try (final SnapshotReader reader = SnapshotReader.open(path);
+                 final Index index = this.pinecone.getIndexConnection(indexName);
+                 final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                if (!reader.getIndexName().equals(indexName) || !reader.getNamespace().equals(this.namespace)) {
+                    this.logger.warn("Snapshot was exported from {}/{}", reader.getIndexName(), reader.getNamespace());
+                }
+
+                List<VectorWithUnsignedIndices> batch = new ArrayList<>(BATCH_SIZE);
+
+                while (reader.hasNextBlock() && failure.get() == null) {
+                    for (final SnapshotVector vector : reader.nextBlock()) {
+                        batch.add(this.toUpsertVector(vector));
+
+                        if (batch.size() == BATCH_SIZE) {
+                            this.submit(executor, window, index, batch, imported, failure);
+
+                            batch = new ArrayList<>(BATCH_SIZE);
+                        }
+                    }
+                }
+
+                if (!batch.isEmpty() && failure.get() == null) {
+                    this.submit(executor, window, index, batch, imported, failure);
+                }
+
+                this.logger.info("Snapshot holds {} vectors", reader.getVectorCount());
+            } catch (final IOException | RuntimeException e) {
+                this.logger.error(catching(e));
+            } catch (final InterruptedException ie) {
+                this.logger.error(catching(ie));
+
+                Thread.currentThread().interrupt();
+            }
+
+            if (failure.get() != null) {
+                this.logger.error(catching(failure.get()));
+            }
+
+            this.logger.info("Imported {} vectors in {} ms", imported.sum(), (System.nanoTime() - start) / 1_000_000);
+        } else {
+            this.logger.info("Snapshot does not exist: {}", path);
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /// Submit an upsert batch, waiting for room in the window.
+    /// The first failure is kept and later batches are skipped.
+    ///
+    /// @param  executor    java.util.concurrent.ExecutorService
+    /// @param  window      java.util.concurrent.Semaphore
+    /// @param  index       io.pinecone.clients.Index
+    /// @param  batch       java.util.List<io.pinecone.unsigned_indices_model.VectorWithUnsignedIndices>
+    /// @param  imported    java.util.concurrent.atomic.LongAdder
+    /// @param  failure     java.util.concurrent.atomic.AtomicReference<java.lang.RuntimeException>
+    /// @throws             java.lang.InterruptedException
+    private void submit(final ExecutorService executor,
+                        final Semaphore window,
+                        final Index index,
+                        final List<VectorWithUnsignedIndices> batch,
+                        final LongAdder imported,
+                        final AtomicReference<RuntimeException> failure) throws InterruptedException {
+        window.acquire();
+
+        executor.execute(() -> {
+            try {
+                if (failure.get() == null) {
+                    Resilience.call(Endpoint.PINECONE_WRITE, () -> index.upsert(batch, this.namespace));
+
+                    imported.add(batch.size());
+                }
+            } catch (final RuntimeException re) {
+                failure.compareAndSet(null, re);
+            } finally {
+                window.release();
+            }
+        });
+    }
+
+    /// Convert a snapshot vector to an upsert vector, putting
+    /// the category back into the metadata.
+    ///
+    /// @param  vector  net.jmp.pinecone.quickstart.snapshot.SnapshotVector
+    /// @return         io.pinecone.unsigned_indices_model.VectorWithUnsignedIndices
+    private VectorWithUnsignedIndices toUpsertVector(final SnapshotVector vector) {
+        final Struct.Builder metadata = Struct.newBuilder();
+
+        try {
+            metadata.mergeFrom(vector.getMetadata());
+        } catch (final InvalidProtocolBufferException ipbe) {
+            throw new IllegalStateException("Invalid metadata for vector: " + vector.getId(), ipbe);
+        }
+
+        if (vector.getCategory() != null) {
+            metadata.putFields(ExportIndex.CATEGORY, Value.newBuilder().setStringValue(vector.getCategory()).build());
+        }
+
+        final boolean sparse = vector.getSparseIndices().length > 0;
+
+        return buildUpsertVectorWithUnsignedIndices(
+                vector.getId(),
+                vector.getValues().length > 0 ? PrimitiveLists.asList(vector.getValues()) : Collections.emptyList(),
+                sparse ? PrimitiveLists.asUnsignedList(vector.getSparseIndices()) : null,
+                sparse ? PrimitiveLists.asList(vector.getSparseValues()) : null,
+                metadata.build()
+        );
+    }
+
+    /// The builder class.
+    public static class Builder {
+        /// The Pinecone client.
+        private Pinecone pinecone;
+
+        /// The dense index name.
+        private String denseIndexName;
+
+        /// The sparse index name.
+        private String sparseIndexName;
+
+        /// The namespace.
+        private String namespace;
+
+        /// The local index directory.
+        private String localIndexDir;
+
+        /// The snapshot directory.
+        private String snapshotDir;
+
+        /// The default constructor.
+        private Builder() {
+            super();
+        }
+
+        /// Set the Pinecone client.
+        ///
+        /// @param  pinecone    io.pinecone.clients.Pinecone
+        /// @return             net.jmp.pinecone.quickstart.snapshot.ImportIndex.Builder
+        public Builder pinecone(final Pinecone pinecone) {
+            this.pinecone = pinecone;
+
+            return this;
+        }
+
+        /// Set the dense index name.
+        ///
+        /// @param  denseIndexName  java.lang.String
+        /// @return                 net.jmp.pinecone.quickstart.snapshot.ImportIndex.Builder
+        public Builder denseIndexName(final String denseIndexName) {
+            this.denseIndexName = denseIndexName;
+
+            return this;
+        }
+
+        /// Set the sparse index name.
+        ///
+        /// @param  sparseIndexName java.lang.String
+        /// @return                 net.jmp.pinecone.quickstart.snapshot.ImportIndex.Builder
+        public Builder sparseIndexName(final String sparseIndexName) {
+            this.sparseIndexName = sparseIndexName;
+
+            return this;
+        }
+
+        /// Set the namespace.
+        ///
+        /// @param  namespace   java.lang.String
+        /// @return             net.jmp.pinecone.quickstart.snapshot.ImportIndex.Builder
+        public Builder namespace(final String namespace) {
+            this.namespace = namespace;
+
+            return this;
+        }
+
+        /// Set the local index directory.
+        ///
+        /// @param  localIndexDir   java.lang.String
+        /// @return                 net.jmp.pinecone.quickstart.snapshot.ImportIndex.Builder
+        public Builder localIndexDir(final String localIndexDir) {
+            this.localIndexDir = localIndexDir;
+
+            return this;
+        }
+
+        /// Set the snapshot directory.
+        ///
+        /// @param  snapshotDir java.lang.String
+        /// @return             net.jmp.pinecone.quickstart.snapshot.ImportIndex.Builder
+        public Builder snapshotDir(final String snapshotDir) {
+            this.snapshotDir = snapshotDir;
+
+            return this;
+        }
+
+        /// Build the object.
+        ///
+        /// @return net.jmp.pinecone.quickstart.snapshot.ImportIndex
+        public ImportIndex build() {
+            return new ImportIndex(this);
+        }
+    }
+}
@@ -0,0 +1,326 @@
+package net.jmp.pinecone.quickstart.snapshot;
+
+/*
+ * (#)SnapshotReader.java   0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.io.IOException;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import java.nio.channels.FileChannel;
+
+import java.nio.charset.StandardCharsets;
+
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import java.util.zip.CRC32C;
+
+/// The snapshot reader class. Reads a snapshot written by the
+/// snapshot writer from a memory-mapped file, one block at a
+/// time in file order. Each block and the category dictionary
+/// are checked against their checksums before they are decoded.
+/// The mapping belongs to the thread that opened the reader.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+public final class SnapshotReader implements AutoCloseable {
+    /// The path.
+    private final Path path;
+
+    /// The arena owning the mapping.
+    private final Arena arena;
+
+    /// The mapped file.
+    private final MemorySegment segment;
+
+    /// The index name.
+    private final String indexName;
+
+    /// The namespace.
+    private final String namespace;
+
+    /// The categories by ordinal.
+    private final String[] categories;
+
+    /// The number of blocks.
+    private final int blockCount;
+
+    /// The number of vectors.
+    private final long vectorCount;
+
+    /// The offset of the category dictionary, where the blocks end.
+    private final long dictionaryOffset;
+
+    /// The offset of the next block.
+    private long position;
+
+    /// The number of blocks read.
+    private int blocksRead;
+
+    /// The constructor.
+    ///
+    /// @param  path    java.nio.file.Path
+    /// @param  arena   java.lang.foreign.Arena
+    /// @param  segment java.lang.foreign.MemorySegment
+    /// @throws         java.io.IOException
+    private SnapshotReader(final Path path, final Arena arena, final MemorySegment segment) throws IOException {
+        super();
+
+        this.path = path;
+        this.arena = arena;
+        this.segment = segment;
+
+        if (segment.byteSize() < 2 * Integer.BYTES + SnapshotWriter.FOOTER_SIZE) {
+            throw new IOException("Not a snapshot file: " + path);
+        }
+
+        final ByteBuffer header = this.slice(0, segment.byteSize() - SnapshotWriter.FOOTER_SIZE);
+
+        if (header.getInt() != SnapshotWriter.MAGIC) {
+            throw new IOException("Not a snapshot file: " + path);
+        }
+
+        final int version = header.getInt();
+
+        if (version != SnapshotWriter.FORMAT_VERSION) {
+            throw new IOException("Unsupported snapshot version: " + version);
+        }
+
+        this.indexName = readString(header);
+        this.namespace = readString(header);
+        this.position = header.position();
+
+        final ByteBuffer footer = this.slice(segment.byteSize() - SnapshotWriter.FOOTER_SIZE, SnapshotWriter.FOOTER_SIZE);
+
+        this.dictionaryOffset = footer.getLong();
+        this.blockCount = footer.getInt();
+        this.vectorCount = footer.getLong();
+
+        if (footer.getInt() != SnapshotWriter.MAGIC) {
+            throw new IOException("Snapshot file is truncated: " + path);
+        }
+
+        final ByteBuffer dictionary = this.readFrame(this.dictionaryOffset, "dictionary");
+
+        this.categories = new String[dictionary.getInt()];
+
+        for (int i = 0; i < this.categories.length; i++) {
+            this.categories[i] = readString(dictionary);
+        }
+    }
+
+    /// Open a snapshot file.
+    ///
+    /// @param  path    java.nio.file.Path
+    /// @return         net.jmp.pinecone.quickstart.snapshot.SnapshotReader
+    /// @throws         java.io.IOException
+    public static SnapshotReader open(final Path path) throws IOException {
+        final Arena arena = Arena.ofConfined();
+
+        try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final MemorySegment segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size(), arena);
+
+            return new SnapshotReader(path, arena, segment);
+        } catch (final IOException | RuntimeException e) {
+            arena.close();
+
+            throw e;
+        }
+    }
+
+    /// Return the name of the index the snapshot was exported from.
+    ///
+    /// @return java.lang.String
+    public String getIndexName() {
+        return this.indexName;
+    }
+
+    /// Return the namespace the snapshot was exported from.
+    ///
+    /// @return java.lang.String
+    public String getNamespace() {
+        return this.namespace;
+    }
+
+    /// Return the number of blocks.
+    ///
+    /// @return int
+    public int getBlockCount() {
+        return this.blockCount;
+    }
+
+    /// Return the number of vectors.
+    ///
+    /// @return long
+    public long getVectorCount() {
+        return this.vectorCount;
+    }
+
+    /// Return true if there is another block.
+    ///
+    /// @return boolean
+    public boolean hasNextBlock() {
+        return this.blocksRead < this.blockCount;
+    }
+
+    /// Read and decode the next block.
+    ///
+    /// @return java.util.List<net.jmp.pinecone.quickstart.snapshot.SnapshotVector>
+    /// @throws java.io.IOException
+    public List<SnapshotVector> nextBlock() throws IOException {
+        if (!this.hasNextBlock()) {
+            throw new IllegalStateException("No more blocks in " + this.path);
+        }
+
+        final ByteBuffer block = this.readFrame(this.position, "block " + this.blocksRead);
+
+        this.position += SnapshotWriter.FRAME_SIZE + block.remaining();
+        this.blocksRead++;
+
+        final int count = block.getInt();
+        final int dimension = block.getInt();
+        final String[] ids = new String[count];
+        final float[][] values = new float[count][dimension];
+        final int[][] sparseIndices = new int[count][];
+        final float[][] sparseValues = new float[count][];
+
+        for (int i = 0; i < count; i++) {
+            ids[i] = readString(block);
+        }
+
+        for (int i = 0; i < count; i++) {
+            block.asFloatBuffer().get(values[i]);
+            block.position(block.position() + dimension * Float.BYTES);
+        }
+
+        for (int i = 0; i < count; i++) {
+            final int length = block.getInt();
+
+            sparseIndices[i] = new int[length];
+            sparseValues[i] = new float[length];
+        }
+
+        for (int i = 0; i < count; i++) {
+            block.asIntBuffer().get(sparseIndices[i]);
+            block.position(block.position() + sparseIndices[i].length * Integer.BYTES);
+        }
+
+        for (int i = 0; i < count; i++) {
+            block.asFloatBuffer().get(sparseValues[i]);
+            block.position(block.position() + sparseValues[i].length * Float.BYTES);
+        }
+
+        final String[] categoryOfVector = new String[count];
+
+        for (int i = 0; i < count; i++) {
+            final int ordinal = block.getInt();
+
+            categoryOfVector[i] = ordinal == SnapshotWriter.NO_CATEGORY ? null : this.categories[ordinal];
+        }
+
+        final List<SnapshotVector> vectors = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            final byte[] metadata = new byte[block.getInt()];
+
+            block.get(metadata);
+
+            vectors.add(new SnapshotVector(ids[i], values[i], sparseIndices[i], sparseValues[i], categoryOfVector[i], metadata));
+        }
+
+        return vectors;
+    }
+
+    /// Unmap the file.
+    @Override
+    public void close() {
+        this.arena.close();
+    }
+
+    /// Return the payload of the frame at an offset
+    /// after checking it against its checksum.
+    ///
+    /// @param  offset  long
+    /// @param  what    java.lang.String
+    /// @return         java.nio.ByteBuffer
+    /// @throws         java.io.IOException
+    private ByteBuffer readFrame(final long offset, final String what) throws IOException {
+        if (offset < 0 || offset + SnapshotWriter.FRAME_SIZE > this.segment.byteSize() - SnapshotWriter.FOOTER_SIZE) {
+            throw new IOException("Snapshot " + what + " is out of bounds in " + this.path);
+        }
+
+        final ByteBuffer frame = this.slice(offset, SnapshotWriter.FRAME_SIZE);
+        final int length = frame.getInt();
+        final int checksum = frame.getInt();
+        final long payloadOffset = offset + SnapshotWriter.FRAME_SIZE;
+
+        if (length < 0 || payloadOffset + length > this.segment.byteSize() - SnapshotWriter.FOOTER_SIZE) {
+            throw new IOException("Snapshot " + what + " is out of bounds in " + this.path);
+        }
+
+        final ByteBuffer payload = this.slice(payloadOffset, length);
+        final CRC32C crc = new CRC32C();
+
+        crc.update(payload.duplicate());
+
+        if ((int) crc.getValue() != checksum) {
+            throw new IOException("Snapshot " + what + " fails its checksum in " + this.path);
+        }
+
+        return payload;
+    }
+
+    /// Return a little-endian buffer over part of the mapped file.
+    ///
+    /// @param  offset  long
+    /// @param  length  long
+    /// @return         java.nio.ByteBuffer
+    private ByteBuffer slice(final long offset, final long length) {
+        return this.segment.asSlice(offset, length).asByteBuffer().order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /// Read a length-prefixed UTF-8 string.
+    ///
+    /// @param  buffer  java.nio.ByteBuffer
+    /// @return         java.lang.String
+    private static String readString(final ByteBuffer buffer) {
+        final byte[] bytes = new byte[buffer.getInt()];
+
+        buffer.get(bytes);
+
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,144 @@
+package net.jmp.pinecone.quickstart.snapshot;
+
+/*
+ * (#)SnapshotVector.java   0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/// The snapshot vector class. One vector as it is held in a
+/// snapshot: its ID, its dense values, its sparse indices and
+/// values, its category, and the rest of its metadata as the
+/// serialized bytes of a protobuf Struct. Arrays are empty,
+/// never null, when the vector has no values of that kind.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+public final class SnapshotVector {
+    /// An empty float array.
+    private static final float[] NO_FLOATS = new float[0];
+
+    /// An empty int array.
+    private static final int[] NO_INTS = new int[0];
+
+    /// An empty byte array.
+    private static final byte[] NO_BYTES = new byte[0];
+
+    /// The vector ID.
+    private final String id;
+
+    /// The dense values.
+    private final float[] values;
+
+    /// The sparse indices.
+    private final int[] sparseIndices;
+
+    /// The sparse values.
+    private final float[] sparseValues;
+
+    /// The category, or null.
+    private final String category;
+
+    /// The serialized metadata other than the category.
+    private final byte[] metadata;
+
+    /// The constructor.
+    ///
+    /// @param  id              java.lang.String
+    /// @param  values          float[]
+    /// @param  sparseIndices   int[]
+    /// @param  sparseValues    float[]
+    /// @param  category        java.lang.String
+    /// @param  metadata        byte[]
+    public SnapshotVector(final String id,
+                          final float[] values,
+                          final int[] sparseIndices,
+                          final float[] sparseValues,
+                          final String category,
+                          final byte[] metadata) {
+        super();
+
+        this.id = id;
+        this.values = values != null ? values : NO_FLOATS;
+        this.sparseIndices = sparseIndices != null ? sparseIndices : NO_INTS;
+        this.sparseValues = sparseValues != null ? sparseValues : NO_FLOATS;
+        this.category = category;
+        this.metadata = metadata != null ? metadata : NO_BYTES;
+
+        if (this.sparseIndices.length != this.sparseValues.length) {
+            throw new IllegalArgumentException("Sparse indices and values differ in length for vector " + id);
+        }
+    }
+
+    /// Return the vector ID.
+    ///
+    /// @return java.lang.String
+    public String getId() {
+        return this.id;
+    }
+
+    /// Return the dense values.
+    ///
+    /// @return float[]
+    public float[] getValues() {
+        return this.values;
+    }
+
+    /// Return the sparse indices.
+    ///
+    /// @return int[]
+    public int[] getSparseIndices() {
+        return this.sparseIndices;
+    }
+
+    /// Return the sparse values.
+    ///
+    /// @return float[]
+    public float[] getSparseValues() {
+        return this.sparseValues;
+    }
+
+    /// Return the category, or null.
+    ///
+    /// @return java.lang.String
+    public String getCategory() {
+        return this.category;
+    }
+
+    /// Return the serialized metadata other than the category.
+    ///
+    /// @return byte[]
+    public byte[] getMetadata() {
+        return this.metadata;
+    }
+
+    /// Return the string representation.
+    ///
+    /// @return java.lang.String
+    @Override
+    public String toString() {
+        return this.id + " (" + this.values.length + " values, " + this.sparseIndices.length + " sparse values)";
+    }
+}
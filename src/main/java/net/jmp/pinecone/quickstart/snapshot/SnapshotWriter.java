@@ -0,0 +1,346 @@
+package net.jmp.pinecone.quickstart.snapshot;
+
+/*
+ * (#)SnapshotWriter.java   0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.io.IOException;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import java.nio.channels.FileChannel;
+
+import java.nio.charset.StandardCharsets;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import java.util.*;
+
+import java.util.zip.CRC32C;
+
+/// The snapshot writer class. Writes vectors to a snapshot
+/// file in blocks. Each block holds up to a fixed number of
+/// vectors laid out by column: the IDs, then the dense values
+/// of every vector in one run of floats, then the sparse
+/// lengths, indices and values, then the category ordinals,
+/// then the serialized metadata. Each block is framed by its
+/// length and its CRC-32C. Categories are dictionary-encoded;
+/// the dictionary is written after the last block, and a footer
+/// locates it and records the block and vector counts.
+///
+/// All values are little-endian so that the snapshot can be
+/// read in place from a memory-mapped file.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+public final class SnapshotWriter implements AutoCloseable {
+    /// The magic number.
+    static final int MAGIC = 0x534E4150;    // SNAP
+
+    /// The format version.
+    static final int FORMAT_VERSION = 1;
+
+    /// The size of a block frame: its length and checksum.
+    static final int FRAME_SIZE = 2 * Integer.BYTES;
+
+    /// The size of the footer.
+    static final int FOOTER_SIZE = Long.BYTES + Integer.BYTES + Long.BYTES + Integer.BYTES;
+
+    /// The ordinal of no category.
+    static final int NO_CATEGORY = -1;
+
+    /// The default number of vectors in a block.
+    public static final int DEFAULT_BLOCK_SIZE = 1024;
+
+    /// The file channel.
+    private final FileChannel channel;
+
+    /// The number of vectors in a block.
+    private final int blockSize;
+
+    /// The vectors waiting for the next block.
+    private final List<SnapshotVector> pending;
+
+    /// The category ordinals by category.
+    private final Map<String, Integer> categoryOrdinals = new LinkedHashMap<>();
+
+    /// The number of blocks written.
+    private int blockCount;
+
+    /// The number of vectors written.
+    private long vectorCount;
+
+    /// True when closed.
+    private boolean closed;
+
+    /// The constructor. Creates or replaces the file
+    /// and writes the header.
+    ///
+    /// @param  path        java.nio.file.Path
+    /// @param  indexName   java.lang.String
+    /// @param  namespace   java.lang.String
+    /// @param  blockSize   int
+    /// @throws             java.io.IOException
+    public SnapshotWriter(final Path path,
+                          final String indexName,
+                          final String namespace,
+                          final int blockSize) throws IOException {
+        super();
+
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("blockSize must be positive: " + blockSize);
+        }
+
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+
+        this.channel = FileChannel.open(path,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE);
+        this.blockSize = blockSize;
+        this.pending = new ArrayList<>(blockSize);
+
+        final byte[] indexNameBytes = utf8(indexName);
+        final byte[] namespaceBytes = utf8(namespace);
+        final ByteBuffer header = allocate(4 * Integer.BYTES + indexNameBytes.length + namespaceBytes.length);
+
+        header.putInt(MAGIC);
+        header.putInt(FORMAT_VERSION);
+        header.putInt(indexNameBytes.length).put(indexNameBytes);
+        header.putInt(namespaceBytes.length).put(namespaceBytes);
+
+        this.writeFully(header.flip());
+    }
+
+    /// Add a vector, writing a block when one is full.
+    ///
+    /// @param  vector  net.jmp.pinecone.quickstart.snapshot.SnapshotVector
+    /// @throws         java.io.IOException
+    public void write(final SnapshotVector vector) throws IOException {
+        if (this.closed) {
+            throw new IllegalStateException("Snapshot writer is closed");
+        }
+
+        this.pending.add(vector);
+
+        if (this.pending.size() == this.blockSize) {
+            this.writeBlock();
+        }
+    }
+
+    /// Return the number of vectors written.
+    ///
+    /// @return long
+    public long getVectorCount() {
+        return this.vectorCount + this.pending.size();
+    }
+
+    /// Write the last block, the category dictionary
+    /// and the footer, and close the file.
+    ///
+    /// @throws java.io.IOException
+    @Override
+    public void close() throws IOException {
+        if (this.closed) {
+            return;
+        }
+
+        this.closed = true;
+
+        try (this.channel) {
+            if (!this.pending.isEmpty()) {
+                this.writeBlock();
+            }
+
+            final long dictionaryOffset = this.channel.position();
+            final List<byte[]> categories = new ArrayList<>(this.categoryOrdinals.size());
+            int size = Integer.BYTES;
+
+            for (final String category : this.categoryOrdinals.keySet()) {
+                final byte[] bytes = utf8(category);
+
+                categories.add(bytes);
+
+                size += Integer.BYTES + bytes.length;
+            }
+
+            final ByteBuffer dictionary = allocate(size);
+
+            dictionary.putInt(categories.size());
+
+            for (final byte[] category : categories) {
+                dictionary.putInt(category.length).put(category);
+            }
+
+            this.writeFramed(dictionary);
+
+            final ByteBuffer footer = allocate(FOOTER_SIZE);
+
+            footer.putLong(dictionaryOffset);
+            footer.putInt(this.blockCount);
+            footer.putLong(this.vectorCount);
+            footer.putInt(MAGIC);
+
+            this.writeFully(footer.flip());
+        }
+    }
+
+    /// Encode the pending vectors as a block and write it.
+    ///
+    /// @throws java.io.IOException
+    private void writeBlock() throws IOException {
+        final int count = this.pending.size();
+        final int dimension = this.pending.getFirst().getValues().length;
+        final byte[][] ids = new byte[count][];
+        long size = 2L * Integer.BYTES;
+        int totalSparse = 0;
+
+        for (int i = 0; i < count; i++) {
+            final SnapshotVector vector = this.pending.get(i);
+
+            if (vector.getValues().length != dimension) {
+                throw new IOException("Vector " + vector.getId() + " has " + vector.getValues().length +
+                        " values but the block has " + dimension);
+            }
+
+            ids[i] = utf8(vector.getId());
+            totalSparse += vector.getSparseIndices().length;
+            size += Integer.BYTES + ids[i].length;                  // ID
+            size += (long) dimension * Float.BYTES;                 // Dense values
+            size += Integer.BYTES;                                  // Sparse length
+            size += Integer.BYTES;                                  // Category ordinal
+            size += Integer.BYTES + vector.getMetadata().length;    // Metadata
+        }
+
+        size += (long) totalSparse * (Integer.BYTES + Float.BYTES);
+
+        if (size > Integer.MAX_VALUE - FRAME_SIZE) {
+            throw new IOException("Snapshot block too large: " + size + " bytes");
+        }
+
+        final ByteBuffer block = allocate((int) size);
+
+        block.putInt(count);
+        block.putInt(dimension);
+
+        for (final byte[] id : ids) {
+            block.putInt(id.length).put(id);
+        }
+
+        for (final SnapshotVector vector : this.pending) {
+            block.asFloatBuffer().put(vector.getValues());
+            block.position(block.position() + dimension * Float.BYTES);
+        }
+
+        for (final SnapshotVector vector : this.pending) {
+            block.putInt(vector.getSparseIndices().length);
+        }
+
+        for (final SnapshotVector vector : this.pending) {
+            block.asIntBuffer().put(vector.getSparseIndices());
+            block.position(block.position() + vector.getSparseIndices().length * Integer.BYTES);
+        }
+
+        for (final SnapshotVector vector : this.pending) {
+            block.asFloatBuffer().put(vector.getSparseValues());
+            block.position(block.position() + vector.getSparseValues().length * Float.BYTES);
+        }
+
+        for (final SnapshotVector vector : this.pending) {
+            block.putInt(vector.getCategory() == null ? NO_CATEGORY : this.encode(vector.getCategory()));
+        }
+
+        for (final SnapshotVector vector : this.pending) {
+            block.putInt(vector.getMetadata().length).put(vector.getMetadata());
+        }
+
+        this.writeFramed(block);
+
+        this.blockCount++;
+        this.vectorCount += count;
+        this.pending.clear();
+    }
+
+    /// Write a filled buffer framed by its length and checksum.
+    ///
+    /// @param  payload java.nio.ByteBuffer
+    /// @throws         java.io.IOException
+    private void writeFramed(final ByteBuffer payload) throws IOException {
+        payload.flip();
+
+        final CRC32C crc = new CRC32C();
+
+        crc.update(payload.duplicate());
+
+        final ByteBuffer frame = allocate(FRAME_SIZE);
+
+        frame.putInt(payload.remaining());
+        frame.putInt((int) crc.getValue());
+
+        this.writeFully(frame.flip());
+        this.writeFully(payload);
+    }
+
+    /// Write all of a buffer.
+    ///
+    /// @param  buffer  java.nio.ByteBuffer
+    /// @throws         java.io.IOException
+    private void writeFully(final ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            this.channel.write(buffer);
+        }
+    }
+
+    /// Return the ordinal of a category, adding it if necessary.
+    ///
+    /// @param  category    java.lang.String
+    /// @return             int
+    private int encode(final String category) {
+        return this.categoryOrdinals.computeIfAbsent(category, key -> this.categoryOrdinals.size());
+    }
+
+    /// Allocate a little-endian buffer.
+    ///
+    /// @param  size    int
+    /// @return         java.nio.ByteBuffer
+    private static ByteBuffer allocate(final int size) {
+        return ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /// Encode a string, treating null as empty.
+    ///
+    /// @param  value   java.lang.String
+    /// @return         byte[]
+    private static byte[] utf8(final String value) {
+        return (value == null ? "" : value).getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,57 @@
+package net.jmp.pinecone.quickstart.snapshot;
+
+/*
+ * (#)Snapshots.java    0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/// The snapshots class. Names the snapshot file of
+/// each index and namespace under the snapshot directory.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+public final class Snapshots {
+    /// The snapshot file extension.
+    private static final String EXTENSION = ".snap";
+
+    /// The default constructor.
+    private Snapshots() {
+        super();
+    }
+
+    /// Return the path of the snapshot of an index namespace.
+    ///
+    /// @param  snapshotDir java.lang.String
+    /// @param  indexName   java.lang.String
+    /// @param  namespace   java.lang.String
+    /// @return             java.nio.file.Path
+    public static Path path(final String snapshotDir, final String indexName, final String namespace) {
+        return Paths.get(snapshotDir, indexName, namespace + EXTENSION);
+    }
+}
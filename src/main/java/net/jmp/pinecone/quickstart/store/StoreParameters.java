@@ -0,0 +1,121 @@
+package net.jmp.pinecone.quickstart.store;
+
+/*
+ * (#)StoreParameters.java  0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/// The store parameters class. Parsed from a string such
+/// as "batchSize=1000,writers=8". Parameters that are not
+/// given keep their default values. The documents are written
+/// in unordered bulk writes of batchSize documents, with up
+/// to writers bulk writes in flight at once.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+public final class StoreParameters {
+    /// The default number of documents in a bulk write.
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+
+    /// The default number of bulk writes in flight.
+    public static final int DEFAULT_WRITERS = 8;
+
+    /// The number of documents in a bulk write.
+    private final int batchSize;
+
+    /// The number of bulk writes in flight.
+    private final int writers;
+
+    /// The constructor.
+    ///
+    /// @param  batchSize   int
+    /// @param  writers     int
+    public StoreParameters(final int batchSize, final int writers) {
+        super();
+
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be positive: " + batchSize);
+        }
+
+        if (writers <= 0) {
+            throw new IllegalArgumentException("writers must be positive: " + writers);
+        }
+
+        this.batchSize = batchSize;
+        this.writers = writers;
+    }
+
+    /// Parse the parameters from a string.
+    ///
+    /// @param  parameters  java.lang.String
+    /// @return             net.jmp.pinecone.quickstart.store.StoreParameters
+    public static StoreParameters parse(final String parameters) {
+        int batchSize = DEFAULT_BATCH_SIZE;
+        int writers = DEFAULT_WRITERS;
+
+        if (parameters != null && !parameters.isBlank()) {
+            for (final String parameter : parameters.split(",")) {
+                final String[] pair = parameter.split("=", 2);
+
+                if (pair.length != 2) {
+                    throw new IllegalArgumentException("Expected name=value: " + parameter);
+                }
+
+                final String value = pair[1].trim();
+
+                switch (pair[0].trim()) {
+                    case "batchSize" -> batchSize = Integer.parseInt(value);
+                    case "writers" -> writers = Integer.parseInt(value);
+                    default -> throw new IllegalArgumentException("Unknown store parameter: " + pair[0]);
+                }
+            }
+        }
+
+        return new StoreParameters(batchSize, writers);
+    }
+
+    /// Return the number of documents in a bulk write.
+    ///
+    /// @return int
+    public int getBatchSize() {
+        return this.batchSize;
+    }
+
+    /// Return the number of bulk writes in flight.
+    ///
+    /// @return int
+    public int getWriters() {
+        return this.writers;
+    }
+
+    /// Return the string representation.
+    ///
+    /// @return java.lang.String
+    @Override
+    public String toString() {
+        return "batchSize=" + this.batchSize + ",writers=" + this.writers;
+    }
+}
@@ -1,6 +1,7 @@
 package net.jmp.pinecone.quickstart.store;
 
 /*
+ * (#)StoreUnstructuredText.java    0.9.0   10/18/2026
  * (#)StoreUnstructuredText.java    0.3.0   05/26/2025
  * (#)StoreUnstructuredText.java    0.2.0   05/24/2025
  *
@@ -33,19 +34,47 @@ import com.mongodb.MongoBulkWriteException;
 
 import com.mongodb.MongoException;
 
+import com.mongodb.bulk.BulkWriteResult;
+
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoDatabase;
 
-import com.mongodb.client.result.DeleteResult;
-import com.mongodb.client.result.InsertManyResult;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.WriteModel;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import java.nio.file.Path;
 
 import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import java.util.concurrent.atomic.LongAdder;
 
 import net.jmp.pinecone.quickstart.Operation;
 
-import net.jmp.pinecone.quickstart.text.UnstructuredText;
+import net.jmp.pinecone.quickstart.corenlp.KeywordExtractor;
+import net.jmp.pinecone.quickstart.corenlp.KeywordParameters;
+import net.jmp.pinecone.quickstart.corenlp.Keywords;
+
+import net.jmp.pinecone.quickstart.mongo.MongoIndexes;
+
+import net.jmp.pinecone.quickstart.text.Corpora;
+import net.jmp.pinecone.quickstart.text.Corpus;
+import net.jmp.pinecone.quickstart.text.TextFileReader;
 
 import static net.jmp.util.logging.LoggerUtils.*;
 
@@ -54,14 +83,35 @@ import org.bson.Document;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-/// The store unstructured text class.
+/// The store unstructured text class. Stores the corpus, or
+/// the records of a text file, in the collection and their
+/// categories in the categories collection, after ensuring
+/// the indexes of both. Documents are upserted on their id,
+/// so storing again replaces them instead of deleting the
+/// collection first. A file is read as a stream and written
+/// in unordered bulk writes, several in flight at once, while
+/// the categories are gathered from the records as they are
+/// read. The keywords of each batch are extracted in parallel
+/// before it is written and are stored with its documents.
 ///
-/// @version    0.3.0
+/// @version    0.9.0
 /// @since      0.2.0
 public final class StoreUnstructuredText extends Operation {
+    /// The interval between progress reports in nanoseconds.
+    private static final long REPORT_INTERVAL = TimeUnit.SECONDS.toNanos(5);
+
     /// The logger.
     private final Logger logger = LoggerFactory.getLogger(this.getClass().getName());
 
+    /// The file to store, or empty to store the unstructured text.
+    private final String storeFile;
+
+    /// The store parameters.
+    private final StoreParameters storeParameters;
+
+    /// The keyword parameters.
+    private final KeywordParameters keywordParameters;
+
     /// The constructor.
     ///
     /// @param  builder net.jmp.pinecone.quickstart.store.StoreUnstructuredText.Builder
@@ -71,6 +121,10 @@ public final class StoreUnstructuredText extends Operation {
                 .collectionName(builder.collectionName)
                 .mongoClient(builder.mongoClient)
         );
+
+        this.storeFile = builder.storeFile;
+        this.storeParameters = StoreParameters.parse(builder.storeParameters);
+        this.keywordParameters = KeywordParameters.parse(builder.keywordParameters);
     }
 
     /// Return the builder.
@@ -89,73 +143,242 @@ public final class StoreUnstructuredText extends Operation {
 
         final MongoDatabase database = this.mongoClient.getDatabase(this.dbName);
         final MongoCollection<Document> quickstartCollection = database.getCollection(this.collectionName);
-        final MongoCollection<Document> categoriesCollection = database.getCollection("categories");
+        final MongoCollection<Document> categoriesCollection = database.getCollection(MongoIndexes.CATEGORIES_COLLECTION);
 
-        this.deleteDocuments(database, quickstartCollection);
-        this.deleteDocuments(database, categoriesCollection);
+        MongoIndexes.ensureIndexes(database, this.collectionName);
 
-        this.loadQuickstart(database, quickstartCollection);
-        this.loadCategories(database, categoriesCollection);
+        final Set<String> categories = new LinkedHashSet<>();
+
+        this.logger.info("Extracting keywords with {}", this.keywordParameters);
+
+        try (final KeywordExtractor extractor = new KeywordExtractor(this.keywordParameters)) {
+            if (this.storeFile == null || this.storeFile.isBlank()) {
+                this.storeDocuments(quickstartCollection, this.corpusDocuments(), categories, extractor);
+            } else {
+                final Path path = Path.of(this.storeFile);
+
+                this.logger.info("Storing {} with {}", path, this.storeParameters);
+
+                try (final TextFileReader reader = TextFileReader.open(path)) {
+                    this.storeDocuments(quickstartCollection, reader, categories, extractor);
+
+                    this.logger.info("{} line(s) were read and {} record(s) were skipped", reader.getLineNumber(), reader.getSkipped());
+                } catch (final IOException | UncheckedIOException e) {
+                    this.logger.error(catching(e));
+                }
+            }
+        }
+
+        this.storeCategories(categoriesCollection, categories);
 
         if (this.logger.isTraceEnabled()) {
             this.logger.trace(exit());
         }
     }
 
-    /// Delete documents.
+    /// Return the records of the corpus as documents.
+    ///
+    /// @return java.util.Iterator<org.bson.Document>
+    private Iterator<Document> corpusDocuments() {
+        final Corpus corpus = Corpora.get();
+        final List<Document> documents = new ArrayList<>(corpus.size());
+
+        for (int i = 0; i < corpus.size(); i++) {
+            documents.add(new Document("id", corpus.getId(i))
+                    .append("content", corpus.getContent(i))
+                    .append("category", corpus.getCategory(i)));
+        }
+
+        return documents.iterator();
+    }
+
+    /// Store documents. The documents are read on the calling
+    /// thread into batches, and each batch is upserted in an
+    /// unordered bulk write on its own virtual thread, with no
+    /// more than the writers parameter in flight. The category
+    /// of each document is added to the categories.
     ///
-    /// @param  database io.mongodb.client.MongoDatabase
-    /// @param  collection io.mongodb.client.MongoCollection<org.bson.Document>
-    private void deleteDocuments(final MongoDatabase database, final MongoCollection<Document> collection) {
+    /// @param  collection  io.mongodb.client.MongoCollection<org.bson.Document>
+    /// @param  documents   java.util.Iterator<org.bson.Document>
+    /// @param  categories  java.util.Set<java.lang.String>
+    /// @param  extractor   net.jmp.pinecone.quickstart.corenlp.KeywordExtractor
+    private void storeDocuments(final MongoCollection<Document> collection,
+                                final Iterator<Document> documents,
+                                final Set<String> categories,
+                                final KeywordExtractor extractor) {
         if (this.logger.isTraceEnabled()) {
-            this.logger.trace(entryWith(database, collection));
+            this.logger.trace(entryWith(collection, documents, categories, extractor));
         }
 
-        /* An empty document as a filter will delete all documents */
+        final int batchSize = this.storeParameters.getBatchSize();
+        final Semaphore window = new Semaphore(this.storeParameters.getWriters());
+        final Counts counts = new Counts();
+        final long start = System.nanoTime();
 
-        try {
-            final DeleteResult result = collection.deleteMany(new Document());
+        long lastReport = start;
+        long read = 0;
 
-            this.logger.info("{} document(s) were deleted from {}", result.getDeletedCount(), collection.getNamespace().getCollectionName());
-        } catch (final MongoException me) {
-            this.logger.error(catching(me));
+        try (final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Document> batch = new ArrayList<>(batchSize);
+
+            while (documents.hasNext()) {
+                final Document document = documents.next();
+                final String category = document.getString("category");
+
+                if (category != null) {
+                    categories.add(category);
+                }
+
+                batch.add(document);
+                read++;
+
+                if (batch.size() == batchSize) {
+                    this.submit(executor, window, collection, batch, counts, extractor);
+
+                    batch = new ArrayList<>(batchSize);
+                }
+
+                final long now = System.nanoTime();
+
+                if (now - lastReport >= REPORT_INTERVAL) {
+                    this.logger.info("Read {} document(s), written {}", read, counts.written());
+
+                    lastReport = now;
+                }
+            }
+
+            if (!batch.isEmpty()) {
+                this.submit(executor, window, collection, batch, counts, extractor);
+            }
+        } catch (final InterruptedException ie) {
+            this.logger.error(catching(ie));
+
+            Thread.currentThread().interrupt();
         }
 
+        final long elapsed = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+
+        this.logger.info("{} document(s) were written to {} in {} ms ({} per second)",
+                counts.written(),
+                collection.getNamespace().getCollectionName(),
+                elapsed,
+                counts.written() * 1000 / elapsed);
+        this.logger.info("Inserted: {}, replaced: {}, unchanged: {}, failed: {}",
+                counts.upserted.sum(),
+                counts.modified.sum(),
+                counts.unchanged.sum(),
+                counts.failed.sum());
+
         if (this.logger.isTraceEnabled()) {
             this.logger.trace(exit());
         }
     }
 
-    /// Load the Quickstart documents.
+    /// Submit a bulk write, waiting for room in the window.
+    /// The keywords of the batch are extracted before it is
+    /// written, so the extraction of one batch overlaps the
+    /// writes of the others.
     ///
-    /// @param  database io.mongodb.client.MongoDatabase
-    /// @param  collection io.mongodb.client.MongoCollection<org.bson.Document>
-    private void loadQuickstart(final MongoDatabase database, final MongoCollection<Document> collection) {
-        if (this.logger.isTraceEnabled()) {
-            this.logger.trace(entryWith(database, collection));
+    /// @param  executor    java.util.concurrent.ExecutorService
+    /// @param  window      java.util.concurrent.Semaphore
+    /// @param  collection  io.mongodb.client.MongoCollection<org.bson.Document>
+    /// @param  batch       java.util.List<org.bson.Document>
+    /// @param  counts      net.jmp.pinecone.quickstart.store.StoreUnstructuredText.Counts
+    /// @param  extractor   net.jmp.pinecone.quickstart.corenlp.KeywordExtractor
+    /// @throws             java.lang.InterruptedException
+    private void submit(final ExecutorService executor,
+                        final Semaphore window,
+                        final MongoCollection<Document> collection,
+                        final List<Document> batch,
+                        final Counts counts,
+                        final KeywordExtractor extractor) throws InterruptedException {
+        window.acquire();
+
+        executor.execute(() -> {
+            try {
+                counts.add(this.bulkWrite(collection, this.upserts(batch, extractor)), batch.size());
+            } finally {
+                window.release();
+            }
+        });
+    }
+
+    /// Return the upserts of a batch of documents, adding the
+    /// keywords of each document, and their lemmas when they
+    /// are extracted, to it.
+    ///
+    /// @param  batch       java.util.List<org.bson.Document>
+    /// @param  extractor   net.jmp.pinecone.quickstart.corenlp.KeywordExtractor
+    /// @return             java.util.List<com.mongodb.client.model.WriteModel<org.bson.Document>>
+    private List<WriteModel<Document>> upserts(final List<Document> batch, final KeywordExtractor extractor) {
+        if (extractor.isEnabled()) {
+            final List<String> texts = new ArrayList<>(batch.size());
+
+            for (final Document document : batch) {
+                texts.add(document.getString("content"));
+            }
+
+            final List<Keywords> keywords = extractor.extractAll(texts);
+
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).append("keywords", keywords.get(i).getWords());
+
+                if (this.keywordParameters.isLemmas()) {
+                    batch.get(i).append("lemmas", keywords.get(i).getLemmas());
+                }
+            }
         }
 
-        final List<Document> documents = new ArrayList<>();
-        final UnstructuredText unstructuredText = new UnstructuredText();
+        final List<WriteModel<Document>> upserts = new ArrayList<>(batch.size());
 
-        unstructuredText.getTextMap().forEach((key, value) -> {
-            final Document document = new Document("id", key).append("content", value.getContent()).append("category", value.getCategory());
+        for (final Document document : batch) {
+            upserts.add(upsertOn("id", document));
+        }
 
-            documents.add(document);
-        });
+        return upserts;
+    }
 
+    /// Run an unordered bulk write. When some of the writes
+    /// fail, the others are still applied and are counted.
+    ///
+    /// @param  collection  io.mongodb.client.MongoCollection<org.bson.Document>
+    /// @param  batch       java.util.List<com.mongodb.client.model.WriteModel<org.bson.Document>>
+    /// @return             com.mongodb.bulk.BulkWriteResult
+    private BulkWriteResult bulkWrite(final MongoCollection<Document> collection, final List<WriteModel<Document>> batch) {
         try {
-            final InsertManyResult result = collection.insertMany(documents);
+            return collection.bulkWrite(batch, new BulkWriteOptions().ordered(false));
+        } catch (final MongoBulkWriteException mbwe) {
+            this.logger.error("{} of {} write(s) failed: {}", mbwe.getWriteErrors().size(), batch.size(), mbwe.getWriteErrors().getFirst().getMessage());
 
-            result.getInsertedIds().values()
-                    .forEach(id -> this.logger.debug("Inserted document: {}", id.asObjectId().getValue()));
+            return mbwe.getWriteResult();
+        } catch (final MongoException me) {
+            this.logger.error(catching(me));
 
-            this.logger.info("{} document(s) were inserted into {}", result.getInsertedIds().size(), collection.getNamespace().getCollectionName());
-        } catch (final MongoBulkWriteException mbwe) {
-            this.logger.error(catching(mbwe));
+            return null;
+        }
+    }
 
-            mbwe.getWriteResult().getInserts()
-                    .forEach(doc -> this.logger.info("Inserted document: {}", doc.getId().asObjectId().getValue()));
+    /// Store the categories.
+    ///
+    /// @param  collection  io.mongodb.client.MongoCollection<org.bson.Document>
+    /// @param  categories  java.util.Set<java.lang.String>
+    private void storeCategories(final MongoCollection<Document> collection, final Set<String> categories) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entryWith(collection, categories));
+        }
+
+        if (!categories.isEmpty()) {
+            final List<WriteModel<Document>> batch = new ArrayList<>(categories.size());
+
+            for (final String category : categories) {
+                batch.add(upsertOn("category", new Document("category", category)));
+            }
+
+            final BulkWriteResult result = this.bulkWrite(collection, batch);
+
+            if (result != null) {
+                this.logger.info("{} categories were upserted into {}", result.getUpserts().size(), collection.getNamespace().getCollectionName());
+            }
         }
 
         if (this.logger.isTraceEnabled()) {
@@ -163,38 +386,59 @@ public final class StoreUnstructuredText extends Operation {
         }
     }
 
-    /// Load categories.
+    /// Return a write that replaces the document with the
+    /// same value of a field, inserting it if there is none.
     ///
-    /// @param  database io.mongodb.client.MongoDatabase
-    /// @param  collection io.mongodb.client.MongoCollection<org.bson.Document>
-    private void loadCategories(final MongoDatabase database, final MongoCollection<Document> collection) {
-        if (this.logger.isTraceEnabled()) {
-            this.logger.trace(entryWith(database, collection));
-        }
+    /// @param  field       java.lang.String
+    /// @param  document    org.bson.Document
+    /// @return             com.mongodb.client.model.WriteModel<org.bson.Document>
+    private static WriteModel<Document> upsertOn(final String field, final Document document) {
+        return new ReplaceOneModel<>(Filters.eq(field, document.get(field)), document, new ReplaceOptions().upsert(true));
+    }
 
-        final List<Document> documents = new ArrayList<>();
-        final UnstructuredText unstructuredText = new UnstructuredText();
+    /// The counts of the documents written.
+    private static final class Counts {
+        /// The number of documents inserted.
+        private final LongAdder upserted = new LongAdder();
 
-        unstructuredText.getCategories().forEach((value) -> {
-            documents.add(new Document("category", value));
-        });
+        /// The number of documents replaced.
+        private final LongAdder modified = new LongAdder();
 
-        try {
-            final InsertManyResult result = collection.insertMany(documents);
+        /// The number of documents that matched but were unchanged.
+        private final LongAdder unchanged = new LongAdder();
 
-            result.getInsertedIds().values()
-                    .forEach(id -> this.logger.debug("Inserted category: {}", id.asObjectId().getValue()));
+        /// The number of documents that failed.
+        private final LongAdder failed = new LongAdder();
 
-            this.logger.info("{} categories were inserted into {}", result.getInsertedIds().size(), collection.getNamespace().getCollectionName());
-        } catch (final MongoBulkWriteException mbwe) {
-            this.logger.error(catching(mbwe));
+        /// The default constructor.
+        private Counts() {
+            super();
+        }
 
-            mbwe.getWriteResult().getInserts()
-                    .forEach(doc -> this.logger.info("Inserted category: {}", doc.getId().asObjectId().getValue()));
+        /// Add the result of a bulk write.
+        ///
+        /// @param  result  com.mongodb.bulk.BulkWriteResult
+        /// @param  size    int
+        private void add(final BulkWriteResult result, final int size) {
+            if (result == null) {
+                this.failed.add(size);
+            } else {
+                final int upserts = result.getUpserts().size();
+                final int matched = result.getMatchedCount();
+                final int modifiedCount = result.getModifiedCount();
+
+                this.upserted.add(upserts);
+                this.modified.add(modifiedCount);
+                this.unchanged.add(matched - modifiedCount);
+                this.failed.add(size - upserts - matched);
+            }
         }
 
-        if (this.logger.isTraceEnabled()) {
-            this.logger.trace(exit());
+        /// Return the number of documents written.
+        ///
+        /// @return long
+        private long written() {
+            return this.upserted.sum() + this.modified.sum() + this.unchanged.sum();
         }
     }
 
@@ -209,6 +453,15 @@ public final class StoreUnstructuredText extends Operation {
         /// The database name.
         private String dbName;
 
+        /// The store file.
+        private String storeFile;
+
+        /// The store parameters.
+        private String storeParameters;
+
+        /// The keyword parameters.
+        private String keywordParameters;
+
         /// The default constructor.
         public Builder() {
             super();
@@ -244,6 +497,36 @@ public final class StoreUnstructuredText extends Operation {
             return this;
         }
 
+        /// Set the store file.
+        ///
+        /// @param  storeFile   java.lang.String
+        /// @return             net.jmp.pinecone.quickstart.store.StoreUnstructuredText.Builder
+        public Builder storeFile(final String storeFile) {
+            this.storeFile = storeFile;
+
+            return this;
+        }
+
+        /// Set the store parameters.
+        ///
+        /// @param  storeParameters java.lang.String
+        /// @return                 net.jmp.pinecone.quickstart.store.StoreUnstructuredText.Builder
+        public Builder storeParameters(final String storeParameters) {
+            this.storeParameters = storeParameters;
+
+            return this;
+        }
+
+        /// Set the keyword parameters.
+        ///
+        /// @param  keywordParameters   java.lang.String
+        /// @return                     net.jmp.pinecone.quickstart.store.StoreUnstructuredText.Builder
+        public Builder keywordParameters(final String keywordParameters) {
+            this.keywordParameters = keywordParameters;
+
+            return this;
+        }
+
         /// Build the object.
         ///
         /// @return net.jmp.pinecone.quickstart.StoreUnstructuredText
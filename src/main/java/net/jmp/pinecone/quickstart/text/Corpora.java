@@ -0,0 +1,99 @@
+package net.jmp.pinecone.quickstart.text;
+
+/*
+ * (#)Corpora.java  0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import static net.jmp.util.logging.LoggerUtils.*;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/// The corpora class. Holds the one corpus of the process.
+/// It is loaded from its source the first time it is asked
+/// for and then shared by every operation. The source is
+/// the unstructured text class unless another is configured
+/// before the corpus is first loaded.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+public final class Corpora {
+    /// The logger.
+    private static final Logger logger = LoggerFactory.getLogger(Corpora.class.getName());
+
+    /// The corpus source.
+    private static CorpusSource source = new InCodeCorpusSource();
+
+    /// The corpus, or null until it is loaded.
+    private static volatile Corpus corpus;
+
+    /// The default constructor.
+    private Corpora() {
+        super();
+    }
+
+    /// Configure the corpus source. A corpus already loaded
+    /// is dropped and is loaded again from the new source.
+    ///
+    /// @param  corpusSource    net.jmp.pinecone.quickstart.text.CorpusSource
+    public static synchronized void configure(final CorpusSource corpusSource) {
+        if (logger.isTraceEnabled()) {
+            logger.trace(entryWith(corpusSource));
+        }
+
+        source = corpusSource;
+        corpus = null;
+
+        if (logger.isTraceEnabled()) {
+            logger.trace(exit());
+        }
+    }
+
+    /// Return the corpus, loading it if this is the first use.
+    ///
+    /// @return net.jmp.pinecone.quickstart.text.Corpus
+    public static Corpus get() {
+        Corpus result = corpus;
+
+        if (result == null) {
+            synchronized (Corpora.class) {
+                result = corpus;
+
+                if (result == null) {
+                    final long start = System.nanoTime();
+
+                    result = source.load();
+                    corpus = result;
+
+                    logger.info("Loaded {} from {} in {} ms", result, source, (System.nanoTime() - start) / 1_000_000);
+                }
+            }
+        }
+
+        return result;
+    }
+}
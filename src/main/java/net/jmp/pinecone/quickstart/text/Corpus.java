@@ -0,0 +1,233 @@
+package net.jmp.pinecone.quickstart.text;
+
+/*
+ * (#)Corpus.java   0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/// The corpus class. An immutable set of records, each with
+/// an id, a content and a category, in the order they were
+/// added. The contents are held as UTF-8 in an off-heap
+/// arena and read back as zero-copy views. Each distinct
+/// category is held once and the records refer to it by a
+/// short ordinal. Ids such as rec123 are kept as their
+/// numbers, so the heap holds a few ints per record rather
+/// than a string and a map entry. The ids are expected to
+/// be unique.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+public final class Corpus {
+    /// The ordinal of a record with no category.
+    private static final short NO_CATEGORY = -1;
+
+    /// The record ids.
+    private final DocumentIds ids;
+
+    /// The record contents.
+    private final Utf8Arena contents;
+
+    /// The category ordinal of each record.
+    private final short[] categoryOrdinals;
+
+    /// The distinct categories.
+    private final List<String> categories;
+
+    /// The constructor.
+    ///
+    /// @param  builder net.jmp.pinecone.quickstart.text.Corpus.Builder
+    private Corpus(final Builder builder) {
+        super();
+
+        builder.ids.seal();
+        builder.contents.trim();
+
+        this.ids = builder.ids;
+        this.contents = builder.contents;
+        this.categoryOrdinals = Arrays.copyOf(builder.categoryOrdinals, builder.ids.size());
+        this.categories = Collections.unmodifiableList(new ArrayList<>(builder.categories));
+    }
+
+    /// Return an instance of the builder class.
+    ///
+    /// @return net.jmp.pinecone.quickstart.text.Corpus.Builder
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /// Return the number of records.
+    ///
+    /// @return int
+    public int size() {
+        return this.ids.size();
+    }
+
+    /// Return the id of a record.
+    ///
+    /// @param  ordinal int
+    /// @return         java.lang.String
+    public String getId(final int ordinal) {
+        return this.ids.get(ordinal);
+    }
+
+    /// Return the content of a record.
+    ///
+    /// @param  ordinal int
+    /// @return         java.lang.String
+    public String getContent(final int ordinal) {
+        return this.contents.get(ordinal);
+    }
+
+    /// Return a zero-copy view of the content of a record.
+    ///
+    /// @param  ordinal int
+    /// @return         java.lang.CharSequence
+    public CharSequence getContentView(final int ordinal) {
+        return this.contents.view(ordinal);
+    }
+
+    /// Return the category of a record, or null if it has none.
+    ///
+    /// @param  ordinal int
+    /// @return         java.lang.String
+    public String getCategory(final int ordinal) {
+        final short categoryOrdinal = this.categoryOrdinals[ordinal];
+
+        return categoryOrdinal == NO_CATEGORY ? null : this.categories.get(categoryOrdinal);
+    }
+
+    /// Return the distinct categories in the order they
+    /// were first added.
+    ///
+    /// @return java.util.List<java.lang.String>
+    public List<String> getCategories() {
+        return this.categories;
+    }
+
+    /// Return the ordinal of the record with an id, or
+    /// a negative number if there is none.
+    ///
+    /// @param  id  java.lang.String
+    /// @return     int
+    public int indexOf(final String id) {
+        return this.ids.indexOf(id);
+    }
+
+    /// Return the content of the record with an id.
+    ///
+    /// @param  id  java.lang.String
+    /// @return     java.util.Optional<java.lang.String>
+    public Optional<String> getContent(final String id) {
+        final int ordinal = this.indexOf(id);
+
+        return ordinal < 0 ? Optional.empty() : Optional.of(this.contents.get(ordinal));
+    }
+
+    /// Return the number of bytes held off the heap.
+    ///
+    /// @return long
+    public long getOffHeapBytes() {
+        return this.contents.byteSize() + this.ids.offHeapBytes();
+    }
+
+    /// Return the string representation.
+    ///
+    /// @return java.lang.String
+    @Override
+    public String toString() {
+        return "Corpus{size=" + this.size()
+                + ", categories=" + this.categories.size()
+                + ", offHeapBytes=" + this.getOffHeapBytes() + "}";
+    }
+
+    /// The builder class.
+    public static class Builder {
+        /// The record ids.
+        private final DocumentIds ids = new DocumentIds();
+
+        /// The record contents.
+        private final Utf8Arena contents = new Utf8Arena();
+
+        /// The category ordinal of each record.
+        private short[] categoryOrdinals = new short[64];
+
+        /// The distinct categories.
+        private final List<String> categories = new ArrayList<>();
+
+        /// The ordinal of each distinct category.
+        private final Map<String, Short> categoryIndex = new HashMap<>();
+
+        /// The default constructor.
+        private Builder() {
+            super();
+        }
+
+        /// Add a record.
+        ///
+        /// @param  id          java.lang.String
+        /// @param  content     java.lang.String
+        /// @param  category    java.lang.String
+        /// @return             net.jmp.pinecone.quickstart.text.Corpus.Builder
+        /// @throws             java.lang.IllegalStateException When there are too many categories
+        public Builder add(final String id, final String content, final String category) {
+            final int size = this.ids.size();
+
+            if (size == this.categoryOrdinals.length) {
+                this.categoryOrdinals = Arrays.copyOf(this.categoryOrdinals, size * 2);
+            }
+
+            this.categoryOrdinals[size] = category == null ? NO_CATEGORY : this.categoryIndex.computeIfAbsent(category, key -> {
+                if (this.categories.size() == Short.MAX_VALUE) {
+                    throw new IllegalStateException("A corpus cannot hold more than " + Short.MAX_VALUE + " categories");
+                }
+
+                this.categories.add(key);
+
+                return (short) (this.categories.size() - 1);
+            });
+
+            this.ids.add(id);
+            this.contents.add(content);
+
+            return this;
+        }
+
+        /// Build the object. The builder is not used after this.
+        ///
+        /// @return net.jmp.pinecone.quickstart.text.Corpus
+        public Corpus build() {
+            return new Corpus(this);
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package net.jmp.pinecone.quickstart.text;
+
+/*
+ * (#)DocumentIds.java  0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.nio.charset.StandardCharsets;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+import java.util.stream.IntStream;
+
+/// The document ids class. Maps document ids to the dense
+/// ordinals of their records and back. While every id is a
+/// common prefix followed by a number, such as rec123, only
+/// the numbers are kept, in an int array, and an id is found
+/// by a binary search over the numbers. The first id that
+/// does not fit moves all of them to a UTF-8 arena, where an
+/// id is found by a binary search over the ordinals sorted
+/// by id.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+final class DocumentIds {
+    /// The common prefix, or null until the first id is added.
+    private String prefix;
+
+    /// The number of each id while they are all numbered.
+    private int[] numbers = new int[64];
+
+    /// The ids once they are not all numbered.
+    private Utf8Arena arena;
+
+    /// The number of ids.
+    private int size;
+
+    /// The sorted numbers while the ids are all numbered.
+    private int[] sortedKeys;
+
+    /// The ordinals in the order of their ids.
+    private int[] sortedOrdinals;
+
+    /// The default constructor.
+    DocumentIds() {
+        super();
+    }
+
+    /// Add an id. Its ordinal is the number of ids before it.
+    ///
+    /// @param  id  java.lang.String
+    void add(final String id) {
+        if (this.arena == null) {
+            if (this.prefix == null) {
+                this.prefix = prefixOf(id);
+            }
+
+            final int number = numberOf(id, this.prefix);
+
+            if (number >= 0) {
+                if (this.size == this.numbers.length) {
+                    this.numbers = Arrays.copyOf(this.numbers, this.size * 2);
+                }
+
+                this.numbers[this.size++] = number;
+
+                return;
+            }
+
+            this.arena = new Utf8Arena();
+
+            for (int i = 0; i < this.size; i++) {
+                this.arena.add(this.prefix + this.numbers[i]);
+            }
+
+            this.numbers = null;
+        }
+
+        this.arena.add(id);
+        this.size++;
+    }
+
+    /// Sort the ids for lookups. No ids are added after this.
+    void seal() {
+        if (this.arena == null) {
+            final long[] packed = new long[this.size];
+
+            for (int i = 0; i < this.size; i++) {
+                packed[i] = ((long) this.numbers[i] << 32) | i;
+            }
+
+            Arrays.sort(packed);
+
+            this.numbers = Arrays.copyOf(this.numbers, this.size);
+            this.sortedKeys = new int[this.size];
+            this.sortedOrdinals = new int[this.size];
+
+            for (int i = 0; i < this.size; i++) {
+                this.sortedKeys[i] = (int) (packed[i] >>> 32);
+                this.sortedOrdinals[i] = (int) packed[i];
+            }
+        } else {
+            this.arena.trim();
+            this.sortedOrdinals = IntStream.range(0, this.size)
+                    .boxed()
+                    .sorted(Comparator.comparing(ordinal -> ordinal, this.arena::compare))
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+        }
+    }
+
+    /// Return the number of ids.
+    ///
+    /// @return int
+    int size() {
+        return this.size;
+    }
+
+    /// Return the id of an ordinal.
+    ///
+    /// @param  ordinal int
+    /// @return         java.lang.String
+    String get(final int ordinal) {
+        if (this.arena == null) {
+            return this.prefix + this.numbers[ordinal];
+        }
+
+        return this.arena.get(ordinal);
+    }
+
+    /// Return the ordinal of an id, or a negative
+    /// number if there is none.
+    ///
+    /// @param  id  java.lang.String
+    /// @return     int
+    int indexOf(final String id) {
+        if (this.arena == null) {
+            final int number = this.prefix == null ? -1 : numberOf(id, this.prefix);
+
+            if (number < 0) {
+                return -1;
+            }
+
+            final int position = Arrays.binarySearch(this.sortedKeys, number);
+
+            return position < 0 ? -1 : this.sortedOrdinals[position];
+        }
+
+        final byte[] key = id.getBytes(StandardCharsets.UTF_8);
+
+        int low = 0;
+        int high = this.size - 1;
+
+        while (low <= high) {
+            final int middle = (low + high) >>> 1;
+            final int ordinal = this.sortedOrdinals[middle];
+            final int comparison = this.arena.compare(ordinal, key);
+
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return ordinal;
+            }
+        }
+
+        return -1;
+    }
+
+    /// Return the bytes held off the heap.
+    ///
+    /// @return long
+    long offHeapBytes() {
+        return this.arena == null ? 0 : this.arena.byteSize();
+    }
+
+    /// Return the prefix of an id: everything before its
+    /// trailing digits.
+    ///
+    /// @param  id  java.lang.String
+    /// @return     java.lang.String
+    private static String prefixOf(final String id) {
+        int end = id.length();
+
+        while (end > 0 && id.charAt(end - 1) >= '0' && id.charAt(end - 1) <= '9') {
+            end--;
+        }
+
+        return id.substring(0, end);
+    }
+
+    /// Return the number of an id that is the prefix followed
+    /// by a number written without leading zeros, or -1 if it
+    /// is not.
+    ///
+    /// @param  id      java.lang.String
+    /// @param  prefix  java.lang.String
+    /// @return         int
+    private static int numberOf(final String id, final String prefix) {
+        final int start = prefix.length();
+        final int length = id.length() - start;
+
+        if (!id.startsWith(prefix) || length < 1 || length > 9 || (length > 1 && id.charAt(start) == '0')) {
+            return -1;
+        }
+
+        int number = 0;
+
+        for (int i = start; i < id.length(); i++) {
+            final char c = id.charAt(i);
+
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+
+            number = number * 10 + (c - '0');
+        }
+
+        return number;
+    }
+}
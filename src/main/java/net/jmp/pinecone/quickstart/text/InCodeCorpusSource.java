@@ -0,0 +1,65 @@
+package net.jmp.pinecone.quickstart.text;
+
+/*
+ * (#)InCodeCorpusSource.java   0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.Map;
+
+/// The in-code corpus source class. Loads the records of
+/// the unstructured text class.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+public final class InCodeCorpusSource implements CorpusSource {
+    /// The default constructor.
+    public InCodeCorpusSource() {
+        super();
+    }
+
+    /// Load the corpus.
+    ///
+    /// @return net.jmp.pinecone.quickstart.text.Corpus
+    @Override
+    public Corpus load() {
+        final Corpus.Builder builder = Corpus.builder();
+
+        for (final Map.Entry<String, UnstructuredText.Text> entry : new UnstructuredText().getTextMap().entrySet()) {
+            builder.add(entry.getKey(), entry.getValue().getContent(), entry.getValue().getCategory());
+        }
+
+        return builder.build();
+    }
+
+    /// Return the string representation.
+    ///
+    /// @return java.lang.String
+    @Override
+    public String toString() {
+        return "code";
+    }
+}
@@ -0,0 +1,102 @@
+package net.jmp.pinecone.quickstart.text;
+
+/*
+ * (#)MongoCorpusSource.java    0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.Sorts;
+
+import java.util.function.Supplier;
+
+import org.bson.Document;
+
+/// The MongoDB corpus source class. Loads the records of
+/// the text collection, read in the order of their ids.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+public final class MongoCorpusSource implements CorpusSource {
+    /// The supplier of the mongo client, called when the corpus is loaded.
+    private final Supplier<MongoClient> mongoClient;
+
+    /// The database name.
+    private final String dbName;
+
+    /// The collection name.
+    private final String collectionName;
+
+    /// The constructor.
+    ///
+    /// @param  mongoClient     java.util.function.Supplier<com.mongodb.client.MongoClient>
+    /// @param  dbName          java.lang.String
+    /// @param  collectionName  java.lang.String
+    public MongoCorpusSource(final Supplier<MongoClient> mongoClient, final String dbName, final String collectionName) {
+        super();
+
+        this.mongoClient = mongoClient;
+        this.dbName = dbName;
+        this.collectionName = collectionName;
+    }
+
+    /// Load the corpus.
+    ///
+    /// @return net.jmp.pinecone.quickstart.text.Corpus
+    @Override
+    public Corpus load() {
+        final Corpus.Builder builder = Corpus.builder();
+        final MongoCollection<Document> collection = this.mongoClient.get()
+                .getDatabase(this.dbName)
+                .getCollection(this.collectionName);
+
+        try (final MongoCursor<Document> cursor = collection
+                .find()
+                .projection(Projections.fields(Projections.include("id", "content", "category"), Projections.excludeId()))
+                .sort(Sorts.ascending("id"))
+                .iterator()) {
+            while (cursor.hasNext()) {
+                final Document document = cursor.next();
+
+                builder.add(document.getString("id"), document.getString("content"), document.getString("category"));
+            }
+        }
+
+        return builder.build();
+    }
+
+    /// Return the string representation.
+    ///
+    /// @return java.lang.String
+    @Override
+    public String toString() {
+        return "mongo:" + this.dbName + "." + this.collectionName;
+    }
+}
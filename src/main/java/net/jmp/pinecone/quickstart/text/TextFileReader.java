@@ -0,0 +1,328 @@
+package net.jmp.pinecone.quickstart.text;
+
+/*
+ * (#)TextFileReader.java   0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+
+import java.nio.charset.StandardCharsets;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.bson.Document;
+
+import org.bson.json.JsonParseException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/// The text file reader class. Streams the records of a text
+/// file as documents with an id, a content and a category.
+/// Files named *.jsonl or *.ndjson hold one JSON object per
+/// line; any other file is read in the quoted CSV format of
+/// etc/unstructured-text.txt, either "content", "category"
+/// or "id", "content", "category" on each line. A record
+/// without an id is given "rec" and its line number, the
+/// ids of the stored unstructured text. Records that cannot
+/// be parsed are logged and skipped. Only one record is held
+/// at a time, so files of any size can be read.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+public final class TextFileReader implements Iterator<Document>, AutoCloseable {
+    /// The read buffer size.
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    /// The logger.
+    private final Logger logger = LoggerFactory.getLogger(this.getClass().getName());
+
+    /// The reader.
+    private final BufferedReader reader;
+
+    /// True if the file is JSON lines.
+    private final boolean jsonLines;
+
+    /// The current line number.
+    private long lineNumber;
+
+    /// The number of records skipped.
+    private long skipped;
+
+    /// The next document, or null if not yet read.
+    private Document next;
+
+    /// The constructor.
+    ///
+    /// @param  reader      java.io.BufferedReader
+    /// @param  jsonLines   boolean
+    private TextFileReader(final BufferedReader reader, final boolean jsonLines) {
+        super();
+
+        this.reader = reader;
+        this.jsonLines = jsonLines;
+    }
+
+    /// Open a text file.
+    ///
+    /// @param  path    java.nio.file.Path
+    /// @return         net.jmp.pinecone.quickstart.text.TextFileReader
+    /// @throws         java.io.IOException
+    public static TextFileReader open(final Path path) throws IOException {
+        final String fileName = path.getFileName().toString();
+        final boolean jsonLines = fileName.endsWith(".jsonl") || fileName.endsWith(".ndjson");
+        final BufferedReader reader = new BufferedReader(
+                new InputStreamReader(Files.newInputStream(path), StandardCharsets.UTF_8),
+                BUFFER_SIZE);
+
+        return new TextFileReader(reader, jsonLines);
+    }
+
+    /// Return true if there is another document.
+    ///
+    /// @return boolean
+    @Override
+    public boolean hasNext() {
+        if (this.next == null) {
+            try {
+                this.next = this.readNext();
+            } catch (final IOException ioe) {
+                throw new UncheckedIOException(ioe);
+            }
+        }
+
+        return this.next != null;
+    }
+
+    /// Return the next document.
+    ///
+    /// @return org.bson.Document
+    @Override
+    public Document next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        final Document document = this.next;
+
+        this.next = null;
+
+        return document;
+    }
+
+    /// Return the number of lines read.
+    ///
+    /// @return long
+    public long getLineNumber() {
+        return this.lineNumber;
+    }
+
+    /// Return the number of records skipped.
+    ///
+    /// @return long
+    public long getSkipped() {
+        return this.skipped;
+    }
+
+    /// Close the reader.
+    ///
+    /// @throws java.io.IOException
+    @Override
+    public void close() throws IOException {
+        this.reader.close();
+    }
+
+    /// Read the next document, skipping blank lines and
+    /// records that cannot be parsed.
+    ///
+    /// @return org.bson.Document
+    /// @throws java.io.IOException
+    private Document readNext() throws IOException {
+        String line;
+
+        while ((line = this.reader.readLine()) != null) {
+            this.lineNumber++;
+
+            if (!line.isBlank()) {
+                final long recordLine = this.lineNumber;
+                final Document document = this.jsonLines ? this.parseJson(line) : this.parseCsv(line);
+
+                if (document != null) {
+                    if (document.containsKey("id")) {
+                        return document;
+                    }
+
+                    final Document withId = new Document("id", "rec" + recordLine);
+
+                    withId.putAll(document);
+
+                    return withId;
+                }
+
+                this.skipped++;
+            }
+        }
+
+        return null;
+    }
+
+    /// Parse a JSON line. Only the id, content and category
+    /// fields are kept.
+    ///
+    /// @param  line    java.lang.String
+    /// @return         org.bson.Document
+    private Document parseJson(final String line) {
+        final Document parsed;
+
+        try {
+            parsed = Document.parse(line);
+        } catch (final JsonParseException jpe) {
+            this.logger.warn("Invalid JSON at line {}: {}", this.lineNumber, jpe.getMessage());
+
+            return null;
+        }
+
+        final Object id = parsed.get("id");
+        final String content = parsed.getString("content");
+        final String category = parsed.getString("category");
+
+        if (content == null || content.isBlank()) {
+            this.logger.warn("No content at line {}", this.lineNumber);
+
+            return null;
+        }
+
+        return toDocument(id != null ? id.toString() : null, content, category);
+    }
+
+    /// Parse a quoted CSV record. A quoted field may span
+    /// lines, in which case the following lines are read.
+    ///
+    /// @param  line    java.lang.String
+    /// @return         org.bson.Document
+    /// @throws         java.io.IOException
+    private Document parseCsv(final String line) throws IOException {
+        final long firstLine = this.lineNumber;
+        final List<String> fields = new ArrayList<>(3);
+        final StringBuilder field = new StringBuilder();
+
+        String text = line;
+        int i = 0;
+        boolean quoted = false;
+        boolean wasQuoted = false;
+
+        while (true) {
+            if (i == text.length()) {
+                if (!quoted) {
+                    break;
+                }
+
+                text = this.reader.readLine();
+
+                if (text == null) {
+                    this.logger.warn("Unterminated quote at line {}", firstLine);
+
+                    return null;
+                }
+
+                this.lineNumber++;
+                field.append('\n');
+                i = 0;
+
+                continue;
+            }
+
+            final char c = text.charAt(i++);
+
+            if (quoted) {
+                if (c == '"') {
+                    if (i < text.length() && text.charAt(i) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"' && field.toString().isBlank()) {
+                field.setLength(0);
+                quoted = true;
+                wasQuoted = true;
+            } else if (c == ',') {
+                fields.add(wasQuoted ? field.toString() : field.toString().trim());
+                field.setLength(0);
+                wasQuoted = false;
+            } else if (!wasQuoted) {
+                field.append(c);
+            }
+        }
+
+        fields.add(wasQuoted ? field.toString() : field.toString().trim());
+
+        return switch (fields.size()) {
+            case 2 -> toDocument(null, fields.get(0), fields.get(1));
+            case 3 -> toDocument(fields.get(0), fields.get(1), fields.get(2));
+            default -> {
+                this.logger.warn("Expected 2 or 3 fields at line {}: {}", firstLine, fields.size());
+
+                yield null;
+            }
+        };
+    }
+
+    /// Create a document. An empty category is left out.
+    ///
+    /// @param  id          java.lang.String
+    /// @param  content     java.lang.String
+    /// @param  category    java.lang.String
+    /// @return             org.bson.Document
+    private static Document toDocument(final String id, final String content, final String category) {
+        final Document document = new Document();
+
+        if (id != null && !id.isBlank()) {
+            document.append("id", id);
+        }
+
+        document.append("content", content);
+
+        if (category != null && !category.isBlank()) {
+            document.append("category", category);
+        }
+
+        return document;
+    }
+}
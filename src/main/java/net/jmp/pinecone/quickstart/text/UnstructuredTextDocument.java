@@ -1,6 +1,7 @@
 package net.jmp.pinecone.quickstart.text;
 
 /*
+ * (#)UnstructuredTextDocument.java 0.9.0   10/18/2026
  * (#)UnstructuredTextDocument.java 0.2.0   05/24/2025
  *
  * @author   Jonathan Parker
@@ -28,9 +29,11 @@ package net.jmp.pinecone.quickstart.text;
  * SOFTWARE.
  */
 
+import java.util.List;
+
 /// The unstructured text document class.
 ///
-/// @version    0.2.0
+/// @version    0.9.0
 /// @since      0.2.0
 public final class UnstructuredTextDocument {
     /// The MongoDB identifier.
@@ -45,6 +48,9 @@ public final class UnstructuredTextDocument {
     /// The document category.
     final String category;
 
+    /// The keywords extracted from the document.
+    final List<String> keywords;
+
     /// The constructor.
     ///
     /// @param  mongoId     The MongoDB identifier.
@@ -55,12 +61,28 @@ public final class UnstructuredTextDocument {
                              final String documentId,
                              final String content,
                              final String category) {
+        this(mongoId, documentId, content, category, List.of());
+    }
+
+    /// The constructor.
+    ///
+    /// @param  mongoId     The MongoDB identifier.
+    /// @param  documentId  The document identifier.
+    /// @param  content     The document content.
+    /// @param  category    The document category.
+    /// @param  keywords    The keywords extracted from the document.
+    public UnstructuredTextDocument(final String mongoId,
+                             final String documentId,
+                             final String content,
+                             final String category,
+                             final List<String> keywords) {
         super();
 
         this.mongoId = mongoId;
         this.documentId = documentId;
         this.content = content;
         this.category = category;
+        this.keywords = keywords;
     }
 
     /// Returns the MongoDB identifier.
@@ -90,4 +112,11 @@ public final class UnstructuredTextDocument {
     public String getCategory() {
         return this.category;
     }
+
+    /// Returns the keywords extracted from the document.
+    ///
+    /// @return java.util.List<java.lang.String>
+    public List<String> getKeywords() {
+        return this.keywords;
+    }
 }
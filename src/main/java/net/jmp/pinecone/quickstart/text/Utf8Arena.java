@@ -0,0 +1,219 @@
+package net.jmp.pinecone.quickstart.text;
+
+/*
+ * (#)Utf8Arena.java    0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import java.nio.charset.StandardCharsets;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/// The UTF-8 arena class. Holds strings end to end as UTF-8
+/// in off-heap memory, with an int offset table giving where
+/// each one starts. The only per-string cost on the heap is
+/// its offset and a bit marking it as not all ASCII. Strings
+/// are read back as zero-copy character sequence views. The
+/// memory is freed when the arena is no longer reachable,
+/// and the arena holds at most 2 GiB.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+final class Utf8Arena {
+    /// The initial capacity in bytes.
+    private static final long INITIAL_CAPACITY = 1 << 16;
+
+    /// The bytes.
+    private MemorySegment segment;
+
+    /// The number of bytes used.
+    private int used;
+
+    /// The offsets; string i spans offsets i to i + 1.
+    private int[] offsets;
+
+    /// The number of strings.
+    private int size;
+
+    /// The strings that are not all ASCII.
+    private final BitSet nonAscii = new BitSet();
+
+    /// The default constructor.
+    Utf8Arena() {
+        super();
+
+        this.segment = Arena.ofAuto().allocate(INITIAL_CAPACITY);
+        this.offsets = new int[64];
+    }
+
+    /// Add a string and return its ordinal.
+    ///
+    /// @param  string  java.lang.CharSequence
+    /// @return         int
+    /// @throws         java.lang.IllegalStateException When the arena is full
+    int add(final CharSequence string) {
+        final byte[] bytes = string.toString().getBytes(StandardCharsets.UTF_8);
+        final long end = (long) this.used + bytes.length;
+
+        if (end > Integer.MAX_VALUE) {
+            throw new IllegalStateException("The arena cannot hold more than 2 GiB");
+        }
+
+        if (end > this.segment.byteSize()) {
+            this.grow(end);
+        }
+
+        if (this.size + 1 == this.offsets.length) {
+            this.offsets = Arrays.copyOf(this.offsets, this.offsets.length * 2);
+        }
+
+        MemorySegment.copy(bytes, 0, this.segment, ValueLayout.JAVA_BYTE, this.used, bytes.length);
+
+        for (final byte b : bytes) {
+            if (b < 0) {
+                this.nonAscii.set(this.size);
+
+                break;
+            }
+        }
+
+        this.used = (int) end;
+        this.offsets[++this.size] = this.used;
+
+        return this.size - 1;
+    }
+
+    /// Trim the memory and the offset table to what is used.
+    void trim() {
+        if (this.segment.byteSize() > this.used) {
+            final MemorySegment trimmed = Arena.ofAuto().allocate(Math.max(1, this.used));
+
+            MemorySegment.copy(this.segment, 0, trimmed, 0, this.used);
+
+            this.segment = trimmed;
+        }
+
+        this.offsets = Arrays.copyOf(this.offsets, this.size + 1);
+    }
+
+    /// Return the number of strings.
+    ///
+    /// @return int
+    int size() {
+        return this.size;
+    }
+
+    /// Return the number of bytes used.
+    ///
+    /// @return long
+    long byteSize() {
+        return this.used;
+    }
+
+    /// Return a zero-copy view of a string.
+    ///
+    /// @param  ordinal int
+    /// @return         java.lang.CharSequence
+    CharSequence view(final int ordinal) {
+        final int start = this.offsets[ordinal];
+
+        return new Utf8View(this.segment.asSlice(start, this.offsets[ordinal + 1] - start), !this.nonAscii.get(ordinal));
+    }
+
+    /// Return a string.
+    ///
+    /// @param  ordinal int
+    /// @return         java.lang.String
+    String get(final int ordinal) {
+        final int start = this.offsets[ordinal];
+
+        return Utf8View.decode(this.segment, start, this.offsets[ordinal + 1] - start);
+    }
+
+    /// Compare a string with UTF-8 bytes, byte by byte as
+    /// unsigned values, which orders as the code points do.
+    ///
+    /// @param  ordinal int
+    /// @param  bytes   byte[]
+    /// @return         int
+    int compare(final int ordinal, final byte[] bytes) {
+        final int start = this.offsets[ordinal];
+        final int length = this.offsets[ordinal + 1] - start;
+        final int common = Math.min(length, bytes.length);
+
+        for (int i = 0; i < common; i++) {
+            final int b = this.segment.get(ValueLayout.JAVA_BYTE, start + i) & 0xFF;
+            final int c = bytes[i] & 0xFF;
+
+            if (b != c) {
+                return b - c;
+            }
+        }
+
+        return length - bytes.length;
+    }
+
+    /// Compare two strings, byte by byte as unsigned values.
+    ///
+    /// @param  left    int
+    /// @param  right   int
+    /// @return         int
+    int compare(final int left, final int right) {
+        final int leftStart = this.offsets[left];
+        final int rightStart = this.offsets[right];
+        final int leftLength = this.offsets[left + 1] - leftStart;
+        final int rightLength = this.offsets[right + 1] - rightStart;
+        final int common = Math.min(leftLength, rightLength);
+
+        for (int i = 0; i < common; i++) {
+            final int b = this.segment.get(ValueLayout.JAVA_BYTE, leftStart + i) & 0xFF;
+            final int c = this.segment.get(ValueLayout.JAVA_BYTE, rightStart + i) & 0xFF;
+
+            if (b != c) {
+                return b - c;
+            }
+        }
+
+        return leftLength - rightLength;
+    }
+
+    /// Grow the memory to hold at least a number of bytes.
+    ///
+    /// @param  required    long
+    private void grow(final long required) {
+        final long capacity = Math.min(Integer.MAX_VALUE, Math.max(required, this.segment.byteSize() * 2));
+        final MemorySegment grown = Arena.ofAuto().allocate(capacity);
+
+        MemorySegment.copy(this.segment, 0, grown, 0, this.used);
+
+        this.segment = grown;
+    }
+}
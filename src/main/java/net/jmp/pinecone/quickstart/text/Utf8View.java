@@ -0,0 +1,131 @@
+package net.jmp.pinecone.quickstart.text;
+
+/*
+ * (#)Utf8View.java 0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import java.nio.charset.StandardCharsets;
+
+/// The UTF-8 view class. A character sequence read in place
+/// from UTF-8 bytes in off-heap memory. An ASCII view reads
+/// each character straight from its byte; any other view is
+/// decoded once, the first time a character is asked for.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+final class Utf8View implements CharSequence {
+    /// The bytes.
+    private final MemorySegment bytes;
+
+    /// True if every byte is ASCII.
+    private final boolean ascii;
+
+    /// The decoded string of a view that is not all ASCII.
+    private String decoded;
+
+    /// The constructor.
+    ///
+    /// @param  bytes   java.lang.foreign.MemorySegment
+    /// @param  ascii   boolean
+    Utf8View(final MemorySegment bytes, final boolean ascii) {
+        super();
+
+        this.bytes = bytes;
+        this.ascii = ascii;
+    }
+
+    /// Decode UTF-8 bytes to a string.
+    ///
+    /// @param  segment java.lang.foreign.MemorySegment
+    /// @param  offset  long
+    /// @param  length  int
+    /// @return         java.lang.String
+    static String decode(final MemorySegment segment, final long offset, final int length) {
+        final byte[] array = new byte[length];
+
+        MemorySegment.copy(segment, ValueLayout.JAVA_BYTE, offset, array, 0, length);
+
+        return new String(array, StandardCharsets.UTF_8);
+    }
+
+    /// Return the length.
+    ///
+    /// @return int
+    @Override
+    public int length() {
+        return this.ascii ? (int) this.bytes.byteSize() : this.decoded().length();
+    }
+
+    /// Return the character at an index.
+    ///
+    /// @param  index   int
+    /// @return         char
+    @Override
+    public char charAt(final int index) {
+        if (this.ascii) {
+            return (char) this.bytes.get(ValueLayout.JAVA_BYTE, index);
+        }
+
+        return this.decoded().charAt(index);
+    }
+
+    /// Return a subsequence.
+    ///
+    /// @param  start   int
+    /// @param  end     int
+    /// @return         java.lang.CharSequence
+    @Override
+    public CharSequence subSequence(final int start, final int end) {
+        if (this.ascii) {
+            return new Utf8View(this.bytes.asSlice(start, end - start), true);
+        }
+
+        return this.decoded().subSequence(start, end);
+    }
+
+    /// Return the string representation.
+    ///
+    /// @return java.lang.String
+    @Override
+    public String toString() {
+        return this.ascii ? decode(this.bytes, 0, (int) this.bytes.byteSize()) : this.decoded();
+    }
+
+    /// Return the decoded string, decoding it if needed.
+    ///
+    /// @return java.lang.String
+    private String decoded() {
+        if (this.decoded == null) {
+            this.decoded = decode(this.bytes, 0, (int) this.bytes.byteSize());
+        }
+
+        return this.decoded;
+    }
+}
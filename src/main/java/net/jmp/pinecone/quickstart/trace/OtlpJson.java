@@ -0,0 +1,193 @@
+package net.jmp.pinecone.quickstart.trace;
+
+/*
+ * (#)OtlpJson.java 0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.List;
+import java.util.Map;
+
+/// The OTLP JSON class. Renders a finished trace as one
+/// ExportTraceServiceRequest in the OpenTelemetry protocol
+/// JSON encoding, on a single line, so that a trace file is
+/// in the JSON Lines format the OpenTelemetry file exporter
+/// writes and the collector's file receiver reads.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+final class OtlpJson {
+    /// The service name resource attribute.
+    private static final String SERVICE_NAME = "pinecone-quickstart";
+
+    /// The instrumentation scope name.
+    private static final String SCOPE_NAME = "net.jmp.pinecone.quickstart";
+
+    /// The internal span kind.
+    private static final int SPAN_KIND_INTERNAL = 1;
+
+    /// The error status code.
+    private static final int STATUS_CODE_ERROR = 2;
+
+    /// The default constructor.
+    private OtlpJson() {
+        super();
+    }
+
+    /// Render a trace.
+    ///
+    /// @param  trace   net.jmp.pinecone.quickstart.trace.Trace
+    /// @return         java.lang.String
+    static String render(final Trace trace) {
+        final StringBuilder sb = new StringBuilder(1024);
+        final List<Span> spans = trace.getSpans();
+
+        sb.append("{\"resourceSpans\":[{\"resource\":{\"attributes\":[");
+
+        attribute(sb, "service.name", SERVICE_NAME);
+
+        sb.append("]},\"scopeSpans\":[{\"scope\":{\"name\":");
+
+        string(sb, SCOPE_NAME);
+
+        sb.append("},\"spans\":[");
+
+        for (int i = 0; i < spans.size(); i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+
+            span(sb, trace, spans.get(i));
+        }
+
+        sb.append("]}]}]}");
+
+        return sb.toString();
+    }
+
+    /// Render a span.
+    ///
+    /// @param  sb      java.lang.StringBuilder
+    /// @param  trace   net.jmp.pinecone.quickstart.trace.Trace
+    /// @param  span    net.jmp.pinecone.quickstart.trace.Span
+    private static void span(final StringBuilder sb, final Trace trace, final Span span) {
+        sb.append("{\"traceId\":\"").append(trace.getTraceId());
+        sb.append("\",\"spanId\":\"").append(span.getSpanId()).append('"');
+
+        if (span.getParent() != null) {
+            sb.append(",\"parentSpanId\":\"").append(span.getParent().getSpanId()).append('"');
+        }
+
+        sb.append(",\"name\":");
+
+        string(sb, span.getName());
+
+        /* 64-bit integers are strings in the protocol's JSON encoding */
+
+        sb.append(",\"kind\":").append(SPAN_KIND_INTERNAL);
+        sb.append(",\"startTimeUnixNano\":\"").append(span.getStartEpochNanos());
+        sb.append("\",\"endTimeUnixNano\":\"").append(span.getStartEpochNanos() + span.getDurationNanos());
+        sb.append("\",\"attributes\":[");
+
+        boolean first = true;
+
+        for (final Map.Entry<String, Object> entry : span.getAttributes().entrySet()) {
+            if (!first) {
+                sb.append(',');
+            }
+
+            attribute(sb, entry.getKey(), entry.getValue());
+
+            first = false;
+        }
+
+        sb.append(']');
+
+        if (span.getErrorMessage() != null) {
+            sb.append(",\"status\":{\"code\":").append(STATUS_CODE_ERROR).append(",\"message\":");
+
+            string(sb, span.getErrorMessage());
+
+            sb.append('}');
+        }
+
+        sb.append('}');
+    }
+
+    /// Render a key-value attribute.
+    ///
+    /// @param  sb      java.lang.StringBuilder
+    /// @param  key     java.lang.String
+    /// @param  value   java.lang.Object
+    private static void attribute(final StringBuilder sb, final String key, final Object value) {
+        sb.append("{\"key\":");
+
+        string(sb, key);
+
+        sb.append(",\"value\":{");
+
+        switch (value) {
+            case Long l -> sb.append("\"intValue\":\"").append(l).append('"');
+            case Boolean b -> sb.append("\"boolValue\":").append(b);
+            default -> {
+                sb.append("\"stringValue\":");
+
+                string(sb, value.toString());
+            }
+        }
+
+        sb.append("}}");
+    }
+
+    /// Render a quoted and escaped JSON string.
+    ///
+    /// @param  sb  java.lang.StringBuilder
+    /// @param  s   java.lang.String
+    private static void string(final StringBuilder sb, final String s) {
+        sb.append('"');
+
+        for (int i = 0; i < s.length(); i++) {
+            final char c = s.charAt(i);
+
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+                }
+            }
+        }
+
+        sb.append('"');
+    }
+}
@@ -0,0 +1,241 @@
+package net.jmp.pinecone.quickstart.trace;
+
+/*
+ * (#)Span.java 0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/// The span class. One timed step of a traced request,
+/// with a parent, attributes and an error status. Spans
+/// are started by the tracer and ended by closing them,
+/// normally in a try-with-resources statement on the
+/// thread that started them.
+///
+/// When tracing is off the tracer hands out a single
+/// span that records nothing.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+public final class Span implements AutoCloseable {
+    /// The span that records nothing.
+    static final Span NOOP = new Span();
+
+    /// The trace the span belongs to.
+    private final Trace trace;
+
+    /// The span identifier.
+    private final String spanId;
+
+    /// The parent span, or null for the root of a trace.
+    private final Span parent;
+
+    /// The name.
+    private final String name;
+
+    /// The start time from System.nanoTime().
+    private final long startNanos;
+
+    /// The start time in nanoseconds since the epoch.
+    private final long startEpochNanos;
+
+    /// The attributes in the order they were set.
+    private final Map<String, Object> attributes;
+
+    /// The duration in nanoseconds, or -1 while the span is open.
+    private volatile long durationNanos = -1L;
+
+    /// The error message, or null if the span succeeded.
+    private volatile String errorMessage;
+
+    /// The constructor of the span that records nothing.
+    private Span() {
+        super();
+
+        this.trace = null;
+        this.spanId = "";
+        this.parent = null;
+        this.name = "";
+        this.startNanos = 0L;
+        this.startEpochNanos = 0L;
+        this.attributes = Collections.emptyMap();
+    }
+
+    /// The constructor.
+    ///
+    /// @param  trace   net.jmp.pinecone.quickstart.trace.Trace
+    /// @param  spanId  java.lang.String
+    /// @param  parent  net.jmp.pinecone.quickstart.trace.Span
+    /// @param  name    java.lang.String
+    Span(final Trace trace,
+         final String spanId,
+         final Span parent,
+         final String name) {
+        super();
+
+        this.trace = trace;
+        this.spanId = spanId;
+        this.parent = parent;
+        this.name = name;
+        this.startNanos = System.nanoTime();
+        this.startEpochNanos = trace.toEpochNanos(this.startNanos);
+        this.attributes = Collections.synchronizedMap(new LinkedHashMap<>());
+    }
+
+    /// Set a string attribute.
+    ///
+    /// @param  key     java.lang.String
+    /// @param  value   java.lang.String
+    /// @return         net.jmp.pinecone.quickstart.trace.Span
+    public Span setAttribute(final String key, final String value) {
+        return this.put(key, value);
+    }
+
+    /// Set an integer attribute.
+    ///
+    /// @param  key     java.lang.String
+    /// @param  value   long
+    /// @return         net.jmp.pinecone.quickstart.trace.Span
+    public Span setAttribute(final String key, final long value) {
+        return this.put(key, value);
+    }
+
+    /// Set a boolean attribute.
+    ///
+    /// @param  key     java.lang.String
+    /// @param  value   boolean
+    /// @return         net.jmp.pinecone.quickstart.trace.Span
+    public Span setAttribute(final String key, final boolean value) {
+        return this.put(key, value);
+    }
+
+    /// Mark the span as failed.
+    ///
+    /// @param  throwable   java.lang.Throwable
+    /// @return             net.jmp.pinecone.quickstart.trace.Span
+    public Span recordError(final Throwable throwable) {
+        if (this.trace != null) {
+            this.errorMessage = throwable.getMessage() != null ? throwable.getMessage() : throwable.getClass().getName();
+        }
+
+        return this;
+    }
+
+    /// End the span and make its parent current again.
+    /// Ending the root of a trace finishes the trace.
+    @Override
+    public void close() {
+        if (this.trace == null || this.durationNanos >= 0) {
+            return;
+        }
+
+        this.durationNanos = System.nanoTime() - this.startNanos;
+
+        Tracer.ended(this);
+    }
+
+    /// Return the trace.
+    ///
+    /// @return net.jmp.pinecone.quickstart.trace.Trace
+    Trace getTrace() {
+        return this.trace;
+    }
+
+    /// Return the span identifier.
+    ///
+    /// @return java.lang.String
+    String getSpanId() {
+        return this.spanId;
+    }
+
+    /// Return the parent span, or null for the root.
+    ///
+    /// @return net.jmp.pinecone.quickstart.trace.Span
+    Span getParent() {
+        return this.parent;
+    }
+
+    /// Return the name.
+    ///
+    /// @return java.lang.String
+    String getName() {
+        return this.name;
+    }
+
+    /// Return the start time in nanoseconds since the epoch.
+    ///
+    /// @return long
+    long getStartEpochNanos() {
+        return this.startEpochNanos;
+    }
+
+    /// Return the duration in nanoseconds, or -1 while open.
+    ///
+    /// @return long
+    long getDurationNanos() {
+        return this.durationNanos;
+    }
+
+    /// Return a copy of the attributes.
+    ///
+    /// @return java.util.Map<java.lang.String, java.lang.Object>
+    Map<String, Object> getAttributes() {
+        synchronized (this.attributes) {
+            return new LinkedHashMap<>(this.attributes);
+        }
+    }
+
+    /// Return the error message, or null if the span succeeded.
+    ///
+    /// @return java.lang.String
+    String getErrorMessage() {
+        return this.errorMessage;
+    }
+
+    /// Set an attribute.
+    ///
+    /// @param  key     java.lang.String
+    /// @param  value   java.lang.Object
+    /// @return         net.jmp.pinecone.quickstart.trace.Span
+    private Span put(final String key, final Object value) {
+        if (this.trace != null && value != null) {
+            this.attributes.put(key, value);
+        }
+
+        return this;
+    }
+
+    /// Return the string representation.
+    ///
+    /// @return java.lang.String
+    @Override
+    public String toString() {
+        return this.name + " " + this.spanId;
+    }
+}
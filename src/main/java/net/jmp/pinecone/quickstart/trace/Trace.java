@@ -0,0 +1,132 @@
+package net.jmp.pinecone.quickstart.trace;
+
+/*
+ * (#)Trace.java    0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.time.Instant;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/// The trace class. The spans of one request, collected
+/// as they end. The trace is finished when its root span
+/// ends; spans that end after that, such as a remote call
+/// abandoned by a failover, are dropped.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+final class Trace {
+    /// The trace identifier.
+    private final String traceId;
+
+    /// The time the trace started in nanoseconds since the epoch.
+    private final long originEpochNanos;
+
+    /// The time the trace started from System.nanoTime().
+    private final long originNanos;
+
+    /// The ended spans in the order they ended.
+    private final List<Span> spans = new ArrayList<>();
+
+    /// The root span.
+    private Span root;
+
+    /// True once the root span has ended.
+    private boolean finished;
+
+    /// The constructor.
+    ///
+    /// @param  traceId java.lang.String
+    Trace(final String traceId) {
+        super();
+
+        final Instant now = Instant.now();
+
+        this.traceId = traceId;
+        this.originEpochNanos = now.getEpochSecond() * 1_000_000_000L + now.getNano();
+        this.originNanos = System.nanoTime();
+    }
+
+    /// Return the trace identifier.
+    ///
+    /// @return java.lang.String
+    String getTraceId() {
+        return this.traceId;
+    }
+
+    /// Convert a value of System.nanoTime() to nanoseconds
+    /// since the epoch. Every span of the trace is placed on
+    /// the one monotonic clock, so offsets and durations agree.
+    ///
+    /// @param  nanos   long
+    /// @return         long
+    long toEpochNanos(final long nanos) {
+        return this.originEpochNanos + (nanos - this.originNanos);
+    }
+
+    /// Add an ended span. Return true if
+    /// it was the root and the trace is now finished.
+    ///
+    /// @param  span    net.jmp.pinecone.quickstart.trace.Span
+    /// @return         boolean
+    synchronized boolean add(final Span span) {
+        if (this.finished) {
+            return false;
+        }
+
+        this.spans.add(span);
+
+        if (span.getParent() == null) {
+            this.root = span;
+            this.finished = true;
+        }
+
+        return this.finished;
+    }
+
+    /// Return the root span.
+    ///
+    /// @return net.jmp.pinecone.quickstart.trace.Span
+    synchronized Span getRoot() {
+        return this.root;
+    }
+
+    /// Return a copy of the ended spans.
+    ///
+    /// @return java.util.List<net.jmp.pinecone.quickstart.trace.Span>
+    synchronized List<Span> getSpans() {
+        return new ArrayList<>(this.spans);
+    }
+
+    /// Return the duration of the root span in nanoseconds.
+    ///
+    /// @return long
+    long getDurationNanos() {
+        return this.getRoot().getDurationNanos();
+    }
+}
@@ -0,0 +1,261 @@
+package net.jmp.pinecone.quickstart.trace;
+
+/*
+ * (#)Tracer.java   0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+
+import java.nio.charset.StandardCharsets;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Queue;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static net.jmp.util.logging.LoggerUtils.*;
+
+/// The tracer class. Starts spans as children of the span
+/// current on the calling thread, or as the root of a new
+/// trace when there is none. A finished trace is appended
+/// to the trace file in the OTLP JSON encoding and kept if
+/// it is one of the slowest seen so far.
+///
+/// Tracing is off until it is enabled; until then spans
+/// record nothing and cost one volatile read.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+public final class Tracer {
+    /// The logger.
+    private static final Logger logger = LoggerFactory.getLogger(Tracer.class.getName());
+
+    /// The span current on each thread.
+    private static final ThreadLocal<Span> current = new ThreadLocal<>();
+
+    /// The lock guarding the writer and the slowest traces.
+    private static final Object lock = new Object();
+
+    /// True when tracing is enabled.
+    private static volatile boolean enabled;
+
+    /// The trace file writer, or null to not export traces.
+    private static BufferedWriter writer;
+
+    /// The number of slowest traces to keep.
+    private static int slowest;
+
+    /// The order of traces by duration.
+    private static final Comparator<Trace> byDuration = Comparator.comparingLong(Trace::getDurationNanos);
+
+    /// The slowest traces, fastest first.
+    private static Queue<Trace> slowestTraces = new PriorityQueue<>(byDuration);
+
+    /// The default constructor.
+    private Tracer() {
+        super();
+    }
+
+    /// Enable tracing. Traces are written to the trace
+    /// file if it is not null, and the given number of
+    /// slowest traces are kept for the waterfall report.
+    ///
+    /// @param  traceFile   java.nio.file.Path
+    /// @param  slowest     int
+    /// @throws             java.io.IOException
+    public static void enable(final Path traceFile, final int slowest) throws IOException {
+        synchronized (lock) {
+            if (traceFile != null) {
+                writer = Files.newBufferedWriter(traceFile, StandardCharsets.UTF_8);
+            }
+
+            Tracer.slowest = Math.max(0, slowest);
+            slowestTraces = new PriorityQueue<>(Math.max(1, slowest), byDuration);
+            enabled = true;
+        }
+    }
+
+    /// Disable tracing and close the trace file.
+    public static void disable() {
+        synchronized (lock) {
+            enabled = false;
+
+            if (writer != null) {
+                try {
+                    writer.close();
+                } catch (final IOException ioe) {
+                    logger.error(catching(ioe));
+                }
+
+                writer = null;
+            }
+        }
+    }
+
+    /// Return true if tracing is enabled.
+    ///
+    /// @return boolean
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /// Start a span and make it current on this thread.
+    /// The span must be closed on the same thread.
+    ///
+    /// @param  name    java.lang.String
+    /// @return         net.jmp.pinecone.quickstart.trace.Span
+    public static Span startSpan(final String name) {
+        if (!enabled) {
+            return Span.NOOP;
+        }
+
+        final Span parent = current.get();
+        final Trace trace = parent != null ? parent.getTrace() : new Trace(randomHex(2));
+        final Span span = new Span(trace, randomHex(1), parent, name);
+
+        current.set(span);
+
+        return span;
+    }
+
+    /// Wrap a supplier so that it runs with the span that is
+    /// current now as its parent, on whatever thread runs it.
+    ///
+    /// @param  <T>         The type of result
+    /// @param  supplier    java.util.function.Supplier<T>
+    /// @return             java.util.function.Supplier<T>
+    public static <T> Supplier<T> wrap(final Supplier<T> supplier) {
+        final Span parent = current.get();
+
+        if (parent == null) {
+            return supplier;
+        }
+
+        return () -> {
+            final Span saved = current.get();
+
+            current.set(parent);
+
+            try {
+                return supplier.get();
+            } finally {
+                current.set(saved);
+            }
+        };
+    }
+
+    /// Render the waterfalls of the slowest traces,
+    /// slowest first, or an empty string if none are kept.
+    ///
+    /// @return java.lang.String
+    public static String getSlowestWaterfalls() {
+        final List<Trace> traces;
+
+        synchronized (lock) {
+            traces = new ArrayList<>(slowestTraces);
+        }
+
+        traces.sort(byDuration.reversed());
+
+        final StringBuilder sb = new StringBuilder();
+
+        for (final Trace trace : traces) {
+            sb.append(Waterfall.render(trace));
+        }
+
+        return sb.toString();
+    }
+
+    /// Called when a span ends.
+    ///
+    /// @param  span    net.jmp.pinecone.quickstart.trace.Span
+    static void ended(final Span span) {
+        if (current.get() == span) {
+            current.set(span.getParent());
+        }
+
+        final Trace trace = span.getTrace();
+
+        if (trace.add(span)) {
+            finished(trace);
+        }
+    }
+
+    /// Export and keep a finished trace.
+    ///
+    /// @param  trace   net.jmp.pinecone.quickstart.trace.Trace
+    private static void finished(final Trace trace) {
+        final String json = writer != null ? OtlpJson.render(trace) : null;     // Render outside the lock
+
+        synchronized (lock) {
+            if (writer != null && json != null) {
+                try {
+                    writer.write(json);
+                    writer.newLine();
+                } catch (final IOException ioe) {
+                    logger.error(catching(ioe));
+                }
+            }
+
+            if (slowest > 0) {
+                slowestTraces.add(trace);
+
+                if (slowestTraces.size() > slowest) {
+                    slowestTraces.poll();
+                }
+            }
+        }
+    }
+
+    /// Return a random lowercase hexadecimal
+    /// identifier of the given number of longs.
+    ///
+    /// @param  longs   int
+    /// @return         java.lang.String
+    private static String randomHex(final int longs) {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final StringBuilder sb = new StringBuilder(longs * 16);
+
+        for (int i = 0; i < longs; i++) {
+            sb.append(String.format("%016x", random.nextLong()));
+        }
+
+        return sb.toString();
+    }
+}
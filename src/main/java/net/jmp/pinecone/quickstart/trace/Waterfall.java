@@ -0,0 +1,128 @@
+package net.jmp.pinecone.quickstart.trace;
+
+/*
+ * (#)Waterfall.java    0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/// The waterfall class. Renders a finished trace as a text
+/// timeline: one line per span in tree order, indented by
+/// depth, with its offset from the start of the root, its
+/// duration and a bar placing it on the root's time axis.
+/// Spans that ran in sequence show as bars that follow each
+/// other; spans that overlapped show as bars that overlap.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+final class Waterfall {
+    /// The width of the name column.
+    private static final int NAME_WIDTH = 40;
+
+    /// The width of the bar.
+    private static final int BAR_WIDTH = 50;
+
+    /// The number of nanoseconds in a millisecond.
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    /// The default constructor.
+    private Waterfall() {
+        super();
+    }
+
+    /// Render a trace.
+    ///
+    /// @param  trace   net.jmp.pinecone.quickstart.trace.Trace
+    /// @return         java.lang.String
+    static String render(final Trace trace) {
+        final Span root = trace.getRoot();
+        final Map<Span, List<Span>> children = new HashMap<>();
+
+        for (final Span span : trace.getSpans()) {
+            if (span.getParent() != null) {
+                children.computeIfAbsent(span.getParent(), key -> new ArrayList<>()).add(span);
+            }
+        }
+
+        for (final List<Span> list : children.values()) {
+            list.sort(Comparator.comparingLong(Span::getStartEpochNanos));
+        }
+
+        final StringBuilder sb = new StringBuilder();
+
+        sb.append(String.format("trace %s %s %.3f ms%n", trace.getTraceId(), root.getName(), root.getDurationNanos() / NANOS_PER_MILLI));
+
+        line(sb, root, root, children, 0);
+
+        return sb.toString();
+    }
+
+    /// Render a span and its descendants.
+    ///
+    /// @param  sb          java.lang.StringBuilder
+    /// @param  root        net.jmp.pinecone.quickstart.trace.Span
+    /// @param  span        net.jmp.pinecone.quickstart.trace.Span
+    /// @param  children    java.util.Map<net.jmp.pinecone.quickstart.trace.Span, java.util.List<net.jmp.pinecone.quickstart.trace.Span>>
+    /// @param  depth       int
+    private static void line(final StringBuilder sb,
+                             final Span root,
+                             final Span span,
+                             final Map<Span, List<Span>> children,
+                             final int depth) {
+        final long total = Math.max(1L, root.getDurationNanos());
+        final long offset = span.getStartEpochNanos() - root.getStartEpochNanos();
+        final int from = (int) Math.min(BAR_WIDTH - 1, Math.max(0L, offset * BAR_WIDTH / total));
+        final int to = (int) Math.min(BAR_WIDTH, Math.max(from + 1, (offset + span.getDurationNanos()) * BAR_WIDTH / total));
+
+        String label = "  ".repeat(depth) + span.getName();
+
+        if (span.getErrorMessage() != null) {
+            label += " !";
+        }
+
+        if (label.length() > NAME_WIDTH) {
+            label = label.substring(0, NAME_WIDTH);
+        }
+
+        sb.append(String.format("  %-" + NAME_WIDTH + "s %10.3f %10.3f |", label, offset / NANOS_PER_MILLI, span.getDurationNanos() / NANOS_PER_MILLI));
+        sb.append(" ".repeat(from)).append("#".repeat(to - from)).append(" ".repeat(BAR_WIDTH - to)).append('|');
+
+        if (!span.getAttributes().isEmpty()) {
+            sb.append(' ').append(span.getAttributes());
+        }
+
+        sb.append(System.lineSeparator());
+
+        for (final Span child : children.getOrDefault(span, List.of())) {
+            line(sb, root, child, children, depth + 1);
+        }
+    }
+}
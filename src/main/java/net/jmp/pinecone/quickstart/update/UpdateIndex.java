@@ -1,6 +1,7 @@
 package net.jmp.pinecone.quickstart.update;
 
 /*
+ * (#)UpdateIndex.java  0.9.0   10/18/2026
  * (#)UpdateIndex.java  0.8.0   06/25/2025
  * (#)UpdateIndex.java  0.6.0   06/19/2025
  *
@@ -45,12 +46,39 @@ import io.pinecone.clients.Pinecone;
 
 import io.pinecone.proto.UpdateResponse;
 
+import java.time.Duration;
+
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.StringTokenizer;
+import java.util.TreeMap;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import java.util.stream.Stream;
 
 import net.jmp.pinecone.quickstart.Operation;
 
+import net.jmp.pinecone.quickstart.chunk.Chunks;
+
+import net.jmp.pinecone.quickstart.list.VectorIds;
+
+import net.jmp.pinecone.quickstart.local.LocalIndexes;
+
+import net.jmp.pinecone.quickstart.partition.Partitions;
+
+import net.jmp.pinecone.quickstart.resilience.RetryPolicy;
+import net.jmp.pinecone.quickstart.resilience.Throttling;
+import net.jmp.pinecone.quickstart.resilience.TokenBucket;
+
 import net.jmp.pinecone.quickstart.text.UnstructuredTextDocument;
 
 import static net.jmp.util.logging.LoggerUtils.*;
@@ -61,14 +89,35 @@ import org.bson.conversions.Bson;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-/// The update index class.
+/// The update index class. Updates the metadata of the
+/// sparse and the dense index at the same time, each update
+/// on its own virtual thread. Every vector of a document is
+/// updated, each chunk of a document that was split included,
+/// in whichever partition of the namespace it was loaded to. Each index has its own submit
+/// loop, so a full window on one does not hold up the other.
+/// For each index a window bounds the updates in flight, a
+/// token bucket keeps every attempt under the write quota,
+/// and updates that Pinecone throttles are retried with a
+/// jittered exponential backoff.
 ///
-/// @version    0.8.0
+/// @version    0.9.0
 /// @since      0.6.0
 public final class UpdateIndex extends Operation {
+    /// The time between progress reports.
+    private static final Duration PROGRESS_INTERVAL = Duration.ofSeconds(5);
+
+    /// The delay before the first retry of a throttled update.
+    private static final Duration RETRY_BASE_DELAY = Duration.ofMillis(100);
+
+    /// The longest delay before a retry of a throttled update.
+    private static final Duration RETRY_MAX_DELAY = Duration.ofSeconds(10);
+
     /// The logger.
     private final Logger logger = LoggerFactory.getLogger(this.getClass().getName());
 
+    /// The update parameters.
+    private final String updateParameters;
+
     /// The constructor.
     ///
     /// @param  builder net.jmp.pinecone.quickstart.update.UpdateIndex.Builder
@@ -79,10 +128,13 @@ public final class UpdateIndex extends Operation {
                 .searchableIndexName(builder().searchableIndexName)
                 .sparseIndexName(builder.sparseIndexName)
                 .namespace(builder.namespace)
+                .localIndexDir(builder.localIndexDir)
                 .mongoClient(builder.mongoClient)
                 .collectionName(builder.collectionName)
                 .dbName(builder.dbName)
         );
+
+        this.updateParameters = builder.updateParameters;
     }
 
     /// Return an instance of the builder class.
@@ -99,14 +151,20 @@ public final class UpdateIndex extends Operation {
             this.logger.trace(entry());
         }
 
+        final UpdateParameters parameters = UpdateParameters.parse(this.updateParameters);
         final List<UnstructuredTextDocument> documents = this.getDocuments();
 
-        try (final Index index = this.pinecone.getIndexConnection(this.sparseIndexName)) {
-            this.appendNumberOfWords(documents, index);
-        }
+        /* The local indexes would no longer match the updated vectors */
 
-        try (final Index index = this.pinecone.getIndexConnection(this.denseIndexName)) {
-            this.appendNumberOfWords(documents, index);
+        LocalIndexes.deleteDenseIndexes(this.localIndexDir, this.denseIndexName, this.namespace);
+        LocalIndexes.deleteSparseInvertedIndex(this.localIndexDir, this.sparseIndexName, this.namespace);
+
+        try (final Index sparseIndex = this.pinecone.getIndexConnection(this.sparseIndexName);
+             final Index denseIndex = this.pinecone.getIndexConnection(this.denseIndexName)) {
+            this.appendNumberOfWords(documents, List.of(
+                    new Target(this.sparseIndexName, sparseIndex, parameters),
+                    new Target(this.denseIndexName, denseIndex, parameters)
+            ), parameters);
         }
 
         if (this.logger.isTraceEnabled()) {
@@ -165,40 +223,225 @@ public final class UpdateIndex extends Operation {
         return documents;
     }
 
-    /// Append the number of words to the metadata of each vector in the index.
+    /// Append the number of words of its document to the
+    /// metadata of each vector in the indexes, updating the
+    /// indexes together. The vectors are found by listing
+    /// the IDs in each index, so the chunks of a document
+    /// are updated along with it. Returns when every update
+    /// has finished or failed.
     ///
-    /// @param  documents java.util.List<net.jmp.pinecone.quickstart.text.UnstructuredTextDocument>
-    /// @param  index     io.pinecone.clients.Index
-    private void appendNumberOfWords(final List<UnstructuredTextDocument> documents, final Index index) {
+    /// @param  documents   java.util.List<net.jmp.pinecone.quickstart.text.UnstructuredTextDocument>
+    /// @param  targets     java.util.List<net.jmp.pinecone.quickstart.update.UpdateIndex.Target>
+    /// @param  parameters  net.jmp.pinecone.quickstart.update.UpdateParameters
+    private void appendNumberOfWords(final List<UnstructuredTextDocument> documents,
+                                     final List<Target> targets,
+                                     final UpdateParameters parameters) {
         if (this.logger.isTraceEnabled()) {
-            this.logger.trace(entryWith(documents, index));
+            this.logger.trace(entryWith(documents, targets, parameters));
         }
 
+        final Map<String, Struct> metadata = new HashMap<>();
+
         for (final UnstructuredTextDocument document : documents) {
-            final String content = document.getContent();
-            final StringTokenizer tokenizer = new StringTokenizer(content, " ");
-            final int numberOfWords = tokenizer.countTokens();
+            metadata.put(document.getDocumentId(), this.createMetadata(document));
+        }
 
-            if (this.logger.isDebugEnabled()) {
-                this.logger.debug("{}: {} words", content, numberOfWords);
+        final List<Map<String, List<String>>> vectorIds = new ArrayList<>(targets.size());
+
+        long total = 0;
+
+        for (final Target target : targets) {
+            final Map<String, List<String>> targetVectorIds = this.getVectorIds(target, metadata);
+
+            vectorIds.add(targetVectorIds);
+
+            for (final List<String> partitionVectorIds : targetVectorIds.values()) {
+                total += partitionVectorIds.size();
+            }
+        }
+
+        final Progress progress = new Progress(total);
+
+        this.logger.info("Updating {} vectors of {} documents in {} indexes: {}", total, documents.size(), targets.size(), parameters);
+
+        try (final ExecutorService loops = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < targets.size(); i++) {
+                final Target target = targets.get(i);
+                final Map<String, List<String>> targetVectorIds = vectorIds.get(i);
+
+                loops.submit(() -> this.updateTarget(target, targetVectorIds, metadata, progress));
+            }
+        }
+
+        final double seconds = (System.nanoTime() - progress.startNanos) / 1_000_000_000.0;
+
+        for (final Target target : targets) {
+            this.logger.info("{}: {} updated, {} failed, {} retries",
+                    target.name,
+                    target.updated.sum(),
+                    target.failed.sum(),
+                    target.retryPolicy.getRetries());
+        }
+
+        this.logger.info("Finished {} updates in {} s: {} updates/s",
+                progress.done.sum(),
+                String.format("%.1f", seconds),
+                String.format("%.1f", seconds > 0.0 ? progress.done.sum() / seconds : 0.0));
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /// Return the IDs of the vectors in an index that belong
+    /// to the documents, by the partition of the namespace
+    /// they are in: the ID of each document that was not
+    /// split and the ID of each chunk of those that were.
+    /// When the namespace is not partitioned the namespace
+    /// is the one partition.
+    ///
+    /// @param  target      net.jmp.pinecone.quickstart.update.UpdateIndex.Target
+    /// @param  metadata    java.util.Map<java.lang.String, com.google.protobuf.Struct>
+    /// @return             java.util.Map<java.lang.String, java.util.List<java.lang.String>>
+    private Map<String, List<String>> getVectorIds(final Target target, final Map<String, Struct> metadata) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entryWith(target, metadata));
+        }
+
+        final Map<String, List<String>> vectorIds = new TreeMap<>();
+
+        for (final String partition : Partitions.get().partitions(target.index, this.namespace)) {
+            try (final Stream<String> ids = VectorIds.stream(target.index, partition)) {
+                final List<String> partitionVectorIds = ids.filter(id -> metadata.containsKey(Chunks.parentId(id))).toList();
+
+                if (!partitionVectorIds.isEmpty()) {
+                    vectorIds.put(partition, partitionVectorIds);
+                }
             }
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exitWith(vectorIds));
+        }
 
-            final Struct metadataStruct = Struct.newBuilder()
-                    .putFields("words", Value.newBuilder().setNumberValue(numberOfWords).build())
-                    .build();
+        return vectorIds;
+    }
 
-            final UpdateResponse updateResponse = index.update(
-                    document.getDocumentId(),
-                    null,
-                    metadataStruct,
-                    this.namespace,
-                    null,
-                    null
-            );
+    /// Submit the updates of one index, each on its own
+    /// virtual thread, waiting for a slot in the window of
+    /// the index before each. Returns when every update of
+    /// the index has finished or failed.
+    ///
+    /// @param  target      net.jmp.pinecone.quickstart.update.UpdateIndex.Target
+    /// @param  vectorIds   java.util.Map<java.lang.String, java.util.List<java.lang.String>>
+    /// @param  metadata    java.util.Map<java.lang.String, com.google.protobuf.Struct>
+    /// @param  progress    net.jmp.pinecone.quickstart.update.UpdateIndex.Progress
+    private void updateTarget(final Target target,
+                              final Map<String, List<String>> vectorIds,
+                              final Map<String, Struct> metadata,
+                              final Progress progress) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entryWith(target, vectorIds, metadata, progress));
+        }
+
+        try (final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (final Map.Entry<String, List<String>> partition : vectorIds.entrySet()) {
+                for (final String vectorId : partition.getValue()) {
+                    final Struct metadataStruct = metadata.get(Chunks.parentId(vectorId));
+
+                    target.window.acquire();    // Wait for a slot in the window of the index
+
+                    executor.submit(() -> {
+                        try {
+                            this.update(target, partition.getKey(), vectorId, metadataStruct);
+                        } finally {
+                            target.window.release();
+
+                            this.reportProgress(progress);
+                        }
+                    });
+                }
+            }
+        } catch (final InterruptedException ie) {
+            Thread.currentThread().interrupt();
+
+            this.logger.warn("{}: interrupted with {} of {} updates done", target.name, progress.done.sum(), progress.total);
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /// Create the metadata holding the number of words in a document.
+    ///
+    /// @param  document    net.jmp.pinecone.quickstart.text.UnstructuredTextDocument
+    /// @return             com.google.protobuf.Struct
+    private Struct createMetadata(final UnstructuredTextDocument document) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entryWith(document));
+        }
+
+        final String content = document.getContent();
+        final StringTokenizer tokenizer = new StringTokenizer(content, " ");
+        final int numberOfWords = tokenizer.countTokens();
+
+        if (this.logger.isDebugEnabled()) {
+            this.logger.debug("{}: {} words", content, numberOfWords);
+        }
+
+        final Struct metadataStruct = Struct.newBuilder()
+                .putFields("words", Value.newBuilder().setNumberValue(numberOfWords).build())
+                .build();
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exitWith(metadataStruct));
+        }
+
+        return metadataStruct;
+    }
+
+    /// Update the metadata of one vector in a partition of an
+    /// index, retrying while it is throttled. Every attempt,
+    /// the first and each retry, waits for a token of the
+    /// rate limit.
+    ///
+    /// @param  target          net.jmp.pinecone.quickstart.update.UpdateIndex.Target
+    /// @param  partition       java.lang.String
+    /// @param  vectorId        java.lang.String
+    /// @param  metadataStruct  com.google.protobuf.Struct
+    private void update(final Target target, final String partition, final String vectorId, final Struct metadataStruct) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entryWith(target, partition, vectorId, metadataStruct));
+        }
+
+        try {
+            final UpdateResponse updateResponse = target.retryPolicy.call(() -> {
+                target.rateLimiter.acquire();
+
+                return target.index.update(
+                        vectorId,
+                        null,
+                        metadataStruct,
+                        partition,
+                        null,
+                        null
+                );
+            }, Throttling::isThrottled);
+
+            target.updated.increment();
 
             if (this.logger.isDebugEnabled()) {
                 this.logger.debug("Update response: {}", updateResponse);
             }
+        } catch (final InterruptedException ie) {
+            Thread.currentThread().interrupt();
+
+            target.failed.increment();
+        } catch (final RuntimeException re) {
+            target.failed.increment();
+
+            this.logger.error("Unable to update {} in {}: {}", vectorId, target.name, re.getMessage());
         }
 
         if (this.logger.isTraceEnabled()) {
@@ -206,6 +449,100 @@ public final class UpdateIndex extends Operation {
         }
     }
 
+    /// Count a finished update and log the progress
+    /// if the progress interval has passed.
+    ///
+    /// @param  progress    net.jmp.pinecone.quickstart.update.UpdateIndex.Progress
+    private void reportProgress(final Progress progress) {
+        progress.done.increment();
+
+        final long now = System.nanoTime();
+        final long last = progress.lastReportNanos.get();
+
+        if (now - last >= PROGRESS_INTERVAL.toNanos() && progress.lastReportNanos.compareAndSet(last, now)) {
+            final long done = progress.done.sum();
+            final double seconds = (now - progress.startNanos) / 1_000_000_000.0;
+
+            this.logger.info("Updated {} of {} ({}%): {} updates/s",
+                    done,
+                    progress.total,
+                    String.format("%.1f", 100.0 * done / progress.total),
+                    String.format("%.1f", done / seconds));
+        }
+    }
+
+    /// An index being updated, with its window of
+    /// updates in flight, its rate limiter and its counts.
+    private static final class Target {
+        /// The index name.
+        private final String name;
+
+        /// The index.
+        private final Index index;
+
+        /// The permits for the updates in flight.
+        private final Semaphore window;
+
+        /// The rate limiter.
+        private final TokenBucket rateLimiter;
+
+        /// The retry policy.
+        private final RetryPolicy retryPolicy;
+
+        /// The number of vectors updated.
+        private final LongAdder updated = new LongAdder();
+
+        /// The number of updates that failed.
+        private final LongAdder failed = new LongAdder();
+
+        /// The constructor.
+        ///
+        /// @param  name        java.lang.String
+        /// @param  index       io.pinecone.clients.Index
+        /// @param  parameters  net.jmp.pinecone.quickstart.update.UpdateParameters
+        private Target(final String name, final Index index, final UpdateParameters parameters) {
+            super();
+
+            this.name = name;
+            this.index = index;
+            this.window = new Semaphore(parameters.getInFlight());
+            this.rateLimiter = new TokenBucket(parameters.getRate(), 1);
+            this.retryPolicy = new RetryPolicy(parameters.getMaxAttempts(), RETRY_BASE_DELAY, RETRY_MAX_DELAY);
+        }
+
+        /// Return the string representation.
+        ///
+        /// @return java.lang.String
+        @Override
+        public String toString() {
+            return this.name;
+        }
+    }
+
+    /// The progress of the updates.
+    private static final class Progress {
+        /// The number of updates to make.
+        private final long total;
+
+        /// The number of updates finished.
+        private final LongAdder done = new LongAdder();
+
+        /// The time the updates started from System.nanoTime().
+        private final long startNanos = System.nanoTime();
+
+        /// The time of the last progress report from System.nanoTime().
+        private final AtomicLong lastReportNanos = new AtomicLong(this.startNanos);
+
+        /// The constructor.
+        ///
+        /// @param  total   long
+        private Progress(final long total) {
+            super();
+
+            this.total = total;
+        }
+    }
+
     /// The builder class.
     public static class Builder {
         /// The Pinecone client.
@@ -223,6 +560,9 @@ public final class UpdateIndex extends Operation {
         /// The namespace.
         private String namespace;
 
+        /// The local index directory.
+        private String localIndexDir;
+
         /// The mongo client.
         private MongoClient mongoClient;
 
@@ -232,6 +572,9 @@ public final class UpdateIndex extends Operation {
         /// The database name.
         private String dbName;
 
+        /// The update parameters.
+        private String updateParameters;
+
         /// The default constructor.
         private Builder() {
             super();
@@ -287,6 +630,16 @@ public final class UpdateIndex extends Operation {
             return this;
         }
 
+        /// Set the local index directory.
+        ///
+        /// @param  localIndexDir   java.lang.String
+        /// @return                 net.jmp.pinecone.quickstart.update.UpdateIndex.Builder
+        public Builder localIndexDir(final String localIndexDir) {
+            this.localIndexDir = localIndexDir;
+
+            return this;
+        }
+
         /// Set the mongo client.
         ///
         /// @param  mongoClient io.mongodb.client.MongoClient
@@ -317,6 +670,16 @@ public final class UpdateIndex extends Operation {
             return this;
         }
 
+        /// Set the update parameters.
+        ///
+        /// @param  updateParameters    java.lang.String
+        /// @return                     net.jmp.pinecone.quickstart.update.UpdateIndex.Builder
+        public Builder updateParameters(final String updateParameters) {
+            this.updateParameters = updateParameters;
+
+            return this;
+        }
+
         /// Build the update index object.
         ///
         /// @return net.jmp.pinecone.quickstart.update.UpdateIndex
@@ -0,0 +1,143 @@
+package net.jmp.pinecone.quickstart.update;
+
+/*
+ * (#)UpdateParameters.java 0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/// The update parameters class. Parsed from a string such
+/// as "inFlight=32,rate=100,maxAttempts=5". Parameters that
+/// are not given keep their default values. Each applies to
+/// each index on its own: the updates in flight, the updates
+/// started per second, and the attempts at each update when
+/// Pinecone throttles it.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+public final class UpdateParameters {
+    /// The default number of updates in flight per index.
+    public static final int DEFAULT_IN_FLIGHT = 32;
+
+    /// The default number of updates per second per index.
+    public static final double DEFAULT_RATE = 100.0;
+
+    /// The default number of attempts at each update.
+    public static final int DEFAULT_MAX_ATTEMPTS = 5;
+
+    /// The number of updates in flight per index.
+    private final int inFlight;
+
+    /// The number of updates per second per index.
+    private final double rate;
+
+    /// The number of attempts at each update.
+    private final int maxAttempts;
+
+    /// The constructor.
+    ///
+    /// @param  inFlight    int
+    /// @param  rate        double
+    /// @param  maxAttempts int
+    public UpdateParameters(final int inFlight, final double rate, final int maxAttempts) {
+        super();
+
+        if (inFlight <= 0) {
+            throw new IllegalArgumentException("inFlight must be positive: " + inFlight);
+        }
+
+        if (rate <= 0.0) {
+            throw new IllegalArgumentException("rate must be positive: " + rate);
+        }
+
+        if (maxAttempts <= 0) {
+            throw new IllegalArgumentException("maxAttempts must be positive: " + maxAttempts);
+        }
+
+        this.inFlight = inFlight;
+        this.rate = rate;
+        this.maxAttempts = maxAttempts;
+    }
+
+    /// Parse the parameters from a string.
+    ///
+    /// @param  parameters  java.lang.String
+    /// @return             net.jmp.pinecone.quickstart.update.UpdateParameters
+    public static UpdateParameters parse(final String parameters) {
+        int inFlight = DEFAULT_IN_FLIGHT;
+        double rate = DEFAULT_RATE;
+        int maxAttempts = DEFAULT_MAX_ATTEMPTS;
+
+        if (parameters != null && !parameters.isBlank()) {
+            for (final String parameter : parameters.split(",")) {
+                final String[] pair = parameter.split("=", 2);
+
+                if (pair.length != 2) {
+                    throw new IllegalArgumentException("Expected name=value: " + parameter);
+                }
+
+                final String value = pair[1].trim();
+
+                switch (pair[0].trim()) {
+                    case "inFlight" -> inFlight = Integer.parseInt(value);
+                    case "rate" -> rate = Double.parseDouble(value);
+                    case "maxAttempts" -> maxAttempts = Integer.parseInt(value);
+                    default -> throw new IllegalArgumentException("Unknown update parameter: " + pair[0]);
+                }
+            }
+        }
+
+        return new UpdateParameters(inFlight, rate, maxAttempts);
+    }
+
+    /// Return the number of updates in flight per index.
+    ///
+    /// @return int
+    public int getInFlight() {
+        return this.inFlight;
+    }
+
+    /// Return the number of updates per second per index.
+    ///
+    /// @return double
+    public double getRate() {
+        return this.rate;
+    }
+
+    /// Return the number of attempts at each update.
+    ///
+    /// @return int
+    public int getMaxAttempts() {
+        return this.maxAttempts;
+    }
+
+    /// Return the string representation.
+    ///
+    /// @return java.lang.String
+    @Override
+    public String toString() {
+        return "inFlight=" + this.inFlight + ",rate=" + this.rate + ",maxAttempts=" + this.maxAttempts;
+    }
+}
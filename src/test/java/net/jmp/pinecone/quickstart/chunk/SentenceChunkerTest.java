@@ -0,0 +1,198 @@
+package net.jmp.pinecone.quickstart.chunk;
+
+/*
+ * (#)SentenceChunkerTest.java  0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import net.jmp.pinecone.quickstart.text.UnstructuredTextDocument;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+/// The sentence chunker tests. Checks that chunks stay
+/// within the maximum number of tokens, that each chunk
+/// starts with the trailing sentences of the one before
+/// that fit in the overlap, and how chunks are identified.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+final class SentenceChunkerTest {
+    /// The most tokens in a chunk.
+    private static final int MAX_TOKENS = 60;
+
+    /// The most tokens shared with the previous chunk.
+    private static final int OVERLAP = 20;
+
+    /// The words sentences are made from.
+    private static final List<String> WORDS = List.of("light", "travels", "through", "space", "faster", "than",
+            "sound", "and", "the", "human", "eye", "sees", "colors", "as", "waves", "of", "energy");
+
+    /// No chunk has more than the maximum number of tokens,
+    /// even when a sentence alone is longer than a chunk.
+    @Test
+    void chunksStayWithinMaxTokens() {
+        final Random random = new Random(42);
+        final StringBuilder content = new StringBuilder(sentences(random, 40));
+
+        content.append(' ').append(sentence(random, 3 * MAX_TOKENS)).append(' ').append(sentences(random, 10));
+
+        final SentenceChunker chunker = new SentenceChunker(new ChunkParameters(MAX_TOKENS, OVERLAP));
+        final List<String> texts = chunker.split(content.toString());
+
+        assertTrue(texts.size() > 1);
+
+        for (final String text : texts) {
+            assertTrue(SentenceChunker.countTokens(text) <= MAX_TOKENS, text);
+        }
+    }
+
+    /// Each chunk starts with trailing sentences of the one
+    /// before, no more of them than fit in the overlap, and
+    /// every sentence is in some chunk.
+    @Test
+    void chunksOverlapBySentences() {
+        final Random random = new Random(7);
+        final List<String> sentences = new ArrayList<>();
+
+        for (int i = 0; i < 30; i++) {
+            sentences.add(sentence(random, 5 + random.nextInt(6)));
+        }
+
+        final SentenceChunker chunker = new SentenceChunker(new ChunkParameters(MAX_TOKENS, OVERLAP));
+        final List<String> texts = chunker.split(String.join(" ", sentences));
+
+        assertTrue(texts.size() > 1);
+
+        for (int i = 1; i < texts.size(); i++) {
+            final List<String> previous = List.of(texts.get(i - 1).split("(?<=\\.) "));
+            final List<String> current = List.of(texts.get(i).split("(?<=\\.) "));
+
+            int shared = 0;
+
+            for (int n = 1; n < previous.size() && n <= current.size(); n++) {
+                if (previous.subList(previous.size() - n, previous.size()).equals(current.subList(0, n))) {
+                    shared = n;
+                }
+            }
+
+            assertTrue(shared > 0, "chunk " + i + " does not start with the end of chunk " + (i - 1));
+            assertTrue(SentenceChunker.countTokens(String.join(" ", current.subList(0, shared))) <= OVERLAP);
+        }
+
+        for (final String sentence : sentences) {
+            assertTrue(texts.stream().anyMatch(text -> text.contains(sentence)), sentence);
+        }
+    }
+
+    /// Without overlap no sentence is repeated.
+    @Test
+    void noOverlapRepeatsNothing() {
+        final Random random = new Random(11);
+        final List<String> sentences = new ArrayList<>();
+
+        for (int i = 0; i < 30; i++) {
+            sentences.add(sentence(random, 8));
+        }
+
+        final String content = String.join(" ", sentences);
+        final SentenceChunker chunker = new SentenceChunker(new ChunkParameters(MAX_TOKENS, 0));
+
+        assertEquals(content, String.join(" ", chunker.split(content)));
+    }
+
+    /// A document that fits in one chunk keeps its identifier.
+    @Test
+    void shortDocumentKeepsItsIdentifier() {
+        final UnstructuredTextDocument document = new UnstructuredTextDocument("m1", "rec1", "Light travels fast.", "physics");
+        final List<Chunk> chunks = new SentenceChunker(new ChunkParameters(MAX_TOKENS, OVERLAP)).chunk(document);
+
+        assertEquals(1, chunks.size());
+        assertEquals("rec1", chunks.getFirst().getId());
+        assertEquals("rec1", chunks.getFirst().getParentId());
+    }
+
+    /// The chunks of a longer document are identified by
+    /// the document identifier and the chunk position.
+    @Test
+    void longDocumentChunksAreNumbered() {
+        final UnstructuredTextDocument document = new UnstructuredTextDocument("m2", "rec2", sentences(new Random(3), 30), "physics");
+        final List<Chunk> chunks = new SentenceChunker(new ChunkParameters(MAX_TOKENS, OVERLAP)).chunk(document);
+
+        assertTrue(chunks.size() > 1);
+
+        for (int i = 0; i < chunks.size(); i++) {
+            final Chunk chunk = chunks.get(i);
+
+            assertEquals(Chunks.chunkId("rec2", i), chunk.getId());
+            assertEquals(i, chunk.getIndex());
+            assertEquals("rec2", chunk.getParentId());
+            assertEquals("physics", chunk.getDocument().getCategory());
+        }
+    }
+
+    /// Return sentences of random lengths joined by spaces.
+    ///
+    /// @param  random  java.util.Random
+    /// @param  count   int
+    /// @return         java.lang.String
+    private static String sentences(final Random random, final int count) {
+        final List<String> sentences = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            sentences.add(sentence(random, 4 + random.nextInt(12)));
+        }
+
+        return String.join(" ", sentences);
+    }
+
+    /// Return a sentence of random words ending in a period,
+    /// which has one more token than it has words.
+    ///
+    /// @param  random  java.util.Random
+    /// @param  words   int
+    /// @return         java.lang.String
+    private static String sentence(final Random random, final int words) {
+        final StringBuilder sentence = new StringBuilder();
+
+        for (int i = 0; i < words; i++) {
+            final String word = WORDS.get(random.nextInt(WORDS.size()));
+
+            if (i == 0) {
+                sentence.append(Character.toUpperCase(word.charAt(0))).append(word.substring(1));
+            } else {
+                sentence.append(' ').append(word);
+            }
+        }
+
+        return sentence.append('.').toString();
+    }
+}
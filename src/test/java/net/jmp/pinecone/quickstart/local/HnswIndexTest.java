@@ -0,0 +1,280 @@
+package net.jmp.pinecone.quickstart.local;
+
+/*
+ * (#)HnswIndexTest.java    0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.io.IOException;
+
+import java.nio.file.Path;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import net.jmp.pinecone.quickstart.chunk.Chunks;
+
+import net.jmp.pinecone.quickstart.text.UnstructuredTextDocument;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/// The HNSW index tests. Measures the recall of the graph,
+/// in memory and memory-mapped, against the exact answers
+/// of the flat dense index over the same vectors.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+final class HnswIndexTest {
+    /// The dimension of the vectors.
+    private static final int DIMENSION = 32;
+
+    /// The number of vectors.
+    private static final int SIZE = 2_000;
+
+    /// The number of chunks each document is split into.
+    private static final int CHUNKS = 2;
+
+    /// The number of queries.
+    private static final int QUERIES = 50;
+
+    /// The number of matches per query.
+    private static final int TOP_K = 10;
+
+    /// The least recall the graph must reach.
+    private static final double MIN_RECALL = 0.9;
+
+    /// The categories the vectors are spread over.
+    private static final List<String> CATEGORIES = List.of("history", "physics", "biology");
+
+    /// The directory the index is saved in.
+    @TempDir
+    Path directory;
+
+    /// The recall of the graph against the flat index.
+    @Test
+    void recallAgainstFlatIndex() {
+        final Random random = new Random(42);
+        final FlatDenseIndex flat = new FlatDenseIndex(DIMENSION, Metric.COSINE, SIZE);
+        final HnswIndex hnsw = new HnswIndex(DIMENSION, Metric.COSINE, new HnswParameters(), SIZE);
+
+        this.fill(random, flat, hnsw);
+
+        assertEquals(SIZE, hnsw.size());
+        assertTrue(recall(random, flat, hnsw, Set.of()) >= MIN_RECALL);
+    }
+
+    /// The recall of the graph against the flat
+    /// index when the matches are filtered by category.
+    @Test
+    void recallWithCategoryFilter() {
+        final Random random = new Random(7);
+        final FlatDenseIndex flat = new FlatDenseIndex(DIMENSION, Metric.COSINE, SIZE);
+        final HnswIndex hnsw = new HnswIndex(DIMENSION, Metric.COSINE, new HnswParameters(), SIZE);
+
+        this.fill(random, flat, hnsw);
+
+        assertTrue(recall(random, flat, hnsw, Set.of("physics")) >= MIN_RECALL);
+    }
+
+    /// The memory-mapped index answers as the index it was
+    /// saved from, with the chunk and document identifiers.
+    ///
+    /// @throws java.io.IOException
+    @Test
+    void mappedIndexMatchesSavedIndex() throws IOException {
+        final Random random = new Random(11);
+        final FlatDenseIndex flat = new FlatDenseIndex(DIMENSION, Metric.COSINE, SIZE);
+        final HnswIndex hnsw = new HnswIndex(DIMENSION, Metric.COSINE, new HnswParameters(), SIZE);
+
+        this.fill(random, flat, hnsw);
+
+        final Path path = this.directory.resolve("test.hnsw");
+
+        hnsw.save(path);
+
+        try (final MappedHnswIndex mapped = MappedHnswIndex.open(path)) {
+            assertEquals(hnsw.size(), mapped.size());
+            assertEquals(hnsw.getDimension(), mapped.getDimension());
+            assertEquals(hnsw.getMetric(), mapped.getMetric());
+
+            for (int i = 0; i < QUERIES; i++) {
+                final float[] query = randomVector(random);
+
+                final List<LocalMatch> matches = mapped.search(query, TOP_K, Set.of());
+
+                assertEquals(ids(hnsw.search(query, TOP_K, Set.of())), ids(matches));
+
+                for (final LocalMatch match : matches) {
+                    assertEquals(match.getDocument().getDocumentId(), Chunks.parentId(match.getId()));
+                    assertNotEquals(match.getDocument().getDocumentId(), match.getId());
+                }
+            }
+
+            assertTrue(recall(random, flat, mapped, Set.of()) >= MIN_RECALL);
+        }
+    }
+
+    /// Closing the mapped index while it is searched lets the
+    /// searches in flight finish; later searches are refused.
+    ///
+    /// @throws java.io.IOException
+    /// @throws java.lang.InterruptedException
+    @Test
+    void closeWaitsForSearchesInFlight() throws IOException, InterruptedException {
+        final Random random = new Random(13);
+        final FlatDenseIndex flat = new FlatDenseIndex(DIMENSION, Metric.COSINE, SIZE);
+        final HnswIndex hnsw = new HnswIndex(DIMENSION, Metric.COSINE, new HnswParameters(), SIZE);
+
+        this.fill(random, flat, hnsw);
+
+        final Path path = this.directory.resolve("test.hnsw");
+
+        hnsw.save(path);
+
+        final MappedHnswIndex mapped = MappedHnswIndex.open(path);
+        final float[] query = randomVector(random);
+        final CountDownLatch searching = new CountDownLatch(4);
+        final ConcurrentLinkedQueue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        final Thread[] searchers = new Thread[4];
+
+        for (int i = 0; i < searchers.length; i++) {
+            searchers[i] = Thread.ofPlatform().start(() -> {
+                searching.countDown();
+
+                try {
+                    while (true) {
+                        mapped.exactSearch(query, TOP_K, Set.of());
+                    }
+                } catch (final IllegalStateException ise) {
+                    if (!ise.getMessage().equals("The HNSW index is closed")) {
+                        failures.add(ise);
+                    }
+                } catch (final RuntimeException re) {
+                    failures.add(re);
+                }
+            });
+        }
+
+        searching.await();
+
+        mapped.close();
+        mapped.close();     // Closing again has no effect
+
+        for (final Thread searcher : searchers) {
+            searcher.join();
+        }
+
+        assertTrue(failures.isEmpty(), failures.toString());
+        assertThrows(IllegalStateException.class, () -> mapped.search(query, TOP_K, Set.of()));
+    }
+
+    /// Add the same random vectors to the flat index and the graph.
+    ///
+    /// @param  random  java.util.Random
+    /// @param  flat    net.jmp.pinecone.quickstart.local.FlatDenseIndex
+    /// @param  hnsw    net.jmp.pinecone.quickstart.local.HnswIndex
+    private void fill(final Random random, final FlatDenseIndex flat, final HnswIndex hnsw) {
+        final float[][] vectors = new float[SIZE][];
+        final String[] vectorIds = new String[SIZE];
+        final UnstructuredTextDocument[] documents = new UnstructuredTextDocument[SIZE];
+
+        for (int i = 0; i < SIZE; i++) {
+            final String documentId = "rec" + i / CHUNKS;
+
+            vectors[i] = randomVector(random);
+            vectorIds[i] = Chunks.chunkId(documentId, i % CHUNKS);
+            documents[i] = new UnstructuredTextDocument("mongo" + i, documentId, null, CATEGORIES.get(i % CATEGORIES.size()));
+
+            flat.add(vectorIds[i], documents[i], vectors[i]);
+        }
+
+        IntStream.range(0, SIZE)
+                .parallel()
+                .forEach(i -> hnsw.add(vectorIds[i], documents[i], vectors[i]));
+    }
+
+    /// Return the share of the exact matches that the graph finds.
+    ///
+    /// @param  random      java.util.Random
+    /// @param  flat        net.jmp.pinecone.quickstart.local.FlatDenseIndex
+    /// @param  graph       net.jmp.pinecone.quickstart.local.HnswGraph
+    /// @param  categories  java.util.Set<java.lang.String>
+    /// @return             double
+    private static double recall(final Random random,
+                                 final FlatDenseIndex flat,
+                                 final HnswGraph graph,
+                                 final Set<String> categories) {
+        int found = 0;
+        int expected = 0;
+
+        for (int i = 0; i < QUERIES; i++) {
+            final float[] query = randomVector(random);
+            final Set<String> exact = new HashSet<>(ids(flat.search(query, TOP_K, categories)));
+
+            exact.retainAll(ids(graph.search(query, TOP_K, categories)));
+
+            found += exact.size();
+            expected += TOP_K;
+        }
+
+        return (double) found / expected;
+    }
+
+    /// Return the identifiers of matches in rank order.
+    ///
+    /// @param  matches java.util.List<net.jmp.pinecone.quickstart.local.LocalMatch>
+    /// @return         java.util.List<java.lang.String>
+    private static List<String> ids(final List<LocalMatch> matches) {
+        return matches.stream()
+                .map(LocalMatch::getId)
+                .collect(Collectors.toList());
+    }
+
+    /// Return a vector of Gaussian components.
+    ///
+    /// @param  random  java.util.Random
+    /// @return         float[]
+    private static float[] randomVector(final Random random) {
+        final float[] vector = new float[DIMENSION];
+
+        for (int i = 0; i < DIMENSION; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+
+        return vector;
+    }
+}
@@ -0,0 +1,139 @@
+package net.jmp.pinecone.quickstart.local;
+
+/*
+ * (#)ProductQuantizerTest.java 0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+/// The product quantizer tests. Trains quantizers on a
+/// sample, encodes it and checks the dot products the
+/// scorer estimates from the codes against the exact ones.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+final class ProductQuantizerTest {
+    /// The dimension of the vectors.
+    private static final int DIMENSION = 32;
+
+    /// The number of vectors.
+    private static final int SIZE = 2_000;
+
+    /// The number of queries.
+    private static final int QUERIES = 20;
+
+    /// The error shrinks as the vectors are split into more subspaces.
+    @Test
+    void errorShrinksWithMoreSubspaces() {
+        final float[][] vectors = randomVectors(new Random(42), SIZE);
+        final float[][] queries = randomVectors(new Random(43), QUERIES);
+
+        final double coarse = relativeError(ProductQuantizer.train(vectors, 4, ProductQuantizer.DEFAULT_ITERATIONS, 1L), vectors, queries);
+        final double medium = relativeError(ProductQuantizer.train(vectors, 8, ProductQuantizer.DEFAULT_ITERATIONS, 1L), vectors, queries);
+        final double fine = relativeError(ProductQuantizer.train(vectors, 16, ProductQuantizer.DEFAULT_ITERATIONS, 1L), vectors, queries);
+
+        assertTrue(fine < medium);
+        assertTrue(medium < coarse);
+        assertTrue(fine < 0.15);
+    }
+
+    /// A code holds one byte for each subspace.
+    @Test
+    void codeSizeIsTheNumberOfSubspaces() {
+        final ProductQuantizer quantizer = ProductQuantizer.train(randomVectors(new Random(7), 300), 8);
+
+        assertEquals(DIMENSION, quantizer.getDimension());
+        assertEquals(8, quantizer.getSubspaces());
+        assertEquals(8, quantizer.getCodeSize());
+    }
+
+    /// A number of subspaces that does not divide the dimension is rejected.
+    @Test
+    void subspacesMustDivideTheDimension() {
+        final float[][] vectors = randomVectors(new Random(3), 100);
+
+        assertThrows(IllegalArgumentException.class, () -> ProductQuantizer.train(vectors, 5));
+        assertThrows(IllegalArgumentException.class, () -> ProductQuantizer.train(new float[0][], 4));
+    }
+
+    /// Return the mean error of the estimated dot products
+    /// relative to the mean magnitude of the exact ones.
+    ///
+    /// @param  quantizer   net.jmp.pinecone.quickstart.local.ProductQuantizer
+    /// @param  vectors     float[][]
+    /// @param  queries     float[][]
+    /// @return             double
+    private static double relativeError(final ProductQuantizer quantizer, final float[][] vectors, final float[][] queries) {
+        final int codeSize = quantizer.getCodeSize();
+        final byte[] codes = new byte[vectors.length * codeSize];
+
+        for (int i = 0; i < vectors.length; i++) {
+            quantizer.encode(vectors[i], codes, i * codeSize);
+        }
+
+        double error = 0.0;
+        double magnitude = 0.0;
+
+        for (final float[] query : queries) {
+            final VectorQuantizer.Scorer scorer = quantizer.scorer(query);
+
+            for (int i = 0; i < vectors.length; i++) {
+                float exact = 0.0f;
+
+                for (int d = 0; d < DIMENSION; d++) {
+                    exact += query[d] * vectors[i][d];
+                }
+
+                error += Math.abs(exact - scorer.score(codes, i * codeSize));
+                magnitude += Math.abs(exact);
+            }
+        }
+
+        return error / magnitude;
+    }
+
+    /// Return vectors of Gaussian components.
+    ///
+    /// @param  random  java.util.Random
+    /// @param  count   int
+    /// @return         float[][]
+    private static float[][] randomVectors(final Random random, final int count) {
+        final float[][] vectors = new float[count][DIMENSION];
+
+        for (int i = 0; i < count; i++) {
+            for (int d = 0; d < DIMENSION; d++) {
+                vectors[i][d] = (float) random.nextGaussian();
+            }
+        }
+
+        return vectors;
+    }
+}
@@ -0,0 +1,173 @@
+package net.jmp.pinecone.quickstart.local;
+
+/*
+ * (#)ScalarQuantizerTest.java  0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+/// The scalar quantizer tests. Encodes vectors to int8
+/// codes and checks the dot products the scorer estimates
+/// from them against the exact dot products.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+final class ScalarQuantizerTest {
+    /// The dimension of the vectors.
+    private static final int DIMENSION = 64;
+
+    /// The number of vectors.
+    private static final int SIZE = 500;
+
+    /// The largest code magnitude.
+    private static final int MAX_CODE = 127;
+
+    /// Each estimate is within the rounding error of its code:
+    /// half a step of the vector's scale on each component.
+    @Test
+    void estimateIsWithinRoundingError() {
+        final Random random = new Random(42);
+        final ScalarQuantizer quantizer = new ScalarQuantizer(DIMENSION);
+        final float[] query = randomVector(random);
+        final VectorQuantizer.Scorer scorer = quantizer.scorer(query);
+        final byte[] codes = new byte[quantizer.getCodeSize()];
+
+        float queryMagnitude = 0.0f;
+
+        for (final float value : query) {
+            queryMagnitude += Math.abs(value);
+        }
+
+        for (int i = 0; i < SIZE; i++) {
+            final float[] vector = randomVector(random);
+
+            quantizer.encode(vector, codes, 0);
+
+            final float step = maxMagnitude(vector) / MAX_CODE;
+            final float bound = queryMagnitude * step / 2.0f + 1e-3f;
+
+            assertEquals(dotProduct(query, vector), scorer.score(codes, 0), bound);
+        }
+    }
+
+    /// The estimates are close to the exact dot products overall.
+    @Test
+    void relativeErrorIsSmall() {
+        final Random random = new Random(7);
+        final ScalarQuantizer quantizer = new ScalarQuantizer(DIMENSION);
+        final float[] query = randomVector(random);
+        final VectorQuantizer.Scorer scorer = quantizer.scorer(query);
+        final int codeSize = quantizer.getCodeSize();
+        final byte[] codes = new byte[SIZE * codeSize];
+        final float[][] vectors = new float[SIZE][];
+
+        for (int i = 0; i < SIZE; i++) {
+            vectors[i] = randomVector(random);
+
+            quantizer.encode(vectors[i], codes, i * codeSize);
+        }
+
+        double error = 0.0;
+        double magnitude = 0.0;
+
+        for (int i = 0; i < SIZE; i++) {
+            final float exact = dotProduct(query, vectors[i]);
+
+            error += Math.abs(exact - scorer.score(codes, i * codeSize));
+            magnitude += Math.abs(exact);
+        }
+
+        assertTrue(error / magnitude < 0.02);
+    }
+
+    /// A zero vector scores zero.
+    @Test
+    void zeroVectorScoresZero() {
+        final ScalarQuantizer quantizer = new ScalarQuantizer(DIMENSION);
+        final byte[] codes = new byte[quantizer.getCodeSize()];
+
+        quantizer.encode(new float[DIMENSION], codes, 0);
+
+        assertEquals(0.0f, quantizer.scorer(randomVector(new Random(3))).score(codes, 0), 0.0f);
+    }
+
+    /// A vector of the wrong dimension is rejected.
+    @Test
+    void wrongDimensionIsRejected() {
+        final ScalarQuantizer quantizer = new ScalarQuantizer(DIMENSION);
+
+        assertThrows(IllegalArgumentException.class, () -> quantizer.encode(new float[DIMENSION - 1], new byte[quantizer.getCodeSize()], 0));
+        assertThrows(IllegalArgumentException.class, () -> quantizer.scorer(new float[DIMENSION + 1]));
+    }
+
+    /// Return the dot product of two vectors.
+    ///
+    /// @param  a   float[]
+    /// @param  b   float[]
+    /// @return     float
+    private static float dotProduct(final float[] a, final float[] b) {
+        float sum = 0.0f;
+
+        for (int i = 0; i < a.length; i++) {
+            sum += a[i] * b[i];
+        }
+
+        return sum;
+    }
+
+    /// Return the largest magnitude of a component.
+    ///
+    /// @param  vector  float[]
+    /// @return         float
+    private static float maxMagnitude(final float[] vector) {
+        float max = 0.0f;
+
+        for (final float value : vector) {
+            max = Math.max(max, Math.abs(value));
+        }
+
+        return max;
+    }
+
+    /// Return a vector of Gaussian components.
+    ///
+    /// @param  random  java.util.Random
+    /// @return         float[]
+    private static float[] randomVector(final Random random) {
+        final float[] vector = new float[DIMENSION];
+
+        for (int i = 0; i < DIMENSION; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+
+        return vector;
+    }
+}
@@ -0,0 +1,301 @@
+package net.jmp.pinecone.quickstart.local;
+
+/*
+ * (#)SparseInvertedIndexTest.java  0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.io.IOException;
+
+import java.nio.file.Path;
+
+import java.util.*;
+
+import net.jmp.pinecone.quickstart.chunk.Chunks;
+
+import net.jmp.pinecone.quickstart.text.UnstructuredTextDocument;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/// The sparse inverted index tests. Checks the matches WAND
+/// returns against a brute-force dot product over every
+/// document, which WAND must equal since it only skips
+/// documents that cannot make the top k.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+final class SparseInvertedIndexTest {
+    /// The number of vectors.
+    private static final int SIZE = 3_000;
+
+    /// The number of chunks each document is split into.
+    private static final int CHUNKS = 2;
+
+    /// The number of distinct terms.
+    private static final int TERMS = 500;
+
+    /// The number of terms in a document.
+    private static final int DOCUMENT_TERMS = 40;
+
+    /// The number of terms in a query.
+    private static final int QUERY_TERMS = 8;
+
+    /// The number of queries.
+    private static final int QUERIES = 100;
+
+    /// The number of matches per query.
+    private static final int TOP_K = 10;
+
+    /// The tolerance on a score.
+    private static final float TOLERANCE = 1e-4f;
+
+    /// The categories the documents are spread over.
+    private static final List<String> CATEGORIES = List.of("history", "physics", "biology");
+
+    /// The directory the index is saved in.
+    @TempDir
+    Path directory;
+
+    /// WAND finds the same top k as brute force.
+    @Test
+    void wandMatchesBruteForce() {
+        final Random random = new Random(42);
+        final Corpus corpus = new Corpus(random);
+
+        for (int i = 0; i < QUERIES; i++) {
+            final Query query = new Query(random);
+
+            assertMatches(corpus.bruteForce(query, Set.of()), corpus.index.search(query.terms, query.weights, TOP_K, Set.of()));
+        }
+    }
+
+    /// WAND finds the same top k as brute force
+    /// when the matches are filtered by category.
+    @Test
+    void wandMatchesBruteForceWithCategoryFilter() {
+        final Random random = new Random(7);
+        final Corpus corpus = new Corpus(random);
+        final Set<String> categories = Set.of("biology");
+
+        for (int i = 0; i < QUERIES; i++) {
+            final Query query = new Query(random);
+            final List<LocalMatch> matches = corpus.index.search(query.terms, query.weights, TOP_K, categories);
+
+            assertMatches(corpus.bruteForce(query, categories), matches);
+
+            for (final LocalMatch match : matches) {
+                assertEquals("biology", match.getDocument().getCategory());
+            }
+        }
+    }
+
+    /// A query whose terms the index does not know has no matches.
+    @Test
+    void unknownTermsHaveNoMatches() {
+        final Corpus corpus = new Corpus(new Random(3));
+
+        assertTrue(corpus.index.search(new int[] {TERMS + 1}, new float[] {1.0f}, TOP_K, Set.of()).isEmpty());
+    }
+
+    /// A loaded index answers as the index it was saved from.
+    ///
+    /// @throws java.io.IOException
+    @Test
+    void loadedIndexMatchesSavedIndex() throws IOException {
+        final Random random = new Random(11);
+        final Corpus corpus = new Corpus(random);
+        final Path path = this.directory.resolve("test.sparse");
+
+        corpus.index.save(path);
+
+        final SparseInvertedIndex loaded = SparseInvertedIndex.load(path);
+
+        assertEquals(corpus.index.size(), loaded.size());
+        assertEquals(corpus.index.getTermCount(), loaded.getTermCount());
+
+        for (int i = 0; i < QUERIES; i++) {
+            final Query query = new Query(random);
+
+            final List<LocalMatch> matches = loaded.search(query.terms, query.weights, TOP_K, Set.of());
+
+            assertMatches(corpus.bruteForce(query, Set.of()), matches);
+
+            for (final LocalMatch match : matches) {
+                assertEquals(match.getDocument().getDocumentId(), Chunks.parentId(match.getId()));
+                assertNotEquals(match.getDocument().getDocumentId(), match.getId());
+            }
+        }
+    }
+
+    /// Check matches against the expected scores in rank
+    /// order. Documents with equal scores may come in any
+    /// order, so only the scores are compared.
+    ///
+    /// @param  expected    float[]
+    /// @param  matches     java.util.List<net.jmp.pinecone.quickstart.local.LocalMatch>
+    private static void assertMatches(final float[] expected, final List<LocalMatch> matches) {
+        assertEquals(expected.length, matches.size());
+
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], matches.get(i).getScore(), TOLERANCE);
+        }
+    }
+
+    /// A random corpus of sparse vectors, held both in an
+    /// index and as the vectors for brute-force scoring.
+    private static final class Corpus {
+        /// The index.
+        private final SparseInvertedIndex index;
+
+        /// The weights of each document by term.
+        private final List<Map<Integer, Float>> vectors = new ArrayList<>(SIZE);
+
+        /// The category of each document.
+        private final List<String> categories = new ArrayList<>(SIZE);
+
+        /// The constructor.
+        ///
+        /// @param  random  java.util.Random
+        private Corpus(final Random random) {
+            super();
+
+            final SparseInvertedIndex.Builder builder = SparseInvertedIndex.builder();
+
+            for (int i = 0; i < SIZE; i++) {
+                final Map<Integer, Float> vector = new TreeMap<>();
+
+                while (vector.size() < DOCUMENT_TERMS) {
+                    vector.put(skewedTerm(random), random.nextFloat());
+                }
+
+                final String category = CATEGORIES.get(i % CATEGORIES.size());
+                final List<Long> indices = new ArrayList<>(vector.size());
+                final List<Float> values = new ArrayList<>(vector.size());
+
+                for (final Map.Entry<Integer, Float> entry : vector.entrySet()) {
+                    indices.add((long) entry.getKey());
+                    values.add(entry.getValue());
+                }
+
+                final String documentId = "rec" + i / CHUNKS;
+
+                builder.add(Chunks.chunkId(documentId, i % CHUNKS),
+                        new UnstructuredTextDocument("mongo" + i, documentId, null, category),
+                        indices,
+                        values);
+
+                this.vectors.add(vector);
+                this.categories.add(category);
+            }
+
+            this.index = builder.build();
+        }
+
+        /// Score every document and return the best scores.
+        ///
+        /// @param  query       net.jmp.pinecone.quickstart.local.SparseInvertedIndexTest.Query
+        /// @param  categories  java.util.Set<java.lang.String>
+        /// @return             float[]
+        private float[] bruteForce(final Query query, final Set<String> categories) {
+            final List<Float> scores = new ArrayList<>();
+
+            for (int i = 0; i < SIZE; i++) {
+                if (!categories.isEmpty() && !categories.contains(this.categories.get(i))) {
+                    continue;
+                }
+
+                float score = 0.0f;
+                boolean shared = false;
+
+                for (int t = 0; t < query.terms.length; t++) {
+                    final Float weight = this.vectors.get(i).get(query.terms[t]);
+
+                    if (weight != null) {
+                        score += weight * query.weights[t];
+                        shared = true;
+                    }
+                }
+
+                if (shared) {
+                    scores.add(score);
+                }
+            }
+
+            scores.sort(Comparator.reverseOrder());
+
+            final float[] best = new float[Math.min(TOP_K, scores.size())];
+
+            for (int i = 0; i < best.length; i++) {
+                best[i] = scores.get(i);
+            }
+
+            return best;
+        }
+    }
+
+    /// A random query of distinct terms.
+    private static final class Query {
+        /// The terms.
+        private final int[] terms = new int[QUERY_TERMS];
+
+        /// The weights.
+        private final float[] weights = new float[QUERY_TERMS];
+
+        /// The constructor.
+        ///
+        /// @param  random  java.util.Random
+        private Query(final Random random) {
+            super();
+
+            final Set<Integer> chosen = new HashSet<>();
+
+            for (int i = 0; i < QUERY_TERMS; i++) {
+                int term = skewedTerm(random);
+
+                while (!chosen.add(term)) {
+                    term = skewedTerm(random);
+                }
+
+                this.terms[i] = term;
+                this.weights[i] = random.nextFloat();
+            }
+        }
+    }
+
+    /// Return a term, favouring the low ones so that the
+    /// posting lengths vary as they do in real text.
+    ///
+    /// @param  random  java.util.Random
+    /// @return         int
+    private static int skewedTerm(final Random random) {
+        final double u = random.nextDouble();
+
+        return (int) (TERMS * u * u);
+    }
+}
@@ -0,0 +1,135 @@
+package net.jmp.pinecone.quickstart.pipeline;
+
+/*
+ * (#)PipelineTest.java 0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+/// The pipeline tests. Checks that the steps are ordered
+/// after their dependencies, that malformed pipelines are
+/// rejected, and that a failed step skips its dependents.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+final class PipelineTest {
+    /// Every step follows its dependencies.
+    @Test
+    void stepsFollowTheirDependencies() {
+        final Pipeline pipeline = Pipeline.parse("query:load+index,load:create,index:create,create");
+
+        assertEquals(List.of("create", "load", "index", "query"), operations(pipeline.getSteps()));
+    }
+
+    /// A step named twice is rejected.
+    @Test
+    void duplicateStepIsRejected() {
+        final IllegalArgumentException iae = assertThrows(IllegalArgumentException.class,
+                () -> Pipeline.parse("create,load:create,create"));
+
+        assertTrue(iae.getMessage().startsWith("Duplicate pipeline step"), iae.getMessage());
+    }
+
+    /// A dependency that is not a step is rejected.
+    @Test
+    void unknownDependencyIsRejected() {
+        final IllegalArgumentException iae = assertThrows(IllegalArgumentException.class,
+                () -> Pipeline.parse("create,load:create+index"));
+
+        assertTrue(iae.getMessage().startsWith("Unknown dependency of pipeline step"), iae.getMessage());
+    }
+
+    /// Steps that depend on each other in a cycle are rejected.
+    @Test
+    void cycleIsRejected() {
+        final IllegalArgumentException iae = assertThrows(IllegalArgumentException.class,
+                () -> Pipeline.parse("create,load:create+query,query:load"));
+
+        assertTrue(iae.getMessage().startsWith("Pipeline steps depend on each other in a cycle"), iae.getMessage());
+        assertFalse(iae.getMessage().contains("create"), iae.getMessage());
+    }
+
+    /// A pipeline without steps or with an empty dependency is rejected.
+    @Test
+    void emptyPipelineIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> Pipeline.parse(""));
+        assertThrows(IllegalArgumentException.class, () -> Pipeline.parse(null));
+        assertThrows(IllegalArgumentException.class, () -> Pipeline.parse("create,load:create+"));
+    }
+
+    /// Each step runs once, after its dependencies.
+    @Test
+    void runRunsStepsAfterTheirDependencies() {
+        final List<String> ran = Collections.synchronizedList(new ArrayList<>());
+        final Pipeline pipeline = Pipeline.parse("create,load:create,index:create,query:load+index");
+
+        assertTrue(pipeline.run(ran::add));
+        assertEquals(4, ran.size());
+        assertEquals("create", ran.getFirst());
+        assertEquals("query", ran.getLast());
+    }
+
+    /// A failed step skips its dependents but not the other steps.
+    @Test
+    void failedStepSkipsItsDependents() {
+        final List<String> ran = Collections.synchronizedList(new ArrayList<>());
+        final Pipeline pipeline = Pipeline.parse("create,load:create,index:create,query:load");
+
+        final boolean succeeded = pipeline.run(operation -> {
+            if (operation.equals("load")) {
+                throw new IllegalStateException("load failed");
+            }
+
+            ran.add(operation);
+        });
+
+        assertFalse(succeeded);
+        assertTrue(ran.contains("create"));
+        assertTrue(ran.contains("index"));
+        assertFalse(ran.contains("query"));
+    }
+
+    /// Return the operations of the steps.
+    ///
+    /// @param  steps   java.util.List<net.jmp.pinecone.quickstart.pipeline.PipelineStep>
+    /// @return         java.util.List<java.lang.String>
+    private static List<String> operations(final List<PipelineStep> steps) {
+        final List<String> operations = new ArrayList<>(steps.size());
+
+        for (final PipelineStep step : steps) {
+            operations.add(step.getOperation());
+        }
+
+        return operations;
+    }
+}
@@ -0,0 +1,157 @@
+package net.jmp.pinecone.quickstart.resilience;
+
+/*
+ * (#)AdaptiveLimiterTest.java  0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+/// The adaptive limiter tests. Checks the additive increase,
+/// the multiplicative decrease once a round, the bounds of
+/// the limit and that callers wait at the limit.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+final class AdaptiveLimiterTest {
+    /// The initial limit is kept within the bounds.
+    @Test
+    void initialLimitIsClamped() {
+        assertEquals(10, new AdaptiveLimiter(100, 1, 10).getLimit());
+        assertEquals(2, new AdaptiveLimiter(0, 2, 10).getLimit());
+        assertEquals(5, new AdaptiveLimiter(5, 1, 10).getLimit());
+    }
+
+    /// Successful calls raise the limit up to the highest limit.
+    ///
+    /// @throws java.lang.InterruptedException
+    @Test
+    void successRaisesLimitToMax() throws InterruptedException {
+        final AdaptiveLimiter limiter = new AdaptiveLimiter(1, 1, 4);
+
+        limiter.release(limiter.acquire(), false);
+
+        assertEquals(2, limiter.getLimit());
+
+        for (int i = 0; i < 100; i++) {
+            limiter.release(limiter.acquire(), false);
+        }
+
+        assertEquals(4, limiter.getLimit());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    /// A throttled call halves the limit.
+    ///
+    /// @throws java.lang.InterruptedException
+    @Test
+    void throttleHalvesLimit() throws InterruptedException {
+        final AdaptiveLimiter limiter = new AdaptiveLimiter(8, 1, 16);
+
+        limiter.release(limiter.acquire(), true);
+
+        assertEquals(4, limiter.getLimit());
+
+        limiter.release(limiter.acquire(), true);
+
+        assertEquals(2, limiter.getLimit());
+    }
+
+    /// Calls throttled in the same round lower the limit once.
+    ///
+    /// @throws java.lang.InterruptedException
+    @Test
+    void throttleDecreasesOncePerRound() throws InterruptedException {
+        final AdaptiveLimiter limiter = new AdaptiveLimiter(8, 1, 16);
+        final long first = limiter.acquire();
+        final long second = limiter.acquire();
+        final long third = limiter.acquire();
+
+        assertEquals(3, limiter.getInFlight());
+
+        limiter.release(first, true);
+        limiter.release(second, true);
+        limiter.release(third, true);
+
+        assertEquals(4, limiter.getLimit());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    /// The limit does not fall below the lowest limit.
+    ///
+    /// @throws java.lang.InterruptedException
+    @Test
+    void throttleIsClampedToMin() throws InterruptedException {
+        final AdaptiveLimiter limiter = new AdaptiveLimiter(3, 2, 8);
+
+        for (int i = 0; i < 3; i++) {
+            limiter.release(limiter.acquire(), true);
+        }
+
+        assertEquals(2, limiter.getLimit());
+    }
+
+    /// A caller waits at the limit until a call ends.
+    ///
+    /// @throws java.lang.InterruptedException
+    @Test
+    void acquireWaitsAtTheLimit() throws InterruptedException {
+        final AdaptiveLimiter limiter = new AdaptiveLimiter(1, 1, 1);
+        final CountDownLatch acquired = new CountDownLatch(1);
+        final long round = limiter.acquire();
+
+        final Thread waiter = Thread.ofVirtual().start(() -> {
+            try {
+                limiter.acquire();
+                acquired.countDown();
+            } catch (final InterruptedException ie) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        assertFalse(acquired.await(100, TimeUnit.MILLISECONDS), "acquired past the limit");
+
+        limiter.release(round, false);
+
+        assertTrue(acquired.await(5, TimeUnit.SECONDS), "not acquired after a release");
+
+        waiter.join();
+
+        assertEquals(1, limiter.getInFlight());
+    }
+
+    /// Bounds that are not positive or not ordered are rejected.
+    @Test
+    void invalidArgumentsAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveLimiter(1, 0, 4));
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveLimiter(1, 4, 2));
+    }
+}
@@ -0,0 +1,112 @@
+package net.jmp.pinecone.quickstart.resilience;
+
+/*
+ * (#)TokenBucketTest.java  0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+/// The token bucket tests. Checks the burst, the pacing
+/// of waiting callers, changing the rate and the arguments.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+final class TokenBucketTest {
+    /// A full bucket gives its burst at once and then none.
+    @Test
+    void burstIsAvailableAtOnce() {
+        final TokenBucket bucket = new TokenBucket(1.0, 5);
+
+        for (int i = 0; i < 5; i++) {
+            assertTrue(bucket.tryAcquire(), "permit " + i);
+        }
+
+        assertFalse(bucket.tryAcquire());
+    }
+
+    /// Callers past the burst are paced at the rate.
+    ///
+    /// @throws java.lang.InterruptedException
+    @Test
+    void acquireIsPacedAtTheRate() throws InterruptedException {
+        final TokenBucket bucket = new TokenBucket(100.0, 1);
+        final long start = System.nanoTime();
+
+        for (int i = 0; i < 11; i++) {
+            bucket.acquire();
+        }
+
+        final long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // The first permit is stored and the other ten come 10 ms apart
+
+        assertTrue(elapsedMillis >= 90, "elapsed " + elapsedMillis + " ms");
+    }
+
+    /// Permits are stored again while the bucket is unused.
+    ///
+    /// @throws java.lang.InterruptedException
+    @Test
+    void permitsRefillWhileUnused() throws InterruptedException {
+        final TokenBucket bucket = new TokenBucket(100.0, 2);
+
+        assertTrue(bucket.tryAcquire());
+        assertTrue(bucket.tryAcquire());
+        assertFalse(bucket.tryAcquire());
+
+        TimeUnit.MILLISECONDS.sleep(50);
+
+        assertTrue(bucket.tryAcquire());
+        assertTrue(bucket.tryAcquire());
+        assertFalse(bucket.tryAcquire());
+    }
+
+    /// The rate can be changed.
+    @Test
+    void rateCanBeChanged() {
+        final TokenBucket bucket = new TokenBucket(2.0, 1);
+
+        assertEquals(2.0, bucket.getRate(), 1e-9);
+
+        bucket.setRate(50.0);
+
+        assertEquals(50.0, bucket.getRate(), 1e-9);
+    }
+
+    /// A rate or burst that is not positive is rejected.
+    @Test
+    void invalidArgumentsAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucket(0.0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucket(-1.0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucket(1.0, 0));
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucket(1.0, 1).setRate(0.0));
+    }
+}
@@ -0,0 +1,104 @@
+package net.jmp.pinecone.quickstart.search;
+
+/*
+ * (#)SearchComparisonTest.java 0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+/// The search comparison tests. Checks the overlap and
+/// the rank correlation on lists whose answer is known.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+final class SearchComparisonTest {
+    /// The tolerance of the computed measures.
+    private static final double DELTA = 1e-9;
+
+    /// The reference documents in rank order.
+    private static final List<String> REFERENCE = List.of("a", "b", "c", "d", "e");
+
+    /// Identical lists overlap fully and rank alike.
+    @Test
+    void identicalListsAgree() {
+        assertEquals(1.0, SearchComparison.overlap(REFERENCE, REFERENCE), DELTA);
+        assertEquals(1.0, SearchComparison.rankCorrelation(REFERENCE, REFERENCE), DELTA);
+    }
+
+    /// Reversed lists overlap fully and rank opposite.
+    @Test
+    void reversedListsRankOpposite() {
+        final List<String> reversed = REFERENCE.reversed();
+
+        assertEquals(1.0, SearchComparison.overlap(reversed, REFERENCE), DELTA);
+        assertEquals(-1.0, SearchComparison.rankCorrelation(reversed, REFERENCE), DELTA);
+    }
+
+    /// The overlap is the shared share of the shorter list and
+    /// the correlation ranks only the shared documents.
+    @Test
+    void partialOverlap() {
+        final List<String> other = List.of("x", "b", "a", "d");
+
+        assertEquals(0.75, SearchComparison.overlap(other, REFERENCE), DELTA);
+        assertEquals(0.75, SearchComparison.overlap(REFERENCE, other), DELTA);
+
+        // Shared in order b, a, d against a, b, d: one swap of three
+
+        assertEquals(0.5, SearchComparison.rankCorrelation(other, REFERENCE), DELTA);
+    }
+
+    /// Empty lists have no overlap and fewer than two
+    /// shared documents have no rank correlation.
+    @Test
+    void degenerateLists() {
+        assertEquals(0.0, SearchComparison.overlap(List.of(), REFERENCE), DELTA);
+        assertEquals(0.0, SearchComparison.overlap(REFERENCE, List.of()), DELTA);
+        assertEquals(0.0, SearchComparison.overlap(List.of("x", "y"), REFERENCE), DELTA);
+
+        assertTrue(Double.isNaN(SearchComparison.rankCorrelation(List.of(), REFERENCE)));
+        assertTrue(Double.isNaN(SearchComparison.rankCorrelation(List.of("c", "x"), REFERENCE)));
+    }
+
+    /// The report names the fastest mode that meets the relevance bar.
+    @Test
+    void reportNamesFastestRelevantMode() {
+        final SearchComparison comparison = new SearchComparison("dense");
+
+        comparison.add("dense", REFERENCE, 9_000_000L);
+        comparison.add("reversed", REFERENCE.reversed(), 1_000_000L);
+        comparison.add("same", REFERENCE, 3_000_000L);
+
+        final String report = comparison.report();
+
+        assertTrue(report.contains(": same (3.0 ms)"), report);
+    }
+}
@@ -0,0 +1,195 @@
+package net.jmp.pinecone.quickstart.snapshot;
+
+/*
+ * (#)SnapshotReaderTest.java   0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.io.IOException;
+
+import java.nio.charset.StandardCharsets;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/// The snapshot reader tests. Writes snapshots with the
+/// snapshot writer, reads them back, and checks that a
+/// damaged snapshot is detected rather than decoded.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+final class SnapshotReaderTest {
+    /// The index name.
+    private static final String INDEX_NAME = "quickstart-dense";
+
+    /// The namespace.
+    private static final String NAMESPACE = "quickstart-namespace";
+
+    /// The dimension of the dense values.
+    private static final int DIMENSION = 8;
+
+    /// The number of vectors in a block.
+    private static final int BLOCK_SIZE = 16;
+
+    /// The number of vectors, which leaves the last block partly full.
+    private static final int SIZE = 50;
+
+    /// The directory the snapshots are written in.
+    @TempDir
+    Path directory;
+
+    /// Every vector reads back as it was written, block by block.
+    ///
+    /// @throws java.io.IOException
+    @Test
+    void roundTrip() throws IOException {
+        final Path path = this.directory.resolve("round-trip.snap");
+        final List<SnapshotVector> written = write(path, new Random(42));
+
+        try (final SnapshotReader reader = SnapshotReader.open(path)) {
+            assertEquals(INDEX_NAME, reader.getIndexName());
+            assertEquals(NAMESPACE, reader.getNamespace());
+            assertEquals(SIZE, reader.getVectorCount());
+            assertEquals((SIZE + BLOCK_SIZE - 1) / BLOCK_SIZE, reader.getBlockCount());
+
+            final List<SnapshotVector> read = new ArrayList<>(SIZE);
+
+            while (reader.hasNextBlock()) {
+                read.addAll(reader.nextBlock());
+            }
+
+            assertEquals(written.size(), read.size());
+
+            for (int i = 0; i < written.size(); i++) {
+                assertVectorEquals(written.get(i), read.get(i));
+            }
+        }
+    }
+
+    /// A block whose bytes changed fails its checksum.
+    ///
+    /// @throws java.io.IOException
+    @Test
+    void corruptBlockFailsItsChecksum() throws IOException {
+        final Path path = this.directory.resolve("corrupt.snap");
+
+        write(path, new Random(7));
+
+        final byte[] bytes = Files.readAllBytes(path);
+        final int headerSize = 4 * Integer.BYTES
+                + INDEX_NAME.getBytes(StandardCharsets.UTF_8).length
+                + NAMESPACE.getBytes(StandardCharsets.UTF_8).length;
+
+        bytes[headerSize + SnapshotWriter.FRAME_SIZE + Integer.BYTES] ^= 0x01;    // Inside the payload of the first block
+
+        Files.write(path, bytes);
+
+        try (final SnapshotReader reader = SnapshotReader.open(path)) {
+            final IOException ioe = assertThrows(IOException.class, reader::nextBlock);
+
+            assertTrue(ioe.getMessage().contains("checksum"));
+        }
+    }
+
+    /// A snapshot cut short is not opened.
+    ///
+    /// @throws java.io.IOException
+    @Test
+    void truncatedSnapshotIsRejected() throws IOException {
+        final Path path = this.directory.resolve("truncated.snap");
+
+        write(path, new Random(11));
+
+        final byte[] bytes = Files.readAllBytes(path);
+
+        Files.write(path, Arrays.copyOf(bytes, bytes.length - 3));
+
+        assertThrows(IOException.class, () -> SnapshotReader.open(path).close());
+    }
+
+    /// Write a snapshot of random vectors and return them.
+    ///
+    /// @param  path    java.nio.file.Path
+    /// @param  random  java.util.Random
+    /// @return         java.util.List<net.jmp.pinecone.quickstart.snapshot.SnapshotVector>
+    /// @throws         java.io.IOException
+    private static List<SnapshotVector> write(final Path path, final Random random) throws IOException {
+        final List<SnapshotVector> vectors = new ArrayList<>(SIZE);
+
+        try (final SnapshotWriter writer = new SnapshotWriter(path, INDEX_NAME, NAMESPACE, BLOCK_SIZE)) {
+            for (int i = 0; i < SIZE; i++) {
+                final float[] values = new float[DIMENSION];
+
+                for (int d = 0; d < DIMENSION; d++) {
+                    values[d] = random.nextFloat();
+                }
+
+                final int sparseLength = random.nextInt(5);
+                final int[] sparseIndices = new int[sparseLength];
+                final float[] sparseValues = new float[sparseLength];
+
+                for (int s = 0; s < sparseLength; s++) {
+                    sparseIndices[s] = random.nextInt() & Integer.MAX_VALUE;
+                    sparseValues[s] = random.nextFloat();
+                }
+
+                final String category = i % 5 == 0 ? null : (i % 2 == 0 ? "history" : "physics");
+                final byte[] metadata = ("{\"n\":" + i + "}").getBytes(StandardCharsets.UTF_8);
+                final SnapshotVector vector = new SnapshotVector("rec" + i, values, sparseIndices, sparseValues, category, metadata);
+
+                writer.write(vector);
+                vectors.add(vector);
+            }
+
+            assertEquals(SIZE, writer.getVectorCount());
+        }
+
+        return vectors;
+    }
+
+    /// Check that a vector read back equals the one written.
+    ///
+    /// @param  expected    net.jmp.pinecone.quickstart.snapshot.SnapshotVector
+    /// @param  actual      net.jmp.pinecone.quickstart.snapshot.SnapshotVector
+    private static void assertVectorEquals(final SnapshotVector expected, final SnapshotVector actual) {
+        assertEquals(expected.getId(), actual.getId());
+        assertArrayEquals(expected.getValues(), actual.getValues());
+        assertArrayEquals(expected.getSparseIndices(), actual.getSparseIndices());
+        assertArrayEquals(expected.getSparseValues(), actual.getSparseValues());
+        assertEquals(expected.getCategory(), actual.getCategory());
+        assertArrayEquals(expected.getMetadata(), actual.getMetadata());
+    }
+}
@@ -0,0 +1,142 @@
+package net.jmp.pinecone.quickstart.text;
+
+/*
+ * (#)DocumentIdsTest.java  0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+/// The document ids tests. Looks up ids kept as numbers,
+/// while every id is a common prefix and a number, and ids
+/// kept in the UTF-8 arena once one does not fit.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+final class DocumentIdsTest {
+    /// The number of ids.
+    private static final int SIZE = 1_000;
+
+    /// Numbered ids are kept off the arena and found by number.
+    @Test
+    void numberedIdsAreFound() {
+        final List<String> ids = shuffledIds("rec", new Random(42));
+        final DocumentIds documentIds = add(ids);
+
+        assertEquals(0, documentIds.offHeapBytes());
+        assertLookups(ids, documentIds);
+    }
+
+    /// An id that does not fit the prefix and number moves
+    /// every id to the arena, where they are still found.
+    @Test
+    void mixedIdsAreFound() {
+        final List<String> ids = shuffledIds("rec", new Random(7));
+
+        ids.add(SIZE / 2, "doc-π");
+        ids.add("rec007");      // A leading zero does not fit the numbered form
+
+        final DocumentIds documentIds = add(ids);
+
+        assertTrue(documentIds.offHeapBytes() > 0);
+        assertLookups(ids, documentIds);
+    }
+
+    /// Ids that were not added are not found.
+    @Test
+    void missingIdsAreNotFound() {
+        final DocumentIds numbered = add(shuffledIds("rec", new Random(11)));
+
+        assertTrue(numbered.indexOf("rec" + SIZE) < 0);
+        assertTrue(numbered.indexOf("doc1") < 0);
+        assertTrue(numbered.indexOf("rec01") < 0);
+        assertTrue(numbered.indexOf("") < 0);
+
+        final List<String> ids = shuffledIds("rec", new Random(13));
+
+        ids.add("other");
+
+        final DocumentIds mixed = add(ids);
+
+        assertTrue(mixed.indexOf("rec" + SIZE) < 0);
+        assertTrue(mixed.indexOf("othe") < 0);
+        assertTrue(mixed.indexOf("others") < 0);
+    }
+
+    /// Check that every id is found at its ordinal and
+    /// that every ordinal gives back its id.
+    ///
+    /// @param  ids         java.util.List<java.lang.String>
+    /// @param  documentIds net.jmp.pinecone.quickstart.text.DocumentIds
+    private static void assertLookups(final List<String> ids, final DocumentIds documentIds) {
+        assertEquals(ids.size(), documentIds.size());
+
+        for (int ordinal = 0; ordinal < ids.size(); ordinal++) {
+            assertEquals(ids.get(ordinal), documentIds.get(ordinal));
+            assertEquals(ordinal, documentIds.indexOf(ids.get(ordinal)));
+        }
+    }
+
+    /// Add ids in order and seal them.
+    ///
+    /// @param  ids java.util.List<java.lang.String>
+    /// @return     net.jmp.pinecone.quickstart.text.DocumentIds
+    private static DocumentIds add(final List<String> ids) {
+        final DocumentIds documentIds = new DocumentIds();
+
+        for (final String id : ids) {
+            documentIds.add(id);
+        }
+
+        documentIds.seal();
+
+        return documentIds;
+    }
+
+    /// Return the numbered ids with a prefix in a random order.
+    ///
+    /// @param  prefix  java.lang.String
+    /// @param  random  java.util.Random
+    /// @return         java.util.List<java.lang.String>
+    private static List<String> shuffledIds(final String prefix, final Random random) {
+        final List<String> ids = new ArrayList<>(SIZE + 2);
+
+        for (int i = 0; i < SIZE; i++) {
+            ids.add(prefix + i);
+        }
+
+        Collections.shuffle(ids, random);
+
+        return ids;
+    }
+}
@@ -0,0 +1,140 @@
+package net.jmp.pinecone.quickstart.text;
+
+/*
+ * (#)Utf8ArenaTest.java    0.9.0   10/18/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.nio.charset.StandardCharsets;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+/// The UTF-8 arena tests. Checks that strings read back as
+/// they were added, through views and copies, and that the
+/// arena compares them as their code points order them.
+///
+/// @version    0.9.0
+/// @since      0.9.0
+final class Utf8ArenaTest {
+    /// Strings of ASCII and of other characters, one empty.
+    private static final List<String> STRINGS = List.of("rec1", "", "café", "naïve résumé", "日本語", "😀 emoji", "zebra");
+
+    /// Every string reads back, as a copy and as a view.
+    @Test
+    void stringsReadBack() {
+        final Utf8Arena arena = fill();
+
+        assertEquals(STRINGS.size(), arena.size());
+
+        for (int i = 0; i < STRINGS.size(); i++) {
+            final String expected = STRINGS.get(i);
+            final CharSequence view = arena.view(i);
+
+            assertEquals(expected, arena.get(i));
+            assertEquals(expected, view.toString());
+            assertEquals(expected.length(), view.length());
+
+            for (int c = 0; c < expected.length(); c++) {
+                assertEquals(expected.charAt(c), view.charAt(c));
+            }
+        }
+    }
+
+    /// The strings still read back once the arena is trimmed.
+    @Test
+    void stringsReadBackAfterTrim() {
+        final Utf8Arena arena = fill();
+
+        arena.trim();
+
+        for (int i = 0; i < STRINGS.size(); i++) {
+            assertEquals(STRINGS.get(i), arena.get(i));
+        }
+
+        assertEquals(STRINGS.stream().mapToLong(s -> s.getBytes(StandardCharsets.UTF_8).length).sum(), arena.byteSize());
+    }
+
+    /// Comparing two strings in the arena orders them as
+    /// their code points do, and as comparing with bytes does.
+    @Test
+    void compareOrdersByCodePoint() {
+        final Utf8Arena arena = fill();
+
+        for (int left = 0; left < STRINGS.size(); left++) {
+            for (int right = 0; right < STRINGS.size(); right++) {
+                final int expected = Integer.signum(compareCodePoints(STRINGS.get(left), STRINGS.get(right)));
+
+                assertEquals(expected, Integer.signum(arena.compare(left, right)));
+                assertEquals(expected, Integer.signum(arena.compare(left, STRINGS.get(right).getBytes(StandardCharsets.UTF_8))));
+            }
+        }
+    }
+
+    /// The arena grows past its initial capacity.
+    @Test
+    void arenaGrows() {
+        final Utf8Arena arena = new Utf8Arena();
+        final char[] chars = new char[1_000];
+
+        Arrays.fill(chars, 'x');
+
+        final String string = new String(chars);
+
+        for (int i = 0; i < 200; i++) {
+            assertEquals(i, arena.add(string + i));
+        }
+
+        assertEquals(200, arena.size());
+        assertEquals(string + 199, arena.get(199));
+    }
+
+    /// Return an arena holding the strings.
+    ///
+    /// @return net.jmp.pinecone.quickstart.text.Utf8Arena
+    private static Utf8Arena fill() {
+        final Utf8Arena arena = new Utf8Arena();
+
+        for (int i = 0; i < STRINGS.size(); i++) {
+            assertEquals(i, arena.add(STRINGS.get(i)));
+        }
+
+        return arena;
+    }
+
+    /// Compare two strings by their code points.
+    ///
+    /// @param  left    java.lang.String
+    /// @param  right   java.lang.String
+    /// @return         int
+    private static int compareCodePoints(final String left, final String right) {
+        return Arrays.compare(left.codePoints().toArray(), right.codePoints().toArray());
+    }
+}